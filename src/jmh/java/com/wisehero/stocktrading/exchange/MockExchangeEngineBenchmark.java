@@ -0,0 +1,91 @@
+package com.wisehero.stocktrading.exchange;
+
+import com.wisehero.stocktrading.exchange.dto.MatchResult;
+import com.wisehero.stocktrading.order.domain.Order;
+import com.wisehero.stocktrading.order.domain.OrderSide;
+import com.wisehero.stocktrading.order.domain.OrderTif;
+import com.wisehero.stocktrading.order.domain.OrderType;
+import com.wisehero.stocktrading.quote.domain.MockQuote;
+import com.wisehero.stocktrading.quote.repository.MockQuoteRepository;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * DB 접근을 제외한 MockExchangeEngine.match 자체 비용을 측정한다.
+ * 저장소는 시세 한 건만 돌려주는 메모리 스텁으로 대체한다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MockExchangeEngineBenchmark {
+
+    private static final String SYMBOL = "AAPL";
+
+    private MockExchangeEngine engine;
+    private Order partialFillOrder;
+    private Order noFillOrder;
+
+    @Setup
+    public void setUp() {
+        // 측정 중 가용수량이 소진되지 않도록 충분히 큰 수량을 둔다.
+        MockQuote quote = MockQuote.create(SYMBOL, new BigDecimal("1000.0000"), new BigDecimal("1000000000000.0000"));
+        engine = new MockExchangeEngine(stubRepository(quote));
+
+        partialFillOrder = acceptedLimitBuy("1000.0000", "10.0000");
+        noFillOrder = acceptedLimitBuy("999.0000", "10.0000");
+    }
+
+    @Benchmark
+    public MatchResult matchFill() {
+        return engine.match(partialFillOrder);
+    }
+
+    @Benchmark
+    public MatchResult matchNoFill() {
+        return engine.match(noFillOrder);
+    }
+
+    private static Order acceptedLimitBuy(String limitPrice, String quantity) {
+        Order order = Order.newPending(
+                1L,
+                "bench-" + limitPrice,
+                SYMBOL,
+                OrderSide.BUY,
+                OrderType.LIMIT,
+                OrderTif.DAY,
+                new BigDecimal(limitPrice),
+                new BigDecimal(quantity),
+                LocalDate.now()
+        );
+        order.markAccepted();
+        return order;
+    }
+
+    private static MockQuoteRepository stubRepository(MockQuote quote) {
+        return (MockQuoteRepository) Proxy.newProxyInstance(
+                MockQuoteRepository.class.getClassLoader(),
+                new Class<?>[]{MockQuoteRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findById" -> Optional.of(quote);
+                    case "save" -> args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                }
+        );
+    }
+}
@@ -0,0 +1,179 @@
+package com.wisehero.stocktrading.order;
+
+import com.wisehero.stocktrading.StockTradingApplication;
+import com.wisehero.stocktrading.account.api.dto.MockCashUpdateRequest;
+import com.wisehero.stocktrading.account.service.MockAccountService;
+import com.wisehero.stocktrading.quote.api.dto.QuoteUpdateRequest;
+import com.wisehero.stocktrading.quote.service.MockQuoteService;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 동시 접속 클라이언트 수별로 플랫폼 스레드(Tomcat 기본 풀)와 가상 스레드 실행 모드를 비교한다.
+ * <p>
+ * {@code clients}개의 부하 클라이언트가 각자 계좌로 IOC 주문(시세 아래 매수 → 즉시 취소)을 쉬지 않고 보내는 동안,
+ * 벤치마크 스레드가 같은 주문을 한 건씩 보내 지연을 잰다.
+ * <ul>
+ *   <li>{@code Mode.SampleTime}: 부하 중 주문 API 응답 지연 분포(p50/p99/p99.9)</li>
+ *   <li>{@code Mode.Throughput}: 보조 카운터 {@code completed}(부하 클라이언트의 처리량), {@code failed}(에러 응답/연결 실패)</li>
+ * </ul>
+ * 만 단위 연결을 열므로 실행 전에 파일 디스크립터 한도({@code ulimit -n})를 충분히 올린다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderApiConcurrencyBenchmark {
+
+    private static final int SYMBOL_COUNT = 32;
+    private static final String QUANTITY = "1";
+    private static final String LIMIT_PRICE = "900";
+
+    @Param({"1000", "5000", "10000"})
+    public int clients;
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private ExecutorService loadExecutor;
+    private HttpClient httpClient;
+    private URI ordersUri;
+    private volatile boolean running;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(StockTradingApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .run(
+                        "--server.port=0",
+                        "--server.tomcat.max-connections=" + (clients * 2),
+                        "--server.tomcat.accept-count=" + clients,
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--spring.datasource.url=jdbc:h2:mem:stocktrading-concurrency-bench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.hikari.maximum-pool-size=20",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--trading.order-journal.enabled=false",
+                        "--logging.level.root=WARN"
+                );
+
+        MockAccountService mockAccountService = context.getBean(MockAccountService.class);
+        MockCashUpdateRequest cash = new MockCashUpdateRequest(new BigDecimal("1000000000000.0000"));
+        // 부하 클라이언트마다 계좌를 따로 둬 잔고 낙관적 락 충돌을 측정에서 뺀다. 1번 계좌는 측정용이다.
+        for (long accountId = 1; accountId <= clients + 1; accountId++) {
+            mockAccountService.upsertCash(accountId, cash);
+        }
+        MockQuoteService mockQuoteService = context.getBean(MockQuoteService.class);
+        QuoteUpdateRequest quote = new QuoteUpdateRequest(new BigDecimal("1000.0000"), new BigDecimal("1000000"));
+        for (int index = 0; index < SYMBOL_COUNT; index++) {
+            mockQuoteService.upsertQuote(symbolOf(index), quote);
+        }
+
+        int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+        ordersUri = URI.create("http://127.0.0.1:" + port + "/api/v1/orders");
+        loadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(loadExecutor)
+                .build();
+
+        running = true;
+        for (int client = 0; client < clients; client++) {
+            long accountId = client + 2;
+            String symbol = symbolOf(client);
+            loadExecutor.submit(() -> runClient(accountId, symbol));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        running = false;
+        loadExecutor.shutdownNow();
+        context.close();
+    }
+
+    @Benchmark
+    public int probe(LoadCounters counters) throws IOException, InterruptedException {
+        int status = send(1L, symbolOf(0));
+        counters.completed += completed.sumThenReset();
+        counters.failed += failed.sumThenReset();
+        return status;
+    }
+
+    private void runClient(long accountId, String symbol) {
+        while (running) {
+            try {
+                if (send(accountId, symbol) == 201) {
+                    completed.increment();
+                } else {
+                    failed.increment();
+                }
+            } catch (IOException exception) {
+                failed.increment();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private int send(long accountId, String symbol) throws IOException, InterruptedException {
+        String body = """
+                {"accountId":%d,"idempotencyKey":"load-%d","symbol":"%s","side":"BUY","orderType":"LIMIT",\
+                "tif":"IOC","quantity":%s,"limitPrice":%s}"""
+                .formatted(accountId, sequence.incrementAndGet(), symbol, QUANTITY, LIMIT_PRICE);
+        HttpRequest request = HttpRequest.newBuilder(ordersUri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static String symbolOf(int index) {
+        return "LOAD" + (index % SYMBOL_COUNT);
+    }
+
+    /** 측정 구간 동안 부하 클라이언트가 끝낸 요청 수. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class LoadCounters {
+
+        public long completed;
+        public long failed;
+    }
+}
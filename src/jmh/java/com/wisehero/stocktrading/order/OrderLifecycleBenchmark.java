@@ -0,0 +1,95 @@
+package com.wisehero.stocktrading.order;
+
+import com.wisehero.stocktrading.StockTradingApplication;
+import com.wisehero.stocktrading.account.api.dto.MockCashUpdateRequest;
+import com.wisehero.stocktrading.account.service.MockAccountService;
+import com.wisehero.stocktrading.order.api.dto.OrderCreateRequest;
+import com.wisehero.stocktrading.order.api.dto.OrderResponse;
+import com.wisehero.stocktrading.order.domain.OrderSide;
+import com.wisehero.stocktrading.order.domain.OrderTif;
+import com.wisehero.stocktrading.order.domain.OrderType;
+import com.wisehero.stocktrading.order.service.OrderService;
+import com.wisehero.stocktrading.quote.api.dto.QuoteUpdateRequest;
+import com.wisehero.stocktrading.quote.service.MockQuoteService;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * H2 위에 애플리케이션 컨텍스트를 띄우고 시세 갱신 → 주문 생성(부분 체결) → 잔량 취소 한 사이클을 측정한다.
+ * 서비스, JPA, 트랜잭션 비용이 모두 포함된 값이므로 단위 벤치마크와 분리해서 추적한다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderLifecycleBenchmark {
+
+    private static final Long ACCOUNT_ID = 1L;
+    private static final String SYMBOL = "BENCH";
+    private static final BigDecimal PRICE = new BigDecimal("1000.0000");
+    private static final BigDecimal ORDER_QUANTITY = new BigDecimal("10.0000");
+    private static final QuoteUpdateRequest PARTIAL_QUOTE = new QuoteUpdateRequest(PRICE, new BigDecimal("5"));
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private MockQuoteService mockQuoteService;
+    private long sequence;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(StockTradingApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:stocktrading-bench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--logging.level.root=WARN"
+                );
+        orderService = context.getBean(OrderService.class);
+        mockQuoteService = context.getBean(MockQuoteService.class);
+
+        context.getBean(MockAccountService.class)
+                .upsertCash(ACCOUNT_ID, new MockCashUpdateRequest(new BigDecimal("1000000000000.0000")));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public OrderResponse createFillCancel() {
+        mockQuoteService.upsertQuote(SYMBOL, PARTIAL_QUOTE);
+
+        OrderResponse created = orderService.createOrder(new OrderCreateRequest(
+                ACCOUNT_ID,
+                "bench-" + sequence++,
+                SYMBOL,
+                OrderSide.BUY,
+                OrderType.LIMIT,
+                OrderTif.DAY,
+                ORDER_QUANTITY,
+                PRICE
+        ));
+        return orderService.cancelOrder(created.orderId(), ACCOUNT_ID);
+    }
+}
@@ -0,0 +1,79 @@
+package com.wisehero.stocktrading.order.api.dto;
+
+import com.wisehero.stocktrading.order.domain.Fill;
+import com.wisehero.stocktrading.order.domain.Order;
+import com.wisehero.stocktrading.order.domain.OrderSide;
+import com.wisehero.stocktrading.order.domain.OrderTif;
+import com.wisehero.stocktrading.order.domain.OrderType;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 체결 건수에 따른 OrderResponse.from 매핑 비용과 할당량을 측정한다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OrderResponseMappingBenchmark {
+
+    @Param({"0", "10", "100"})
+    public int fillCount;
+
+    private Order order;
+    private List<Fill> fills;
+
+    @Setup
+    public void setUp() {
+        order = Order.newPending(
+                1L,
+                "bench-mapping",
+                "AAPL",
+                OrderSide.BUY,
+                OrderType.LIMIT,
+                OrderTif.DAY,
+                new BigDecimal("1000.0000"),
+                new BigDecimal("1000.0000"),
+                LocalDate.now()
+        );
+        order.markAccepted();
+
+        fills = new ArrayList<>(fillCount);
+        Instant filledAt = Instant.now();
+        LocalDate tradeDate = LocalDate.now();
+        for (int i = 0; i < fillCount; i++) {
+            fills.add(Fill.create(
+                    "exec-" + i,
+                    1L,
+                    new BigDecimal("1000.0000"),
+                    new BigDecimal("1.0000"),
+                    new BigDecimal("0.1500"),
+                    BigDecimal.ZERO,
+                    filledAt,
+                    tradeDate
+            ));
+        }
+    }
+
+    @Benchmark
+    public OrderResponse from() {
+        return OrderResponse.from(order, fills);
+    }
+}
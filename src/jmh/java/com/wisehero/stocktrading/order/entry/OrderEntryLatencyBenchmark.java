@@ -0,0 +1,145 @@
+package com.wisehero.stocktrading.order.entry;
+
+import com.wisehero.stocktrading.StockTradingApplication;
+import com.wisehero.stocktrading.account.api.dto.MockCashUpdateRequest;
+import com.wisehero.stocktrading.account.service.MockAccountService;
+import com.wisehero.stocktrading.order.api.dto.OrderCreateRequest;
+import com.wisehero.stocktrading.order.domain.OrderSide;
+import com.wisehero.stocktrading.order.domain.OrderTif;
+import com.wisehero.stocktrading.order.domain.OrderType;
+import com.wisehero.stocktrading.quote.api.dto.QuoteUpdateRequest;
+import com.wisehero.stocktrading.quote.service.MockQuoteService;
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 루프백에서 같은 주문(시장가 아래 IOC 매수 → 즉시 취소)을 REST와 바이너리 TCP 채널로 보내 왕복 지연을 비교한다.
+ * 두 경로 모두 같은 서비스/DB 비용을 포함하므로, 차이는 전송/직렬화/요청 처리 계층에서 온다.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderEntryLatencyBenchmark {
+
+    private static final Long ACCOUNT_ID = 1L;
+    private static final String SYMBOL = "BENCH";
+    private static final BigDecimal ORDER_QUANTITY = new BigDecimal("1.0000");
+    private static final BigDecimal LIMIT_PRICE = new BigDecimal("900.0000");
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private URI ordersUri;
+    private SocketChannel channel;
+    private ByteBuffer requestBuffer;
+    private ByteBuffer responseBuffer;
+    private long sequence;
+
+    @Setup
+    public void setUp() throws IOException {
+        context = new SpringApplicationBuilder(StockTradingApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .run(
+                        "--server.port=0",
+                        "--trading.order-entry.enabled=true",
+                        "--trading.order-entry.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:stocktrading-entry-bench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--logging.level.root=WARN"
+                );
+        context.getBean(MockAccountService.class)
+                .upsertCash(ACCOUNT_ID, new MockCashUpdateRequest(new BigDecimal("1000000000000.0000")));
+        context.getBean(MockQuoteService.class)
+                .upsertQuote(SYMBOL, new QuoteUpdateRequest(new BigDecimal("1000.0000"), new BigDecimal("1000000")));
+
+        int httpPort = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+        httpClient = HttpClient.newHttpClient();
+        ordersUri = URI.create("http://127.0.0.1:" + httpPort + "/api/v1/orders");
+
+        int entryPort = context.getBean(BinaryOrderEntryServer.class).getLocalPort();
+        channel = SocketChannel.open(new InetSocketAddress("127.0.0.1", entryPort));
+        channel.socket().setTcpNoDelay(true);
+        requestBuffer = ByteBuffer.allocateDirect(OrderEntryProtocol.MAX_FRAME_SIZE);
+        responseBuffer = ByteBuffer.allocateDirect(OrderEntryProtocol.MAX_FRAME_SIZE);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        channel.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int rest() throws IOException, InterruptedException {
+        String body = """
+                {"accountId":%d,"idempotencyKey":"rest-%d","symbol":"%s","side":"BUY","orderType":"LIMIT",\
+                "tif":"IOC","quantity":%s,"limitPrice":%s}"""
+                .formatted(ACCOUNT_ID, sequence++, SYMBOL, ORDER_QUANTITY.toPlainString(), LIMIT_PRICE.toPlainString());
+        HttpRequest request = HttpRequest.newBuilder(ordersUri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString()).body().length();
+    }
+
+    @Benchmark
+    public byte binary() throws IOException {
+        long correlationId = sequence++;
+        requestBuffer.clear();
+        OrderEntryProtocol.encodeNewOrder(requestBuffer, correlationId, new OrderCreateRequest(
+                ACCOUNT_ID,
+                "binary-" + correlationId,
+                SYMBOL,
+                OrderSide.BUY,
+                OrderType.LIMIT,
+                OrderTif.IOC,
+                ORDER_QUANTITY,
+                LIMIT_PRICE
+        ));
+        requestBuffer.flip();
+        while (requestBuffer.hasRemaining()) {
+            channel.write(requestBuffer);
+        }
+
+        responseBuffer.clear();
+        int frameSize;
+        while ((frameSize = OrderEntryProtocol.completeFrameSize(responseBuffer, 0, responseBuffer.position())) < 0) {
+            if (channel.read(responseBuffer) < 0) {
+                throw new EOFException("order entry connection closed");
+            }
+        }
+        if (responseBuffer.position() != frameSize) {
+            throw new IllegalStateException("Unexpected bytes after order entry response");
+        }
+        return responseBuffer.get(OrderEntryProtocol.LENGTH_SIZE);
+    }
+}
@@ -0,0 +1,83 @@
+package com.wisehero.stocktrading.order.index;
+
+import com.wisehero.stocktrading.common.numeric.FixedDecimal;
+import com.wisehero.stocktrading.order.domain.OrderSide;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 호가 깊이별로 시세 1틱당 재매칭 대상 조회 비용을 측정한다.
+ * 시세는 항상 최우선 매수 10개 가격대(가격대당 주문 {@code ordersPerLevel}건)와만 교차하므로,
+ * 인덱스 조회는 깊이와 무관하게 일정하고 전체 순회(scan)는 깊이에 비례해야 한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OpenOrderPriceIndexBenchmark {
+
+    private static final String SYMBOL = "BENCH";
+    private static final int CROSSING_LEVELS = 10;
+
+    @Param({"100", "1000", "10000"})
+    public int depth;
+
+    @Param({"10"})
+    public int ordersPerLevel;
+
+    private OpenOrderPriceIndex index;
+    private List<RestingBid> restingBids;
+    private long quotePrice;
+
+    @Setup
+    public void setUp() {
+        index = new OpenOrderPriceIndex();
+        restingBids = new ArrayList<>(depth * ordersPerLevel);
+
+        long orderId = 0L;
+        long topPrice = FixedDecimal.of(100_000L);
+        for (int level = 0; level < depth; level++) {
+            long price = topPrice - level * FixedDecimal.ONE;
+            for (int i = 0; i < ordersPerLevel; i++) {
+                orderId++;
+                index.put(orderId, SYMBOL, OrderSide.BUY, price);
+                index.put(-orderId, SYMBOL, OrderSide.SELL, topPrice + (level + 1) * FixedDecimal.ONE);
+                restingBids.add(new RestingBid(orderId, price));
+            }
+        }
+        quotePrice = topPrice - (CROSSING_LEVELS - 1) * FixedDecimal.ONE;
+    }
+
+    @Benchmark
+    public List<Long> indexLookup() {
+        return index.findCrossingOrderIds(SYMBOL, quotePrice);
+    }
+
+    @Benchmark
+    public List<Long> fullScan() {
+        List<Long> orderIds = new ArrayList<>();
+        for (RestingBid bid : restingBids) {
+            if (bid.limitPrice() >= quotePrice) {
+                orderIds.add(bid.orderId());
+            }
+        }
+        return orderIds;
+    }
+
+    private record RestingBid(long orderId, long limitPrice) {
+    }
+}
@@ -0,0 +1,206 @@
+package com.wisehero.stocktrading.order.partition;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 거래일 파티션 유무에 따른 미체결 주문 조회 지연을 MySQL에서 잰다.
+ * <p>
+ * 모양이 같은 테이블 두 개(파티션 없음/거래일 파티션)에 {@code BENCH_ROWS}행(기본 100만, 1억 행까지 가정)을
+ * {@code BENCH_DAYS}일(기본 100일)에 고르게 나눠 넣고, 미체결 주문은 마지막 거래일에만 둔다.
+ * 파티션 없는 쪽은 파티션을 끈 운영 설정처럼 거래일 하한 없이, 파티션 쪽은 마지막 거래일을 하한({@code open-order-lookback=P0D})으로 조회한다.
+ * <ul>
+ *   <li>{@link #restingOrdersBySymbol()}: 호가창 복원/재매칭 - (종목, 상태, 접수 시각) 인덱스 범위</li>
+ *   <li>{@link #openDayOrders()}: 가격 인덱스/주문 저널 복원, DAY 만료 대상 - 맞는 인덱스 없이 스캔</li>
+ * </ul>
+ * docker-compose의 MySQL이 떠 있어야 하고 접속 정보는 애플리케이션과 같은 {@code DB_*} 환경변수를 쓴다.
+ * 적재한 테이블은 지우지 않으며 행 수가 같으면 다음 실행에서 그대로 쓴다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TradeDatePartitionQueryBenchmark {
+
+    private static final LocalDate LAST_DAY = LocalDate.of(2026, 1, 30);
+    private static final int SYMBOLS = 2000;
+    private static final int SEQ_SIZE = 1000;
+    private static final long CHUNK_ROWS = (long) SEQ_SIZE * SEQ_SIZE;
+    private static final String RESTING_BY_SYMBOL_SQL = """
+            SELECT id FROM %s
+            WHERE symbol = ? AND status IN ('NEW', 'PARTIALLY_FILLED') AND trade_date >= ?
+            ORDER BY created_at, id
+            """;
+    private static final String OPEN_DAY_ORDERS_SQL = """
+            SELECT id FROM %s
+            WHERE tif = 'DAY' AND status IN ('NEW', 'PARTIALLY_FILLED') AND trade_date >= ?
+            ORDER BY created_at, id
+            """;
+
+    @Param({"false", "true"})
+    public boolean partitioned;
+
+    private Connection connection;
+    private PreparedStatement restingBySymbol;
+    private PreparedStatement openDayOrders;
+    private long symbolSequence;
+
+    @Setup
+    public void setUp() throws SQLException {
+        long rows = Long.parseLong(env("BENCH_ROWS", "1000000"));
+        int days = Integer.parseInt(env("BENCH_DAYS", "100"));
+        String url = "jdbc:mysql://" + env("DB_HOST", "localhost") + ":" + env("DB_PORT", "3306") + "/"
+                + env("DB_NAME", "trading") + "?useSSL=false&allowPublicKeyRetrieval=true&serverTimezone=Asia/Seoul";
+        connection = DriverManager.getConnection(url, env("DB_USERNAME", "trading_user"), env("DB_PASSWORD", "trading_password"));
+
+        String table = partitioned ? "bench_orders_partitioned" : "bench_orders_flat";
+        ensureLoaded(table, rows, days);
+
+        // 파티션을 끄면 미체결 조회에 거래일 조건을 걸지 않는다(OpenOrderWindow가 비어 있다).
+        // 같은 SQL을 쓰도록 모든 행이 통과하는 EPOCH를 하한으로 둔다.
+        LocalDate since = partitioned ? LAST_DAY : LocalDate.EPOCH;
+        restingBySymbol = connection.prepareStatement(RESTING_BY_SYMBOL_SQL.formatted(table));
+        restingBySymbol.setObject(2, since);
+        openDayOrders = connection.prepareStatement(OPEN_DAY_ORDERS_SQL.formatted(table));
+        openDayOrders.setObject(1, since);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public long restingOrdersBySymbol() throws SQLException {
+        restingBySymbol.setString(1, symbol(symbolSequence++ % SYMBOLS));
+        return sumIds(restingBySymbol);
+    }
+
+    @Benchmark
+    public long openDayOrders() throws SQLException {
+        return sumIds(openDayOrders);
+    }
+
+    private static long sumIds(PreparedStatement statement) throws SQLException {
+        long sum = 0;
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                sum += resultSet.getLong(1);
+            }
+        }
+        return sum;
+    }
+
+    private void ensureLoaded(String table, long rows, int days) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            if (loadedRows(statement, table) == rows) {
+                return;
+            }
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute(createTable(table, days));
+            statement.execute("CREATE TABLE IF NOT EXISTS bench_seq (n INT NOT NULL PRIMARY KEY)");
+            statement.execute("""
+                    INSERT IGNORE INTO bench_seq (n)
+                    WITH RECURSIVE seq (n) AS (SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n < %d)
+                    SELECT n FROM seq
+                    """.formatted(SEQ_SIZE - 1));
+
+            // 1억 행도 서버 안에서 만들도록 seq x seq(100만 행)씩 INSERT ... SELECT로 넣는다.
+            long rowsPerDay = (rows + days - 1) / days;
+            for (long base = 0; base < rows; base += CHUNK_ROWS) {
+                statement.execute(insertChunk(table, base, Math.min(CHUNK_ROWS, rows - base), rowsPerDay, days));
+            }
+            statement.execute("ANALYZE TABLE " + table);
+        }
+    }
+
+    private static long loadedRows(Statement statement, String table) {
+        try (ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        } catch (SQLException e) {
+            // 아직 테이블이 없다.
+            return -1;
+        }
+    }
+
+    private String createTable(String table, int days) {
+        String columns = """
+                CREATE TABLE %s (
+                    id BIGINT NOT NULL,
+                    account_id BIGINT NOT NULL,
+                    symbol VARCHAR(20) NOT NULL,
+                    tif VARCHAR(10) NOT NULL,
+                    status VARCHAR(20) NOT NULL,
+                    limit_price DECIMAL(19, 4),
+                    remaining_quantity DECIMAL(19, 4) NOT NULL,
+                    trade_date DATE NOT NULL,
+                    created_at DATETIME(6) NOT NULL,
+                    %s,
+                    KEY idx_symbol_status_created (symbol, status, created_at)
+                )""";
+        if (!partitioned) {
+            return columns.formatted(table, "PRIMARY KEY (id)");
+        }
+        List<String> partitions = new ArrayList<>(days);
+        for (LocalDate day = LAST_DAY.minusDays(days - 1L); !day.isAfter(LAST_DAY); day = day.plusDays(1)) {
+            partitions.add("PARTITION " + MySqlPartitionDdl.partitionName(day) + " VALUES LESS THAN ('" + day.plusDays(1) + "')");
+        }
+        return columns.formatted(table, "PRIMARY KEY (id, trade_date)")
+                + " PARTITION BY RANGE COLUMNS(trade_date) (" + String.join(", ", partitions) + ")";
+    }
+
+    /**
+     * ID는 1부터, 거래일은 ID 순으로 하루 {@code rowsPerDay}행씩이다.
+     * 마지막 거래일의 7건 중 1건만 미체결이고, 종목 수와 서로소인 7로 골라 미체결 주문이 모든 종목에 고르게 퍼진다.
+     */
+    private static String insertChunk(String table, long base, long count, long rowsPerDay, int days) {
+        LocalDate firstDay = LAST_DAY.minusDays(days - 1L);
+        return """
+                INSERT INTO %1$s (id, account_id, symbol, tif, status, limit_price, remaining_quantity, trade_date, created_at)
+                SELECT x.id, x.id %% 10000, CONCAT('S', x.id %% %2$d), 'DAY',
+                       IF(x.d = %3$d AND x.id %% 7 = 0, 'NEW', 'FILLED'), 1000.0000, IF(x.d = %3$d AND x.id %% 7 = 0, 10.0000, 0),
+                       DATE_ADD('%4$s', INTERVAL x.d DAY),
+                       TIMESTAMPADD(MICROSECOND, x.o * 10, TIMESTAMP(DATE_ADD('%4$s', INTERVAL x.d DAY), '09:00:00'))
+                FROM (
+                    SELECT i.id, (i.id - 1) DIV %5$d AS d, (i.id - 1) MOD %5$d AS o
+                    FROM (
+                        SELECT %6$d + a.n * %7$d + b.n + 1 AS id
+                        FROM bench_seq a CROSS JOIN bench_seq b
+                        WHERE a.n * %7$d + b.n < %8$d
+                    ) i
+                ) x
+                """.formatted(table, SYMBOLS, days - 1, firstDay, rowsPerDay, base, SEQ_SIZE, count);
+    }
+
+    private static String symbol(long index) {
+        return "S" + index;
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
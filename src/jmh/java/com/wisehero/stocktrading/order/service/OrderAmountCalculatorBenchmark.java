@@ -0,0 +1,78 @@
+package com.wisehero.stocktrading.order.service;
+
+import com.wisehero.stocktrading.common.numeric.FixedDecimal;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 체결 금액/수수료/예약금 계산 비용을 측정한다.
+ * legacy 벤치마크는 고정소수점 전환 이전의 BigDecimal 계산을 그대로 재현한 비교 기준이다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OrderAmountCalculatorBenchmark {
+
+    private static final int MONEY_SCALE = 4;
+
+    @Param({"1000.0000", "1234.5678"})
+    public String price;
+
+    @Param({"30.0000"})
+    public String quantity;
+
+    private OrderAmountCalculator calculator;
+    private BigDecimal feeRate;
+    private BigDecimal priceDecimal;
+    private BigDecimal quantityDecimal;
+    private long priceUnscaled;
+    private long quantityUnscaled;
+
+    @Setup
+    public void setUp() {
+        feeRate = new BigDecimal("0.00015");
+        calculator = new OrderAmountCalculator(feeRate);
+        priceDecimal = new BigDecimal(price);
+        quantityDecimal = new BigDecimal(quantity);
+        priceUnscaled = FixedDecimal.fromBigDecimal(priceDecimal);
+        quantityUnscaled = FixedDecimal.fromBigDecimal(quantityDecimal);
+    }
+
+    @Benchmark
+    public long settlementFixed() {
+        long notional = calculator.notional(priceUnscaled, quantityUnscaled);
+        return notional + calculator.fee(notional);
+    }
+
+    @Benchmark
+    public long reserveAmountFixed() {
+        return calculator.reserveAmount(priceUnscaled, quantityUnscaled);
+    }
+
+    @Benchmark
+    public BigDecimal reserveAmountDecimal() {
+        return calculator.reserveAmount(priceDecimal, quantityDecimal);
+    }
+
+    @Benchmark
+    public BigDecimal reserveAmountLegacy() {
+        BigDecimal notional = priceDecimal.multiply(quantityDecimal).setScale(MONEY_SCALE, RoundingMode.HALF_UP);
+        BigDecimal fee = notional.multiply(feeRate).setScale(MONEY_SCALE, RoundingMode.HALF_UP);
+        return notional.add(fee);
+    }
+}
@@ -0,0 +1,140 @@
+package com.wisehero.stocktrading.quote.feed;
+
+import com.wisehero.stocktrading.StockTradingApplication;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 루프백 UDP 시세 피드로 전 종목 틱을 쏟아붓고 브로커 코어가 받아들이는 속도를 잰다.
+ * <p>
+ * 벤치마크 한 번이 {@link #TICKS_PER_DATAGRAM}개 틱을 담은 데이터그램 하나를 보낸다(처리량 × 1000 = 틱/초).
+ * 보조 카운터로 측정 구간 동안 수신 스레드가 넘긴 틱({@code accepted}), 샤드가 DB에 반영한 틱({@code applied}),
+ * 최신 틱으로 대체돼 건너뛴 틱({@code conflated})을 함께 본다. {@code accepted}가 보낸 틱보다 적으면 소켓 버퍼에서 버려진 것이다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MarketDataFeedBenchmark {
+
+    private static final int TICKS_PER_DATAGRAM = 1000;
+
+    @Param({"1000", "5000"})
+    public int symbols;
+
+    private ConfigurableApplicationContext context;
+    private Counter acceptedTicks;
+    private Counter appliedTicks;
+    private Counter conflatedTicks;
+    private final double[] lastCounts = new double[3];
+    private DatagramChannel channel;
+    private ByteBuffer datagram;
+    private String[] symbolCodes;
+    private BigDecimal[] prices;
+    private BigDecimal availableQuantity;
+    private int nextSymbol;
+    private int nextPrice;
+
+    @Setup
+    public void setUp() throws IOException {
+        context = new SpringApplicationBuilder(StockTradingApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--trading.market-data.enabled=true",
+                        "--trading.market-data.source=udp",
+                        "--trading.market-data.port=0",
+                        "--trading.market-data.receive-buffer-size=32MB",
+                        "--spring.datasource.url=jdbc:h2:mem:stocktrading-feed-bench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--trading.order-journal.enabled=false",
+                        "--logging.level.root=WARN"
+                );
+        MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+        acceptedTicks = meterRegistry.get("trading.market-data.ticks").tag("result", "accepted").counter();
+        appliedTicks = meterRegistry.get("trading.quote.ticks").tag("result", "applied").counter();
+        conflatedTicks = meterRegistry.get("trading.quote.ticks").tag("result", "conflated").counter();
+
+        symbolCodes = new String[symbols];
+        for (int index = 0; index < symbols; index++) {
+            symbolCodes[index] = "FEED" + index;
+        }
+        prices = new BigDecimal[100];
+        for (int index = 0; index < prices.length; index++) {
+            prices[index] = new BigDecimal(1000 + index);
+        }
+        availableQuantity = new BigDecimal("1000");
+
+        int port = context.getBean(MarketDataFeedHandler.class).getLocalPort();
+        channel = DatagramChannel.open();
+        channel.connect(new InetSocketAddress("127.0.0.1", port));
+        datagram = ByteBuffer.allocateDirect(TICKS_PER_DATAGRAM * MarketDataProtocol.MAX_TICK_SIZE);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        channel.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int sendDatagram(FeedCounters counters) throws IOException {
+        datagram.clear();
+        for (int tick = 0; tick < TICKS_PER_DATAGRAM; tick++) {
+            MarketDataProtocol.encodeTick(datagram, symbolCodes[nextSymbol], prices[nextPrice], availableQuantity);
+            nextSymbol = nextSymbol + 1 == symbols ? 0 : nextSymbol + 1;
+            nextPrice = nextPrice + 1 == prices.length ? 0 : nextPrice + 1;
+        }
+        datagram.flip();
+        int written = channel.write(datagram);
+
+        counters.accepted += delta(acceptedTicks, 0);
+        counters.applied += delta(appliedTicks, 1);
+        counters.conflated += delta(conflatedTicks, 2);
+        return written;
+    }
+
+    private double delta(Counter counter, int slot) {
+        double current = counter.count();
+        double delta = current - lastCounts[slot];
+        lastCounts[slot] = current;
+        return delta;
+    }
+
+    /** 측정 구간 동안의 피드/반영 건수. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class FeedCounters {
+
+        public double accepted;
+        public double applied;
+        public double conflated;
+    }
+}
@@ -81,6 +81,12 @@ public class CashBalance {
         this.heldCash = BigDecimal.ZERO;
     }
 
+    /** 메모리 원장({@code AccountLedger})이 계산한 값을 그대로 옮긴다. */
+    public void overwriteFromLedger(BigDecimal availableCash, BigDecimal heldCash) {
+        this.availableCash = availableCash;
+        this.heldCash = heldCash;
+    }
+
     private void validatePositive(BigDecimal amount) {
         if (amount.compareTo(BigDecimal.ZERO) <= 0) {
             throw new IllegalArgumentException("Amount must be positive");
@@ -104,4 +110,8 @@ public class CashBalance {
     public BigDecimal getHeldCash() {
         return heldCash;
     }
+
+    public Long getVersion() {
+        return version;
+    }
 }
@@ -99,6 +99,13 @@ public class Position {
         this.averagePrice = averagePrice;
     }
 
+    /** 메모리 원장({@code AccountLedger})이 계산한 값을 그대로 옮긴다. */
+    public void overwriteFromLedger(BigDecimal availableQuantity, BigDecimal heldQuantity, BigDecimal averagePrice) {
+        this.availableQuantity = availableQuantity;
+        this.heldQuantity = heldQuantity;
+        this.averagePrice = averagePrice;
+    }
+
     private void validatePositive(BigDecimal value) {
         if (value.compareTo(BigDecimal.ZERO) <= 0) {
             throw new IllegalArgumentException("Value must be positive");
@@ -126,4 +133,8 @@ public class Position {
     public BigDecimal getAveragePrice() {
         return averagePrice;
     }
+
+    public Long getVersion() {
+        return version;
+    }
 }
@@ -0,0 +1,52 @@
+package com.wisehero.stocktrading.account.ledger;
+
+import com.wisehero.stocktrading.account.domain.CashBalance;
+import com.wisehero.stocktrading.account.domain.Position;
+import com.wisehero.stocktrading.account.domain.PositionId;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 주문 처리 중 계좌 현금 잔고와 포지션을 바꾸는 창구.
+ * <p>
+ * 모든 변경은 호출 트랜잭션에 묶이고, 계좌 락({@code AccountLockManager})을 잡은 뒤에 잔고를 읽는다.
+ * 계좌가 없으면 {@code ACCOUNT_NOT_FOUND}, 포지션이 없으면 {@code ACCOUNT_POSITION_NOT_FOUND},
+ * 선점할 가용 잔고가 모자라면 {@code ACCOUNT_INSUFFICIENT_CASH}/{@code ACCOUNT_INSUFFICIENT_QUANTITY}로 거절한다.
+ * 선점/해제 금액이 선점 잔고를 넘는 것처럼 내부 정합성이 깨진 경우는 {@link IllegalStateException}.
+ */
+public interface AccountBook {
+
+    /** 묶음 처리 전에 계좌를 한 번에 잡고 잔고/포지션을 미리 읽어 둔다. */
+    void preload(Collection<Long> accountIds, Collection<PositionId> positionIds);
+
+    void holdCash(Long accountId, BigDecimal amount);
+
+    void releaseHeldCash(Long accountId, BigDecimal amount);
+
+    void consumeHeldCash(Long accountId, BigDecimal amount);
+
+    void addAvailableCash(Long accountId, BigDecimal amount);
+
+    void holdQuantity(Long accountId, String symbol, BigDecimal quantity);
+
+    void releaseHeldQuantity(Long accountId, String symbol, BigDecimal quantity);
+
+    void consumeHeldQuantity(Long accountId, String symbol, BigDecimal quantity);
+
+    /** 매수 체결 수량을 더하고 평균 단가를 다시 계산한다. 포지션이 없으면 만든다. */
+    void addBoughtQuantity(Long accountId, String symbol, BigDecimal quantity, BigDecimal price);
+
+    /**
+     * DAY 만료로 풀린 선점 잔량을 계좌(현금)/계좌+종목(수량)별 합계로 한 번씩 돌려준다.
+     * 호출자가 계좌 락을 먼저 잡는다. 포지션은 전달 순서대로, 현금은 계좌 ID 순서대로 반영한다.
+     */
+    void releaseExpiredHolds(Map<Long, BigDecimal> cashByAccountId, Map<PositionId, BigDecimal> quantityByPositionId, Instant now);
+
+    /** 모의 계좌 현금을 덮어쓴다. 선점 금액은 0이 된다. */
+    CashBalance upsertCashForMock(Long accountId, BigDecimal availableCash);
+
+    /** 모의 포지션을 덮어쓴다. 선점 수량은 0이 된다. */
+    Position upsertPositionForMock(Long accountId, String symbol, BigDecimal availableQuantity, BigDecimal averagePrice);
+}
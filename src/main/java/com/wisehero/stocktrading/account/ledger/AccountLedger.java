@@ -0,0 +1,541 @@
+package com.wisehero.stocktrading.account.ledger;
+
+import com.wisehero.stocktrading.account.domain.CashBalance;
+import com.wisehero.stocktrading.account.domain.Position;
+import com.wisehero.stocktrading.account.domain.PositionId;
+import com.wisehero.stocktrading.account.repository.CashBalanceRepository;
+import com.wisehero.stocktrading.account.repository.PositionRepository;
+import com.wisehero.stocktrading.account.service.AccountLockManager;
+import com.wisehero.stocktrading.common.api.ApiErrorCode;
+import com.wisehero.stocktrading.common.exception.ApiException;
+import com.wisehero.stocktrading.common.numeric.FixedDecimal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+import java.util.function.UnaryOperator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 계좌 현금 잔고와 포지션의 기준 값을 메모리에 두고, 테이블에는 비동기로 일괄 반영하는 원장.
+ * <p>
+ * 기동 시 {@code cash_balances}/{@code positions}를 모두 읽어 온다. 주문 트랜잭션은 계좌 락을 잡은 뒤 메모리 값으로
+ * 선점/해제 규칙을 검사하고, 바뀐 값은 트랜잭션별로 모았다가 커밋될 때({@code afterCommit}, 계좌 락이 풀리기 전) 원장에 올린다.
+ * 롤백되면 버린다. 올라간 행은 쓰기 스레드가 계좌/포지션별로 최신 값 하나만 {@code flush-batch-size}개씩 한 트랜잭션에 덮어쓴다.
+ * <p>
+ * 원장이 기준이므로 같은 DB를 여러 노드가 함께 쓰면 안 되고, 반영되지 않은 변경은 프로세스가 죽으면 잃는다.
+ * 주문 저널의 잔고/포지션 이벤트는 쓰기 스레드의 UPDATE에서 나오므로 원장보다 늦다.
+ * {@link #checkConsistency()}는 반영 대기 중이 아닌 행을 계좌 구간별로 테이블과 비교해 어긋난 건수를
+ * {@code trading_account_ledger_mismatches_total}로 센다.
+ */
+@Component
+@ConditionalOnProperty(name = "trading.account-ledger.enabled", havingValue = "true")
+public class AccountLedger implements AccountBook, SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountLedger.class);
+    private static final long MAX_RETRY_BACKOFF_MILLIS = 5_000L;
+
+    private final CashBalanceRepository cashBalanceRepository;
+    private final PositionRepository positionRepository;
+    private final AccountLockManager accountLockManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int flushBatchSize;
+    private final long flushIntervalMillis;
+    private final int checkPageSize;
+
+    private final Map<Long, LedgerCash> cashBalances = new ConcurrentHashMap<>();
+    private final Map<PositionId, LedgerPosition> positions = new ConcurrentHashMap<>();
+    /** 반영을 기다리는 키(계좌 ID 또는 {@link PositionId}). 대기열에는 키당 하나만 들어간다. */
+    private final Set<Object> dirtyKeys = ConcurrentHashMap.newKeySet();
+    /** 쓰기 스레드가 지금 반영 중인 키. */
+    private final Set<Object> writingKeys = ConcurrentHashMap.newKeySet();
+    private final BlockingQueue<Object> flushQueue = new LinkedBlockingQueue<>();
+    private final Counter mismatchCounter;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public AccountLedger(
+            CashBalanceRepository cashBalanceRepository,
+            PositionRepository positionRepository,
+            AccountLockManager accountLockManager,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${trading.account-ledger.flush-batch-size:500}") int flushBatchSize,
+            @Value("${trading.account-ledger.flush-interval:50ms}") Duration flushInterval,
+            @Value("${trading.account-ledger.check-page-size:1000}") int checkPageSize
+    ) {
+        if (flushBatchSize <= 0) {
+            throw new IllegalArgumentException("trading.account-ledger.flush-batch-size must be positive");
+        }
+        if (checkPageSize <= 0) {
+            throw new IllegalArgumentException("trading.account-ledger.check-page-size must be positive");
+        }
+        if (!accountLockManager.isEnabled()) {
+            // 원장 값은 계좌 락으로만 직렬화된다.
+            throw new IllegalStateException("trading.account-ledger requires trading.account-lock.enabled=true");
+        }
+        this.cashBalanceRepository = cashBalanceRepository;
+        this.positionRepository = positionRepository;
+        this.accountLockManager = accountLockManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.flushBatchSize = flushBatchSize;
+        this.flushIntervalMillis = Math.max(1L, flushInterval.toMillis());
+        this.checkPageSize = checkPageSize;
+
+        this.writer = new Thread(this::runWriter, "account-ledger-writer");
+        this.writer.setDaemon(true);
+        this.mismatchCounter = Counter.builder("trading.account-ledger.mismatches")
+                .description("원장과 테이블 값이 어긋난 계좌/포지션 행 수")
+                .register(meterRegistry);
+        Gauge.builder("trading.account-ledger.pending", this, AccountLedger::pendingCount)
+                .description("DB 반영을 기다리는 계좌/포지션 행 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        transactionTemplate.executeWithoutResult(status -> {
+            cashBalanceRepository.findAll().forEach(cash -> cashBalances.put(cash.getAccountId(), LedgerCash.of(cash)));
+            positionRepository.findAll().forEach(position -> positions.put(position.getId(), LedgerPosition.of(position)));
+        });
+        log.info("계좌 원장 적재 완료 - 계좌: {}, 포지션: {}", cashBalances.size(), positions.size());
+        writer.start();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    public int pendingCount() {
+        return dirtyKeys.size();
+    }
+
+    /** 원장은 DB를 읽지 않으므로 계좌만 잡는다. */
+    @Override
+    public void preload(Collection<Long> accountIds, Collection<PositionId> positionIds) {
+        accountLockManager.lockAll(accountIds);
+    }
+
+    @Override
+    public void holdCash(Long accountId, BigDecimal amount) {
+        try {
+            updateCash(accountId, cash -> cash.hold(FixedDecimal.fromBigDecimal(amount)));
+        } catch (IllegalStateException exception) {
+            throw new ApiException(ApiErrorCode.ACCOUNT_INSUFFICIENT_CASH);
+        }
+    }
+
+    @Override
+    public void releaseHeldCash(Long accountId, BigDecimal amount) {
+        updateCash(accountId, cash -> cash.releaseHeld(FixedDecimal.fromBigDecimal(amount)));
+    }
+
+    @Override
+    public void consumeHeldCash(Long accountId, BigDecimal amount) {
+        updateCash(accountId, cash -> cash.consumeHeld(FixedDecimal.fromBigDecimal(amount)));
+    }
+
+    @Override
+    public void addAvailableCash(Long accountId, BigDecimal amount) {
+        updateCash(accountId, cash -> cash.addAvailable(FixedDecimal.fromBigDecimal(amount)));
+    }
+
+    @Override
+    public void holdQuantity(Long accountId, String symbol, BigDecimal quantity) {
+        try {
+            updatePosition(accountId, symbol, position -> position.hold(FixedDecimal.fromBigDecimal(quantity)));
+        } catch (IllegalStateException exception) {
+            throw new ApiException(ApiErrorCode.ACCOUNT_INSUFFICIENT_QUANTITY);
+        }
+    }
+
+    @Override
+    public void releaseHeldQuantity(Long accountId, String symbol, BigDecimal quantity) {
+        updatePosition(accountId, symbol, position -> position.releaseHeld(FixedDecimal.fromBigDecimal(quantity)));
+    }
+
+    @Override
+    public void consumeHeldQuantity(Long accountId, String symbol, BigDecimal quantity) {
+        updatePosition(accountId, symbol, position -> position.consumeHeld(FixedDecimal.fromBigDecimal(quantity)));
+    }
+
+    @Override
+    public void addBoughtQuantity(Long accountId, String symbol, BigDecimal quantity, BigDecimal price) {
+        accountLockManager.lock(accountId);
+        LedgerChanges changes = changes();
+        PositionId positionId = new PositionId(accountId, symbol);
+        LedgerPosition current = changes.positionOf(positionId);
+        changes.positions.put(positionId, (current == null ? LedgerPosition.EMPTY : current)
+                .addBought(FixedDecimal.fromBigDecimal(quantity), FixedDecimal.fromBigDecimal(price)));
+    }
+
+    @Override
+    public void releaseExpiredHolds(
+            Map<Long, BigDecimal> cashByAccountId,
+            Map<PositionId, BigDecimal> quantityByPositionId,
+            Instant now
+    ) {
+        quantityByPositionId.forEach((positionId, quantity) ->
+                releaseHeldQuantity(positionId.getAccountId(), positionId.getSymbol(), quantity));
+        cashByAccountId.forEach(this::releaseHeldCash);
+    }
+
+    /** 응답용 값만 담은 엔티티를 돌려준다. 행은 쓰기 스레드가 만든다. */
+    @Override
+    public CashBalance upsertCashForMock(Long accountId, BigDecimal availableCash) {
+        if (availableCash.signum() < 0) {
+            throw new IllegalArgumentException("Amount must be non-negative");
+        }
+        accountLockManager.lock(accountId);
+        changes().cashBalances.put(accountId, new LedgerCash(FixedDecimal.fromBigDecimal(availableCash), FixedDecimal.ZERO));
+        return CashBalance.create(accountId, availableCash);
+    }
+
+    @Override
+    public Position upsertPositionForMock(Long accountId, String symbol, BigDecimal availableQuantity, BigDecimal averagePrice) {
+        if (availableQuantity.signum() < 0 || averagePrice.signum() < 0) {
+            throw new IllegalArgumentException("Value must be non-negative");
+        }
+        accountLockManager.lock(accountId);
+        changes().positions.put(new PositionId(accountId, symbol), new LedgerPosition(
+                FixedDecimal.fromBigDecimal(availableQuantity),
+                FixedDecimal.ZERO,
+                FixedDecimal.fromBigDecimal(averagePrice)
+        ));
+        return Position.create(accountId, symbol, availableQuantity, averagePrice);
+    }
+
+    /**
+     * 반영 대기 중이 아니고 읽는 동안 바뀌지 않은 행만 테이블과 비교해 어긋난 건수를 돌려준다.
+     * 테이블에만 있거나 원장에만 있는 행도 어긋난 것으로 센다.
+     * <p>
+     * 계좌 ID 순으로 {@code check-page-size}개 계좌씩 그 구간의 현금/포지션 행만 읽는다.
+     * 어긋난 행은 읽는 사이 반영이 끝났을 수 있으므로 한 번 더 읽어 그래도 어긋나면 센다.
+     */
+    @Scheduled(
+            fixedDelayString = "${trading.account-ledger.check-interval:PT1M}",
+            initialDelayString = "${trading.account-ledger.check-interval:PT1M}"
+    )
+    public int checkConsistency() {
+        TreeMap<Long, List<PositionId>> positionIdsByAccount = new TreeMap<>();
+        cashBalances.keySet().forEach(accountId -> positionIdsByAccount.computeIfAbsent(accountId, id -> new ArrayList<>()));
+        positions.keySet().forEach(positionId ->
+                positionIdsByAccount.computeIfAbsent(positionId.getAccountId(), id -> new ArrayList<>()).add(positionId));
+        List<Long> accountIds = new ArrayList<>(positionIdsByAccount.keySet());
+
+        int mismatches = 0;
+        int start = 0;
+        do {
+            int end = Math.min(start + checkPageSize, accountIds.size());
+            // 구간을 이어 붙여 원장에 없는 계좌의 행도 어느 한 구간에서 읽힌다.
+            long from = start == 0 ? Long.MIN_VALUE : accountIds.get(start);
+            long to = end == accountIds.size() ? Long.MAX_VALUE : accountIds.get(end) - 1;
+            mismatches += checkRange(from, to, accountIds.subList(start, end), positionIdsByAccount);
+            start = end;
+        } while (start < accountIds.size());
+        mismatchCounter.increment(mismatches);
+        return mismatches;
+    }
+
+    private int checkRange(long from, long to, List<Long> accountIds, Map<Long, List<PositionId>> positionIdsByAccount) {
+        Map<Long, LedgerCash> cashSnapshot = new HashMap<>();
+        Map<PositionId, LedgerPosition> positionSnapshot = new HashMap<>();
+        Set<Object> unsettled = new HashSet<>();
+        for (Long accountId : accountIds) {
+            snapshot(accountId, cashBalances, cashSnapshot, unsettled);
+            for (PositionId positionId : positionIdsByAccount.get(accountId)) {
+                snapshot(positionId, positions, positionSnapshot, unsettled);
+            }
+        }
+        Map<Long, CashBalance> storedCash = new HashMap<>();
+        Map<PositionId, Position> storedPositions = new HashMap<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            cashBalanceRepository.findByAccountIdBetween(from, to).forEach(cash -> storedCash.put(cash.getAccountId(), cash));
+            positionRepository.findByIdAccountIdBetween(from, to).forEach(position -> storedPositions.put(position.getId(), position));
+        });
+
+        List<Long> cashSuspects = mismatchedKeys(cashSnapshot, storedCash, cashBalances, unsettled, LedgerCash::matches);
+        List<PositionId> positionSuspects =
+                mismatchedKeys(positionSnapshot, storedPositions, positions, unsettled, LedgerPosition::matches);
+        if (cashSuspects.isEmpty() && positionSuspects.isEmpty()) {
+            return 0;
+        }
+        Map<Long, CashBalance> reloadedCash = new HashMap<>();
+        Map<PositionId, Position> reloadedPositions = new HashMap<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            cashBalanceRepository.findAllById(cashSuspects).forEach(cash -> reloadedCash.put(cash.getAccountId(), cash));
+            positionRepository.findAllById(positionSuspects).forEach(position -> reloadedPositions.put(position.getId(), position));
+        });
+        cashSnapshot.keySet().retainAll(cashSuspects);
+        positionSnapshot.keySet().retainAll(positionSuspects);
+
+        List<Long> cashMismatches = mismatchedKeys(cashSnapshot, reloadedCash, cashBalances, unsettled, LedgerCash::matches);
+        for (Long accountId : cashMismatches) {
+            CashBalance stored = reloadedCash.get(accountId);
+            log.warn("계좌 원장 불일치 - 계좌: {}, 원장: {}, 테이블: {}/{}", accountId, cashSnapshot.get(accountId),
+                    stored == null ? null : stored.getAvailableCash(), stored == null ? null : stored.getHeldCash());
+        }
+        List<PositionId> positionMismatches =
+                mismatchedKeys(positionSnapshot, reloadedPositions, positions, unsettled, LedgerPosition::matches);
+        for (PositionId positionId : positionMismatches) {
+            Position stored = reloadedPositions.get(positionId);
+            log.warn("포지션 원장 불일치 - 계좌: {}, 종목: {}, 원장: {}, 테이블: {}/{}/{}",
+                    positionId.getAccountId(), positionId.getSymbol(), positionSnapshot.get(positionId),
+                    stored == null ? null : stored.getAvailableQuantity(),
+                    stored == null ? null : stored.getHeldQuantity(),
+                    stored == null ? null : stored.getAveragePrice());
+        }
+        return cashMismatches.size() + positionMismatches.size();
+    }
+
+    /**
+     * 값을 먼저 담고 반영 표시를 본다. 값을 올린 뒤 표시하므로 표시가 없으면 담은 값은 이미 반영됐거나 반영 대상이 아니다.
+     * 쓰기 스레드는 반영 중 표시를 한 뒤 대기 표시를 지우므로 대기 표시부터 본다.
+     */
+    private <K, V> void snapshot(K key, Map<K, V> source, Map<K, V> snapshot, Set<Object> unsettled) {
+        V value = source.get(key);
+        if (value != null) {
+            snapshot.put(key, value);
+        }
+        if (dirtyKeys.contains(key) || writingKeys.contains(key)) {
+            unsettled.add(key);
+        }
+    }
+
+    private <K, V, E> List<K> mismatchedKeys(
+            Map<K, V> snapshot,
+            Map<K, E> stored,
+            Map<K, V> current,
+            Set<Object> unsettled,
+            BiPredicate<V, E> matches
+    ) {
+        Set<K> keys = new HashSet<>(snapshot.keySet());
+        keys.addAll(stored.keySet());
+        List<K> mismatched = new ArrayList<>();
+        for (K key : keys) {
+            V expected = snapshot.get(key);
+            E row = stored.get(key);
+            if (!unsettled.contains(key) && isSettled(key, expected, current.get(key))
+                    && (expected == null || row == null || !matches.test(expected, row))) {
+                mismatched.add(key);
+            }
+        }
+        return mismatched;
+    }
+
+    /** 스냅샷 이후 값이 그대로이고 지금도 반영 대기/반영 중이 아니면 테이블에 있어야 한다. */
+    private boolean isSettled(Object key, Object snapshot, Object current) {
+        return snapshot == current && !dirtyKeys.contains(key) && !writingKeys.contains(key);
+    }
+
+    private void updateCash(Long accountId, UnaryOperator<LedgerCash> operation) {
+        accountLockManager.lock(accountId);
+        LedgerChanges changes = changes();
+        LedgerCash current = changes.cashOf(accountId);
+        if (current == null) {
+            throw new ApiException(ApiErrorCode.ACCOUNT_NOT_FOUND);
+        }
+        changes.cashBalances.put(accountId, operation.apply(current));
+    }
+
+    private void updatePosition(Long accountId, String symbol, UnaryOperator<LedgerPosition> operation) {
+        accountLockManager.lock(accountId);
+        LedgerChanges changes = changes();
+        PositionId positionId = new PositionId(accountId, symbol);
+        LedgerPosition current = changes.positionOf(positionId);
+        if (current == null) {
+            throw new ApiException(ApiErrorCode.ACCOUNT_POSITION_NOT_FOUND);
+        }
+        changes.positions.put(positionId, operation.apply(current));
+    }
+
+    /** 계좌 락을 잡은 뒤에 부르므로 트랜잭션 동기화가 활성화돼 있다. */
+    private LedgerChanges changes() {
+        LedgerChanges changes = (LedgerChanges) TransactionSynchronizationManager.getResource(this);
+        if (changes == null) {
+            changes = new LedgerChanges();
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(new LedgerSynchronization(changes));
+        }
+        return changes;
+    }
+
+    /** 값을 먼저 올리고 키를 표시해야 쓰기 스레드가 표시를 지운 뒤 읽는 값이 최신이다. */
+    private void publish(LedgerChanges changes) {
+        changes.cashBalances.forEach((accountId, cash) -> {
+            cashBalances.put(accountId, cash);
+            markDirty(accountId);
+        });
+        changes.positions.forEach((positionId, position) -> {
+            positions.put(positionId, position);
+            markDirty(positionId);
+        });
+    }
+
+    private void markDirty(Object key) {
+        if (dirtyKeys.add(key)) {
+            flushQueue.add(key);
+        }
+    }
+
+    private void runWriter() {
+        List<Object> batch = new ArrayList<>(flushBatchSize);
+        while (running || !flushQueue.isEmpty()) {
+            try {
+                Object first = flushQueue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            flushQueue.drainTo(batch, flushBatchSize - 1);
+            flushWithRetry(batch);
+            batch.clear();
+        }
+    }
+
+    /** 표시를 지운 뒤 값을 읽으므로 반영 중에 바뀐 행은 다시 대기열에 들어간다. 재시도 때는 그 사이 최신 값을 쓴다. */
+    private void flushWithRetry(List<Object> batch) {
+        writingKeys.addAll(batch);
+        batch.forEach(dirtyKeys::remove);
+        try {
+            for (int attempt = 0; ; attempt++) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> writeBatch(batch));
+                    return;
+                } catch (RuntimeException exception) {
+                    if (!running) {
+                        log.error("계좌 원장 반영 실패 - 종료 중이므로 반영하지 못한 변경은 잃는다. 건수: {}", batch.size(), exception);
+                        return;
+                    }
+                    log.warn("계좌 원장 반영 실패 - 재시도 {}회, 건수: {}", attempt + 1, batch.size(), exception);
+                    sleepQuietly(Math.min(MAX_RETRY_BACKOFF_MILLIS, 100L << Math.min(attempt, 6)));
+                }
+            }
+        } finally {
+            batch.forEach(writingKeys::remove);
+        }
+    }
+
+    private void writeBatch(List<Object> batch) {
+        List<Long> accountIds = new ArrayList<>();
+        List<PositionId> positionIds = new ArrayList<>();
+        for (Object key : batch) {
+            if (key instanceof PositionId positionId) {
+                positionIds.add(positionId);
+            } else {
+                accountIds.add((Long) key);
+            }
+        }
+
+        if (!accountIds.isEmpty()) {
+            Map<Long, CashBalance> stored = new HashMap<>();
+            cashBalanceRepository.findAllById(accountIds).forEach(cash -> stored.put(cash.getAccountId(), cash));
+            List<CashBalance> updated = new ArrayList<>(accountIds.size());
+            for (Long accountId : accountIds) {
+                LedgerCash cash = cashBalances.get(accountId);
+                CashBalance entity = stored.computeIfAbsent(accountId, id -> CashBalance.create(id, BigDecimal.ZERO));
+                entity.overwriteFromLedger(
+                        FixedDecimal.toBigDecimal(cash.availableCash()),
+                        FixedDecimal.toBigDecimal(cash.heldCash())
+                );
+                updated.add(entity);
+            }
+            cashBalanceRepository.saveAll(updated);
+        }
+
+        if (!positionIds.isEmpty()) {
+            Map<PositionId, Position> stored = new HashMap<>();
+            positionRepository.findAllById(positionIds).forEach(position -> stored.put(position.getId(), position));
+            List<Position> updated = new ArrayList<>(positionIds.size());
+            for (PositionId positionId : positionIds) {
+                LedgerPosition position = positions.get(positionId);
+                Position entity = stored.computeIfAbsent(positionId, id ->
+                        Position.create(id.getAccountId(), id.getSymbol(), BigDecimal.ZERO, BigDecimal.ZERO));
+                entity.overwriteFromLedger(
+                        FixedDecimal.toBigDecimal(position.availableQuantity()),
+                        FixedDecimal.toBigDecimal(position.heldQuantity()),
+                        FixedDecimal.toBigDecimal(position.averagePrice())
+                );
+                updated.add(entity);
+            }
+            positionRepository.saveAll(updated);
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** 한 트랜잭션이 바꾼 값. 커밋 전까지는 이 트랜잭션에서만 보인다. */
+    private final class LedgerChanges {
+
+        private final Map<Long, LedgerCash> cashBalances = new HashMap<>();
+        private final Map<PositionId, LedgerPosition> positions = new HashMap<>();
+
+        private LedgerCash cashOf(Long accountId) {
+            LedgerCash changed = cashBalances.get(accountId);
+            return changed != null ? changed : AccountLedger.this.cashBalances.get(accountId);
+        }
+
+        private LedgerPosition positionOf(PositionId positionId) {
+            LedgerPosition changed = positions.get(positionId);
+            return changed != null ? changed : AccountLedger.this.positions.get(positionId);
+        }
+    }
+
+    /** 계좌 락은 {@code afterCompletion}에서 풀리므로 그보다 먼저 불리는 {@code afterCommit}에서 올린다. */
+    private final class LedgerSynchronization implements TransactionSynchronization {
+
+        private final LedgerChanges changes;
+
+        private LedgerSynchronization(LedgerChanges changes) {
+            this.changes = changes;
+        }
+
+        @Override
+        public void afterCommit() {
+            publish(changes);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(AccountLedger.this);
+        }
+    }
+}
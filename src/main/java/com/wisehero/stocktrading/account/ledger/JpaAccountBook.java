@@ -0,0 +1,168 @@
+package com.wisehero.stocktrading.account.ledger;
+
+import com.wisehero.stocktrading.account.domain.CashBalance;
+import com.wisehero.stocktrading.account.domain.Position;
+import com.wisehero.stocktrading.account.domain.PositionId;
+import com.wisehero.stocktrading.account.repository.CashBalanceRepository;
+import com.wisehero.stocktrading.account.repository.PositionRepository;
+import com.wisehero.stocktrading.account.service.AccountLockManager;
+import com.wisehero.stocktrading.common.api.ApiErrorCode;
+import com.wisehero.stocktrading.common.exception.ApiException;
+import com.wisehero.stocktrading.order.journal.OrderEventRecorder;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 잔고/포지션 행을 주문 트랜잭션 안에서 바로 읽고 갱신한다.
+ * <p>
+ * DAY 만료는 일괄 UPDATE로 반영하므로 엔티티 이벤트가 없다. 주문 저널에는 다시 읽은 잔고/포지션을 직접 남긴다.
+ */
+@Component
+@ConditionalOnProperty(name = "trading.account-ledger.enabled", havingValue = "false", matchIfMissing = true)
+public class JpaAccountBook implements AccountBook {
+
+    private static final BigDecimal ZERO = BigDecimal.ZERO;
+
+    private final CashBalanceRepository cashBalanceRepository;
+    private final PositionRepository positionRepository;
+    private final AccountLockManager accountLockManager;
+    private final OrderEventRecorder orderEventRecorder;
+
+    public JpaAccountBook(
+            CashBalanceRepository cashBalanceRepository,
+            PositionRepository positionRepository,
+            AccountLockManager accountLockManager,
+            OrderEventRecorder orderEventRecorder
+    ) {
+        this.cashBalanceRepository = cashBalanceRepository;
+        this.positionRepository = positionRepository;
+        this.accountLockManager = accountLockManager;
+        this.orderEventRecorder = orderEventRecorder;
+    }
+
+    /** 영속성 컨텍스트에 올려 두면 이후 findById는 쿼리 없이 처리된다. 읽기 전에 계좌를 잡아야 최신 버전을 읽는다. */
+    @Override
+    public void preload(Collection<Long> accountIds, Collection<PositionId> positionIds) {
+        accountLockManager.lockAll(accountIds);
+        cashBalanceRepository.findAllById(accountIds);
+        positionRepository.findAllById(positionIds);
+    }
+
+    @Override
+    public void holdCash(Long accountId, BigDecimal amount) {
+        CashBalance cashBalance = getCashBalanceOrThrow(accountId);
+        try {
+            cashBalance.hold(amount);
+        } catch (IllegalStateException exception) {
+            throw new ApiException(ApiErrorCode.ACCOUNT_INSUFFICIENT_CASH);
+        }
+        cashBalanceRepository.save(cashBalance);
+    }
+
+    @Override
+    public void releaseHeldCash(Long accountId, BigDecimal amount) {
+        CashBalance cashBalance = getCashBalanceOrThrow(accountId);
+        cashBalance.releaseHeld(amount);
+        cashBalanceRepository.save(cashBalance);
+    }
+
+    @Override
+    public void consumeHeldCash(Long accountId, BigDecimal amount) {
+        CashBalance cashBalance = getCashBalanceOrThrow(accountId);
+        cashBalance.consumeHeld(amount);
+        cashBalanceRepository.save(cashBalance);
+    }
+
+    @Override
+    public void addAvailableCash(Long accountId, BigDecimal amount) {
+        CashBalance cashBalance = getCashBalanceOrThrow(accountId);
+        cashBalance.addAvailable(amount);
+        cashBalanceRepository.save(cashBalance);
+    }
+
+    @Override
+    public void holdQuantity(Long accountId, String symbol, BigDecimal quantity) {
+        Position position = getPositionOrThrow(accountId, symbol);
+        try {
+            position.hold(quantity);
+        } catch (IllegalStateException exception) {
+            throw new ApiException(ApiErrorCode.ACCOUNT_INSUFFICIENT_QUANTITY);
+        }
+        positionRepository.save(position);
+    }
+
+    @Override
+    public void releaseHeldQuantity(Long accountId, String symbol, BigDecimal quantity) {
+        Position position = getPositionOrThrow(accountId, symbol);
+        position.releaseHeld(quantity);
+        positionRepository.save(position);
+    }
+
+    @Override
+    public void consumeHeldQuantity(Long accountId, String symbol, BigDecimal quantity) {
+        Position position = getPositionOrThrow(accountId, symbol);
+        position.consumeHeld(quantity);
+        positionRepository.save(position);
+    }
+
+    @Override
+    public void addBoughtQuantity(Long accountId, String symbol, BigDecimal quantity, BigDecimal price) {
+        accountLockManager.lock(accountId);
+        Position position = positionRepository.findById(new PositionId(accountId, symbol))
+                .orElseGet(() -> Position.create(accountId, symbol, ZERO, ZERO));
+        position.addBoughtQuantity(quantity, price);
+        positionRepository.save(position);
+    }
+
+    @Override
+    public void releaseExpiredHolds(
+            Map<Long, BigDecimal> cashByAccountId,
+            Map<PositionId, BigDecimal> quantityByPositionId,
+            Instant now
+    ) {
+        quantityByPositionId.forEach((positionId, quantity) ->
+                positionRepository.releaseHeld(positionId.getAccountId(), positionId.getSymbol(), quantity, now));
+        cashByAccountId.forEach((accountId, amount) -> cashBalanceRepository.releaseHeld(accountId, amount, now));
+
+        // 일괄 UPDATE로 버전이 오른 잔고/포지션을 다시 읽어 주문 저널에 남긴다.
+        if (orderEventRecorder.isEnabled()) {
+            cashBalanceRepository.findAllById(cashByAccountId.keySet()).forEach(orderEventRecorder::recordCash);
+            positionRepository.findAllById(quantityByPositionId.keySet()).forEach(orderEventRecorder::recordPosition);
+        }
+    }
+
+    @Override
+    public CashBalance upsertCashForMock(Long accountId, BigDecimal availableCash) {
+        accountLockManager.lock(accountId);
+        CashBalance cashBalance = cashBalanceRepository.findById(accountId)
+                .orElseGet(() -> CashBalance.create(accountId, availableCash));
+        cashBalance.updateForMock(availableCash);
+        return cashBalanceRepository.save(cashBalance);
+    }
+
+    @Override
+    public Position upsertPositionForMock(Long accountId, String symbol, BigDecimal availableQuantity, BigDecimal averagePrice) {
+        accountLockManager.lock(accountId);
+        Position position = positionRepository.findById(new PositionId(accountId, symbol))
+                .orElseGet(() -> Position.create(accountId, symbol, availableQuantity, averagePrice));
+        position.updateForMock(availableQuantity, averagePrice);
+        return positionRepository.save(position);
+    }
+
+    /** 잔고/포지션은 계좌 락을 잡은 뒤에 읽는다. 락은 트랜잭션이 끝날 때 풀린다. */
+    private CashBalance getCashBalanceOrThrow(Long accountId) {
+        accountLockManager.lock(accountId);
+        return cashBalanceRepository.findById(accountId)
+                .orElseThrow(() -> new ApiException(ApiErrorCode.ACCOUNT_NOT_FOUND));
+    }
+
+    private Position getPositionOrThrow(Long accountId, String symbol) {
+        accountLockManager.lock(accountId);
+        return positionRepository.findById(new PositionId(accountId, symbol))
+                .orElseThrow(() -> new ApiException(ApiErrorCode.ACCOUNT_POSITION_NOT_FOUND));
+    }
+}
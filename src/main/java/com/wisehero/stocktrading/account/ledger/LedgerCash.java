@@ -0,0 +1,58 @@
+package com.wisehero.stocktrading.account.ledger;
+
+import com.wisehero.stocktrading.account.domain.CashBalance;
+import com.wisehero.stocktrading.common.numeric.FixedDecimal;
+
+/**
+ * 메모리 원장의 현금 잔고. 금액은 {@link FixedDecimal} long이고, 변경은 새 값을 돌려준다.
+ * 규칙과 예외 메시지는 {@link CashBalance}와 같다.
+ */
+record LedgerCash(long availableCash, long heldCash) {
+
+    static LedgerCash of(CashBalance cashBalance) {
+        return new LedgerCash(
+                FixedDecimal.fromBigDecimal(cashBalance.getAvailableCash()),
+                FixedDecimal.fromBigDecimal(cashBalance.getHeldCash())
+        );
+    }
+
+    LedgerCash hold(long amount) {
+        validatePositive(amount);
+        if (availableCash < amount) {
+            throw new IllegalStateException("Insufficient available cash");
+        }
+        return new LedgerCash(availableCash - amount, heldCash + amount);
+    }
+
+    LedgerCash consumeHeld(long amount) {
+        validatePositive(amount);
+        if (heldCash < amount) {
+            throw new IllegalStateException("Insufficient held cash");
+        }
+        return new LedgerCash(availableCash, heldCash - amount);
+    }
+
+    LedgerCash releaseHeld(long amount) {
+        validatePositive(amount);
+        if (heldCash < amount) {
+            throw new IllegalStateException("Insufficient held cash");
+        }
+        return new LedgerCash(availableCash + amount, heldCash - amount);
+    }
+
+    LedgerCash addAvailable(long amount) {
+        validatePositive(amount);
+        return new LedgerCash(Math.addExact(availableCash, amount), heldCash);
+    }
+
+    boolean matches(CashBalance cashBalance) {
+        return availableCash == FixedDecimal.fromBigDecimal(cashBalance.getAvailableCash())
+                && heldCash == FixedDecimal.fromBigDecimal(cashBalance.getHeldCash());
+    }
+
+    private static void validatePositive(long amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("Amount must be positive");
+        }
+    }
+}
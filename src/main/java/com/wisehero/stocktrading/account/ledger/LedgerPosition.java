@@ -0,0 +1,72 @@
+package com.wisehero.stocktrading.account.ledger;
+
+import com.wisehero.stocktrading.account.domain.Position;
+import com.wisehero.stocktrading.common.numeric.FixedDecimal;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 메모리 원장의 포지션. 수량/단가는 {@link FixedDecimal} long이고, 변경은 새 값을 돌려준다.
+ * 규칙과 예외 메시지는 {@link Position}과 같다.
+ */
+record LedgerPosition(long availableQuantity, long heldQuantity, long averagePrice) {
+
+    static final LedgerPosition EMPTY = new LedgerPosition(FixedDecimal.ZERO, FixedDecimal.ZERO, FixedDecimal.ZERO);
+
+    static LedgerPosition of(Position position) {
+        return new LedgerPosition(
+                FixedDecimal.fromBigDecimal(position.getAvailableQuantity()),
+                FixedDecimal.fromBigDecimal(position.getHeldQuantity()),
+                FixedDecimal.fromBigDecimal(position.getAveragePrice())
+        );
+    }
+
+    LedgerPosition hold(long quantity) {
+        validatePositive(quantity);
+        if (availableQuantity < quantity) {
+            throw new IllegalStateException("Insufficient available quantity");
+        }
+        return new LedgerPosition(availableQuantity - quantity, heldQuantity + quantity, averagePrice);
+    }
+
+    LedgerPosition consumeHeld(long quantity) {
+        validatePositive(quantity);
+        if (heldQuantity < quantity) {
+            throw new IllegalStateException("Insufficient held quantity");
+        }
+        return new LedgerPosition(availableQuantity, heldQuantity - quantity, averagePrice);
+    }
+
+    LedgerPosition releaseHeld(long quantity) {
+        validatePositive(quantity);
+        if (heldQuantity < quantity) {
+            throw new IllegalStateException("Insufficient held quantity");
+        }
+        return new LedgerPosition(availableQuantity + quantity, heldQuantity - quantity, averagePrice);
+    }
+
+    /** 가중평균 단가는 곱이 long 범위를 넘을 수 있어 {@link Position#addBoughtQuantity}와 같은 BigDecimal 계산을 쓴다. */
+    LedgerPosition addBought(long quantity, long price) {
+        validatePositive(quantity);
+        validatePositive(price);
+
+        long newTotalQuantity = Math.addExact(availableQuantity, quantity);
+        BigDecimal newAveragePrice = FixedDecimal.toBigDecimal(averagePrice)
+                .multiply(FixedDecimal.toBigDecimal(availableQuantity))
+                .add(FixedDecimal.toBigDecimal(price).multiply(FixedDecimal.toBigDecimal(quantity)))
+                .divide(FixedDecimal.toBigDecimal(newTotalQuantity), FixedDecimal.SCALE, RoundingMode.HALF_UP);
+        return new LedgerPosition(newTotalQuantity, heldQuantity, FixedDecimal.fromBigDecimal(newAveragePrice));
+    }
+
+    boolean matches(Position position) {
+        return availableQuantity == FixedDecimal.fromBigDecimal(position.getAvailableQuantity())
+                && heldQuantity == FixedDecimal.fromBigDecimal(position.getHeldQuantity())
+                && averagePrice == FixedDecimal.fromBigDecimal(position.getAveragePrice());
+    }
+
+    private static void validatePositive(long value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException("Value must be positive");
+        }
+    }
+}
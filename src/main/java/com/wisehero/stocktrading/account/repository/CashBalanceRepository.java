@@ -1,7 +1,26 @@
 package com.wisehero.stocktrading.account.repository;
 
 import com.wisehero.stocktrading.account.domain.CashBalance;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CashBalanceRepository extends JpaRepository<CashBalance, Long> {
+
+    List<CashBalance> findByAccountIdBetween(Long fromAccountId, Long toAccountId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update CashBalance c
+            set c.availableCash = c.availableCash + :amount,
+                c.heldCash = c.heldCash - :amount,
+                c.version = c.version + 1,
+                c.updatedAt = :now
+            where c.accountId = :accountId
+            """)
+    int releaseHeld(@Param("accountId") Long accountId, @Param("amount") BigDecimal amount, @Param("now") Instant now);
 }
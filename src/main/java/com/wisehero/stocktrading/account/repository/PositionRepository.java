@@ -2,7 +2,31 @@ package com.wisehero.stocktrading.account.repository;
 
 import com.wisehero.stocktrading.account.domain.Position;
 import com.wisehero.stocktrading.account.domain.PositionId;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PositionRepository extends JpaRepository<Position, PositionId> {
+
+    List<Position> findByIdAccountIdBetween(Long fromAccountId, Long toAccountId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Position p
+            set p.availableQuantity = p.availableQuantity + :quantity,
+                p.heldQuantity = p.heldQuantity - :quantity,
+                p.version = p.version + 1,
+                p.updatedAt = :now
+            where p.id.accountId = :accountId and p.id.symbol = :symbol
+            """)
+    int releaseHeld(
+            @Param("accountId") Long accountId,
+            @Param("symbol") String symbol,
+            @Param("quantity") BigDecimal quantity,
+            @Param("now") Instant now
+    );
 }
@@ -0,0 +1,147 @@
+package com.wisehero.stocktrading.account.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 계좌 잔고/포지션을 바꾸는 트랜잭션을 계좌 단위로 직렬화하는 프로세스 내 스트라이프 락.
+ * <p>
+ * 잔고 행을 읽기 전에 계좌 ID가 속한 스트라이프를 잡고, 트랜잭션이 끝난 뒤({@code afterCompletion}) 놓는다.
+ * 다음 트랜잭션은 앞 트랜잭션이 커밋한 버전을 읽으므로 같은 노드 안에서는 {@code @Version} 충돌이 나지 않는다.
+ * 여러 계좌를 한 번에 잡을 때는 스트라이프 순번 순서로 잡고, 트랜잭션 중간에 추가로 잡다가 순서가 엇갈리면
+ * {@code timeout} 후 {@link CannotAcquireLockException}으로 끊어 호출자가 재시도하게 한다.
+ * <p>
+ * 다른 노드와의 충돌은 여전히 {@code @Version}이 막는다. 대기 시간은 {@code trading_account_lock_wait_seconds}로 남긴다.
+ */
+@Component
+public class AccountLockManager {
+
+    private final boolean enabled;
+    private final ReentrantLock[] stripes;
+    private final long timeoutNanos;
+    private final Timer waitTimer;
+    private final Counter timeoutCounter;
+
+    public AccountLockManager(
+            MeterRegistry meterRegistry,
+            @Value("${trading.account-lock.enabled:true}") boolean enabled,
+            @Value("${trading.account-lock.stripes:1024}") int stripes,
+            @Value("${trading.account-lock.timeout:PT1S}") Duration timeout
+    ) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("trading.account-lock.stripes must be positive");
+        }
+        this.enabled = enabled;
+        this.stripes = new ReentrantLock[stripes];
+        for (int index = 0; index < stripes; index++) {
+            this.stripes[index] = new ReentrantLock();
+        }
+        this.timeoutNanos = timeout.toNanos();
+        this.waitTimer = Timer.builder("trading.account.lock.wait")
+                .description("계좌 스트라이프 락 대기 시간")
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("trading.account.lock.timeouts")
+                .description("대기 시간 안에 계좌 락을 잡지 못한 건수")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** 현재 트랜잭션이 끝날 때까지 계좌를 잡는다. 이미 잡고 있으면 그대로 둔다. */
+    public void lock(Long accountId) {
+        if (!enabled) {
+            return;
+        }
+        acquire(stripeOf(accountId), accountId, heldLocks());
+    }
+
+    /** 여러 계좌를 스트라이프 순번 순서로 잡는다. */
+    public void lockAll(Collection<Long> accountIds) {
+        if (!enabled || accountIds.isEmpty()) {
+            return;
+        }
+        TreeSet<Integer> stripeIndexes = new TreeSet<>();
+        for (Long accountId : accountIds) {
+            stripeIndexes.add(stripeOf(accountId));
+        }
+        List<ReentrantLock> held = heldLocks();
+        for (int stripe : stripeIndexes) {
+            acquire(stripe, null, held);
+        }
+    }
+
+    private void acquire(int stripe, Long accountId, List<ReentrantLock> held) {
+        ReentrantLock lock = stripes[stripe];
+        if (lock.isHeldByCurrentThread()) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = lock.tryLock() || lock.tryLock(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CannotAcquireLockException("Interrupted while waiting for account lock", e);
+        }
+        waitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        if (!acquired) {
+            timeoutCounter.increment();
+            throw new CannotAcquireLockException(accountId == null
+                    ? "Account lock wait timed out: stripe " + stripe
+                    : "Account lock wait timed out: account " + accountId);
+        }
+        held.add(lock);
+    }
+
+    private int stripeOf(Long accountId) {
+        return Math.floorMod(Long.hashCode(accountId), stripes.length);
+    }
+
+    private List<ReentrantLock> heldLocks() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Account lock requires an active transaction");
+        }
+        @SuppressWarnings("unchecked")
+        List<ReentrantLock> held = (List<ReentrantLock>) TransactionSynchronizationManager.getResource(this);
+        if (held == null) {
+            held = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, held);
+            TransactionSynchronizationManager.registerSynchronization(new ReleaseSynchronization(held));
+        }
+        return held;
+    }
+
+    private final class ReleaseSynchronization implements TransactionSynchronization {
+
+        private final List<ReentrantLock> held;
+
+        private ReleaseSynchronization(List<ReentrantLock> held) {
+            this.held = held;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(AccountLockManager.this);
+            for (int index = held.size() - 1; index >= 0; index--) {
+                held.get(index).unlock();
+            }
+        }
+    }
+}
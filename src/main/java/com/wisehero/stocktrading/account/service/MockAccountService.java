@@ -4,9 +4,7 @@ import com.wisehero.stocktrading.account.api.dto.MockCashUpdateRequest;
 import com.wisehero.stocktrading.account.api.dto.MockPositionUpdateRequest;
 import com.wisehero.stocktrading.account.domain.CashBalance;
 import com.wisehero.stocktrading.account.domain.Position;
-import com.wisehero.stocktrading.account.domain.PositionId;
-import com.wisehero.stocktrading.account.repository.CashBalanceRepository;
-import com.wisehero.stocktrading.account.repository.PositionRepository;
+import com.wisehero.stocktrading.account.ledger.AccountBook;
 import com.wisehero.stocktrading.common.api.ApiErrorCode;
 import com.wisehero.stocktrading.common.exception.ApiException;
 import java.math.BigDecimal;
@@ -19,20 +17,15 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class MockAccountService {
 
-    private final CashBalanceRepository cashBalanceRepository;
-    private final PositionRepository positionRepository;
+    private final AccountBook accountBook;
 
-    public MockAccountService(CashBalanceRepository cashBalanceRepository, PositionRepository positionRepository) {
-        this.cashBalanceRepository = cashBalanceRepository;
-        this.positionRepository = positionRepository;
+    public MockAccountService(AccountBook accountBook) {
+        this.accountBook = accountBook;
     }
 
     @Transactional
     public CashBalance upsertCash(Long accountId, MockCashUpdateRequest request) {
-        CashBalance cashBalance = cashBalanceRepository.findById(accountId)
-                .orElseGet(() -> CashBalance.create(accountId, request.availableCash()));
-        cashBalance.updateForMock(request.availableCash());
-        return cashBalanceRepository.save(cashBalance);
+        return accountBook.upsertCashForMock(accountId, request.availableCash());
     }
 
     @Transactional
@@ -41,13 +34,12 @@ public class MockAccountService {
             throw new ApiException(ApiErrorCode.ORDER_INVALID_QUANTITY_UNIT);
         }
 
-        String symbol = normalizeSymbol(rawSymbol);
-        PositionId positionId = new PositionId(accountId, symbol);
-
-        Position position = positionRepository.findById(positionId)
-                .orElseGet(() -> Position.create(accountId, symbol, request.availableQuantity(), request.averagePrice()));
-        position.updateForMock(request.availableQuantity(), request.averagePrice());
-        return positionRepository.save(position);
+        return accountBook.upsertPositionForMock(
+                accountId,
+                normalizeSymbol(rawSymbol),
+                request.availableQuantity(),
+                request.averagePrice()
+        );
     }
 
     private String normalizeSymbol(String symbol) {
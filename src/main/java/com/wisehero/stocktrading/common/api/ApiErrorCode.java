@@ -13,6 +13,7 @@ public enum ApiErrorCode {
     METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "COMMON-405", "허용되지 않은 HTTP 메서드입니다."),
     NOT_FOUND(HttpStatus.NOT_FOUND, "COMMON-404", "리소스를 찾을 수 없습니다."),
     CONFLICT(HttpStatus.CONFLICT, "COMMON-409", "요청이 현재 상태와 충돌합니다."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "COMMON-429", "처리 대기 중인 요청이 너무 많습니다."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "COMMON-500", "서버 내부 오류가 발생했습니다."),
 
     ORDER_NOT_FOUND(HttpStatus.NOT_FOUND, "ORDER-404", "주문을 찾을 수 없습니다."),
@@ -26,6 +27,9 @@ public enum ApiErrorCode {
     ORDER_AMEND_INVALID_REQUEST(HttpStatus.BAD_REQUEST, "ORDER-413", "유효하지 않은 정정 요청입니다."),
     ORDER_AMEND_INVALID_QUANTITY(HttpStatus.BAD_REQUEST, "ORDER-414", "정정 수량은 현재 잔량 이하로만 줄일 수 있습니다."),
     ORDER_AMEND_NO_CHANGE(HttpStatus.BAD_REQUEST, "ORDER-415", "정정 대상 값이 기존 주문과 동일합니다."),
+    ORDER_INVALID_CURSOR(HttpStatus.BAD_REQUEST, "ORDER-416", "유효하지 않은 주문 목록 커서입니다."),
+    ORDER_AMOUNT_OUT_OF_RANGE(HttpStatus.BAD_REQUEST, "ORDER-417", "주문 가격/수량/금액이 처리 가능한 범위를 벗어났습니다."),
+    ORDER_LIST_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "ORDER-503", "주문 목록 읽기 모델이 꺼져 있어 조회할 수 없습니다."),
 
     ACCOUNT_NOT_FOUND(HttpStatus.NOT_FOUND, "ACCOUNT-404", "계좌를 찾을 수 없습니다."),
     ACCOUNT_POSITION_NOT_FOUND(HttpStatus.NOT_FOUND, "ACCOUNT-405", "보유 종목을 찾을 수 없습니다."),
@@ -25,6 +25,11 @@ public record ApiResponse<T>(String code, String message, T data) {
         return success(ApiSuccessCode.CREATED, data);
     }
 
+    /** HTTP 202 의미의 접수 응답을 생성한다. 처리는 아직 끝나지 않았다. */
+    public static <T> ApiResponse<T> accepted(T data) {
+        return success(ApiSuccessCode.ACCEPTED, data);
+    }
+
     /** HTTP 204 의미의 성공 응답을 생성한다. */
     public static ApiResponse<Void> noContent() {
         return success(ApiSuccessCode.NO_CONTENT, null);
@@ -7,6 +7,7 @@ package com.wisehero.stocktrading.common.api;
 public enum ApiSuccessCode {
     OK("COMMON-200", "요청이 성공했습니다."),
     CREATED("COMMON-201", "리소스가 생성되었습니다."),
+    ACCEPTED("COMMON-202", "요청이 접수되었습니다."),
     NO_CONTENT("COMMON-204", "요청이 성공했습니다.");
 
     private final String code;
@@ -0,0 +1,22 @@
+package com.wisehero.stocktrading.common.concurrent;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 애플리케이션 작업 스레드의 생성 방식을 한 곳에서 정한다.
+ * <p>
+ * {@code spring.threads.virtual.enabled=true}면 가상 스레드를, 아니면 데몬 플랫폼 스레드를 만든다.
+ * 이름은 {@code prefix + 순번}이다. 선택자처럼 계속 도는 스레드는 여기서 만들지 않고 플랫폼 스레드로 둔다.
+ */
+public final class WorkerThreads {
+
+    private WorkerThreads() {
+    }
+
+    public static ThreadFactory factory(String prefix, boolean virtual) {
+        if (virtual) {
+            return Thread.ofVirtual().name(prefix, 0).factory();
+        }
+        return Thread.ofPlatform().name(prefix, 0).daemon().factory();
+    }
+}
@@ -0,0 +1,106 @@
+package com.wisehero.stocktrading.common.numeric;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 소수점 4자리 고정소수점 값을 {@code long}으로 다루는 유틸리티.
+ * <p>
+ * DB 컬럼(precision 19, scale 4)과 같은 정밀도로 가격/수량/금액을 {@code 값 * 10^4} 정수로 표현해
+ * 매칭과 수수료/선점 계산에서 BigDecimal 할당 없이 연산한다.
+ * 곱셈 결과는 {@link RoundingMode#HALF_UP}으로 반올림하며, long 범위를 넘는 중간값은
+ * BigDecimal로 계산해 기존 {@code setScale(4, HALF_UP)} 결과와 동일하게 맞춘다.
+ * 변환/연산 결과가 long 범위를 넘으면 {@link ArithmeticException}을 던지므로, 요청 값은 {@link #fits(BigDecimal)}로 먼저 거른다.
+ * API/JPA 경계에서는 {@link #fromBigDecimal(BigDecimal)}, {@link #toBigDecimal(long)}로 변환한다.
+ */
+public final class FixedDecimal {
+
+    public static final int SCALE = 4;
+    public static final long ONE = 10_000L;
+    public static final long ZERO = 0L;
+
+    private static final int MAX_FACTOR_SCALE = 18;
+    private static final long[] POWERS_OF_TEN = new long[MAX_FACTOR_SCALE + 1];
+
+    static {
+        long power = 1L;
+        for (int exponent = 0; exponent <= MAX_FACTOR_SCALE; exponent++) {
+            POWERS_OF_TEN[exponent] = power;
+            power *= 10L;
+        }
+    }
+
+    private FixedDecimal() {
+    }
+
+    /** 소수점 4자리로 반올림(HALF_UP)한 값을 고정소수점으로 변환한다. */
+    public static long fromBigDecimal(BigDecimal value) {
+        return value.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /** 소수점 4자리로 반올림한 값이 long 범위 안인지 확인한다. */
+    public static boolean fits(BigDecimal value) {
+        return value.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().bitLength() < Long.SIZE;
+    }
+
+    public static BigDecimal toBigDecimal(long value) {
+        return BigDecimal.valueOf(value, SCALE);
+    }
+
+    public static long of(long wholeUnits) {
+        return Math.multiplyExact(wholeUnits, ONE);
+    }
+
+    /** 두 고정소수점 값의 곱을 소수점 4자리로 반올림한다. 예: 가격 x 수량 = 거래대금. */
+    public static long multiply(long left, long right) {
+        return multiply(left, right, SCALE);
+    }
+
+    /**
+     * 고정소수점 값에 임의 스케일의 계수(unscaled value + scale)를 곱해 소수점 4자리로 반올림한다.
+     * 예: 거래대금 x 수수료율(0.00015 = 15, scale 5).
+     */
+    public static long multiply(long value, long factorUnscaled, int factorScale) {
+        if (factorScale < 0 || factorScale > MAX_FACTOR_SCALE) {
+            return multiplySlow(value, factorUnscaled, factorScale);
+        }
+
+        long high = Math.multiplyHigh(value, factorUnscaled);
+        long low = value * factorUnscaled;
+        if (high != (low >> 63)) {
+            return multiplySlow(value, factorUnscaled, factorScale);
+        }
+        return divideHalfUp(low, POWERS_OF_TEN[factorScale]);
+    }
+
+    public static long add(long left, long right) {
+        return Math.addExact(left, right);
+    }
+
+    public static long subtract(long left, long right) {
+        return Math.subtractExact(left, right);
+    }
+
+    /** 소수점 이하가 0인지(1주 단위인지) 확인한다. */
+    public static boolean isWhole(long value) {
+        return value % ONE == 0;
+    }
+
+    private static long divideHalfUp(long dividend, long divisor) {
+        if (divisor == 1L) {
+            return dividend;
+        }
+
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (Math.abs(remainder) * 2 >= divisor) {
+            quotient += Long.signum(dividend);
+        }
+        return quotient;
+    }
+
+    private static long multiplySlow(long value, long factorUnscaled, int factorScale) {
+        BigDecimal product = BigDecimal.valueOf(value, SCALE).multiply(BigDecimal.valueOf(factorUnscaled, factorScale));
+        return fromBigDecimal(product);
+    }
+}
@@ -0,0 +1,74 @@
+package com.wisehero.stocktrading.common.sequencer;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 다수 생산자 - 단일 소비자용 고정 크기 링 버퍼.
+ * <p>
+ * 슬롯을 미리 할당해 두고 슬롯별 시퀀스 번호로 발행/소비 가능 여부를 판단한다.
+ * 생산자는 CAS로 시퀀스를 선점한 뒤 슬롯을 채우고, 소비자는 락 없이 순서대로 꺼낸다.
+ */
+final class CommandRingBuffer {
+
+    private final Runnable[] slots;
+    private final AtomicLongArray slotSequences;
+    private final int mask;
+    private final AtomicLong producerSequence = new AtomicLong();
+    private long consumerSequence;
+
+    CommandRingBuffer(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1) << 1);
+        this.slots = new Runnable[capacity];
+        this.slotSequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int index = 0; index < capacity; index++) {
+            slotSequences.set(index, index);
+        }
+    }
+
+    /** 버퍼가 가득 찼으면 false를 반환한다. 여러 스레드에서 동시에 호출할 수 있다. */
+    boolean offer(Runnable command) {
+        long sequence;
+        int index;
+        while (true) {
+            sequence = producerSequence.get();
+            index = (int) (sequence & mask);
+            long distance = slotSequences.get(index) - sequence;
+            if (distance == 0) {
+                if (producerSequence.compareAndSet(sequence, sequence + 1)) {
+                    break;
+                }
+            } else if (distance < 0) {
+                return false;
+            }
+        }
+
+        slots[index] = command;
+        slotSequences.set(index, sequence + 1);
+        return true;
+    }
+
+    /** 발행된 명령이 없으면 null을 반환한다. 소비자 스레드에서만 호출해야 한다. */
+    Runnable poll() {
+        long sequence = consumerSequence;
+        int index = (int) (sequence & mask);
+        if (slotSequences.get(index) != sequence + 1) {
+            return null;
+        }
+
+        Runnable command = slots[index];
+        slots[index] = null;
+        slotSequences.set(index, sequence + slots.length);
+        consumerSequence = sequence + 1;
+        return command;
+    }
+
+    boolean isEmpty() {
+        return producerSequence.get() == consumerSequence;
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+}
@@ -0,0 +1,250 @@
+package com.wisehero.stocktrading.common.sequencer;
+
+import com.wisehero.stocktrading.common.concurrent.WorkerThreads;
+import jakarta.annotation.PreDestroy;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 종목 단위 단일 작성자(single-writer) 실행기.
+ * <p>
+ * 종목 코드를 해시해 고정된 샤드(전용 스레드 + 링 버퍼)에 배정하므로
+ * 같은 종목의 명령은 항상 한 스레드에서 접수 순서대로 실행된다.
+ * 같은 종목 행(시세/주문)에 대한 동시 갱신이 사라져 낙관적 락 충돌 없이 결정적으로 처리된다.
+ * <p>
+ * 샤드 스레드 안에서 같은 샤드로 다시 요청하면 교착을 피하기 위해 현재 스레드에서 바로 실행한다.
+ * 서로 다른 샤드 간 중첩 호출은 교착 위험이 있으므로 하지 않는다.
+ * 여러 종목을 한 트랜잭션으로 묶는 명령은 {@link #executeAcross(Collection, Supplier)}로 관련 샤드를 모두 붙잡고 실행한다.
+ */
+@Component
+public class SymbolSequencer {
+
+    private static final Logger log = LoggerFactory.getLogger(SymbolSequencer.class);
+    private static final int SPIN_TRIES = 200;
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final boolean enabled;
+    private final Shard[] shards;
+
+    public SymbolSequencer(
+            @Value("${trading.sequencer.enabled:true}") boolean enabled,
+            @Value("${trading.sequencer.shards:0}") int shardCount,
+            @Value("${trading.sequencer.ring-buffer-size:1024}") int ringBufferSize,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.enabled = enabled;
+        if (!enabled) {
+            this.shards = new Shard[0];
+            return;
+        }
+
+        int resolvedShardCount = shardCount > 0 ? shardCount : Runtime.getRuntime().availableProcessors();
+        this.shards = new Shard[resolvedShardCount];
+        // 가상 스레드면 샤드가 JDBC 응답을 기다리는 동안 캐리어를 놓아 준다.
+        ThreadFactory threadFactory = WorkerThreads.factory("symbol-sequencer-", virtualThreads);
+        for (int index = 0; index < resolvedShardCount; index++) {
+            shards[index] = new Shard(threadFactory, ringBufferSize);
+        }
+    }
+
+    /** 종목 샤드에서 명령을 실행하고 결과를 기다린다. 명령에서 발생한 예외는 그대로 전파한다. */
+    public <T> T execute(String symbol, Supplier<T> command) {
+        if (!enabled) {
+            return command.get();
+        }
+
+        Shard shard = shardOf(symbol);
+        if (shard.isCurrentThread()) {
+            return command.get();
+        }
+
+        try {
+            return shard.submit(command).join();
+        } catch (CompletionException exception) {
+            throw unwrap(exception);
+        }
+    }
+
+    public void execute(String symbol, Runnable command) {
+        execute(symbol, () -> {
+            command.run();
+            return null;
+        });
+    }
+
+    /**
+     * 종목들이 속한 샤드를 모두 붙잡은 채 호출 스레드에서 명령을 실행한다.
+     * 명령이 끝날 때까지 그 샤드의 다른 명령은 대기하므로 종목 단위 직렬화가 유지된다.
+     * 샤드는 번호 순서로 하나씩 잡으므로 동시에 들어온 다중 종목 명령끼리 교착되지 않는다. 샤드 스레드에서 호출하지 않는다.
+     */
+    public <T> T executeAcross(Collection<String> symbols, Supplier<T> command) {
+        if (!enabled) {
+            return command.get();
+        }
+
+        int[] shardIndexes = symbols.stream()
+                .mapToInt(this::shardIndexOf)
+                .distinct()
+                .sorted()
+                .toArray();
+        CompletableFuture<Void> release = new CompletableFuture<>();
+        try {
+            for (int shardIndex : shardIndexes) {
+                CompletableFuture<Void> held = new CompletableFuture<>();
+                shards[shardIndex].submit(() -> {
+                    held.complete(null);
+                    return release.join();
+                });
+                held.join();
+            }
+            return command.get();
+        } finally {
+            release.complete(null);
+        }
+    }
+
+    /** 결과를 기다리지 않고 종목 샤드에 명령을 넣는다. */
+    public <T> CompletableFuture<T> submit(String symbol, Supplier<T> command) {
+        if (!enabled) {
+            return CompletableFuture.completedFuture(command.get());
+        }
+        return shardOf(symbol).submit(command);
+    }
+
+    public int shardCount() {
+        return shards.length;
+    }
+
+    public int shardIndexOf(String symbol) {
+        if (shards.length == 0) {
+            return 0;
+        }
+        return Math.floorMod(normalizeSymbol(symbol).hashCode(), shards.length);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Shard shard : shards) {
+            shard.stop();
+        }
+        for (Shard shard : shards) {
+            shard.awaitTermination();
+        }
+    }
+
+    private Shard shardOf(String symbol) {
+        return shards[shardIndexOf(symbol)];
+    }
+
+    private RuntimeException unwrap(CompletionException exception) {
+        Throwable cause = exception.getCause();
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return exception;
+    }
+
+    private String normalizeSymbol(String symbol) {
+        return symbol.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static final class Shard implements Runnable {
+
+        private final CommandRingBuffer ringBuffer;
+        private final Thread thread;
+        private volatile boolean running = true;
+        private volatile boolean parked;
+
+        private Shard(ThreadFactory threadFactory, int ringBufferSize) {
+            this.ringBuffer = new CommandRingBuffer(ringBufferSize);
+            this.thread = threadFactory.newThread(this);
+            this.thread.start();
+        }
+
+        <T> CompletableFuture<T> submit(Supplier<T> command) {
+            if (!running) {
+                throw new IllegalStateException("Symbol sequencer is shut down");
+            }
+
+            CompletableFuture<T> future = new CompletableFuture<>();
+            Runnable task = () -> {
+                try {
+                    future.complete(command.get());
+                } catch (Throwable throwable) {
+                    future.completeExceptionally(throwable);
+                }
+            };
+
+            // 버퍼가 가득 차면 소비자가 따라올 때까지 생산자를 잠시 대기시킨다(backpressure).
+            while (!ringBuffer.offer(task)) {
+                LockSupport.parkNanos(MAX_PARK_NANOS / 10);
+            }
+            if (parked) {
+                LockSupport.unpark(thread);
+            }
+            return future;
+        }
+
+        boolean isCurrentThread() {
+            return Thread.currentThread() == thread;
+        }
+
+        @Override
+        public void run() {
+            int idleCount = 0;
+            while (running || !ringBuffer.isEmpty()) {
+                Runnable command = ringBuffer.poll();
+                if (command != null) {
+                    idleCount = 0;
+                    runSafely(command);
+                    continue;
+                }
+
+                if (idleCount++ < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+
+                parked = true;
+                if (ringBuffer.isEmpty() && running) {
+                    LockSupport.parkNanos(this, MAX_PARK_NANOS);
+                }
+                parked = false;
+            }
+        }
+
+        void stop() {
+            running = false;
+            LockSupport.unpark(thread);
+        }
+
+        void awaitTermination() {
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void runSafely(Runnable command) {
+            try {
+                command.run();
+            } catch (Throwable throwable) {
+                log.error("Sequenced command failed on {}", thread.getName(), throwable);
+            }
+        }
+    }
+}
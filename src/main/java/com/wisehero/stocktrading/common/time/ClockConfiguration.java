@@ -0,0 +1,27 @@
+package com.wisehero.stocktrading.common.time;
+
+import java.time.Clock;
+import java.time.Instant;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 체결/만료 시각을 찍는 {@link Clock}. 평소에는 UTC 벽시계, 재생 모드({@code trading.replay.enabled=true})에서는
+ * {@link VirtualClock}이다. 엔티티의 생성/수정 시각({@code @CreationTimestamp})은 Hibernate가 찍으므로 항상 벽시계다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class ClockConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(name = "trading.replay.enabled", havingValue = "true")
+    public VirtualClock virtualClock() {
+        return new VirtualClock(Instant.now());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "trading.replay.enabled", havingValue = "false", matchIfMissing = true)
+    public Clock systemClock() {
+        return Clock.systemUTC();
+    }
+}
@@ -0,0 +1,36 @@
+package com.wisehero.stocktrading.common.time;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시장 시간대({@code trading.market-time-zone}) 기준 거래일.
+ * 주문/체결의 {@code trade_date}와 거래일 파티션 경계를 같은 기준으로 자른다.
+ */
+@Component
+public class TradeCalendar {
+
+    private final Clock clock;
+    private final ZoneId marketZone;
+
+    public TradeCalendar(Clock clock, @Value("${trading.market-time-zone:Asia/Seoul}") String marketTimeZone) {
+        this.clock = clock;
+        this.marketZone = ZoneId.of(marketTimeZone);
+    }
+
+    public ZoneId zone() {
+        return marketZone;
+    }
+
+    public LocalDate today() {
+        return LocalDate.ofInstant(clock.instant(), marketZone);
+    }
+
+    public LocalDate tradeDateOf(Instant instant) {
+        return LocalDate.ofInstant(instant, marketZone);
+    }
+}
@@ -0,0 +1,53 @@
+package com.wisehero.stocktrading.common.time;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 재생 모드에서 벽시계 대신 쓰는 시계. 테이프의 이벤트 시각으로만 움직인다.
+ * <p>
+ * {@link #advanceTo(Instant)}는 앞으로만 움직이므로 여러 재생 작업자가 서로 다른 시각으로 밀어도 시간이 거꾸로 가지 않는다.
+ */
+public class VirtualClock extends Clock {
+
+    private final AtomicReference<Instant> now;
+    private final ZoneId zone;
+
+    public VirtualClock(Instant initial) {
+        this(new AtomicReference<>(initial), ZoneOffset.UTC);
+    }
+
+    private VirtualClock(AtomicReference<Instant> now, ZoneId zone) {
+        this.now = now;
+        this.zone = zone;
+    }
+
+    /** 재생 시작 시 테이프 첫 시각으로 되돌린다. */
+    public void reset(Instant instant) {
+        now.set(instant);
+    }
+
+    /** 현재 시각보다 뒤일 때만 옮긴다. */
+    public void advanceTo(Instant instant) {
+        now.accumulateAndGet(instant, (current, next) -> next.isAfter(current) ? next : current);
+    }
+
+    @Override
+    public Instant instant() {
+        return now.get();
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /** 같은 시각을 공유하고 표시 시간대만 다른 시계. */
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return zone.equals(this.zone) ? this : new VirtualClock(now, zone);
+    }
+}
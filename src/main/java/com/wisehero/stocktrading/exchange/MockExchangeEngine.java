@@ -1,5 +1,6 @@
 package com.wisehero.stocktrading.exchange;
 
+import com.wisehero.stocktrading.common.numeric.FixedDecimal;
 import com.wisehero.stocktrading.exchange.dto.MatchResult;
 import com.wisehero.stocktrading.order.domain.Order;
 import com.wisehero.stocktrading.order.domain.OrderSide;
@@ -8,16 +9,20 @@ import com.wisehero.stocktrading.order.domain.OrderType;
 import com.wisehero.stocktrading.quote.domain.MockQuote;
 import com.wisehero.stocktrading.quote.repository.MockQuoteRepository;
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 1차 릴리즈용 내부 모의 매칭 엔진.
  * mock_quotes의 가격/가용수량으로 체결 여부를 판단한다.
+ * {@code trading.exchange.engine}을 지정하지 않으면 기본으로 사용된다.
  */
 @Component
+@ConditionalOnProperty(name = "trading.exchange.engine", havingValue = "mock-quote", matchIfMissing = true)
 public class MockExchangeEngine implements OrderExecutionGateway {
 
     private final MockQuoteRepository mockQuoteRepository;
@@ -50,11 +55,13 @@ public class MockExchangeEngine implements OrderExecutionGateway {
 
         mockQuoteRepository.save(quote);
 
+        long fillQuantity = FixedDecimal.fromBigDecimal(filledQuantity);
+        long fillPrice = FixedDecimal.fromBigDecimal(quote.getPrice());
         if (filledQuantity.compareTo(order.getRemainingQuantity()) == 0) {
-            return MatchResult.fullFill(filledQuantity, quote.getPrice(), UUID.randomUUID().toString());
+            return MatchResult.fullFill(fillQuantity, fillPrice, UUID.randomUUID().toString());
         }
 
-        return MatchResult.partialFill(filledQuantity, quote.getPrice(), UUID.randomUUID().toString());
+        return MatchResult.partialFill(fillQuantity, fillPrice, UUID.randomUUID().toString());
     }
 
     @Override
@@ -62,6 +69,25 @@ public class MockExchangeEngine implements OrderExecutionGateway {
         // 내부 모의 엔진에서는 취소 요청을 즉시 수락 처리한다.
     }
 
+    @Override
+    public void cancelAll(String symbol, Collection<Long> orderIds) {
+        // 대기 주문을 보관하지 않으므로 따로 정리할 상태가 없다.
+    }
+
+    @Override
+    public boolean hasLiquidity(String symbol) {
+        return mockQuoteRepository.findById(symbol)
+                .map(quote -> quote.getAvailableQuantity().compareTo(BigDecimal.ZERO) > 0)
+                .orElse(false);
+    }
+
+    @Override
+    public boolean isMatchable(Order order) {
+        return mockQuoteRepository.findById(order.getSymbol())
+                .map(quote -> isPriceConditionMatched(order, quote.getPrice()))
+                .orElse(false);
+    }
+
     private boolean isPriceConditionMatched(Order order, BigDecimal quotePrice) {
         if (order.getOrderType() == OrderType.MARKET) {
             return true;
@@ -0,0 +1,317 @@
+package com.wisehero.stocktrading.exchange;
+
+import com.wisehero.stocktrading.common.numeric.FixedDecimal;
+import com.wisehero.stocktrading.exchange.book.BookFill;
+import com.wisehero.stocktrading.exchange.book.OrderBook;
+import com.wisehero.stocktrading.exchange.book.RestingOrder;
+import com.wisehero.stocktrading.exchange.dto.MatchExecution;
+import com.wisehero.stocktrading.exchange.dto.MatchResult;
+import com.wisehero.stocktrading.order.domain.Order;
+import com.wisehero.stocktrading.order.domain.OrderSide;
+import com.wisehero.stocktrading.order.domain.OrderStatus;
+import com.wisehero.stocktrading.order.domain.OrderTif;
+import com.wisehero.stocktrading.order.domain.OrderType;
+import com.wisehero.stocktrading.order.partition.OpenOrderWindow;
+import com.wisehero.stocktrading.order.repository.OrderRepository;
+import com.wisehero.stocktrading.quote.event.MockQuoteUpdatedEvent;
+import com.wisehero.stocktrading.quote.repository.MockQuoteRepository;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 종목별 인메모리 호가창으로 가격-시간 우선 매칭을 수행하는 모의 체결 엔진.
+ * <p>
+ * {@code trading.exchange.engine=order-book}일 때 활성화된다.
+ * 호가창은 종목을 처음 매칭할 때 미체결 DAY 지정가 주문과 시세를 한 번만 읽어 구성하고,
+ * 이후 시세는 {@link MockQuoteUpdatedEvent}로 갱신하므로 매칭 시 DB를 조회하지 않는다.
+ * <p>
+ * 호가창은 트랜잭션 안에서 바로 바뀐다. 소진한 시세 유동성은 커밋 직전에 종목당 한 번 {@code mock_quotes}에 쓰고,
+ * 호가창을 건드린 트랜잭션이 롤백되면 그 종목의 호가창을 버린 뒤 다음 매칭에서 커밋된 미체결 주문과 시세 잔량으로 다시 구성한다.
+ * 같은 종목 명령은 시퀀서로 직렬화되므로 다시 읽을 때 커밋되지 않은 다른 변경은 없다.
+ */
+@Component
+@ConditionalOnProperty(name = "trading.exchange.engine", havingValue = "order-book")
+public class OrderBookExchangeEngine implements OrderExecutionGateway {
+
+    private static final List<OrderStatus> RESTING_STATUSES = List.of(OrderStatus.NEW, OrderStatus.PARTIALLY_FILLED);
+
+    private final MockQuoteRepository mockQuoteRepository;
+    private final OrderRepository orderRepository;
+    private final OpenOrderWindow openOrderWindow;
+    private final Clock clock;
+    private final ConcurrentMap<String, OrderBook> books = new ConcurrentHashMap<>();
+
+    public OrderBookExchangeEngine(
+            MockQuoteRepository mockQuoteRepository,
+            OrderRepository orderRepository,
+            OpenOrderWindow openOrderWindow,
+            Clock clock
+    ) {
+        this.mockQuoteRepository = mockQuoteRepository;
+        this.orderRepository = orderRepository;
+        this.openOrderWindow = openOrderWindow;
+        this.clock = clock;
+    }
+
+    @Override
+    public MatchResult match(Order order) {
+        OrderBook book = getOrLoadBook(order.getSymbol(), order.getId());
+        track(order.getSymbol(), book);
+        List<BookFill> fills;
+        synchronized (book) {
+            fills = matchInBook(book, order);
+        }
+
+        List<MatchExecution> executions = new ArrayList<>(fills.size());
+        for (BookFill fill : fills) {
+            executions.add(toExecution(fill));
+        }
+        return MatchResult.of(FixedDecimal.fromBigDecimal(order.getRemainingQuantity()), executions);
+    }
+
+    @Override
+    public void cancel(Order order) {
+        OrderBook book = books.get(order.getSymbol());
+        if (book == null) {
+            return;
+        }
+
+        track(order.getSymbol(), book);
+        synchronized (book) {
+            book.remove(order.getId());
+        }
+    }
+
+    @Override
+    public void cancelAll(String symbol, Collection<Long> orderIds) {
+        OrderBook book = books.get(symbol);
+        if (book == null) {
+            return;
+        }
+
+        track(symbol, book);
+        synchronized (book) {
+            for (Long orderId : orderIds) {
+                book.remove(orderId);
+            }
+        }
+    }
+
+    @Override
+    public boolean hasLiquidity(String symbol) {
+        OrderBook book = books.get(symbol);
+        if (book == null) {
+            // 적재 전인 종목은 첫 매칭에서 판단한다.
+            return true;
+        }
+
+        synchronized (book) {
+            return book.getQuoteQuantity() > 0;
+        }
+    }
+
+    @Override
+    public boolean isMatchable(Order order) {
+        OrderBook book = books.get(order.getSymbol());
+        if (book == null || order.getOrderType() == OrderType.MARKET) {
+            return true;
+        }
+
+        long quotePrice;
+        synchronized (book) {
+            if (book.getQuoteQuantity() <= 0) {
+                return false;
+            }
+            quotePrice = book.getQuotePrice();
+        }
+
+        // 대기 주문끼리는 진입 시점에 이미 교차가 해소되므로 시세 가격과의 교차만 본다.
+        long limitPrice = FixedDecimal.fromBigDecimal(order.getLimitPrice());
+        if (order.getSide() == OrderSide.BUY) {
+            return quotePrice <= limitPrice;
+        }
+        return quotePrice >= limitPrice;
+    }
+
+    @EventListener
+    public void onQuoteUpdated(MockQuoteUpdatedEvent event) {
+        OrderBook book = books.get(event.symbol());
+        if (book == null) {
+            // 아직 적재되지 않은 종목은 처음 매칭할 때 최신 시세를 함께 읽는다.
+            return;
+        }
+
+        track(event.symbol(), book);
+        synchronized (book) {
+            book.updateQuote(FixedDecimal.fromBigDecimal(event.price()), FixedDecimal.fromBigDecimal(event.availableQuantity()));
+        }
+    }
+
+    private List<BookFill> matchInBook(OrderBook book, Order order) {
+        RestingOrder resting = book.find(order.getId());
+        if (resting != null) {
+            // 가격/잔량이 그대로면 대기 순서를 유지한 채 시세 유동성과만 재매칭한다.
+            if (isUnchanged(resting, order)) {
+                return book.matchAgainstQuote(order.getId());
+            }
+            // 정정된 주문은 기존 대기 순서를 잃고 새 주문처럼 다시 진입한다.
+            book.remove(order.getId());
+        }
+
+        boolean restRemainder = order.getTif() == OrderTif.DAY && order.getOrderType() == OrderType.LIMIT;
+        return book.match(
+                order.getId(),
+                order.getSide(),
+                resolveLimitPrice(book, order),
+                FixedDecimal.fromBigDecimal(order.getRemainingQuantity()),
+                order.getTif() == OrderTif.FOK,
+                restRemainder
+        );
+    }
+
+    private long resolveLimitPrice(OrderBook book, Order order) {
+        if (order.getOrderType() == OrderType.LIMIT) {
+            return FixedDecimal.fromBigDecimal(order.getLimitPrice());
+        }
+        if (order.getSide() == OrderSide.BUY) {
+            // 시장가 매수는 시세 가격으로 현금을 선점하므로 그보다 비싼 매도 대기 주문과는 체결하지 않는다.
+            return book.getQuotePrice();
+        }
+        return OrderBook.marketLimit(OrderSide.SELL);
+    }
+
+    private boolean isUnchanged(RestingOrder resting, Order order) {
+        return resting.getLimitPrice() == FixedDecimal.fromBigDecimal(order.getLimitPrice())
+                && resting.getRemainingQuantity() == FixedDecimal.fromBigDecimal(order.getRemainingQuantity());
+    }
+
+    private MatchExecution toExecution(BookFill fill) {
+        if (!fill.hasCounterOrder()) {
+            return MatchExecution.ofQuote(fill.quantity(), fill.price(), UUID.randomUUID().toString());
+        }
+
+        return MatchExecution.ofRestingOrder(
+                fill.quantity(),
+                fill.price(),
+                UUID.randomUUID().toString(),
+                fill.counterOrderId(),
+                UUID.randomUUID().toString()
+        );
+    }
+
+    private OrderBook getOrLoadBook(String symbol, Long incomingOrderId) {
+        OrderBook book = books.get(symbol);
+        if (book != null) {
+            return book;
+        }
+
+        OrderBook loaded = loadBook(symbol, incomingOrderId);
+        OrderBook existing = books.putIfAbsent(symbol, loaded);
+        return existing == null ? loaded : existing;
+    }
+
+    private OrderBook loadBook(String symbol, Long incomingOrderId) {
+        OrderBook book = new OrderBook(symbol);
+        mockQuoteRepository.findById(symbol)
+                .ifPresent(quote -> book.updateQuote(
+                        FixedDecimal.fromBigDecimal(quote.getPrice()),
+                        FixedDecimal.fromBigDecimal(quote.getAvailableQuantity())
+                ));
+
+        // 재기동 후 첫 매칭 시점에 DB의 미체결 DAY 지정가 주문을 접수 순서대로 호가창에 복원한다.
+        // 지금 매칭 중인 주문은 호가창에 넣지 않고 신규 주문처럼 진입시킨다.
+        List<Order> openOrders = openOrderWindow.since()
+                .map(since -> orderRepository.findBySymbolAndStatusInAndTradeDateGreaterThanEqualOrderByCreatedAtAscIdAsc(
+                        symbol,
+                        RESTING_STATUSES,
+                        since
+                ))
+                .orElseGet(() -> orderRepository.findBySymbolAndStatusInOrderByCreatedAtAscIdAsc(symbol, RESTING_STATUSES));
+        for (Order openOrder : openOrders) {
+            if (Objects.equals(openOrder.getId(), incomingOrderId)
+                    || openOrder.getTif() != OrderTif.DAY
+                    || openOrder.getOrderType() != OrderType.LIMIT) {
+                continue;
+            }
+            book.rest(
+                    openOrder.getId(),
+                    openOrder.getSide(),
+                    FixedDecimal.fromBigDecimal(openOrder.getLimitPrice()),
+                    FixedDecimal.fromBigDecimal(openOrder.getRemainingQuantity())
+            );
+        }
+        return book;
+    }
+
+    /**
+     * 트랜잭션이 건드린 호가창과 그때의 시세 잔량을 기억한다. 커밋 직전에 바뀐 시세 잔량을 쓰고, 롤백되면 호가창을 버린다.
+     * 트랜잭션 밖(테스트/벤치마크)에서는 바로 반영된 것으로 본다.
+     */
+    private void track(String symbol, OrderBook book) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, TouchedBook> touched = (Map<String, TouchedBook>) TransactionSynchronizationManager.getResource(this);
+        if (touched == null) {
+            touched = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, touched);
+            TransactionSynchronizationManager.registerSynchronization(new TouchedBookSynchronization(touched));
+        }
+        if (!touched.containsKey(symbol)) {
+            synchronized (book) {
+                touched.put(symbol, new TouchedBook(book, book.getQuoteQuantity()));
+            }
+        }
+    }
+
+    private record TouchedBook(OrderBook book, long quoteQuantity) {
+    }
+
+    private final class TouchedBookSynchronization implements TransactionSynchronization {
+
+        private final Map<String, TouchedBook> touched;
+
+        private TouchedBookSynchronization(Map<String, TouchedBook> touched) {
+            this.touched = touched;
+        }
+
+        /** 시세 잔량이 바뀐 종목만 쓴다. 롤백 뒤 다시 구성한 호가창이 이미 소진된 유동성을 되살리지 않게 한다. */
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            touched.forEach((symbol, touchedBook) -> {
+                long quoteQuantity;
+                synchronized (touchedBook.book()) {
+                    quoteQuantity = touchedBook.book().getQuoteQuantity();
+                }
+                if (quoteQuantity != touchedBook.quoteQuantity()) {
+                    mockQuoteRepository.updateAvailableQuantity(symbol, FixedDecimal.toBigDecimal(quoteQuantity), clock.instant());
+                }
+            });
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(OrderBookExchangeEngine.this);
+            if (status == STATUS_COMMITTED) {
+                return;
+            }
+            // 그사이 다른 호가창으로 바뀌었으면 그대로 둔다.
+            touched.forEach((symbol, touchedBook) -> books.remove(symbol, touchedBook.book()));
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.wisehero.stocktrading.exchange;
 
 import com.wisehero.stocktrading.exchange.dto.MatchResult;
 import com.wisehero.stocktrading.order.domain.Order;
+import java.util.Collection;
 
 /**
  * 브로커 코어가 체결 엔진을 호출할 때 사용하는 추상화.
@@ -12,4 +13,22 @@ public interface OrderExecutionGateway {
     MatchResult match(Order order);
 
     void cancel(Order order);
+
+    /**
+     * 같은 종목의 주문 여러 건을 ID로 취소한다.
+     * 만료 배치처럼 주문 엔티티를 읽지 않고 일괄 갱신하는 경로에서 사용한다.
+     */
+    void cancelAll(String symbol, Collection<Long> orderIds);
+
+    /**
+     * 종목에 체결 가능한 시세 유동성이 남아 있는지 확인한다.
+     * 재매칭 루프를 조기 종료하는 용도이며, 판단할 수 없으면 true를 돌려준다.
+     */
+    boolean hasLiquidity(String symbol);
+
+    /**
+     * 대기 주문이 현재 시세와 가격 조건이 맞는지 확인한다.
+     * 재매칭 대상에서 체결될 수 없는 주문을 미리 거르는 용도이며, 판단할 수 없으면 true를 돌려준다.
+     */
+    boolean isMatchable(Order order);
 }
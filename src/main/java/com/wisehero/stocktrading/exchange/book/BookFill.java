@@ -0,0 +1,16 @@
+package com.wisehero.stocktrading.exchange.book;
+
+/**
+ * 호가창 매칭 한 건의 결과. 가격/수량은 {@code FixedDecimal} 고정소수점 값이다.
+ * 상대가 시세 유동성이면 {@code counterOrderId}는 null이다.
+ */
+public record BookFill(
+        long price,
+        long quantity,
+        Long counterOrderId
+) {
+
+    public boolean hasCounterOrder() {
+        return counterOrderId != null;
+    }
+}
@@ -0,0 +1,206 @@
+package com.wisehero.stocktrading.exchange.book;
+
+import com.wisehero.stocktrading.order.domain.OrderSide;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 종목 단위 인메모리 호가창.
+ * <p>
+ * 매수/매도 가격대를 가격-시간 우선순위로 보관하고, 신규 주문을 반대편 대기 주문과
+ * 모의 시세 유동성(가격 + 가용수량) 중 유리한 가격부터 체결한다.
+ * 같은 가격이면 호가창 대기 주문이 시세 유동성보다 먼저 체결된다.
+ * 가격/수량은 모두 {@code FixedDecimal} 고정소수점 값이다.
+ * <p>
+ * 스레드 안전하지 않으므로 호출 측에서 종목 단위로 직렬화해야 한다.
+ */
+public class OrderBook {
+
+    private final String symbol;
+    private final NavigableMap<Long, PriceLevel> bids = new TreeMap<>(Collections.reverseOrder());
+    private final NavigableMap<Long, PriceLevel> asks = new TreeMap<>();
+    private final Map<Long, RestingOrder> restingOrders = new HashMap<>();
+
+    private long quotePrice;
+    private long quoteQuantity;
+
+    public OrderBook(String symbol) {
+        this.symbol = symbol;
+    }
+
+    /** 시장가 주문이 모든 가격과 교차하도록 사용하는 지정가 값. */
+    public static long marketLimit(OrderSide side) {
+        return side == OrderSide.BUY ? Long.MAX_VALUE : 0L;
+    }
+
+    public void updateQuote(long price, long availableQuantity) {
+        this.quotePrice = price;
+        this.quoteQuantity = Math.max(0L, availableQuantity);
+    }
+
+    /**
+     * 신규(또는 재진입) 주문을 매칭한다.
+     *
+     * @param limitPrice    지정가, 시장가 주문이면 {@link #marketLimit(OrderSide)}
+     * @param allOrNone     FOK처럼 전량 체결이 불가능하면 아무것도 체결하지 않는다
+     * @param restRemainder 미체결 잔량을 호가창에 대기시킬지 여부
+     */
+    public List<BookFill> match(
+            long orderId,
+            OrderSide side,
+            long limitPrice,
+            long quantity,
+            boolean allOrNone,
+            boolean restRemainder
+    ) {
+        if (allOrNone && crossableQuantity(side, limitPrice, quantity) < quantity) {
+            return List.of();
+        }
+
+        NavigableMap<Long, PriceLevel> opposite = side == OrderSide.BUY ? asks : bids;
+        List<BookFill> fills = new ArrayList<>();
+        long remaining = quantity;
+
+        while (remaining > 0) {
+            Map.Entry<Long, PriceLevel> bestLevel = opposite.firstEntry();
+            boolean levelCrosses = bestLevel != null && crosses(side, limitPrice, bestLevel.getKey());
+            boolean quoteCrosses = hasQuoteLiquidity() && crosses(side, limitPrice, quotePrice);
+            if (!levelCrosses && !quoteCrosses) {
+                break;
+            }
+
+            if (levelCrosses && (!quoteCrosses || isAtLeastAsGood(side, bestLevel.getKey(), quotePrice))) {
+                PriceLevel level = bestLevel.getValue();
+                remaining = level.match(remaining, fills, resting -> restingOrders.remove(resting.getOrderId()));
+                if (level.isEmpty()) {
+                    opposite.remove(bestLevel.getKey());
+                }
+                continue;
+            }
+
+            long fillQuantity = Math.min(remaining, quoteQuantity);
+            quoteQuantity -= fillQuantity;
+            remaining -= fillQuantity;
+            fills.add(new BookFill(quotePrice, fillQuantity, null));
+        }
+
+        if (restRemainder && remaining > 0) {
+            rest(orderId, side, limitPrice, remaining);
+        }
+        return fills;
+    }
+
+    /**
+     * 이미 대기 중인 주문을 갱신된 시세 유동성과만 다시 매칭한다.
+     * 대기 주문끼리는 진입 시점에 이미 교차 여부를 확인했으므로 서로 다시 비교하지 않는다.
+     */
+    public List<BookFill> matchAgainstQuote(long orderId) {
+        RestingOrder resting = restingOrders.get(orderId);
+        if (resting == null || !hasQuoteLiquidity() || !crosses(resting.getSide(), resting.getLimitPrice(), quotePrice)) {
+            return List.of();
+        }
+
+        long fillQuantity = Math.min(resting.getRemainingQuantity(), quoteQuantity);
+        quoteQuantity -= fillQuantity;
+
+        NavigableMap<Long, PriceLevel> levels = levelsOf(resting.getSide());
+        PriceLevel level = levels.get(resting.getLimitPrice());
+        level.reduce(resting, fillQuantity);
+        if (resting.isEmpty()) {
+            restingOrders.remove(orderId);
+        }
+        if (level.isEmpty()) {
+            levels.remove(resting.getLimitPrice());
+        }
+
+        return List.of(new BookFill(quotePrice, fillQuantity, null));
+    }
+
+    public void rest(long orderId, OrderSide side, long limitPrice, long quantity) {
+        RestingOrder resting = new RestingOrder(orderId, side, limitPrice, quantity);
+        levelsOf(side).computeIfAbsent(limitPrice, PriceLevel::new).add(resting);
+        restingOrders.put(orderId, resting);
+    }
+
+    public boolean remove(long orderId) {
+        RestingOrder resting = restingOrders.remove(orderId);
+        if (resting == null) {
+            return false;
+        }
+
+        NavigableMap<Long, PriceLevel> levels = levelsOf(resting.getSide());
+        PriceLevel level = levels.get(resting.getLimitPrice());
+        level.remove(resting);
+        if (level.isEmpty()) {
+            levels.remove(resting.getLimitPrice());
+        }
+        return true;
+    }
+
+    public RestingOrder find(long orderId) {
+        return restingOrders.get(orderId);
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public long getQuotePrice() {
+        return quotePrice;
+    }
+
+    public long getQuoteQuantity() {
+        return quoteQuantity;
+    }
+
+    public Long bestBid() {
+        return bids.isEmpty() ? null : bids.firstKey();
+    }
+
+    public Long bestAsk() {
+        return asks.isEmpty() ? null : asks.firstKey();
+    }
+
+    public int restingOrderCount() {
+        return restingOrders.size();
+    }
+
+    private long crossableQuantity(OrderSide side, long limitPrice, long target) {
+        long crossable = hasQuoteLiquidity() && crosses(side, limitPrice, quotePrice) ? quoteQuantity : 0L;
+        NavigableMap<Long, PriceLevel> opposite = side == OrderSide.BUY ? asks : bids;
+        for (PriceLevel level : opposite.values()) {
+            if (crossable >= target || !crosses(side, limitPrice, level.getPrice())) {
+                break;
+            }
+            crossable += level.getTotalQuantity();
+        }
+        return crossable;
+    }
+
+    private NavigableMap<Long, PriceLevel> levelsOf(OrderSide side) {
+        return side == OrderSide.BUY ? bids : asks;
+    }
+
+    private boolean hasQuoteLiquidity() {
+        return quotePrice > 0 && quoteQuantity > 0;
+    }
+
+    private boolean crosses(OrderSide side, long limitPrice, long price) {
+        if (side == OrderSide.BUY) {
+            return price <= limitPrice;
+        }
+        return price >= limitPrice;
+    }
+
+    private boolean isAtLeastAsGood(OrderSide side, long levelPrice, long otherPrice) {
+        if (side == OrderSide.BUY) {
+            return levelPrice <= otherPrice;
+        }
+        return levelPrice >= otherPrice;
+    }
+}
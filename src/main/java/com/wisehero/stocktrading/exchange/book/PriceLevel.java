@@ -0,0 +1,78 @@
+package com.wisehero.stocktrading.exchange.book;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 동일 가격대의 대기 주문을 접수 순서(FIFO)로 보관한다.
+ * 취소 시 중간 삭제가 잦으므로 순서를 유지하는 LinkedHashMap을 사용한다.
+ */
+final class PriceLevel {
+
+    private final long price;
+    private final Map<Long, RestingOrder> orders = new LinkedHashMap<>();
+    private long totalQuantity;
+
+    PriceLevel(long price) {
+        this.price = price;
+    }
+
+    void add(RestingOrder order) {
+        orders.put(order.getOrderId(), order);
+        totalQuantity += order.getRemainingQuantity();
+    }
+
+    void remove(RestingOrder order) {
+        if (orders.remove(order.getOrderId()) != null) {
+            totalQuantity -= order.getRemainingQuantity();
+        }
+    }
+
+    /** 외부(시세) 체결로 대기 주문 잔량이 줄어든 경우 가격대 합계를 맞춘다. */
+    void reduce(RestingOrder order, long quantity) {
+        order.reduce(quantity);
+        totalQuantity -= quantity;
+        if (order.isEmpty()) {
+            orders.remove(order.getOrderId());
+        }
+    }
+
+    /**
+     * 접수 순서대로 대기 주문을 소진하며 체결 건을 추가하고, 남은 요청 수량을 반환한다.
+     * 완전히 소진된 대기 주문은 가격대에서 제거한 뒤 {@code onExhausted}로 알린다.
+     */
+    long match(long quantity, List<BookFill> fills, Consumer<RestingOrder> onExhausted) {
+        long remaining = quantity;
+        Iterator<RestingOrder> iterator = orders.values().iterator();
+        while (remaining > 0 && iterator.hasNext()) {
+            RestingOrder resting = iterator.next();
+            long fillQuantity = Math.min(remaining, resting.getRemainingQuantity());
+
+            resting.reduce(fillQuantity);
+            totalQuantity -= fillQuantity;
+            remaining -= fillQuantity;
+            fills.add(new BookFill(price, fillQuantity, resting.getOrderId()));
+
+            if (resting.isEmpty()) {
+                iterator.remove();
+                onExhausted.accept(resting);
+            }
+        }
+        return remaining;
+    }
+
+    boolean isEmpty() {
+        return orders.isEmpty();
+    }
+
+    long getPrice() {
+        return price;
+    }
+
+    long getTotalQuantity() {
+        return totalQuantity;
+    }
+}
@@ -0,0 +1,45 @@
+package com.wisehero.stocktrading.exchange.book;
+
+import com.wisehero.stocktrading.order.domain.OrderSide;
+
+/**
+ * 호가창에 대기 중인 주문 잔량. 가격/수량은 {@code FixedDecimal} 고정소수점 값이다.
+ */
+public final class RestingOrder {
+
+    private final long orderId;
+    private final OrderSide side;
+    private final long limitPrice;
+    private long remainingQuantity;
+
+    RestingOrder(long orderId, OrderSide side, long limitPrice, long remainingQuantity) {
+        this.orderId = orderId;
+        this.side = side;
+        this.limitPrice = limitPrice;
+        this.remainingQuantity = remainingQuantity;
+    }
+
+    void reduce(long quantity) {
+        remainingQuantity -= quantity;
+    }
+
+    boolean isEmpty() {
+        return remainingQuantity <= 0;
+    }
+
+    public long getOrderId() {
+        return orderId;
+    }
+
+    public OrderSide getSide() {
+        return side;
+    }
+
+    public long getLimitPrice() {
+        return limitPrice;
+    }
+
+    public long getRemainingQuantity() {
+        return remainingQuantity;
+    }
+}
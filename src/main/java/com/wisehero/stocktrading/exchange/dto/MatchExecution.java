@@ -0,0 +1,32 @@
+package com.wisehero.stocktrading.exchange.dto;
+
+/**
+ * 매칭 결과에 포함되는 개별 체결 건. 가격/수량은 {@code FixedDecimal} 고정소수점 값이다.
+ * 호가창에 대기 중이던 주문과 체결된 경우 상대 주문 ID와 상대측 체결 ID를 함께 담는다.
+ */
+public record MatchExecution(
+        long fillQuantity,
+        long fillPrice,
+        String executionId,
+        Long counterOrderId,
+        String counterExecutionId
+) {
+
+    public static MatchExecution ofQuote(long fillQuantity, long fillPrice, String executionId) {
+        return new MatchExecution(fillQuantity, fillPrice, executionId, null, null);
+    }
+
+    public static MatchExecution ofRestingOrder(
+            long fillQuantity,
+            long fillPrice,
+            String executionId,
+            Long counterOrderId,
+            String counterExecutionId
+    ) {
+        return new MatchExecution(fillQuantity, fillPrice, executionId, counterOrderId, counterExecutionId);
+    }
+
+    public boolean hasCounterOrder() {
+        return counterOrderId != null;
+    }
+}
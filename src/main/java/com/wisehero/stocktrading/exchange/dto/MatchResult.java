@@ -1,27 +1,40 @@
 package com.wisehero.stocktrading.exchange.dto;
 
-import java.math.BigDecimal;
+import java.util.List;
 
 /**
  * 단일 주문에 대한 매칭 결과.
+ * 호가창 엔진은 여러 가격대/상대 주문과 체결될 수 있으므로 체결 건을 목록으로 담는다.
  */
 public record MatchResult(
         MatchType type,
-        BigDecimal fillQuantity,
-        BigDecimal fillPrice,
-        String executionId
+        List<MatchExecution> executions
 ) {
 
     public static MatchResult noFill() {
-        return new MatchResult(MatchType.NO_FILL, BigDecimal.ZERO, null, null);
+        return new MatchResult(MatchType.NO_FILL, List.of());
     }
 
-    public static MatchResult partialFill(BigDecimal fillQuantity, BigDecimal fillPrice, String executionId) {
-        return new MatchResult(MatchType.PARTIAL_FILL, fillQuantity, fillPrice, executionId);
+    public static MatchResult partialFill(long fillQuantity, long fillPrice, String executionId) {
+        return new MatchResult(MatchType.PARTIAL_FILL, List.of(MatchExecution.ofQuote(fillQuantity, fillPrice, executionId)));
     }
 
-    public static MatchResult fullFill(BigDecimal fillQuantity, BigDecimal fillPrice, String executionId) {
-        return new MatchResult(MatchType.FULL_FILL, fillQuantity, fillPrice, executionId);
+    public static MatchResult fullFill(long fillQuantity, long fillPrice, String executionId) {
+        return new MatchResult(MatchType.FULL_FILL, List.of(MatchExecution.ofQuote(fillQuantity, fillPrice, executionId)));
+    }
+
+    /** 주문 잔량 대비 체결 합계로 결과 유형을 판단한다. */
+    public static MatchResult of(long requestedQuantity, List<MatchExecution> executions) {
+        if (executions.isEmpty()) {
+            return noFill();
+        }
+
+        long filledQuantity = 0L;
+        for (MatchExecution execution : executions) {
+            filledQuantity += execution.fillQuantity();
+        }
+        MatchType type = filledQuantity >= requestedQuantity ? MatchType.FULL_FILL : MatchType.PARTIAL_FILL;
+        return new MatchResult(type, List.copyOf(executions));
     }
 
     public boolean hasFill() {
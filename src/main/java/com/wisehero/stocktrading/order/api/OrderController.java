@@ -2,14 +2,22 @@ package com.wisehero.stocktrading.order.api;
 
 import com.wisehero.stocktrading.common.api.ApiResponse;
 import com.wisehero.stocktrading.order.api.dto.OrderAmendRequest;
+import com.wisehero.stocktrading.order.api.dto.OrderBatchCreateRequest;
+import com.wisehero.stocktrading.order.api.dto.OrderBatchResponse;
 import com.wisehero.stocktrading.order.api.dto.OrderCancelRequest;
 import com.wisehero.stocktrading.order.api.dto.OrderCreateRequest;
+import com.wisehero.stocktrading.order.api.dto.OrderPageResponse;
 import com.wisehero.stocktrading.order.api.dto.OrderResponse;
+import com.wisehero.stocktrading.order.service.OrderCommandService;
 import com.wisehero.stocktrading.order.service.OrderService;
+import com.wisehero.stocktrading.order.stream.ExecutionReportBroadcaster;
+import com.wisehero.stocktrading.order.view.OrderViewQueryService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -20,6 +28,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * 일반주문(매수/매도) API 진입점.
@@ -30,15 +39,31 @@ import org.springframework.web.bind.annotation.RestController;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderCommandService orderCommandService;
+    private final ExecutionReportBroadcaster executionReportBroadcaster;
+    private final OrderViewQueryService orderViewQueryService;
 
-    public OrderController(OrderService orderService) {
+    public OrderController(
+            OrderService orderService,
+            OrderCommandService orderCommandService,
+            ExecutionReportBroadcaster executionReportBroadcaster,
+            OrderViewQueryService orderViewQueryService
+    ) {
         this.orderService = orderService;
+        this.orderCommandService = orderCommandService;
+        this.executionReportBroadcaster = executionReportBroadcaster;
+        this.orderViewQueryService = orderViewQueryService;
     }
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public ApiResponse<OrderResponse> createOrder(@Valid @RequestBody OrderCreateRequest request) {
-        return ApiResponse.created(orderService.createOrder(request));
+        return ApiResponse.created(orderCommandService.createOrder(request));
+    }
+
+    @PostMapping("/batch")
+    public ApiResponse<OrderBatchResponse> createOrders(@Valid @RequestBody OrderBatchCreateRequest request) {
+        return ApiResponse.ok(orderCommandService.createOrders(request.orders()));
     }
 
     @PostMapping("/{orderId}/cancel")
@@ -46,7 +71,7 @@ public class OrderController {
             @PathVariable Long orderId,
             @Valid @RequestBody OrderCancelRequest request
     ) {
-        return ApiResponse.ok(orderService.cancelOrder(orderId, request.accountId()));
+        return ApiResponse.ok(orderCommandService.cancelOrder(orderId, request.accountId()));
     }
 
     @PatchMapping("/{orderId}")
@@ -54,7 +79,18 @@ public class OrderController {
             @PathVariable Long orderId,
             @Valid @RequestBody OrderAmendRequest request
     ) {
-        return ApiResponse.ok(orderService.amendOrder(orderId, request));
+        return ApiResponse.ok(orderCommandService.amendOrder(orderId, request));
+    }
+
+    /** 계좌의 주문 이력(또는 미체결 주문)을 최신순으로 읽기 모델에서 조회한다. 다음 페이지는 {@code nextCursor}로 읽는다. */
+    @GetMapping
+    public ApiResponse<OrderPageResponse> getOrders(
+            @RequestParam("accountId") @NotNull @Positive Long accountId,
+            @RequestParam(value = "openOnly", defaultValue = "false") boolean openOnly,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "50") @Positive @Max(200) int size
+    ) {
+        return ApiResponse.ok(orderViewQueryService.getOrders(accountId, openOnly, cursor, size));
     }
 
     @GetMapping("/{orderId}")
@@ -64,4 +100,10 @@ public class OrderController {
     ) {
         return ApiResponse.ok(orderService.getOrder(orderId, accountId));
     }
+
+    /** 계좌의 주문 상태 변경({@code order})과 체결({@code fill})을 커밋 직후 SSE로 받는다. */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamExecutionReports(@RequestParam("accountId") @NotNull @Positive Long accountId) {
+        return executionReportBroadcaster.subscribe(accountId);
+    }
 }
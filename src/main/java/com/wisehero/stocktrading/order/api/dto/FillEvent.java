@@ -0,0 +1,39 @@
+package com.wisehero.stocktrading.order.api.dto;
+
+import com.wisehero.stocktrading.order.domain.Fill;
+import com.wisehero.stocktrading.order.domain.Order;
+import com.wisehero.stocktrading.order.domain.OrderSide;
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * 실행 보고 스트림의 개별 체결 이벤트(SSE {@code fill}).
+ */
+public record FillEvent(
+        Long orderId,
+        Long accountId,
+        String symbol,
+        OrderSide side,
+        String executionId,
+        BigDecimal fillPrice,
+        BigDecimal fillQuantity,
+        BigDecimal feeAmount,
+        BigDecimal taxAmount,
+        Instant filledAt
+) {
+
+    public static FillEvent of(Order order, Fill fill) {
+        return new FillEvent(
+                order.getId(),
+                order.getAccountId(),
+                order.getSymbol(),
+                order.getSide(),
+                fill.getExecutionId(),
+                fill.getFillPrice(),
+                fill.getFillQuantity(),
+                fill.getFeeAmount(),
+                fill.getTaxAmount(),
+                fill.getFilledAt()
+        );
+    }
+}
@@ -1,5 +1,6 @@
 package com.wisehero.stocktrading.order.api.dto;
 
+import com.wisehero.stocktrading.order.domain.ArchivedFill;
 import com.wisehero.stocktrading.order.domain.Fill;
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -26,4 +27,15 @@ public record FillResponse(
                 fill.getFilledAt()
         );
     }
+
+    public static FillResponse from(ArchivedFill fill) {
+        return new FillResponse(
+                fill.getExecutionId(),
+                fill.getFillPrice(),
+                fill.getFillQuantity(),
+                fill.getFeeAmount(),
+                fill.getTaxAmount(),
+                fill.getFilledAt()
+        );
+    }
 }
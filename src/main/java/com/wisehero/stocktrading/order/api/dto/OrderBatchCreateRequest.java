@@ -0,0 +1,15 @@
+package com.wisehero.stocktrading.order.api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * 일반주문 일괄 생성 요청 DTO.
+ */
+public record OrderBatchCreateRequest(
+        @NotEmpty @Size(max = 500) List<@Valid @NotNull OrderCreateRequest> orders
+) {
+}
@@ -0,0 +1,26 @@
+package com.wisehero.stocktrading.order.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.wisehero.stocktrading.common.api.ApiErrorCode;
+
+/**
+ * 일괄 주문의 개별 처리 결과. 성공이면 {@code order}, 거절이면 {@code errorCode/message}를 담는다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record OrderBatchItemResponse(
+        int index,
+        String idempotencyKey,
+        boolean success,
+        String errorCode,
+        String message,
+        OrderResponse order
+) {
+
+    public static OrderBatchItemResponse success(int index, String idempotencyKey, OrderResponse order) {
+        return new OrderBatchItemResponse(index, idempotencyKey, true, null, null, order);
+    }
+
+    public static OrderBatchItemResponse failure(int index, String idempotencyKey, ApiErrorCode errorCode, String message) {
+        return new OrderBatchItemResponse(index, idempotencyKey, false, errorCode.code(), message, null);
+    }
+}
@@ -0,0 +1,23 @@
+package com.wisehero.stocktrading.order.api.dto;
+
+import java.util.List;
+
+/**
+ * 일반주문 일괄 생성 응답 DTO. 결과는 요청 순서를 그대로 따른다.
+ */
+public record OrderBatchResponse(
+        int successCount,
+        int failureCount,
+        List<OrderBatchItemResponse> results
+) {
+
+    public static OrderBatchResponse of(List<OrderBatchItemResponse> results) {
+        int successCount = 0;
+        for (OrderBatchItemResponse result : results) {
+            if (result.success()) {
+                successCount++;
+            }
+        }
+        return new OrderBatchResponse(successCount, results.size() - successCount, results);
+    }
+}
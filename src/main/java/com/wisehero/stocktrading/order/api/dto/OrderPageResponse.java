@@ -0,0 +1,12 @@
+package com.wisehero.stocktrading.order.api.dto;
+
+import java.util.List;
+
+/**
+ * 주문 목록 응답 DTO. {@code nextCursor}가 {@code null}이면 마지막 페이지다.
+ */
+public record OrderPageResponse(
+        List<OrderResponse> orders,
+        String nextCursor
+) {
+}
@@ -1,11 +1,14 @@
 package com.wisehero.stocktrading.order.api.dto;
 
+import com.wisehero.stocktrading.order.domain.ArchivedFill;
+import com.wisehero.stocktrading.order.domain.ArchivedOrder;
 import com.wisehero.stocktrading.order.domain.Fill;
 import com.wisehero.stocktrading.order.domain.Order;
 import com.wisehero.stocktrading.order.domain.OrderSide;
 import com.wisehero.stocktrading.order.domain.OrderStatus;
 import com.wisehero.stocktrading.order.domain.OrderTif;
 import com.wisehero.stocktrading.order.domain.OrderType;
+import com.wisehero.stocktrading.order.domain.OrderView;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
@@ -54,4 +57,50 @@ public record OrderResponse(
                 fillResponses
         );
     }
+
+    /** 읽기 모델 행과 풀어 둔 체결 요약으로 만든다. */
+    public static OrderResponse from(OrderView view, List<FillResponse> fills) {
+        return new OrderResponse(
+                view.getOrderId(),
+                view.getAccountId(),
+                view.getSymbol(),
+                view.getSide(),
+                view.getOrderType(),
+                view.getTif(),
+                view.getLimitPrice(),
+                view.getQuantity(),
+                view.getFilledQuantity(),
+                view.getRemainingQuantity(),
+                view.getStatus(),
+                view.getRejectReason(),
+                view.getCreatedAt(),
+                view.getUpdatedAt(),
+                fills
+        );
+    }
+
+    /** 보관 테이블로 옮긴 주문과 체결로 만든다. */
+    public static OrderResponse from(ArchivedOrder order, List<ArchivedFill> fills) {
+        List<FillResponse> fillResponses = fills.stream()
+                .map(FillResponse::from)
+                .toList();
+
+        return new OrderResponse(
+                order.getId(),
+                order.getAccountId(),
+                order.getSymbol(),
+                order.getSide(),
+                order.getOrderType(),
+                order.getTif(),
+                order.getLimitPrice(),
+                order.getQuantity(),
+                order.getFilledQuantity(),
+                order.getRemainingQuantity(),
+                order.getStatus(),
+                order.getRejectReason(),
+                order.getCreatedAt(),
+                order.getUpdatedAt(),
+                fillResponses
+        );
+    }
 }
@@ -0,0 +1,54 @@
+package com.wisehero.stocktrading.order.api.dto;
+
+import com.wisehero.stocktrading.order.domain.Order;
+import com.wisehero.stocktrading.order.domain.OrderSide;
+import com.wisehero.stocktrading.order.domain.OrderStatus;
+import com.wisehero.stocktrading.order.domain.OrderTif;
+import com.wisehero.stocktrading.order.domain.OrderType;
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * 실행 보고 스트림의 주문 상태 변경 이벤트(SSE {@code order}).
+ */
+public record OrderUpdateEvent(
+        Long orderId,
+        Long accountId,
+        String symbol,
+        OrderSide side,
+        OrderType orderType,
+        OrderTif tif,
+        BigDecimal limitPrice,
+        BigDecimal quantity,
+        BigDecimal filledQuantity,
+        BigDecimal remainingQuantity,
+        OrderStatus status,
+        String rejectReason,
+        Instant createdAt,
+        Instant updatedAt
+) {
+
+    public static OrderUpdateEvent from(Order order) {
+        return of(order, order.getStatus(), order.getUpdatedAt());
+    }
+
+    /** 엔티티를 거치지 않고 일괄 UPDATE로 상태가 바뀐 주문. */
+    public static OrderUpdateEvent of(Order order, OrderStatus status, Instant updatedAt) {
+        return new OrderUpdateEvent(
+                order.getId(),
+                order.getAccountId(),
+                order.getSymbol(),
+                order.getSide(),
+                order.getOrderType(),
+                order.getTif(),
+                order.getLimitPrice(),
+                order.getQuantity(),
+                order.getFilledQuantity(),
+                order.getRemainingQuantity(),
+                status,
+                order.getRejectReason(),
+                order.getCreatedAt(),
+                updatedAt
+        );
+    }
+}
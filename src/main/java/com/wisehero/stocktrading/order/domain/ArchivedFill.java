@@ -0,0 +1,93 @@
+package com.wisehero.stocktrading.order.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 종료 주문과 함께 {@code fills}에서 옮긴 체결 기록.
+ */
+@Entity
+@Table(
+        name = "fills_archive",
+        indexes = {
+                @Index(name = "idx_fills_archive_order_id", columnList = "order_id")
+        }
+)
+public class ArchivedFill {
+
+    @Id
+    private Long id;
+
+    @Column(name = "execution_id", nullable = false, length = 36)
+    private String executionId;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(name = "fill_price", nullable = false, precision = 19, scale = 4)
+    private BigDecimal fillPrice;
+
+    @Column(name = "fill_quantity", nullable = false, precision = 19, scale = 4)
+    private BigDecimal fillQuantity;
+
+    @Column(name = "fee_amount", nullable = false, precision = 19, scale = 4)
+    private BigDecimal feeAmount;
+
+    @Column(name = "tax_amount", nullable = false, precision = 19, scale = 4)
+    private BigDecimal taxAmount;
+
+    @Column(name = "filled_at", nullable = false)
+    private Instant filledAt;
+
+    // 컬럼이 생기기 전에 옮겨진 행은 비어 있다.
+    @Column(name = "trade_date")
+    private LocalDate tradeDate;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    protected ArchivedFill() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getExecutionId() {
+        return executionId;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public BigDecimal getFillPrice() {
+        return fillPrice;
+    }
+
+    public BigDecimal getFillQuantity() {
+        return fillQuantity;
+    }
+
+    public BigDecimal getFeeAmount() {
+        return feeAmount;
+    }
+
+    public BigDecimal getTaxAmount() {
+        return taxAmount;
+    }
+
+    public Instant getFilledAt() {
+        return filledAt;
+    }
+
+    public LocalDate getTradeDate() {
+        return tradeDate;
+    }
+}
@@ -0,0 +1,139 @@
+package com.wisehero.stocktrading.order.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 보관 기간이 지나 {@code orders}에서 옮긴 종료 주문. 컬럼은 원본과 같고 INSERT ... SELECT로만 채운다.
+ */
+@Entity
+@Table(name = "orders_archive")
+public class ArchivedOrder {
+
+    @Id
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "idempotency_key", nullable = false, length = 64)
+    private String idempotencyKey;
+
+    @Column(nullable = false, length = 20)
+    private String symbol;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private OrderSide side;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "order_type", nullable = false, length = 10)
+    private OrderType orderType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tif", nullable = false, length = 10)
+    private OrderTif tif;
+
+    @Column(name = "limit_price", precision = 19, scale = 4)
+    private BigDecimal limitPrice;
+
+    @Column(nullable = false, precision = 19, scale = 4)
+    private BigDecimal quantity;
+
+    @Column(name = "filled_quantity", nullable = false, precision = 19, scale = 4)
+    private BigDecimal filledQuantity;
+
+    @Column(name = "remaining_quantity", nullable = false, precision = 19, scale = 4)
+    private BigDecimal remainingQuantity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OrderStatus status;
+
+    @Column(name = "reject_reason", length = 200)
+    private String rejectReason;
+
+    // 컬럼이 생기기 전에 옮겨진 행은 비어 있다.
+    @Column(name = "trade_date")
+    private LocalDate tradeDate;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    protected ArchivedOrder() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public OrderSide getSide() {
+        return side;
+    }
+
+    public OrderType getOrderType() {
+        return orderType;
+    }
+
+    public OrderTif getTif() {
+        return tif;
+    }
+
+    public BigDecimal getLimitPrice() {
+        return limitPrice;
+    }
+
+    public BigDecimal getQuantity() {
+        return quantity;
+    }
+
+    public BigDecimal getFilledQuantity() {
+        return filledQuantity;
+    }
+
+    public BigDecimal getRemainingQuantity() {
+        return remainingQuantity;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public String getRejectReason() {
+        return rejectReason;
+    }
+
+    public LocalDate getTradeDate() {
+        return tradeDate;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,73 @@
+package com.wisehero.stocktrading.order.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * 종료 주문과 함께 {@code order_holds}에서 옮긴 선점 기록. 정산 감사용으로만 남긴다.
+ */
+@Entity
+@Table(name = "order_holds_archive")
+public class ArchivedOrderHold {
+
+    @Id
+    private Long id;
+
+    @Column(name = "order_id", nullable = false, unique = true)
+    private Long orderId;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "hold_type", nullable = false, length = 20)
+    private HoldType holdType;
+
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = 4)
+    private BigDecimal totalAmount;
+
+    @Column(name = "consumed_amount", nullable = false, precision = 19, scale = 4)
+    private BigDecimal consumedAmount;
+
+    @Column(name = "released_amount", nullable = false, precision = 19, scale = 4)
+    private BigDecimal releasedAmount;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    protected ArchivedOrderHold() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public HoldType getHoldType() {
+        return holdType;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public BigDecimal getConsumedAmount() {
+        return consumedAmount;
+    }
+
+    public BigDecimal getReleasedAmount() {
+        return releasedAmount;
+    }
+}
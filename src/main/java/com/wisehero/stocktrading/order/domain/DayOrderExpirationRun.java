@@ -0,0 +1,113 @@
+package com.wisehero.stocktrading.order.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 영업일별 DAY 주문 만료 배치의 진행 기록.
+ * 누적 건수는 파티션(종목)이 끝날 때마다 한 번씩 더한다. 노드가 파티션 도중 죽으면 그 파티션의 건수는 빠질 수 있다.
+ * 만료된 주문은 다음 조회 대상에서 빠지므로, 노드가 중간에 죽어도 {@code RUNNING} 기록을 이어받아 남은 주문만 처리한다.
+ */
+@Entity
+@Table(
+        name = "day_order_expiration_runs",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_day_order_expiration_runs_business_date", columnNames = "business_date")
+        }
+)
+public class DayOrderExpirationRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "business_date", nullable = false)
+    private LocalDate businessDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private DayOrderExpirationRunStatus status;
+
+    @Column(name = "expired_count", nullable = false)
+    private long expiredCount;
+
+    @Column(name = "started_at", nullable = false)
+    private Instant startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    protected DayOrderExpirationRun() {
+    }
+
+    public static DayOrderExpirationRun start(LocalDate businessDate, Instant now) {
+        DayOrderExpirationRun run = new DayOrderExpirationRun();
+        run.businessDate = businessDate;
+        run.status = DayOrderExpirationRunStatus.RUNNING;
+        run.expiredCount = 0L;
+        run.startedAt = now;
+        run.updatedAt = now;
+        return run;
+    }
+
+    /** 완료된 배치를 같은 영업일에 다시 실행하면 남은 주문을 다시 훑는다. 누적 건수는 유지한다. */
+    public void restart(Instant now) {
+        if (status != DayOrderExpirationRunStatus.COMPLETED) {
+            throw new IllegalStateException("Only completed run can be restarted");
+        }
+        status = DayOrderExpirationRunStatus.RUNNING;
+        startedAt = now;
+        updatedAt = now;
+        completedAt = null;
+    }
+
+    public void complete(Instant now) {
+        status = DayOrderExpirationRunStatus.COMPLETED;
+        updatedAt = now;
+        completedAt = now;
+    }
+
+    public boolean isCompleted() {
+        return status == DayOrderExpirationRunStatus.COMPLETED;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDate getBusinessDate() {
+        return businessDate;
+    }
+
+    public DayOrderExpirationRunStatus getStatus() {
+        return status;
+    }
+
+    public long getExpiredCount() {
+        return expiredCount;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+}
@@ -0,0 +1,9 @@
+package com.wisehero.stocktrading.order.domain;
+
+/**
+ * DAY 주문 만료 배치 실행 상태.
+ */
+public enum DayOrderExpirationRunStatus {
+    RUNNING,
+    COMPLETED
+}
@@ -6,17 +6,24 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.time.LocalDate;
 import org.hibernate.annotations.CreationTimestamp;
 
 /**
  * 내부 모의 거래소가 생성한 체결(Fill) 기록.
+ * 체결 ID 유니크 키에는 거래일 파티션의 분할 키를 붙인다. 거래일은 체결 시각에서 정해지므로 같은 체결은 항상 같은 거래일이다.
  */
 @Entity
 @Table(
         name = "fills",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_fills_execution_id_td", columnNames = {"execution_id", "trade_date"})
+        },
         indexes = {
                 @Index(name = "idx_fills_order_id", columnList = "order_id")
         }
@@ -24,10 +31,11 @@ import org.hibernate.annotations.CreationTimestamp;
 public class Fill {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fills_seq")
+    @SequenceGenerator(name = "fills_seq", sequenceName = "fills_seq", allocationSize = 50)
     private Long id;
 
-    @Column(name = "execution_id", nullable = false, unique = true, length = 36)
+    @Column(name = "execution_id", nullable = false, length = 36)
     private String executionId;
 
     @Column(name = "order_id", nullable = false)
@@ -48,6 +56,13 @@ public class Fill {
     @Column(name = "filled_at", nullable = false)
     private Instant filledAt;
 
+    /**
+     * 체결 시각의 거래일. 거래일 파티션({@code trading.partitioning})의 분할 키다.
+     * 컬럼이 생기기 전의 행은 기동 시 {@code TradeDateBackfill}이 채우므로 DB에서는 NULL을 허용한다.
+     */
+    @Column(name = "trade_date", updatable = false)
+    private LocalDate tradeDate;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
@@ -62,7 +77,8 @@ public class Fill {
             BigDecimal fillQuantity,
             BigDecimal feeAmount,
             BigDecimal taxAmount,
-            Instant filledAt
+            Instant filledAt,
+            LocalDate tradeDate
     ) {
         Fill fill = new Fill();
         fill.executionId = executionId;
@@ -72,6 +88,7 @@ public class Fill {
         fill.feeAmount = feeAmount;
         fill.taxAmount = taxAmount;
         fill.filledAt = filledAt;
+        fill.tradeDate = tradeDate;
         return fill;
     }
 
@@ -110,4 +127,8 @@ public class Fill {
     public Instant getFilledAt() {
         return filledAt;
     }
+
+    public LocalDate getTradeDate() {
+        return tradeDate;
+    }
 }
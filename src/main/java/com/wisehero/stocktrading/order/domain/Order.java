@@ -8,25 +8,30 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import jakarta.persistence.Version;
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.Objects;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 /**
  * 주문 라이프사이클과 상태 전이를 책임지는 주문 애그리거트 루트.
+ * <p>
+ * 거래일 파티션은 모든 유니크 키에 분할 키를 요구하므로 멱등키 유니크 키에도 거래일을 붙인다.
+ * 거래일을 넘는 멱등키 중복은 {@link OrderIdempotencyKey}가 막는다.
  */
 @Entity
 @Table(
         name = "orders",
         uniqueConstraints = {
                 @UniqueConstraint(
-                        name = "uk_orders_account_idempotency",
-                        columnNames = {"account_id", "idempotency_key"}
+                        name = "uk_orders_account_idempotency_td",
+                        columnNames = {"account_id", "idempotency_key", "trade_date"}
                 )
         },
         indexes = {
@@ -37,7 +42,8 @@ import org.hibernate.annotations.UpdateTimestamp;
 public class Order {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "account_id", nullable = false)
@@ -80,6 +86,13 @@ public class Order {
     @Column(name = "reject_reason", length = 200)
     private String rejectReason;
 
+    /**
+     * 접수한 거래일. 거래일 파티션({@code trading.partitioning})의 분할 키다.
+     * 컬럼이 생기기 전의 행은 기동 시 {@code TradeDateBackfill}이 채우므로 DB에서는 NULL을 허용한다.
+     */
+    @Column(name = "trade_date", updatable = false)
+    private LocalDate tradeDate;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
@@ -102,7 +115,8 @@ public class Order {
             OrderType orderType,
             OrderTif tif,
             BigDecimal limitPrice,
-            BigDecimal quantity
+            BigDecimal quantity,
+            LocalDate tradeDate
     ) {
         Order order = new Order();
         order.accountId = accountId;
@@ -116,6 +130,7 @@ public class Order {
         order.filledQuantity = BigDecimal.ZERO;
         order.remainingQuantity = quantity;
         order.status = OrderStatus.PENDING_NEW;
+        order.tradeDate = tradeDate;
         return order;
     }
 
@@ -260,6 +275,10 @@ public class Order {
         return rejectReason;
     }
 
+    public LocalDate getTradeDate() {
+        return tradeDate;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
@@ -267,4 +286,8 @@ public class Order {
     public Instant getUpdatedAt() {
         return updatedAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
 }
@@ -7,6 +7,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -21,7 +22,8 @@ import org.hibernate.annotations.UpdateTimestamp;
 public class OrderHold {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_holds_seq")
+    @SequenceGenerator(name = "order_holds_seq", sequenceName = "order_holds_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "order_id", nullable = false, unique = true)
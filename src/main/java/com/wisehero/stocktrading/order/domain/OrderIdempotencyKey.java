@@ -0,0 +1,79 @@
+package com.wisehero.stocktrading.order.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.UniqueConstraint;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 계좌별 멱등키의 전역 유일성을 지키는 행. 주문과 같은 트랜잭션에서 넣고, 주문이 보관 테이블로 옮겨질 때 함께 지운다.
+ * <p>
+ * 거래일 파티션을 켜면 {@code orders}의 유니크 키에 거래일이 붙어 거래일을 넘는 중복을 막지 못하므로,
+ * 파티션하지 않는 이 테이블의 유니크 키가 최종 중복 방지를 맡는다. ID는 주문 ID 그대로다.
+ */
+@Entity
+@Table(
+        name = "order_idempotency_keys",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_order_idempotency_keys_account_key",
+                        columnNames = {"account_id", "idempotency_key"}
+                )
+        }
+)
+public class OrderIdempotencyKey implements Persistable<Long> {
+
+    @Id
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "idempotency_key", nullable = false, length = 64)
+    private String idempotencyKey;
+
+    // ID를 직접 넣으므로, 저장 시 merge의 선조회 없이 바로 INSERT하도록 새 행임을 알린다.
+    @Transient
+    private boolean persisted;
+
+    protected OrderIdempotencyKey() {
+    }
+
+    public static OrderIdempotencyKey of(Order order) {
+        OrderIdempotencyKey key = new OrderIdempotencyKey();
+        key.orderId = order.getId();
+        key.accountId = order.getAccountId();
+        key.idempotencyKey = order.getIdempotencyKey();
+        return key;
+    }
+
+    @Override
+    public Long getId() {
+        return orderId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        persisted = true;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+}
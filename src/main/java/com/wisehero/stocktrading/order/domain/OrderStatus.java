@@ -20,4 +20,9 @@ public enum OrderStatus {
     public boolean isCancelable() {
         return isOpen();
     }
+
+    /** 더 이상 상태가 바뀌지 않는 종료 상태인지 여부. */
+    public boolean isTerminal() {
+        return this == REJECTED || this == FILLED || this == CANCELED || this == EXPIRED;
+    }
 }
@@ -0,0 +1,219 @@
+package com.wisehero.stocktrading.order.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * 주문 목록 조회용 읽기 모델. 주문 한 건과 그 체결 요약(JSON)을 한 행에 담는다.
+ * <p>
+ * 아웃박스 이벤트로만 갱신하며 주문/체결 테이블과는 잠시 어긋날 수 있다.
+ */
+@Entity
+@Table(
+        name = "order_views",
+        indexes = {
+                @Index(name = "idx_order_views_account_created", columnList = "account_id,created_at,order_id"),
+                @Index(name = "idx_order_views_account_open_created", columnList = "account_id,open_order,created_at,order_id")
+        }
+)
+public class OrderView {
+
+    @Id
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(nullable = false, length = 20)
+    private String symbol;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private OrderSide side;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "order_type", nullable = false, length = 10)
+    private OrderType orderType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tif", nullable = false, length = 10)
+    private OrderTif tif;
+
+    @Column(name = "limit_price", precision = 19, scale = 4)
+    private BigDecimal limitPrice;
+
+    @Column(nullable = false, precision = 19, scale = 4)
+    private BigDecimal quantity;
+
+    @Column(name = "filled_quantity", nullable = false, precision = 19, scale = 4)
+    private BigDecimal filledQuantity;
+
+    @Column(name = "remaining_quantity", nullable = false, precision = 19, scale = 4)
+    private BigDecimal remainingQuantity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OrderStatus status;
+
+    @Column(name = "open_order", nullable = false)
+    private boolean openOrder;
+
+    @Column(name = "reject_reason", length = 200)
+    private String rejectReason;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    @Column(name = "fill_count", nullable = false)
+    private int fillCount;
+
+    @Lob
+    @Column(nullable = false)
+    private String fills;
+
+    @Version
+    private Long version;
+
+    protected OrderView() {
+    }
+
+    public static OrderView create(
+            Long orderId,
+            Long accountId,
+            String symbol,
+            OrderSide side,
+            OrderType orderType,
+            OrderTif tif,
+            BigDecimal limitPrice,
+            BigDecimal quantity,
+            Instant createdAt
+    ) {
+        OrderView view = new OrderView();
+        view.orderId = orderId;
+        view.accountId = accountId;
+        view.symbol = symbol;
+        view.side = side;
+        view.orderType = orderType;
+        view.tif = tif;
+        view.limitPrice = limitPrice;
+        view.quantity = quantity;
+        view.filledQuantity = BigDecimal.ZERO;
+        view.remainingQuantity = quantity;
+        view.status = OrderStatus.PENDING_NEW;
+        view.createdAt = createdAt;
+        view.fillCount = 0;
+        view.fills = "[]";
+        return view;
+    }
+
+    /**
+     * 주문 상태를 덮어쓴다. 이미 반영한 상태보다 오래된 변경이면 무시하고 {@code false}를 반환한다.
+     */
+    public boolean applyState(
+            BigDecimal limitPrice,
+            BigDecimal filledQuantity,
+            BigDecimal remainingQuantity,
+            OrderStatus status,
+            String rejectReason,
+            Instant updatedAt
+    ) {
+        if (this.updatedAt != null && updatedAt != null && updatedAt.isBefore(this.updatedAt)) {
+            return false;
+        }
+        this.limitPrice = limitPrice;
+        this.filledQuantity = filledQuantity;
+        this.remainingQuantity = remainingQuantity;
+        this.status = status;
+        this.openOrder = status.isOpen();
+        this.rejectReason = rejectReason;
+        this.updatedAt = updatedAt;
+        return true;
+    }
+
+    /** 직렬화된 체결 요약 목록을 바꾼다. */
+    public void replaceFills(String fills, int fillCount) {
+        this.fills = fills;
+        this.fillCount = fillCount;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public OrderSide getSide() {
+        return side;
+    }
+
+    public OrderType getOrderType() {
+        return orderType;
+    }
+
+    public OrderTif getTif() {
+        return tif;
+    }
+
+    public BigDecimal getLimitPrice() {
+        return limitPrice;
+    }
+
+    public BigDecimal getQuantity() {
+        return quantity;
+    }
+
+    public BigDecimal getFilledQuantity() {
+        return filledQuantity;
+    }
+
+    public BigDecimal getRemainingQuantity() {
+        return remainingQuantity;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public boolean isOpenOrder() {
+        return openOrder;
+    }
+
+    public String getRejectReason() {
+        return rejectReason;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public int getFillCount() {
+        return fillCount;
+    }
+
+    public String getFills() {
+        return fills;
+    }
+}
@@ -0,0 +1,83 @@
+package com.wisehero.stocktrading.order.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+
+/**
+ * 싱크가 끝내 받지 못해 {@code outbox_events}에서 옮긴 아웃박스 행. ID는 원래 이벤트 ID 그대로다.
+ * 원인을 고친 뒤 다시 보내려면 {@code outbox_events}로 옮겨 넣는다.
+ */
+@Entity
+@Table(name = "outbox_dead_letters")
+public class OutboxDeadLetter {
+
+    @Id
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 10)
+    private OutboxEventType eventType;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(nullable = false, length = 2000)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "dead_lettered_at", nullable = false, updatable = false)
+    private Instant deadLetteredAt;
+
+    protected OutboxDeadLetter() {
+    }
+
+    public static OutboxDeadLetter from(OutboxEvent event, Instant deadLetteredAt) {
+        OutboxDeadLetter deadLetter = new OutboxDeadLetter();
+        deadLetter.id = event.getId();
+        deadLetter.eventType = event.getEventType();
+        deadLetter.accountId = event.getAccountId();
+        deadLetter.orderId = event.getOrderId();
+        deadLetter.payload = event.getPayload();
+        deadLetter.createdAt = event.getCreatedAt();
+        deadLetter.deadLetteredAt = deadLetteredAt;
+        return deadLetter;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public OutboxEventType getEventType() {
+        return eventType;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getDeadLetteredAt() {
+        return deadLetteredAt;
+    }
+}
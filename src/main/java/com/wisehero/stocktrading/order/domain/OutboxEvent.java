@@ -0,0 +1,84 @@
+package com.wisehero.stocktrading.order.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.Instant;
+
+/**
+ * 주문/체결 변경과 같은 트랜잭션에 남기는 아웃박스 행. 릴레이가 내보낸 뒤 지운다.
+ */
+@Entity
+@Table(name = "outbox_events")
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 10)
+    private OutboxEventType eventType;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(nullable = false, length = 2000)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    protected OutboxEvent() {
+    }
+
+    public static OutboxEvent create(
+            OutboxEventType eventType,
+            Long accountId,
+            Long orderId,
+            String payload,
+            Instant createdAt
+    ) {
+        OutboxEvent event = new OutboxEvent();
+        event.eventType = eventType;
+        event.accountId = accountId;
+        event.orderId = orderId;
+        event.payload = payload;
+        event.createdAt = createdAt;
+        return event;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public OutboxEventType getEventType() {
+        return eventType;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,9 @@
+package com.wisehero.stocktrading.order.domain;
+
+/**
+ * 아웃박스 이벤트 종류. 본문은 각각 실행 보고 스트림의 {@code OrderUpdateEvent}, {@code FillEvent}와 같은 JSON이다.
+ */
+public enum OutboxEventType {
+    ORDER,
+    FILL
+}
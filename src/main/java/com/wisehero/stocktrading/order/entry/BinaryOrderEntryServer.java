@@ -0,0 +1,359 @@
+package com.wisehero.stocktrading.order.entry;
+
+import com.wisehero.stocktrading.common.api.ApiErrorCode;
+import com.wisehero.stocktrading.common.concurrent.WorkerThreads;
+import com.wisehero.stocktrading.common.exception.ApiException;
+import com.wisehero.stocktrading.common.numeric.FixedDecimal;
+import com.wisehero.stocktrading.order.api.dto.OrderAmendRequest;
+import com.wisehero.stocktrading.order.api.dto.OrderCancelRequest;
+import com.wisehero.stocktrading.order.api.dto.OrderCreateRequest;
+import com.wisehero.stocktrading.order.api.dto.OrderResponse;
+import com.wisehero.stocktrading.order.service.OrderCommandService;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * REST API와 나란히 여는 TCP 주문 접수 채널({@link OrderEntryProtocol}).
+ * <p>
+ * 선택자 스레드 하나가 접속/수신을 맡고, 연결마다 둔 다이렉트 버퍼 위에서 {@link OrderEntryDecoder}로 프레임을 복사 없이 읽는다.
+ * 요청은 REST와 같은 Bean Validation을 거쳐 {@link OrderCommandService}로 넘기며, 서비스 호출은 블로킹이므로
+ * 제한된 작업자 풀에서 실행한다. 풀이 가득 차면 {@link ApiErrorCode#TOO_MANY_REQUESTS}로 즉시 거절한다.
+ * <p>
+ * 응답은 작업자 스레드가 소켓에 바로 쓰고, 다 쓰지 못한 나머지만 큐에 넣어 선택자 스레드가 이어 쓴다.
+ */
+@Component
+@ConditionalOnProperty(name = "trading.order-entry.enabled", havingValue = "true")
+public class BinaryOrderEntryServer implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(BinaryOrderEntryServer.class);
+    private static final int READ_BUFFER_SIZE = OrderEntryProtocol.MAX_FRAME_SIZE * 2;
+    private static final int SYMBOL_CACHE_SIZE = 1024;
+
+    private final OrderCommandService orderCommandService;
+    private final Validator validator;
+    private final InetSocketAddress bindAddress;
+    private final ThreadPoolExecutor workers;
+    private final Queue<Connection> writeInterest = new ConcurrentLinkedQueue<>();
+
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private Thread selectorThread;
+    private volatile boolean running;
+
+    public BinaryOrderEntryServer(
+            OrderCommandService orderCommandService,
+            Validator validator,
+            @Value("${trading.order-entry.host:0.0.0.0}") String host,
+            @Value("${trading.order-entry.port:9100}") int port,
+            @Value("${trading.order-entry.worker-threads:16}") int workerThreads,
+            @Value("${trading.order-entry.max-pending-requests:10000}") int maxPendingRequests,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        if (workerThreads <= 0 || maxPendingRequests <= 0) {
+            throw new IllegalArgumentException("trading.order-entry worker-threads and max-pending-requests must be positive");
+        }
+        this.orderCommandService = orderCommandService;
+        this.validator = validator;
+        this.bindAddress = new InetSocketAddress(host, port);
+
+        this.workers = new ThreadPoolExecutor(
+                workerThreads,
+                workerThreads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxPendingRequests),
+                WorkerThreads.factory("order-entry-worker-", virtualThreads)
+        );
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            selector = Selector.open();
+            serverChannel = ServerSocketChannel.open();
+            serverChannel.bind(bindAddress);
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open order entry port: " + bindAddress, e);
+        }
+
+        running = true;
+        selectorThread = new Thread(this::runSelector, "order-entry-selector");
+        selectorThread.setDaemon(true);
+        selectorThread.start();
+        log.info("바이너리 주문 접수 채널 시작 - 주소: {}", serverChannel.socket().getLocalSocketAddress());
+    }
+
+    /** 실제로 바인딩된 포트. 설정 포트가 0이면 OS가 고른 포트다. */
+    public int getLocalPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (selector != null) {
+            selector.wakeup();
+        }
+        if (selectorThread != null) {
+            selectorThread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        workers.shutdown();
+        workers.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private void runSelector() {
+        try {
+            while (running) {
+                selector.select();
+                Connection pending;
+                while ((pending = writeInterest.poll()) != null) {
+                    pending.enableWrite();
+                }
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                        continue;
+                    }
+                    Connection connection = (Connection) key.attachment();
+                    if (key.isReadable()) {
+                        connection.read();
+                    }
+                    if (key.isValid() && key.isWritable()) {
+                        connection.flush();
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.error("바이너리 주문 접수 채널 선택자 오류", e);
+        } finally {
+            closeQuietly();
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        Connection connection = new Connection(channel);
+        connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+    }
+
+    /** 선택자 스레드에서 프레임 필드를 요청 객체로 옮기고, 서비스 호출은 작업자 풀에 맡긴다. */
+    private void dispatch(Connection connection, OrderEntryDecoder decoder) {
+        long correlationId = decoder.correlationId();
+        try {
+            switch (decoder.messageType()) {
+                case OrderEntryProtocol.NEW_ORDER -> {
+                    OrderCreateRequest request = new OrderCreateRequest(
+                            decoder.accountId(),
+                            decoder.idempotencyKey(),
+                            decoder.symbol(connection.symbols),
+                            decoder.side(),
+                            decoder.orderType(),
+                            decoder.tif(),
+                            decimal(decoder.quantity()),
+                            decimal(decoder.limitPrice())
+                    );
+                    submit(connection, correlationId, request, () -> orderCommandService.createOrder(request));
+                }
+                case OrderEntryProtocol.AMEND_ORDER -> {
+                    long orderId = decoder.orderId();
+                    OrderAmendRequest request = new OrderAmendRequest(
+                            decoder.accountId(),
+                            decimal(decoder.amendedRemainingQuantity()),
+                            decimal(decoder.amendedLimitPrice())
+                    );
+                    submit(connection, correlationId, request, () -> orderCommandService.amendOrder(orderId, request));
+                }
+                case OrderEntryProtocol.CANCEL_ORDER -> {
+                    long orderId = decoder.orderId();
+                    OrderCancelRequest request = new OrderCancelRequest(decoder.accountId());
+                    submit(
+                            connection,
+                            correlationId,
+                            request,
+                            () -> orderCommandService.cancelOrder(orderId, request.accountId())
+                    );
+                }
+                default -> connection.send(reject(correlationId, ApiErrorCode.BAD_REQUEST));
+            }
+        } catch (RuntimeException e) {
+            // 범위를 벗어난 enum 순번, 잘못된 문자열 길이 등 형식 오류
+            connection.send(reject(correlationId, ApiErrorCode.BAD_REQUEST));
+        }
+    }
+
+    private void submit(Connection connection, long correlationId, Object request, Supplier<OrderResponse> command) {
+        try {
+            workers.execute(() -> connection.send(execute(correlationId, request, command)));
+        } catch (RejectedExecutionException e) {
+            connection.send(reject(correlationId, ApiErrorCode.TOO_MANY_REQUESTS));
+        }
+    }
+
+    private ByteBuffer execute(long correlationId, Object request, Supplier<OrderResponse> command) {
+        if (!validator.validate(request).isEmpty()) {
+            return reject(correlationId, ApiErrorCode.BAD_REQUEST);
+        }
+        try {
+            OrderResponse response = command.get();
+            ByteBuffer frame = ByteBuffer.allocate(OrderEntryProtocol.executionReportSize(response));
+            OrderEntryProtocol.encodeExecutionReport(frame, correlationId, response);
+            return frame.flip();
+        } catch (ApiException e) {
+            return reject(correlationId, e.getErrorCode());
+        } catch (RuntimeException e) {
+            log.error("바이너리 주문 처리 실패 - 상관 ID: {}", correlationId, e);
+            return reject(correlationId, ApiErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private static ByteBuffer reject(long correlationId, ApiErrorCode errorCode) {
+        ByteBuffer frame = ByteBuffer.allocate(OrderEntryProtocol.HEADER_SIZE + Byte.BYTES + errorCode.code().length());
+        OrderEntryProtocol.encodeReject(frame, correlationId, errorCode);
+        return frame.flip();
+    }
+
+    private static BigDecimal decimal(long value) {
+        return value == OrderEntryProtocol.NO_VALUE ? null : FixedDecimal.toBigDecimal(value);
+    }
+
+    private void closeQuietly() {
+        try {
+            for (SelectionKey key : selector.keys()) {
+                key.channel().close();
+            }
+            selector.close();
+        } catch (IOException e) {
+            log.warn("바이너리 주문 접수 채널 종료 중 오류", e);
+        }
+    }
+
+    private final class Connection {
+
+        private final SocketChannel channel;
+        private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+        private final OrderEntryDecoder decoder = new OrderEntryDecoder();
+        private final SymbolCache symbols = new SymbolCache(SYMBOL_CACHE_SIZE);
+        private final Queue<ByteBuffer> outbound = new ConcurrentLinkedQueue<>();
+        private final Object writeLock = new Object();
+        private SelectionKey key;
+
+        private Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        /** 선택자 스레드. 받은 만큼 완성된 프레임을 모두 처리하고, 남은 조각은 버퍼 앞으로 당긴다. */
+        private void read() {
+            try {
+                if (channel.read(readBuffer) < 0) {
+                    close();
+                    return;
+                }
+                readBuffer.flip();
+                int position = readBuffer.position();
+                int limit = readBuffer.limit();
+                int frameSize;
+                while ((frameSize = OrderEntryProtocol.completeFrameSize(readBuffer, position, limit)) > 0) {
+                    dispatch(this, decoder.wrap(readBuffer, position));
+                    position += frameSize;
+                }
+                readBuffer.position(position);
+                readBuffer.compact();
+            } catch (IOException | IllegalStateException e) {
+                log.warn("바이너리 주문 접수 연결 종료 - {}", e.getMessage());
+                close();
+            }
+        }
+
+        /** 작업자 스레드. 밀린 응답이 없으면 바로 쓰고, 남으면 큐에 넣어 선택자 스레드에 넘긴다. */
+        private void send(ByteBuffer frame) {
+            synchronized (writeLock) {
+                if (outbound.isEmpty()) {
+                    try {
+                        channel.write(frame);
+                    } catch (IOException e) {
+                        close();
+                        return;
+                    }
+                    if (!frame.hasRemaining()) {
+                        return;
+                    }
+                }
+                outbound.add(frame);
+            }
+            writeInterest.add(this);
+            selector.wakeup();
+        }
+
+        private void enableWrite() {
+            if (key.isValid()) {
+                key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+            }
+        }
+
+        /** 선택자 스레드. 큐에 남은 응답을 이어 쓰고, 다 쓰면 쓰기 관심을 끈다. */
+        private void flush() {
+            synchronized (writeLock) {
+                try {
+                    ByteBuffer head;
+                    while ((head = outbound.peek()) != null) {
+                        channel.write(head);
+                        if (head.hasRemaining()) {
+                            return;
+                        }
+                        outbound.poll();
+                    }
+                    key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+                } catch (IOException e) {
+                    close();
+                }
+            }
+        }
+
+        private void close() {
+            key.cancel();
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // 이미 끊긴 연결이다.
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.wisehero.stocktrading.order.entry;
+
+import com.wisehero.stocktrading.order.domain.OrderSide;
+import com.wisehero.stocktrading.order.domain.OrderStatus;
+import com.wisehero.stocktrading.order.domain.OrderTif;
+import com.wisehero.stocktrading.order.domain.OrderType;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static com.wisehero.stocktrading.order.entry.OrderEntryProtocol.AMEND_LIMIT_PRICE;
+import static com.wisehero.stocktrading.order.entry.OrderEntryProtocol.AMEND_REMAINING_QUANTITY;
+import static com.wisehero.stocktrading.order.entry.OrderEntryProtocol.CORRELATION_ID_OFFSET;
+import static com.wisehero.stocktrading.order.entry.OrderEntryProtocol.EXECUTION_REPORT;
+import static com.wisehero.stocktrading.order.entry.OrderEntryProtocol.NEW_ACCOUNT_ID;
+import static com.wisehero.stocktrading.order.entry.OrderEntryProtocol.NEW_LIMIT_PRICE;
+import static com.wisehero.stocktrading.order.entry.OrderEntryProtocol.NEW_ORDER;
+import static com.wisehero.stocktrading.order.entry.OrderEntryProtocol.NEW_ORDER_TYPE;
+import static com.wisehero.stocktrading.order.entry.OrderEntryProtocol.NEW_QUANTITY;
+import static com.wisehero.stocktrading.order.entry.OrderEntryProtocol.NEW_SIDE;
+import static com.wisehero.stocktrading.order.entry.OrderEntryProtocol.NEW_SYMBOL;
+import static com.wisehero.stocktrading.order.entry.OrderEntryProtocol.NEW_TIF;
+import static com.wisehero.stocktrading.order.entry.OrderEntryProtocol.NO_ENUM;
+import static com.wisehero.stocktrading.order.entry.OrderEntryProtocol.REJECT_CODE;
+import static com.wisehero.stocktrading.order.entry.OrderEntryProtocol.REPORT_ACCOUNT_ID;
+import static com.wisehero.stocktrading.order.entry.OrderEntryProtocol.REPORT_FILLED_QUANTITY;
+import static com.wisehero.stocktrading.order.entry.OrderEntryProtocol.REPORT_FILL_COUNT;
+import static com.wisehero.stocktrading.order.entry.OrderEntryProtocol.REPORT_FILL_SIZE;
+import static com.wisehero.stocktrading.order.entry.OrderEntryProtocol.REPORT_LIMIT_PRICE;
+import static com.wisehero.stocktrading.order.entry.OrderEntryProtocol.REPORT_ORDER_ID;
+import static com.wisehero.stocktrading.order.entry.OrderEntryProtocol.REPORT_ORDER_TYPE;
+import static com.wisehero.stocktrading.order.entry.OrderEntryProtocol.REPORT_QUANTITY;
+import static com.wisehero.stocktrading.order.entry.OrderEntryProtocol.REPORT_REMAINING_QUANTITY;
+import static com.wisehero.stocktrading.order.entry.OrderEntryProtocol.REPORT_SIDE;
+import static com.wisehero.stocktrading.order.entry.OrderEntryProtocol.REPORT_STATUS;
+import static com.wisehero.stocktrading.order.entry.OrderEntryProtocol.REPORT_SYMBOL;
+import static com.wisehero.stocktrading.order.entry.OrderEntryProtocol.REPORT_TIF;
+import static com.wisehero.stocktrading.order.entry.OrderEntryProtocol.TARGET_ACCOUNT_ID;
+import static com.wisehero.stocktrading.order.entry.OrderEntryProtocol.TARGET_ORDER_ID;
+import static com.wisehero.stocktrading.order.entry.OrderEntryProtocol.TYPE_OFFSET;
+
+/**
+ * 버퍼 위의 프레임 하나를 복사 없이 읽는 재사용 플라이웨이트.
+ * <p>
+ * {@link #wrap(ByteBuffer, int)}은 위치만 기억하고, 각 필드는 절대 위치 읽기로 바로 꺼낸다. 객체를 만들지 않으므로
+ * 연결마다 하나를 두고 프레임마다 다시 감싸 쓴다. 문자열 필드만 새로 만들거나({@link #idempotencyKey()})
+ * 캐시에서 꺼낸다({@link #symbol(SymbolCache)}).
+ * 스레드 안전하지 않고, 감싼 버퍼 내용이 바뀌기 전에 필요한 값을 모두 꺼내야 한다.
+ */
+public final class OrderEntryDecoder {
+
+    private static final OrderSide[] SIDES = OrderSide.values();
+    private static final OrderType[] ORDER_TYPES = OrderType.values();
+    private static final OrderTif[] TIFS = OrderTif.values();
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private ByteBuffer buffer;
+    private int offset;
+
+    public OrderEntryDecoder wrap(ByteBuffer buffer, int offset) {
+        this.buffer = buffer;
+        this.offset = offset;
+        return this;
+    }
+
+    public byte messageType() {
+        return buffer.get(offset + TYPE_OFFSET);
+    }
+
+    public long correlationId() {
+        return buffer.getLong(offset + CORRELATION_ID_OFFSET);
+    }
+
+    // NEW_ORDER
+
+    public long accountId() {
+        return buffer.getLong(offset + (messageType() == NEW_ORDER ? NEW_ACCOUNT_ID : TARGET_ACCOUNT_ID));
+    }
+
+    public long quantity() {
+        return buffer.getLong(offset + NEW_QUANTITY);
+    }
+
+    public long limitPrice() {
+        return buffer.getLong(offset + NEW_LIMIT_PRICE);
+    }
+
+    public OrderSide side() {
+        return enumAt(SIDES, NEW_SIDE);
+    }
+
+    public OrderType orderType() {
+        return enumAt(ORDER_TYPES, NEW_ORDER_TYPE);
+    }
+
+    public OrderTif tif() {
+        return enumAt(TIFS, NEW_TIF);
+    }
+
+    public String symbol(SymbolCache symbolCache) {
+        return symbolCache.get(buffer, offset + NEW_SYMBOL + Byte.BYTES, buffer.get(offset + NEW_SYMBOL));
+    }
+
+    public String idempotencyKey() {
+        int keyOffset = offset + NEW_SYMBOL + Byte.BYTES + buffer.get(offset + NEW_SYMBOL);
+        return ascii(keyOffset);
+    }
+
+    // AMEND_ORDER, CANCEL_ORDER
+
+    public long orderId() {
+        return buffer.getLong(offset + (messageType() == EXECUTION_REPORT ? REPORT_ORDER_ID : TARGET_ORDER_ID));
+    }
+
+    public long amendedRemainingQuantity() {
+        return buffer.getLong(offset + AMEND_REMAINING_QUANTITY);
+    }
+
+    public long amendedLimitPrice() {
+        return buffer.getLong(offset + AMEND_LIMIT_PRICE);
+    }
+
+    // EXECUTION_REPORT
+
+    public long reportAccountId() {
+        return buffer.getLong(offset + REPORT_ACCOUNT_ID);
+    }
+
+    public long reportLimitPrice() {
+        return buffer.getLong(offset + REPORT_LIMIT_PRICE);
+    }
+
+    public long reportQuantity() {
+        return buffer.getLong(offset + REPORT_QUANTITY);
+    }
+
+    public long filledQuantity() {
+        return buffer.getLong(offset + REPORT_FILLED_QUANTITY);
+    }
+
+    public long remainingQuantity() {
+        return buffer.getLong(offset + REPORT_REMAINING_QUANTITY);
+    }
+
+    public OrderStatus status() {
+        return enumAt(STATUSES, REPORT_STATUS);
+    }
+
+    public OrderSide reportSide() {
+        return enumAt(SIDES, REPORT_SIDE);
+    }
+
+    public OrderType reportOrderType() {
+        return enumAt(ORDER_TYPES, REPORT_ORDER_TYPE);
+    }
+
+    public OrderTif reportTif() {
+        return enumAt(TIFS, REPORT_TIF);
+    }
+
+    public String reportSymbol(SymbolCache symbolCache) {
+        return symbolCache.get(buffer, offset + REPORT_SYMBOL + Byte.BYTES, buffer.get(offset + REPORT_SYMBOL));
+    }
+
+    public int fillCount() {
+        return buffer.getInt(offset + REPORT_FILL_COUNT);
+    }
+
+    public long fillPrice(int index) {
+        return buffer.getLong(fillOffset(index));
+    }
+
+    public long fillQuantity(int index) {
+        return buffer.getLong(fillOffset(index) + Long.BYTES);
+    }
+
+    // REJECT
+
+    public String errorCode() {
+        return ascii(offset + REJECT_CODE);
+    }
+
+    private int fillOffset(int index) {
+        int fillsOffset = offset + REPORT_SYMBOL + Byte.BYTES + buffer.get(offset + REPORT_SYMBOL);
+        return fillsOffset + index * REPORT_FILL_SIZE;
+    }
+
+    private <E extends Enum<E>> E enumAt(E[] values, int fieldOffset) {
+        byte ordinal = buffer.get(offset + fieldOffset);
+        if (ordinal == NO_ENUM) {
+            return null;
+        }
+        if (ordinal < 0 || ordinal >= values.length) {
+            throw new IllegalStateException("Invalid enum ordinal in order entry frame: " + ordinal);
+        }
+        return values[ordinal];
+    }
+
+    private String ascii(int lengthOffset) {
+        int length = buffer.get(lengthOffset);
+        byte[] bytes = new byte[length];
+        buffer.get(lengthOffset + Byte.BYTES, bytes);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+}
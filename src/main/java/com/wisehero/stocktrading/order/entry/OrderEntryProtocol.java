@@ -0,0 +1,186 @@
+package com.wisehero.stocktrading.order.entry;
+
+import com.wisehero.stocktrading.common.api.ApiErrorCode;
+import com.wisehero.stocktrading.common.numeric.FixedDecimal;
+import com.wisehero.stocktrading.order.api.dto.FillResponse;
+import com.wisehero.stocktrading.order.api.dto.OrderAmendRequest;
+import com.wisehero.stocktrading.order.api.dto.OrderCreateRequest;
+import com.wisehero.stocktrading.order.api.dto.OrderResponse;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * TCP 주문 접수 채널의 길이 접두 바이너리 프레임 형식.
+ * <p>
+ * 프레임: {@code [본문 길이 int][메시지 유형 byte][상관 ID long][본문]}. 길이는 유형부터 본문 끝까지의 바이트 수다.
+ * 정수는 빅엔디언, 금액/수량은 {@link FixedDecimal} long, enum은 순번(ordinal) 1바이트이고 값이 없으면 {@link #NO_VALUE}/{@link #NO_ENUM}이다.
+ * 문자열(종목, 멱등키, 에러 코드)은 {@code [길이 byte][ASCII]}로 각 메시지의 끝에 둬서 고정 필드는 항상 같은 위치에서 읽는다.
+ * <p>
+ * 요청마다 클라이언트가 정한 상관 ID를 그대로 응답(체결 보고/거절)에 돌려준다. 응답 순서는 요청 순서와 다를 수 있다.
+ */
+public final class OrderEntryProtocol {
+
+    public static final byte NEW_ORDER = 1;
+    public static final byte AMEND_ORDER = 2;
+    public static final byte CANCEL_ORDER = 3;
+    public static final byte EXECUTION_REPORT = 11;
+    public static final byte REJECT = 12;
+
+    public static final long NO_VALUE = Long.MIN_VALUE;
+    public static final byte NO_ENUM = -1;
+
+    /** 길이 필드 크기. */
+    public static final int LENGTH_SIZE = Integer.BYTES;
+    /** 길이 필드를 포함한 프레임 헤더 크기. 본문은 이 위치부터 시작한다. */
+    public static final int HEADER_SIZE = LENGTH_SIZE + Byte.BYTES + Long.BYTES;
+    public static final int MAX_FRAME_SIZE = 64 * 1024;
+
+    static final int TYPE_OFFSET = LENGTH_SIZE;
+    static final int CORRELATION_ID_OFFSET = TYPE_OFFSET + Byte.BYTES;
+
+    // NEW_ORDER
+    static final int NEW_ACCOUNT_ID = HEADER_SIZE;
+    static final int NEW_QUANTITY = NEW_ACCOUNT_ID + Long.BYTES;
+    static final int NEW_LIMIT_PRICE = NEW_QUANTITY + Long.BYTES;
+    static final int NEW_SIDE = NEW_LIMIT_PRICE + Long.BYTES;
+    static final int NEW_ORDER_TYPE = NEW_SIDE + Byte.BYTES;
+    static final int NEW_TIF = NEW_ORDER_TYPE + Byte.BYTES;
+    static final int NEW_SYMBOL = NEW_TIF + Byte.BYTES;
+
+    // AMEND_ORDER, CANCEL_ORDER
+    static final int TARGET_ORDER_ID = HEADER_SIZE;
+    static final int TARGET_ACCOUNT_ID = TARGET_ORDER_ID + Long.BYTES;
+    static final int AMEND_REMAINING_QUANTITY = TARGET_ACCOUNT_ID + Long.BYTES;
+    static final int AMEND_LIMIT_PRICE = AMEND_REMAINING_QUANTITY + Long.BYTES;
+
+    // EXECUTION_REPORT
+    static final int REPORT_ORDER_ID = HEADER_SIZE;
+    static final int REPORT_ACCOUNT_ID = REPORT_ORDER_ID + Long.BYTES;
+    static final int REPORT_LIMIT_PRICE = REPORT_ACCOUNT_ID + Long.BYTES;
+    static final int REPORT_QUANTITY = REPORT_LIMIT_PRICE + Long.BYTES;
+    static final int REPORT_FILLED_QUANTITY = REPORT_QUANTITY + Long.BYTES;
+    static final int REPORT_REMAINING_QUANTITY = REPORT_FILLED_QUANTITY + Long.BYTES;
+    static final int REPORT_FILL_COUNT = REPORT_REMAINING_QUANTITY + Long.BYTES;
+    static final int REPORT_STATUS = REPORT_FILL_COUNT + Integer.BYTES;
+    static final int REPORT_SIDE = REPORT_STATUS + Byte.BYTES;
+    static final int REPORT_ORDER_TYPE = REPORT_SIDE + Byte.BYTES;
+    static final int REPORT_TIF = REPORT_ORDER_TYPE + Byte.BYTES;
+    static final int REPORT_SYMBOL = REPORT_TIF + Byte.BYTES;
+    /** 체결 하나: 가격, 수량. 종목 문자열 뒤에 이어진다. */
+    static final int REPORT_FILL_SIZE = Long.BYTES + Long.BYTES;
+
+    // REJECT
+    static final int REJECT_CODE = HEADER_SIZE;
+
+    private OrderEntryProtocol() {
+    }
+
+    /**
+     * 버퍼의 {@code offset}에서 시작하는 프레임이 다 들어와 있으면 프레임 전체 크기를, 아니면 -1을 반환한다.
+     * 길이가 허용 범위를 벗어나면 {@link IllegalStateException}.
+     */
+    public static int completeFrameSize(ByteBuffer buffer, int offset, int limit) {
+        if (limit - offset < LENGTH_SIZE) {
+            return -1;
+        }
+        int length = buffer.getInt(offset);
+        if (length < HEADER_SIZE - LENGTH_SIZE || length > MAX_FRAME_SIZE - LENGTH_SIZE) {
+            throw new IllegalStateException("Invalid order entry frame length: " + length);
+        }
+        int frameSize = LENGTH_SIZE + length;
+        return limit - offset < frameSize ? -1 : frameSize;
+    }
+
+    public static void encodeNewOrder(ByteBuffer buffer, long correlationId, OrderCreateRequest request) {
+        int start = beginFrame(buffer, NEW_ORDER, correlationId);
+        buffer.putLong(request.accountId());
+        buffer.putLong(fixed(request.quantity()));
+        buffer.putLong(fixed(request.limitPrice()));
+        buffer.put(ordinal(request.side()));
+        buffer.put(ordinal(request.orderType()));
+        buffer.put(ordinal(request.tif()));
+        putAscii(buffer, request.symbol());
+        putAscii(buffer, request.idempotencyKey());
+        endFrame(buffer, start);
+    }
+
+    public static void encodeAmendOrder(ByteBuffer buffer, long correlationId, long orderId, OrderAmendRequest request) {
+        int start = beginFrame(buffer, AMEND_ORDER, correlationId);
+        buffer.putLong(orderId);
+        buffer.putLong(request.accountId());
+        buffer.putLong(fixed(request.amendedRemainingQuantity()));
+        buffer.putLong(fixed(request.amendedLimitPrice()));
+        endFrame(buffer, start);
+    }
+
+    public static void encodeCancelOrder(ByteBuffer buffer, long correlationId, long orderId, long accountId) {
+        int start = beginFrame(buffer, CANCEL_ORDER, correlationId);
+        buffer.putLong(orderId);
+        buffer.putLong(accountId);
+        endFrame(buffer, start);
+    }
+
+    /** 체결 보고 프레임의 최대 크기. */
+    public static int executionReportSize(OrderResponse response) {
+        return REPORT_SYMBOL + Byte.BYTES + response.symbol().length() + REPORT_FILL_SIZE * response.fills().size();
+    }
+
+    public static void encodeExecutionReport(ByteBuffer buffer, long correlationId, OrderResponse response) {
+        List<FillResponse> fills = response.fills();
+        int start = beginFrame(buffer, EXECUTION_REPORT, correlationId);
+        buffer.putLong(response.orderId());
+        buffer.putLong(response.accountId());
+        buffer.putLong(fixed(response.limitPrice()));
+        buffer.putLong(fixed(response.quantity()));
+        buffer.putLong(fixed(response.filledQuantity()));
+        buffer.putLong(fixed(response.remainingQuantity()));
+        buffer.putInt(fills.size());
+        buffer.put(ordinal(response.status()));
+        buffer.put(ordinal(response.side()));
+        buffer.put(ordinal(response.orderType()));
+        buffer.put(ordinal(response.tif()));
+        putAscii(buffer, response.symbol());
+        for (FillResponse fill : fills) {
+            buffer.putLong(fixed(fill.fillPrice()));
+            buffer.putLong(fixed(fill.fillQuantity()));
+        }
+        endFrame(buffer, start);
+    }
+
+    public static void encodeReject(ByteBuffer buffer, long correlationId, ApiErrorCode errorCode) {
+        int start = beginFrame(buffer, REJECT, correlationId);
+        putAscii(buffer, errorCode.code());
+        endFrame(buffer, start);
+    }
+
+    private static int beginFrame(ByteBuffer buffer, byte messageType, long correlationId) {
+        int start = buffer.position();
+        buffer.putInt(0);
+        buffer.put(messageType);
+        buffer.putLong(correlationId);
+        return start;
+    }
+
+    private static void endFrame(ByteBuffer buffer, int start) {
+        buffer.putInt(start, buffer.position() - start - LENGTH_SIZE);
+    }
+
+    private static long fixed(BigDecimal value) {
+        return value == null ? NO_VALUE : FixedDecimal.fromBigDecimal(value);
+    }
+
+    private static byte ordinal(Enum<?> value) {
+        return value == null ? NO_ENUM : (byte) value.ordinal();
+    }
+
+    private static void putAscii(ByteBuffer buffer, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+        if (bytes.length > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Order entry string is too long: " + value);
+        }
+        buffer.put((byte) bytes.length);
+        buffer.put(bytes);
+    }
+}
@@ -0,0 +1,56 @@
+package com.wisehero.stocktrading.order.entry;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 프레임 안의 ASCII 종목 코드를 같은 {@link String} 인스턴스로 돌려주는 작은 캐시.
+ * <p>
+ * 바이트를 해시해 고정 크기 테이블의 한 칸과 비교하고, 같으면 저장된 문자열을 그대로 반환한다.
+ * 처음 보는 종목이거나 칸이 다른 종목에 쓰였을 때만 새 문자열을 만든다. 연결(선택자 스레드) 전용으로 쓴다.
+ */
+public final class SymbolCache {
+
+    private final byte[][] keys;
+    private final String[] values;
+    private final int mask;
+
+    public SymbolCache(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.keys = new byte[size][];
+        this.values = new String[size];
+        this.mask = size - 1;
+    }
+
+    public String get(ByteBuffer buffer, int offset, int length) {
+        int hash = 1;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + buffer.get(offset + i);
+        }
+        int slot = (hash ^ (hash >>> 16)) & mask;
+
+        byte[] key = keys[slot];
+        if (key != null && matches(key, buffer, offset, length)) {
+            return values[slot];
+        }
+
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        String value = new String(bytes, StandardCharsets.US_ASCII);
+        keys[slot] = bytes;
+        values[slot] = value;
+        return value;
+    }
+
+    private static boolean matches(byte[] key, ByteBuffer buffer, int offset, int length) {
+        if (key.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (key[i] != buffer.get(offset + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,410 @@
+package com.wisehero.stocktrading.order.fill;
+
+import com.wisehero.stocktrading.common.numeric.FixedDecimal;
+import com.wisehero.stocktrading.order.domain.Fill;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 체결을 DB보다 먼저 남기는 로컬 추가 전용 저널.
+ * <p>
+ * 고정 크기 세그먼트 파일을 메모리 매핑해 순서대로 기록하고, {@link #sync(long)}로 여러 트랜잭션의 fsync를 한 번에 묶는다.
+ * 위치는 {@code 세그먼트 번호 * 세그먼트 크기 + 오프셋}인 전역 값이라 세그먼트가 바뀌어도 단조 증가한다.
+ * <p>
+ * 레코드: {@code [길이 int][CRC32 int][유형 byte][트랜잭션 ID long][본문]}. 길이가 0이면 그 세그먼트의 기록 끝이고,
+ * CRC가 맞지 않으면 쓰다 만 레코드로 보고 그 세그먼트의 재생을 멈춘다.
+ * 세그먼트의 체결이 모두 DB에 반영({@link #release(long)})되면 세그먼트 파일을 지운다.
+ * 거래일은 기록하지 않고 재생할 때 체결 시각을 시장 시간대로 바꿔 다시 계산한다.
+ */
+public final class FillJournal implements AutoCloseable {
+
+    private static final byte TYPE_FILL = 1;
+    private static final byte TYPE_COMMIT = 2;
+    private static final byte TYPE_ABORT = 3;
+    private static final int HEADER_SIZE = Integer.BYTES + Integer.BYTES + Byte.BYTES + Long.BYTES;
+    private static final int FILL_BODY_SIZE = Long.BYTES * 6 + Integer.BYTES + Short.BYTES;
+    private static final String SEGMENT_PREFIX = "fills-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final ZoneId marketZone;
+    private final List<Path> replaySegments;
+    private final Map<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    // fsync/세그먼트 교체 중에 대기하는 스레드가 많으므로, 가상 스레드가 캐리어를 붙잡지 않도록 모니터 대신 ReentrantLock을 쓴다.
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final AtomicLong durablePosition = new AtomicLong();
+
+    private Segment active;
+
+    public FillJournal(Path directory, int segmentSize, ZoneId marketZone) {
+        if (segmentSize < HEADER_SIZE + FILL_BODY_SIZE + 256) {
+            throw new IllegalArgumentException("segmentSize is too small");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.marketZone = marketZone;
+        try {
+            Files.createDirectories(directory);
+            this.replaySegments = listSegments();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        long nextIndex = replaySegments.isEmpty() ? 0 : segmentIndex(replaySegments.get(replaySegments.size() - 1)) + 1;
+        this.active = openSegment(nextIndex);
+    }
+
+    /** 체결 레코드를 기록하고 레코드 끝 위치를 반환한다. 아직 디스크에 내려갔다는 보장은 없다. */
+    public long append(long txId, Fill fill) {
+        byte[] executionId = fill.getExecutionId().getBytes(StandardCharsets.UTF_8);
+        byte[] record = newRecord(TYPE_FILL, txId, FILL_BODY_SIZE + executionId.length);
+        int offset = HEADER_SIZE;
+        offset = putLong(record, offset, fill.getOrderId());
+        offset = putLong(record, offset, FixedDecimal.fromBigDecimal(fill.getFillPrice()));
+        offset = putLong(record, offset, FixedDecimal.fromBigDecimal(fill.getFillQuantity()));
+        offset = putLong(record, offset, FixedDecimal.fromBigDecimal(fill.getFeeAmount()));
+        offset = putLong(record, offset, FixedDecimal.fromBigDecimal(fill.getTaxAmount()));
+        offset = putLong(record, offset, fill.getFilledAt().getEpochSecond());
+        offset = putInt(record, offset, fill.getFilledAt().getNano());
+        offset = putShort(record, offset, executionId.length);
+        System.arraycopy(executionId, 0, record, offset, executionId.length);
+        return write(record, true);
+    }
+
+    /** 트랜잭션 결과를 기록한다. 롤백 표시가 있는 트랜잭션의 체결은 재생하지 않는다. */
+    public long appendOutcome(long txId, boolean committed) {
+        return write(newRecord(committed ? TYPE_COMMIT : TYPE_ABORT, txId, 0), false);
+    }
+
+    /**
+     * 주어진 위치까지 디스크에 내려가도록 보장한다.
+     * 먼저 락을 잡은 스레드가 그 시점까지 기록된 전체를 한 번에 fsync하므로, 기다리던 스레드는 대부분 바로 반환된다.
+     */
+    public void sync(long position) {
+        if (durablePosition.get() >= position) {
+            return;
+        }
+        syncLock.lock();
+        try {
+            if (durablePosition.get() >= position) {
+                return;
+            }
+            Segment segment;
+            long target;
+            appendLock.lock();
+            try {
+                segment = active;
+                target = segment.position();
+            } finally {
+                appendLock.unlock();
+            }
+            segment.force();
+            durablePosition.accumulateAndGet(target, Math::max);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /** 해당 위치의 체결이 DB에 반영됐거나 롤백됐음을 기록한다. 세그먼트가 비면 파일을 지운다. */
+    public void release(long position) {
+        Segment segment = segments.get((position - 1) / segmentSize);
+        if (segment == null) {
+            return;
+        }
+        if (segment.outstanding.decrementAndGet() == 0) {
+            deleteIfReleased(segment);
+        }
+    }
+
+    /** 기동 시점에 남아 있던 세그먼트를 순서대로 읽는다. */
+    public Replay replay() {
+        List<JournaledFill> fills = new ArrayList<>();
+        Set<Long> committedTxIds = new HashSet<>();
+        Set<Long> abortedTxIds = new HashSet<>();
+        for (Path path : replaySegments) {
+            readSegment(path, fills, committedTxIds, abortedTxIds);
+        }
+        return new Replay(fills, committedTxIds, abortedTxIds);
+    }
+
+    /** 재생이 끝난 이전 세그먼트를 지운다. */
+    public void discardReplayed() {
+        try {
+            for (Path path : replaySegments) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        replaySegments.clear();
+    }
+
+    @Override
+    public void close() {
+        appendLock.lock();
+        try {
+            for (Segment segment : segments.values()) {
+                segment.force();
+                if (segment.outstanding.get() == 0) {
+                    segment.delete();
+                }
+            }
+            segments.clear();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private long write(byte[] record, boolean fill) {
+        int length = record.length;
+        putInt(record, 0, length);
+        CRC32 crc = new CRC32();
+        crc.update(record, Integer.BYTES * 2, length - Integer.BYTES * 2);
+        putInt(record, Integer.BYTES, (int) crc.getValue());
+
+        appendLock.lock();
+        try {
+            if (!active.hasRoom(length)) {
+                roll();
+            }
+            if (fill) {
+                active.outstanding.incrementAndGet();
+            }
+            return active.write(record);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /** 활성 세그먼트를 디스크에 내리고 다음 세그먼트로 넘어간다. appendLock 안에서 호출한다. */
+    private void roll() {
+        Segment previous = active;
+        previous.force();
+        durablePosition.accumulateAndGet(previous.position(), Math::max);
+        active = openSegment(previous.index + 1);
+        if (previous.outstanding.get() == 0) {
+            deleteIfReleased(previous);
+        }
+    }
+
+    private void deleteIfReleased(Segment segment) {
+        appendLock.lock();
+        try {
+            if (segment == active || segment.outstanding.get() != 0 || segments.remove(segment.index) == null) {
+                return;
+            }
+            segment.delete();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private Segment openSegment(long index) {
+        Path path = directory.resolve(String.format("%s%012d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+        try (FileChannel channel = FileChannel.open(
+                path,
+                StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE
+        )) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            Segment segment = new Segment(index, path, buffer, index * segmentSize);
+            segments.put(index, segment);
+            return segment;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private void readSegment(Path path, List<JournaledFill> fills, Set<Long> committedTxIds, Set<Long> abortedTxIds) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int limit = buffer.limit();
+            int offset = 0;
+            while (offset + HEADER_SIZE <= limit) {
+                int length = buffer.getInt(offset);
+                if (length < HEADER_SIZE || offset + length > limit) {
+                    return;
+                }
+                byte[] record = new byte[length];
+                buffer.get(offset, record);
+                CRC32 crc = new CRC32();
+                crc.update(record, Integer.BYTES * 2, length - Integer.BYTES * 2);
+                if ((int) crc.getValue() != getInt(record, Integer.BYTES)) {
+                    return;
+                }
+
+                byte type = record[Integer.BYTES * 2];
+                long txId = getLong(record, Integer.BYTES * 2 + Byte.BYTES);
+                if (type == TYPE_FILL) {
+                    fills.add(new JournaledFill(txId, readFill(record)));
+                } else if (type == TYPE_COMMIT) {
+                    committedTxIds.add(txId);
+                } else if (type == TYPE_ABORT) {
+                    abortedTxIds.add(txId);
+                }
+                offset += length;
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private Fill readFill(byte[] record) {
+        int offset = HEADER_SIZE;
+        long orderId = getLong(record, offset);
+        long price = getLong(record, offset += Long.BYTES);
+        long quantity = getLong(record, offset += Long.BYTES);
+        long fee = getLong(record, offset += Long.BYTES);
+        long tax = getLong(record, offset += Long.BYTES);
+        long epochSecond = getLong(record, offset += Long.BYTES);
+        int nano = getInt(record, offset += Long.BYTES);
+        offset += Integer.BYTES;
+        int executionIdLength = ((record[offset] & 0xff) << 8) | (record[offset + 1] & 0xff);
+        String executionId = new String(record, offset + Short.BYTES, executionIdLength, StandardCharsets.UTF_8);
+
+        Instant filledAt = Instant.ofEpochSecond(epochSecond, nano);
+        return Fill.create(
+                executionId,
+                orderId,
+                FixedDecimal.toBigDecimal(price),
+                FixedDecimal.toBigDecimal(quantity),
+                FixedDecimal.toBigDecimal(fee),
+                FixedDecimal.toBigDecimal(tax),
+                filledAt,
+                LocalDate.ofInstant(filledAt, marketZone)
+        );
+    }
+
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return new ArrayList<>(paths
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList());
+        }
+    }
+
+    private static long segmentIndex(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static byte[] newRecord(byte type, long txId, int bodySize) {
+        byte[] record = new byte[HEADER_SIZE + bodySize];
+        record[Integer.BYTES * 2] = type;
+        putLong(record, Integer.BYTES * 2 + Byte.BYTES, txId);
+        return record;
+    }
+
+    private static int putLong(byte[] target, int offset, long value) {
+        for (int i = 0; i < Long.BYTES; i++) {
+            target[offset + i] = (byte) (value >>> (56 - i * 8));
+        }
+        return offset + Long.BYTES;
+    }
+
+    private static int putInt(byte[] target, int offset, int value) {
+        for (int i = 0; i < Integer.BYTES; i++) {
+            target[offset + i] = (byte) (value >>> (24 - i * 8));
+        }
+        return offset + Integer.BYTES;
+    }
+
+    private static int putShort(byte[] target, int offset, int value) {
+        target[offset] = (byte) (value >>> 8);
+        target[offset + 1] = (byte) value;
+        return offset + Short.BYTES;
+    }
+
+    private static long getLong(byte[] source, int offset) {
+        long value = 0L;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = (value << 8) | (source[offset + i] & 0xffL);
+        }
+        return value;
+    }
+
+    private static int getInt(byte[] source, int offset) {
+        int value = 0;
+        for (int i = 0; i < Integer.BYTES; i++) {
+            value = (value << 8) | (source[offset + i] & 0xff);
+        }
+        return value;
+    }
+
+    /** 재생 결과. 트랜잭션 결과 표시가 없는 체결은 호출자가 DB 상태로 판단한다. */
+    public record Replay(List<JournaledFill> fills, Set<Long> committedTxIds, Set<Long> abortedTxIds) {
+    }
+
+    public record JournaledFill(long txId, Fill fill) {
+    }
+
+    private static final class Segment {
+
+        private final long index;
+        private final Path path;
+        private final MappedByteBuffer buffer;
+        private final long basePosition;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private int offset;
+
+        private Segment(long index, Path path, MappedByteBuffer buffer, long basePosition) {
+            this.index = index;
+            this.path = path;
+            this.buffer = buffer;
+            this.basePosition = basePosition;
+        }
+
+        private boolean hasRoom(int length) {
+            return offset + length <= buffer.capacity();
+        }
+
+        private long write(byte[] record) {
+            buffer.put(offset, record);
+            offset += record.length;
+            return basePosition + offset;
+        }
+
+        private long position() {
+            return basePosition + offset;
+        }
+
+        private void force() {
+            buffer.force();
+        }
+
+        private void delete() {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.wisehero.stocktrading.order.fill;
+
+import com.wisehero.stocktrading.order.domain.Fill;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 체결 저장소. 주문 트랜잭션 안에서 체결을 추가하고, 응답용으로 주문별 체결을 접수 순서대로 돌려준다.
+ * <p>
+ * {@code trading.fill-journal.enabled}에 따라 동기 JPA 저장({@link JpaFillStore}) 또는
+ * 로컬 저널 + 비동기 일괄 반영({@link JournaledFillStore})을 사용한다.
+ */
+public interface FillStore {
+
+    void append(Fill fill);
+
+    /** 현재 트랜잭션에서 추가한 체결만 돌려준다. 방금 접수한 주문은 이것만으로 응답을 만들 수 있다. */
+    List<Fill> findAppended(Long orderId);
+
+    List<Fill> findByOrderId(Long orderId);
+
+    Map<Long, List<Fill>> findByOrderIdIn(Collection<Long> orderIds);
+}
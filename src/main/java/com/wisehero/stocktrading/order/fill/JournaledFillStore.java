@@ -0,0 +1,443 @@
+package com.wisehero.stocktrading.order.fill;
+
+import com.wisehero.stocktrading.common.time.TradeCalendar;
+import com.wisehero.stocktrading.order.domain.Fill;
+import com.wisehero.stocktrading.order.domain.Order;
+import com.wisehero.stocktrading.order.fill.FillJournal.JournaledFill;
+import com.wisehero.stocktrading.order.repository.FillRepository;
+import com.wisehero.stocktrading.order.repository.OrderRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 체결을 로컬 저널({@link FillJournal})에 먼저 남기고 {@code fills} 테이블에는 비동기로 일괄 반영한다.
+ * <p>
+ * 주문 트랜잭션은 커밋 직전에 자기 체결이 저널에서 fsync될 때까지만 기다리고(여러 트랜잭션이 한 번의 fsync를 공유한다),
+ * 커밋된 체결은 반영 전까지 메모리에 두어 조회 시 DB 결과와 합쳐 돌려준다.
+ * <p>
+ * 기동 시 남아 있는 저널을 재생한다. 롤백 표시가 있는 체결은 버리고, 나머지는 주문의 체결 수량이 그 체결을 포함할 때만
+ * 반영한다(커밋 표시를 남기기 전에 죽은 경우). 이미 반영된 체결은 체결 ID로 걸러낸다.
+ */
+@Component
+@ConditionalOnProperty(name = "trading.fill-journal.enabled", havingValue = "true")
+public class JournaledFillStore implements FillStore, SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(JournaledFillStore.class);
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+    private static final long MAX_RETRY_BACKOFF_MILLIS = 5_000L;
+
+    private final FillRepository fillRepository;
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final FillJournal journal;
+    private final int flushBatchSize;
+    private final long flushIntervalMillis;
+
+    private final AtomicLong txIds = new AtomicLong();
+    private final BlockingQueue<PendingFill> flushQueue = new LinkedBlockingQueue<>();
+    private final Map<Long, List<Fill>> pendingByOrderId = new ConcurrentHashMap<>();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public JournaledFillStore(
+            FillRepository fillRepository,
+            OrderRepository orderRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            TradeCalendar tradeCalendar,
+            @Value("${trading.fill-journal.directory:./data/fill-journal}") String directory,
+            @Value("${trading.fill-journal.segment-size:64MB}") DataSize segmentSize,
+            @Value("${trading.fill-journal.flush-batch-size:500}") int flushBatchSize,
+            @Value("${trading.fill-journal.flush-interval:50ms}") Duration flushInterval
+    ) {
+        if (flushBatchSize <= 0) {
+            throw new IllegalArgumentException("trading.fill-journal.flush-batch-size must be positive");
+        }
+        this.fillRepository = fillRepository;
+        this.orderRepository = orderRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.journal = new FillJournal(Path.of(directory), Math.toIntExact(segmentSize.toBytes()), tradeCalendar.zone());
+        this.flushBatchSize = flushBatchSize;
+        this.flushIntervalMillis = Math.max(1L, flushInterval.toMillis());
+
+        this.writer = new Thread(this::runWriter, "fill-journal-writer");
+        this.writer.setDaemon(true);
+        Gauge.builder("trading.fill-journal.pending", flushQueue, BlockingQueue::size)
+                .description("DB 반영을 기다리는 체결 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        recover();
+        writer.start();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+        journal.close();
+    }
+
+    @Override
+    public void append(Fill fill) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            long txId = txIds.incrementAndGet();
+            long position = journal.append(txId, fill);
+            journal.sync(journal.appendOutcome(txId, true));
+            enqueue(fill, position);
+            return;
+        }
+
+        TransactionFills transactionFills = transactionFills();
+        transactionFills.add(fill, journal.append(transactionFills.txId, fill));
+    }
+
+    @Override
+    public List<Fill> findAppended(Long orderId) {
+        TransactionFills transactionFills = currentTransactionFills();
+        return transactionFills == null ? List.of() : transactionFills.fillsOf(orderId);
+    }
+
+    @Override
+    public List<Fill> findByOrderId(Long orderId) {
+        return merge(fillRepository.findByOrderIdOrderByIdAsc(orderId), orderId);
+    }
+
+    @Override
+    public Map<Long, List<Fill>> findByOrderIdIn(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, List<Fill>> persistedByOrderId = new HashMap<>();
+        for (Fill fill : fillRepository.findByOrderIdInOrderByIdAsc(orderIds)) {
+            persistedByOrderId.computeIfAbsent(fill.getOrderId(), orderId -> new ArrayList<>()).add(fill);
+        }
+
+        Map<Long, List<Fill>> fillsByOrderId = new HashMap<>();
+        for (Long orderId : orderIds) {
+            List<Fill> fills = merge(persistedByOrderId.getOrDefault(orderId, List.of()), orderId);
+            if (!fills.isEmpty()) {
+                fillsByOrderId.put(orderId, fills);
+            }
+        }
+        return fillsByOrderId;
+    }
+
+    /**
+     * DB 체결 뒤에 반영 대기 중인 체결과 현재 트랜잭션의 체결을 잇는다.
+     * 반영 직후 대기 목록에서 빠지기 전에 조회되면 양쪽에 모두 있을 수 있으므로 체결 ID로 중복을 거른다.
+     */
+    private List<Fill> merge(List<Fill> persisted, Long orderId) {
+        List<Fill> pending = pendingByOrderId.get(orderId);
+        TransactionFills transactionFills = currentTransactionFills();
+        List<Fill> appended = transactionFills == null ? List.of() : transactionFills.fillsOf(orderId);
+        if ((pending == null || pending.isEmpty()) && appended.isEmpty()) {
+            return persisted;
+        }
+
+        Map<String, Fill> fillsByExecutionId = new LinkedHashMap<>();
+        for (Fill fill : persisted) {
+            fillsByExecutionId.put(fill.getExecutionId(), fill);
+        }
+        if (pending != null) {
+            for (Fill fill : pending) {
+                fillsByExecutionId.putIfAbsent(fill.getExecutionId(), fill);
+            }
+        }
+        for (Fill fill : appended) {
+            fillsByExecutionId.putIfAbsent(fill.getExecutionId(), fill);
+        }
+        return new ArrayList<>(fillsByExecutionId.values());
+    }
+
+    private void enqueue(Fill fill, long position) {
+        pendingByOrderId.compute(fill.getOrderId(), (orderId, fills) -> {
+            List<Fill> next = fills == null ? new CopyOnWriteArrayList<>() : fills;
+            next.add(fill);
+            return next;
+        });
+        flushQueue.add(new PendingFill(fill, position));
+    }
+
+    private void runWriter() {
+        List<PendingFill> batch = new ArrayList<>(flushBatchSize);
+        while (running || !flushQueue.isEmpty()) {
+            try {
+                PendingFill first = flushQueue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            flushQueue.drainTo(batch, flushBatchSize - 1);
+            flushWithRetry(batch);
+            batch.clear();
+        }
+    }
+
+    /** DB 장애 시 같은 묶음을 재시도한다. 종료 중에도 실패하면 저널에 남겨 다음 기동 때 재생한다. */
+    private void flushWithRetry(List<PendingFill> batch) {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                writeBatch(batch, attempt > 0);
+                break;
+            } catch (RuntimeException exception) {
+                if (!running) {
+                    log.error("체결 저널 반영 실패 - 다음 기동 시 재생한다. 건수: {}", batch.size(), exception);
+                    return;
+                }
+                log.warn("체결 저널 반영 실패 - 재시도 {}회, 건수: {}", attempt + 1, batch.size(), exception);
+                sleepQuietly(Math.min(MAX_RETRY_BACKOFF_MILLIS, 100L << Math.min(attempt, 6)));
+            }
+        }
+
+        for (PendingFill pendingFill : batch) {
+            Fill fill = pendingFill.fill();
+            pendingByOrderId.computeIfPresent(fill.getOrderId(), (orderId, fills) -> {
+                fills.remove(fill);
+                return fills.isEmpty() ? null : fills;
+            });
+            journal.release(pendingFill.position());
+        }
+    }
+
+    private void writeBatch(List<PendingFill> batch, boolean skipExisting) {
+        List<Fill> fills = new ArrayList<>(batch.size());
+        for (PendingFill pendingFill : batch) {
+            fills.add(pendingFill.fill());
+        }
+        transactionTemplate.executeWithoutResult(status -> insertMissing(fills, skipExisting));
+    }
+
+    /**
+     * 대기 중인 체결은 응답에서 계속 쓰이므로 영속화하지 않고 복사본을 저장한다.
+     * 재시도나 재생처럼 일부가 이미 반영됐을 수 있으면 체결 ID로 먼저 걸러낸다.
+     */
+    private void insertMissing(List<Fill> fills, boolean skipExisting) {
+        Set<String> existing = skipExisting ? findExistingExecutionIds(fills) : Set.of();
+        List<Fill> copies = new ArrayList<>(fills.size());
+        for (Fill fill : fills) {
+            if (existing.contains(fill.getExecutionId())) {
+                continue;
+            }
+            copies.add(Fill.create(
+                    fill.getExecutionId(),
+                    fill.getOrderId(),
+                    fill.getFillPrice(),
+                    fill.getFillQuantity(),
+                    fill.getFeeAmount(),
+                    fill.getTaxAmount(),
+                    fill.getFilledAt(),
+                    fill.getTradeDate()
+            ));
+        }
+        fillRepository.saveAll(copies);
+    }
+
+    private void recover() {
+        FillJournal.Replay replay = journal.replay();
+        if (replay.fills().isEmpty()) {
+            journal.discardReplayed();
+            return;
+        }
+
+        List<Fill> candidates = new ArrayList<>();
+        int abortedCount = 0;
+        for (JournaledFill journaledFill : replay.fills()) {
+            if (replay.abortedTxIds().contains(journaledFill.txId())) {
+                abortedCount++;
+                continue;
+            }
+            candidates.add(journaledFill.fill());
+        }
+
+        List<Fill> recovered = transactionTemplate.execute(status -> {
+            List<Fill> confirmed = confirmAgainstOrders(candidates);
+            insertMissing(confirmed, false);
+            return confirmed;
+        });
+        journal.discardReplayed();
+        log.info(
+                "체결 저널 재생 완료 - 기록: {}, 롤백 제외: {}, 반영 대상: {}",
+                replay.fills().size(),
+                abortedCount,
+                recovered == null ? 0 : recovered.size()
+        );
+    }
+
+    /**
+     * 주문의 체결 수량이 (이미 반영된 체결 + 저널 체결)을 담을 수 있는 만큼만 저널 순서대로 인정한다.
+     * 주문 트랜잭션이 커밋되지 않았다면 주문 체결 수량에 포함되지 않으므로 자연히 걸러진다.
+     */
+    private List<Fill> confirmAgainstOrders(List<Fill> candidates) {
+        Set<Long> orderIds = new HashSet<>();
+        for (Fill fill : candidates) {
+            orderIds.add(fill.getOrderId());
+        }
+        Set<String> existing = findExistingExecutionIds(candidates);
+
+        Map<Long, BigDecimal> filledQuantityByOrderId = new HashMap<>();
+        for (Order order : orderRepository.findAllById(orderIds)) {
+            filledQuantityByOrderId.put(order.getId(), order.getFilledQuantity());
+        }
+        Map<Long, BigDecimal> persistedQuantityByOrderId = new HashMap<>();
+        for (Fill fill : fillRepository.findByOrderIdInOrderByIdAsc(orderIds)) {
+            persistedQuantityByOrderId.merge(fill.getOrderId(), fill.getFillQuantity(), BigDecimal::add);
+        }
+
+        List<Fill> confirmed = new ArrayList<>();
+        for (Fill fill : candidates) {
+            BigDecimal filledQuantity = filledQuantityByOrderId.get(fill.getOrderId());
+            if (filledQuantity == null || existing.contains(fill.getExecutionId())) {
+                continue;
+            }
+            BigDecimal accounted = persistedQuantityByOrderId.getOrDefault(fill.getOrderId(), BigDecimal.ZERO)
+                    .add(fill.getFillQuantity());
+            if (accounted.compareTo(filledQuantity) > 0) {
+                continue;
+            }
+            persistedQuantityByOrderId.put(fill.getOrderId(), accounted);
+            confirmed.add(fill);
+        }
+        return confirmed;
+    }
+
+    private Set<String> findExistingExecutionIds(List<Fill> fills) {
+        List<String> executionIds = new ArrayList<>(fills.size());
+        for (Fill fill : fills) {
+            executionIds.add(fill.getExecutionId());
+        }
+
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < executionIds.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<String> chunk = executionIds.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, executionIds.size()));
+            existing.addAll(fillRepository.findExecutionIdsIn(chunk));
+        }
+        return existing;
+    }
+
+    private TransactionFills currentTransactionFills() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        return (TransactionFills) TransactionSynchronizationManager.getResource(this);
+    }
+
+    private TransactionFills transactionFills() {
+        TransactionFills transactionFills = currentTransactionFills();
+        if (transactionFills == null) {
+            transactionFills = new TransactionFills(txIds.incrementAndGet());
+            TransactionSynchronizationManager.bindResource(this, transactionFills);
+            TransactionSynchronizationManager.registerSynchronization(new JournalSynchronization(transactionFills));
+        }
+        return transactionFills;
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record PendingFill(Fill fill, long position) {
+    }
+
+    /** 한 트랜잭션에서 추가한 체결과 저널 위치. */
+    private static final class TransactionFills {
+
+        private final long txId;
+        private final List<Fill> fills = new ArrayList<>();
+        private final List<Long> positions = new ArrayList<>();
+
+        private TransactionFills(long txId) {
+            this.txId = txId;
+        }
+
+        private void add(Fill fill, long position) {
+            fills.add(fill);
+            positions.add(position);
+        }
+
+        private long lastPosition() {
+            return positions.get(positions.size() - 1);
+        }
+
+        private List<Fill> fillsOf(Long orderId) {
+            List<Fill> result = new ArrayList<>();
+            for (Fill fill : fills) {
+                if (fill.getOrderId().equals(orderId)) {
+                    result.add(fill);
+                }
+            }
+            return result;
+        }
+    }
+
+    private final class JournalSynchronization implements TransactionSynchronization {
+
+        private final TransactionFills transactionFills;
+
+        private JournalSynchronization(TransactionFills transactionFills) {
+            this.transactionFills = transactionFills;
+        }
+
+        /** DB 커밋 전에 체결이 디스크에 있어야 커밋 직후 죽어도 재생할 수 있다. */
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            journal.sync(transactionFills.lastPosition());
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(JournaledFillStore.this);
+            boolean committed = status == STATUS_COMMITTED;
+            journal.appendOutcome(transactionFills.txId, committed);
+
+            for (int i = 0; i < transactionFills.fills.size(); i++) {
+                long position = transactionFills.positions.get(i);
+                if (committed) {
+                    enqueue(transactionFills.fills.get(i), position);
+                } else {
+                    journal.release(position);
+                }
+            }
+        }
+    }
+}
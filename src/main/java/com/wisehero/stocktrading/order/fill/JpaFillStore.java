@@ -0,0 +1,83 @@
+package com.wisehero.stocktrading.order.fill;
+
+import com.wisehero.stocktrading.order.domain.Fill;
+import com.wisehero.stocktrading.order.repository.FillRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 체결을 주문 트랜잭션 안에서 바로 {@code fills} 테이블에 저장한다.
+ */
+@Component
+@ConditionalOnProperty(name = "trading.fill-journal.enabled", havingValue = "false", matchIfMissing = true)
+public class JpaFillStore implements FillStore {
+
+    private final FillRepository fillRepository;
+
+    public JpaFillStore(FillRepository fillRepository) {
+        this.fillRepository = fillRepository;
+    }
+
+    @Override
+    public void append(Fill fill) {
+        fillRepository.save(fill);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            transactionFills().add(fill);
+        }
+    }
+
+    @Override
+    public List<Fill> findAppended(Long orderId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return fillRepository.findByOrderIdOrderByIdAsc(orderId);
+        }
+        List<Fill> appended = new ArrayList<>();
+        for (Fill fill : transactionFills()) {
+            if (fill.getOrderId().equals(orderId)) {
+                appended.add(fill);
+            }
+        }
+        return appended;
+    }
+
+    @Override
+    public List<Fill> findByOrderId(Long orderId) {
+        return fillRepository.findByOrderIdOrderByIdAsc(orderId);
+    }
+
+    @Override
+    public Map<Long, List<Fill>> findByOrderIdIn(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, List<Fill>> fillsByOrderId = new HashMap<>();
+        for (Fill fill : fillRepository.findByOrderIdInOrderByIdAsc(orderIds)) {
+            fillsByOrderId.computeIfAbsent(fill.getOrderId(), orderId -> new ArrayList<>()).add(fill);
+        }
+        return fillsByOrderId;
+    }
+
+    private List<Fill> transactionFills() {
+        @SuppressWarnings("unchecked")
+        List<Fill> fills = (List<Fill>) TransactionSynchronizationManager.getResource(this);
+        if (fills == null) {
+            fills = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, fills);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(JpaFillStore.this);
+                }
+            });
+        }
+        return fills;
+    }
+}
@@ -0,0 +1,132 @@
+package com.wisehero.stocktrading.order.idempotency;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * (계좌, 멱등키)가 "확실히 처음"인지 판단하는 블룸 필터.
+ * <p>
+ * {@link #mightContain}이 false면 한 번도 등록된 적 없는 키이고, true면 등록됐을 수도 있는 키다(오탐 가능).
+ * 비트 배열이 포화되지 않도록 세대 두 개를 둔다. 현재 세대에 예상 건수만큼 쌓이면 이전 세대를 버리고 새 세대로 교체하므로,
+ * 조회는 최근 두 세대에 등록된 키만 보장한다. 그보다 오래된 키는 DB 유니크 제약이 최종적으로 막는다.
+ */
+public final class IdempotencyKeyFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final int expectedInsertions;
+    private final int bitCount;
+    private final int hashCount;
+
+    private volatile Generation current;
+    private volatile Generation previous;
+
+    public IdempotencyKeyFilter(int expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+
+        double ln2 = Math.log(2);
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.expectedInsertions = expectedInsertions;
+        this.bitCount = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, optimalBits));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * ln2));
+        this.current = new Generation(bitCount);
+        this.previous = new Generation(bitCount);
+    }
+
+    public boolean mightContain(Long accountId, String idempotencyKey) {
+        long hash = hash(accountId, idempotencyKey);
+        return current.mightContain(hash, bitCount, hashCount) || previous.mightContain(hash, bitCount, hashCount);
+    }
+
+    public void put(Long accountId, String idempotencyKey) {
+        long hash = hash(accountId, idempotencyKey);
+        Generation generation = current;
+        generation.put(hash, bitCount, hashCount);
+        if (generation.insertions.sum() >= expectedInsertions) {
+            rotate(generation);
+        }
+    }
+
+    public void clear() {
+        synchronized (this) {
+            current = new Generation(bitCount);
+            previous = new Generation(bitCount);
+        }
+    }
+
+    private void rotate(Generation full) {
+        synchronized (this) {
+            if (current != full) {
+                return;
+            }
+            // 새 세대를 먼저 만들고, 이전 세대에 가득 찬 세대를 옮긴 뒤 교체해 조회 공백을 두지 않는다.
+            Generation fresh = new Generation(bitCount);
+            previous = full;
+            current = fresh;
+        }
+    }
+
+    /** 계좌 ID와 멱등키 문자를 64비트 FNV-1a로 섞는다. */
+    private static long hash(Long accountId, String idempotencyKey) {
+        long hash = FNV_OFFSET_BASIS;
+        long account = accountId;
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            hash = (hash ^ ((account >>> shift) & 0xff)) * FNV_PRIME;
+        }
+        for (int i = 0; i < idempotencyKey.length(); i++) {
+            char c = idempotencyKey.charAt(i);
+            hash = (hash ^ (c & 0xff)) * FNV_PRIME;
+            hash = (hash ^ (c >>> 8)) * FNV_PRIME;
+        }
+        // FNV는 하위 비트 분산이 약하므로 마지막에 한 번 더 섞는다.
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static final class Generation {
+
+        private final AtomicLongArray words;
+        private final LongAdder insertions = new LongAdder();
+
+        private Generation(int bitCount) {
+            this.words = new AtomicLongArray((bitCount + 63) >>> 6);
+        }
+
+        private boolean mightContain(long hash, int bitCount, int hashCount) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                int bit = Math.floorMod(h1 + i * h2, bitCount);
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void put(long hash, int bitCount, int hashCount) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                int bit = Math.floorMod(h1 + i * h2, bitCount);
+                long mask = 1L << bit;
+                int index = bit >>> 6;
+                long word;
+                while (((word = words.get(index)) & mask) == 0) {
+                    if (words.compareAndSet(index, word, word | mask)) {
+                        break;
+                    }
+                }
+            }
+            insertions.increment();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.wisehero.stocktrading.order.idempotency;
+
+import com.wisehero.stocktrading.order.api.dto.OrderResponse;
+import com.wisehero.stocktrading.order.domain.Order;
+import com.wisehero.stocktrading.order.idempotency.RecentOrderCache.CachedOrder;
+import com.wisehero.stocktrading.order.repository.IdempotencyKeyView;
+import com.wisehero.stocktrading.order.repository.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 주문 생성 전 멱등키 조회를 프로세스 안에서 먼저 처리한다.
+ * <p>
+ * 1. 최근 주문 캐시({@link RecentOrderCache})에 있으면 재시도로 보고 캐시된 주문으로 응답한다.
+ * 2. 블룸 필터({@link IdempotencyKeyFilter})에 없으면 확실히 새 키이므로 DB 조회를 건너뛴다.
+ * 3. 필터에 있으면(오탐 포함) 기존처럼 유니크 인덱스로 조회한다.
+ * <p>
+ * 다른 노드가 접수했거나 필터 세대에서 밀려난 키는 조회를 건너뛸 수 있으므로, 최종 중복 방지는 DB 유니크 제약
+ * ({@code order_idempotency_keys}, 거래일과 무관)이 맡는다.
+ * 캐시는 커밋 이후에만 채워 롤백된 주문이 응답으로 나가지 않게 한다.
+ */
+@Component
+public class IdempotencyKeyRegistry implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyKeyRegistry.class);
+
+    private final OrderRepository orderRepository;
+    private final RecentOrderCache cache;
+    private final IdempotencyKeyFilter filter;
+    private final Duration warmupWindow;
+
+    private final Counter cacheHits;
+    private final Counter filterNegatives;
+    private final Counter lookupHits;
+    private final Counter falsePositives;
+    private final Counter uniqueViolations;
+
+    public IdempotencyKeyRegistry(
+            OrderRepository orderRepository,
+            MeterRegistry meterRegistry,
+            @Value("${trading.idempotency.cache-size:100000}") int cacheSize,
+            @Value("${trading.idempotency.cache-ttl:PT10M}") Duration cacheTtl,
+            @Value("${trading.idempotency.filter-expected-keys:1000000}") int filterExpectedKeys,
+            @Value("${trading.idempotency.filter-false-positive-rate:0.01}") double filterFalsePositiveRate,
+            @Value("${trading.idempotency.warmup-window:PT24H}") Duration warmupWindow
+    ) {
+        this.orderRepository = orderRepository;
+        this.cache = new RecentOrderCache(cacheSize, cacheTtl);
+        this.filter = new IdempotencyKeyFilter(filterExpectedKeys, filterFalsePositiveRate);
+        this.warmupWindow = warmupWindow;
+
+        this.cacheHits = lookupCounter(meterRegistry, "cache_hit");
+        this.filterNegatives = lookupCounter(meterRegistry, "filter_negative");
+        this.lookupHits = lookupCounter(meterRegistry, "db_hit");
+        this.falsePositives = lookupCounter(meterRegistry, "false_positive");
+        this.uniqueViolations = Counter.builder("trading.idempotency.unique-violations")
+                .description("조회를 건너뛴 뒤 유니크 제약으로 중복이 확인된 건수")
+                .register(meterRegistry);
+        Gauge.builder("trading.idempotency.cache.size", cache, RecentOrderCache::size)
+                .description("최근 주문 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        warmUp();
+    }
+
+    /** 예열 구간 안에 접수된 주문의 멱등키로 필터를 다시 채운다. */
+    public void warmUp() {
+        filter.clear();
+        cache.clear();
+        int count = 0;
+        for (IdempotencyKeyView key : orderRepository.findIdempotencyKeysCreatedSince(Instant.now().minus(warmupWindow))) {
+            filter.put(key.accountId(), key.idempotencyKey());
+            count++;
+        }
+        log.info("멱등키 필터 예열 완료 - 키 수: {}, 구간: {}", count, warmupWindow);
+    }
+
+    /** 캐시에 있는 재시도 요청이면 캐시된 주문을 반환한다. */
+    public CachedOrder findCached(Long accountId, String idempotencyKey) {
+        CachedOrder cached = cache.get(accountId, idempotencyKey);
+        if (cached != null) {
+            cacheHits.increment();
+        }
+        return cached;
+    }
+
+    /** false면 한 번도 본 적 없는 키이므로 DB 조회를 건너뛰어도 된다. */
+    public boolean mightExist(Long accountId, String idempotencyKey) {
+        boolean mightExist = filter.mightContain(accountId, idempotencyKey);
+        if (!mightExist) {
+            filterNegatives.increment();
+        }
+        return mightExist;
+    }
+
+    /** 필터 통과 후 DB 조회 결과를 집계한다. 찾지 못했으면 필터 오탐이다. */
+    public void recordLookup(boolean found) {
+        (found ? lookupHits : falsePositives).increment();
+    }
+
+    public void recordUniqueViolation() {
+        uniqueViolations.increment();
+    }
+
+    /**
+     * 접수(또는 조회)된 주문의 멱등키를 등록한다.
+     * 필터는 즉시 갱신하고(롤백되면 오탐 하나가 늘 뿐이다), 캐시는 커밋 이후에 채운다.
+     */
+    public void register(Order order, OrderResponse response) {
+        filter.put(order.getAccountId(), order.getIdempotencyKey());
+
+        CachedOrder cached = new CachedOrder(order.getId(), order.getStatus().isTerminal() ? response : null);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.put(order.getAccountId(), order.getIdempotencyKey(), cached);
+            return;
+        }
+
+        Long accountId = order.getAccountId();
+        String idempotencyKey = order.getIdempotencyKey();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.put(accountId, idempotencyKey, cached);
+            }
+        });
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("trading.idempotency.lookups")
+                .description("멱등키 조회 경로별 건수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,81 @@
+package com.wisehero.stocktrading.order.idempotency;
+
+import com.wisehero.stocktrading.order.api.dto.OrderResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 최근 접수된 (계좌, 멱등키) → 주문의 크기 제한 + 시간 만료 캐시.
+ * <p>
+ * 최대 건수를 넘으면 가장 오래 조회되지 않은 항목부터 버리고, TTL이 지난 항목은 조회 시점에 버린다.
+ * 종료 상태 주문은 더 이상 바뀌지 않으므로 응답까지 담아 두고, 미체결 주문은 ID만 담는다.
+ */
+public final class RecentOrderCache {
+
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final LinkedHashMap<Key, Entry> entries;
+
+    public RecentOrderCache(int maximumSize, Duration ttl) {
+        this(maximumSize, ttl, System::nanoTime);
+    }
+
+    RecentOrderCache(int maximumSize, Duration ttl, LongSupplier nanoClock) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive");
+        }
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be positive");
+        }
+        this.maximumSize = maximumSize;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > RecentOrderCache.this.maximumSize;
+            }
+        };
+    }
+
+    /** 캐시된 주문을 반환한다. 없거나 TTL이 지났으면 null. */
+    public synchronized CachedOrder get(Long accountId, String idempotencyKey) {
+        Key key = new Key(accountId, idempotencyKey);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (nanoClock.getAsLong() - entry.cachedAtNanos > ttlNanos) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.order;
+    }
+
+    public synchronized void put(Long accountId, String idempotencyKey, CachedOrder order) {
+        entries.put(new Key(accountId, idempotencyKey), new Entry(order, nanoClock.getAsLong()));
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * 캐시된 주문. {@code terminalResponse}가 있으면 DB를 거치지 않고 그대로 응답한다.
+     */
+    public record CachedOrder(Long orderId, OrderResponse terminalResponse) {
+    }
+
+    private record Key(Long accountId, String idempotencyKey) {
+    }
+
+    private record Entry(CachedOrder order, long cachedAtNanos) {
+    }
+}
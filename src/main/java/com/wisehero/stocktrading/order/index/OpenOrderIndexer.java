@@ -0,0 +1,157 @@
+package com.wisehero.stocktrading.order.index;
+
+import com.wisehero.stocktrading.common.numeric.FixedDecimal;
+import com.wisehero.stocktrading.order.domain.Order;
+import com.wisehero.stocktrading.order.domain.OrderStatus;
+import com.wisehero.stocktrading.order.domain.OrderTif;
+import com.wisehero.stocktrading.order.domain.OrderType;
+import com.wisehero.stocktrading.order.journal.OrderEvent.OrderChanged;
+import com.wisehero.stocktrading.order.journal.OrderStateJournal;
+import com.wisehero.stocktrading.order.partition.OpenOrderWindow;
+import com.wisehero.stocktrading.order.repository.OrderRepository;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 대기 주문 가격 인덱스({@link OpenOrderPriceIndex})를 DB와 맞춰 유지한다.
+ * <p>
+ * 기동 시 미체결 DAY 지정가 주문으로 인덱스를 복원하고(주문 저널이 켜져 있으면 저널에서 복원한 상태를 쓴다), 이후 주문 변경은 {@link #track(Order)}로 등록해
+ * 트랜잭션이 커밋된 뒤에 주문의 최종 상태로 반영한다. 롤백된 변경은 인덱스에 남지 않는다.
+ */
+@Component
+public class OpenOrderIndexer implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(OpenOrderIndexer.class);
+    private static final List<OrderStatus> RESTING_STATUSES = List.of(OrderStatus.NEW, OrderStatus.PARTIALLY_FILLED);
+
+    private final OrderRepository orderRepository;
+    private final OrderStateJournal orderStateJournal;
+    private final OpenOrderWindow openOrderWindow;
+    private final OpenOrderPriceIndex index = new OpenOrderPriceIndex();
+
+    public OpenOrderIndexer(
+            OrderRepository orderRepository,
+            OrderStateJournal orderStateJournal,
+            OpenOrderWindow openOrderWindow
+    ) {
+        this.orderRepository = orderRepository;
+        this.orderStateJournal = orderStateJournal;
+        this.openOrderWindow = openOrderWindow;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    /** 미체결 DAY 주문을 접수 순서대로 다시 적재한다. 주문 저널이 꺼져 있으면 orders 테이블에서 읽는다. */
+    public void rebuild() {
+        index.clear();
+        Optional<List<OrderChanged>> journaledOrders = orderStateJournal.openOrders();
+        if (journaledOrders.isPresent()) {
+            for (OrderChanged order : journaledOrders.get()) {
+                if (order.tif() == OrderTif.DAY && order.orderType() == OrderType.LIMIT) {
+                    index.put(order.orderId(), order.symbol(), order.side(), order.limitPrice());
+                }
+            }
+            log.info("대기 주문 가격 인덱스 복원 완료(주문 저널) - 주문 수: {}", index.size());
+            return;
+        }
+
+        List<Order> openOrders = openOrderWindow.since()
+                .map(since -> orderRepository.findByTifAndStatusInAndTradeDateGreaterThanEqualOrderByCreatedAtAscIdAsc(
+                        OrderTif.DAY,
+                        RESTING_STATUSES,
+                        since
+                ))
+                .orElseGet(() -> orderRepository.findByTifAndStatusInOrderByCreatedAtAscIdAsc(OrderTif.DAY, RESTING_STATUSES));
+        for (Order order : openOrders) {
+            apply(order);
+        }
+        log.info("대기 주문 가격 인덱스 복원 완료 - 주문 수: {}", index.size());
+    }
+
+    /**
+     * 주문 변경을 인덱스에 반영하도록 등록한다.
+     * 트랜잭션 안이면 커밋 후 한 번만 반영하고, 트랜잭션 밖이면 즉시 반영한다.
+     */
+    public void track(Order order) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(order);
+            return;
+        }
+        pendingChanges().put(order.getId(), order);
+    }
+
+    /** 엔티티를 거치지 않고 일괄 종료(만료 등)된 주문을 커밋 후 인덱스에서 제거하도록 등록한다. */
+    public void trackClosed(Collection<Long> orderIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            orderIds.forEach(index::remove);
+            return;
+        }
+
+        Map<Long, Order> pending = pendingChanges();
+        for (Long orderId : orderIds) {
+            pending.put(orderId, null);
+        }
+    }
+
+    /** 시세 가격과 교차하는 대기 주문 ID를 가격-시간 우선순위로 반환한다. */
+    public List<Long> findCrossingOrderIds(String symbol, BigDecimal quotePrice) {
+        return index.findCrossingOrderIds(symbol, FixedDecimal.fromBigDecimal(quotePrice));
+    }
+
+    /** 트랜잭션별 변경 목록. 값이 null이면 인덱스에서 제거할 주문이다. */
+    private Map<Long, Order> pendingChanges() {
+        @SuppressWarnings("unchecked")
+        Map<Long, Order> pending = (Map<Long, Order>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new LinkedHashMap<>();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new PendingOrderSynchronization(pending));
+        }
+        return pending;
+    }
+
+    private void apply(Order order) {
+        if (order.isOpen() && order.getTif() == OrderTif.DAY && order.getOrderType() == OrderType.LIMIT) {
+            index.put(order.getId(), order.getSymbol(), order.getSide(), FixedDecimal.fromBigDecimal(order.getLimitPrice()));
+            return;
+        }
+        index.remove(order.getId());
+    }
+
+    private final class PendingOrderSynchronization implements TransactionSynchronization {
+
+        private final Map<Long, Order> pending;
+
+        private PendingOrderSynchronization(Map<Long, Order> pending) {
+            this.pending = pending;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(OpenOrderIndexer.this);
+            if (status != STATUS_COMMITTED) {
+                return;
+            }
+            pending.forEach((orderId, order) -> {
+                if (order == null) {
+                    index.remove(orderId);
+                    return;
+                }
+                apply(order);
+            });
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.wisehero.stocktrading.order.index;
+
+import com.wisehero.stocktrading.order.domain.OrderSide;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대기 중인 DAY 지정가 주문 ID를 종목 → 매수/매도 → 지정가 순으로 보관하는 인메모리 인덱스.
+ * <p>
+ * 시세 가격과 교차하는 가격대만 {@link NavigableMap#headMap}으로 잘라 읽으므로
+ * 조회 비용은 전체 대기 주문 수가 아니라 교차하는 주문 수에 비례한다.
+ * 가격대 안에서는 등록 순서(시간 우선)를 유지하고, 같은 가격으로 다시 등록해도 순서가 바뀌지 않는다.
+ * 가격은 {@code FixedDecimal} 고정소수점 값이다. 종목 단위로 잠그므로 여러 스레드에서 호출해도 된다.
+ */
+public class OpenOrderPriceIndex {
+
+    private final Map<String, SymbolIndex> symbols = new ConcurrentHashMap<>();
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    /** 주문을 등록한다. 이미 같은 가격대에 있으면 대기 순서를 유지하고, 가격이 바뀌었으면 새 가격대 맨 뒤로 옮긴다. */
+    public void put(long orderId, String symbol, OrderSide side, long limitPrice) {
+        Entry entry = new Entry(symbol, side, limitPrice);
+        Entry previous = entries.put(orderId, entry);
+        if (entry.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            symbolIndex(previous.symbol()).remove(orderId, previous.side(), previous.limitPrice());
+        }
+        symbolIndex(symbol).add(orderId, side, limitPrice);
+    }
+
+    public boolean remove(long orderId) {
+        Entry previous = entries.remove(orderId);
+        if (previous == null) {
+            return false;
+        }
+        symbolIndex(previous.symbol()).remove(orderId, previous.side(), previous.limitPrice());
+        return true;
+    }
+
+    /**
+     * 시세 가격과 교차하는 주문 ID를 반환한다.
+     * 매수는 지정가 ≥ 시세, 매도는 지정가 ≤ 시세인 주문이며, 각 방향에서 유리한 가격대부터 시간 순으로 담고
+     * 매수 다음 매도 순서로 이어 붙인다.
+     */
+    public List<Long> findCrossingOrderIds(String symbol, long quotePrice) {
+        SymbolIndex index = symbols.get(symbol);
+        if (index == null) {
+            return List.of();
+        }
+        return index.crossing(quotePrice);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+        symbols.clear();
+    }
+
+    private SymbolIndex symbolIndex(String symbol) {
+        return symbols.computeIfAbsent(symbol, ignored -> new SymbolIndex());
+    }
+
+    private record Entry(String symbol, OrderSide side, long limitPrice) {
+    }
+
+    private static final class SymbolIndex {
+
+        // 매수는 높은 가격, 매도는 낮은 가격이 앞에 오도록 정렬한다.
+        private final NavigableMap<Long, Set<Long>> bids = new TreeMap<>(Collections.reverseOrder());
+        private final NavigableMap<Long, Set<Long>> asks = new TreeMap<>();
+
+        synchronized void add(long orderId, OrderSide side, long limitPrice) {
+            levels(side).computeIfAbsent(limitPrice, ignored -> new LinkedHashSet<>()).add(orderId);
+        }
+
+        synchronized void remove(long orderId, OrderSide side, long limitPrice) {
+            NavigableMap<Long, Set<Long>> levels = levels(side);
+            Set<Long> level = levels.get(limitPrice);
+            if (level == null) {
+                return;
+            }
+            level.remove(orderId);
+            if (level.isEmpty()) {
+                levels.remove(limitPrice);
+            }
+        }
+
+        synchronized List<Long> crossing(long quotePrice) {
+            List<Long> orderIds = new ArrayList<>();
+            collect(bids.headMap(quotePrice, true), orderIds);
+            collect(asks.headMap(quotePrice, true), orderIds);
+            return orderIds;
+        }
+
+        private void collect(NavigableMap<Long, Set<Long>> levels, List<Long> orderIds) {
+            for (Set<Long> level : levels.values()) {
+                orderIds.addAll(level);
+            }
+        }
+
+        private NavigableMap<Long, Set<Long>> levels(OrderSide side) {
+            return side == OrderSide.BUY ? bids : asks;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.wisehero.stocktrading.order.journal;
+
+import com.wisehero.stocktrading.account.domain.CashBalance;
+import com.wisehero.stocktrading.account.domain.Position;
+import com.wisehero.stocktrading.common.numeric.FixedDecimal;
+import com.wisehero.stocktrading.order.domain.HoldType;
+import com.wisehero.stocktrading.order.domain.Order;
+import com.wisehero.stocktrading.order.domain.OrderHold;
+import com.wisehero.stocktrading.order.domain.OrderSide;
+import com.wisehero.stocktrading.order.domain.OrderStatus;
+import com.wisehero.stocktrading.order.domain.OrderTif;
+import com.wisehero.stocktrading.order.domain.OrderType;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 주문 저널에 남기는 상태 변경 이벤트.
+ * <p>
+ * 금액/수량은 모두 {@link FixedDecimal} 고정소수점 값이다. 주문/잔고/포지션 이벤트는 변경 후 상태 전체와 버전을 담아,
+ * 재생 순서가 커밋 순서와 조금 어긋나도 버전이 큰 쪽이 남는다.
+ */
+public sealed interface OrderEvent {
+
+    /** 시장가 주문처럼 지정가가 없을 때의 값. */
+    long NO_PRICE = Long.MIN_VALUE;
+
+    /** 주문의 변경 후 상태. */
+    record OrderChanged(
+            OrderEventType type,
+            long orderId,
+            long accountId,
+            String symbol,
+            OrderSide side,
+            OrderType orderType,
+            OrderTif tif,
+            long limitPrice,
+            long quantity,
+            long filledQuantity,
+            long remainingQuantity,
+            OrderStatus status,
+            long version,
+            Instant createdAt
+    ) implements OrderEvent {
+
+        public static OrderChanged of(OrderEventType type, Order order) {
+            return new OrderChanged(
+                    type,
+                    order.getId(),
+                    order.getAccountId(),
+                    order.getSymbol(),
+                    order.getSide(),
+                    order.getOrderType(),
+                    order.getTif(),
+                    order.getLimitPrice() == null ? NO_PRICE : FixedDecimal.fromBigDecimal(order.getLimitPrice()),
+                    FixedDecimal.fromBigDecimal(order.getQuantity()),
+                    FixedDecimal.fromBigDecimal(order.getFilledQuantity()),
+                    FixedDecimal.fromBigDecimal(order.getRemainingQuantity()),
+                    order.getStatus(),
+                    order.getVersion(),
+                    order.getCreatedAt()
+            );
+        }
+
+        /** 일괄 만료로 상태만 바뀐 주문. */
+        OrderChanged expired(long expiredVersion) {
+            return new OrderChanged(
+                    OrderEventType.EXPIRED,
+                    orderId,
+                    accountId,
+                    symbol,
+                    side,
+                    orderType,
+                    tif,
+                    limitPrice,
+                    quantity,
+                    filledQuantity,
+                    remainingQuantity,
+                    OrderStatus.EXPIRED,
+                    expiredVersion,
+                    createdAt
+            );
+        }
+    }
+
+    /** 주문 선점의 변경 후 상태. 선점은 주문과 같은 트랜잭션에서만 바뀌므로 버전 없이 마지막 값이 남는다. */
+    record HoldChanged(
+            long holdId,
+            long orderId,
+            long accountId,
+            HoldType holdType,
+            long totalAmount,
+            long consumedAmount,
+            long releasedAmount
+    ) implements OrderEvent {
+
+        public static HoldChanged of(OrderHold hold) {
+            return new HoldChanged(
+                    hold.getId(),
+                    hold.getOrderId(),
+                    hold.getAccountId(),
+                    hold.getHoldType(),
+                    FixedDecimal.fromBigDecimal(hold.getTotalAmount()),
+                    FixedDecimal.fromBigDecimal(hold.getConsumedAmount()),
+                    FixedDecimal.fromBigDecimal(hold.getReleasedAmount())
+            );
+        }
+    }
+
+    /** 현금 잔고의 변경 후 상태. */
+    record CashChanged(long accountId, long availableCash, long heldCash, long version) implements OrderEvent {
+
+        public static CashChanged of(CashBalance cashBalance) {
+            return new CashChanged(
+                    cashBalance.getAccountId(),
+                    FixedDecimal.fromBigDecimal(cashBalance.getAvailableCash()),
+                    FixedDecimal.fromBigDecimal(cashBalance.getHeldCash()),
+                    cashBalance.getVersion()
+            );
+        }
+    }
+
+    /** 포지션의 변경 후 상태. */
+    record PositionChanged(
+            long accountId,
+            String symbol,
+            long availableQuantity,
+            long heldQuantity,
+            long averagePrice,
+            long version
+    ) implements OrderEvent {
+
+        public static PositionChanged of(Position position) {
+            return new PositionChanged(
+                    position.getId().getAccountId(),
+                    position.getId().getSymbol(),
+                    FixedDecimal.fromBigDecimal(position.getAvailableQuantity()),
+                    FixedDecimal.fromBigDecimal(position.getHeldQuantity()),
+                    FixedDecimal.fromBigDecimal(position.getAveragePrice()),
+                    position.getVersion()
+            );
+        }
+    }
+
+    /** 엔티티를 거치지 않는 일괄 UPDATE로 만료된 주문과 만료 후 버전. 선점도 함께 종료된다. */
+    record OrdersExpired(List<ExpiredOrder> orders) implements OrderEvent {
+
+        public OrdersExpired {
+            orders = List.copyOf(orders);
+        }
+    }
+
+    record ExpiredOrder(long orderId, long version) {
+    }
+}
@@ -0,0 +1,225 @@
+package com.wisehero.stocktrading.order.journal;
+
+import com.wisehero.stocktrading.order.domain.HoldType;
+import com.wisehero.stocktrading.order.domain.OrderSide;
+import com.wisehero.stocktrading.order.domain.OrderStatus;
+import com.wisehero.stocktrading.order.domain.OrderTif;
+import com.wisehero.stocktrading.order.domain.OrderType;
+import com.wisehero.stocktrading.order.journal.OrderEvent.CashChanged;
+import com.wisehero.stocktrading.order.journal.OrderEvent.ExpiredOrder;
+import com.wisehero.stocktrading.order.journal.OrderEvent.HoldChanged;
+import com.wisehero.stocktrading.order.journal.OrderEvent.OrderChanged;
+import com.wisehero.stocktrading.order.journal.OrderEvent.OrdersExpired;
+import com.wisehero.stocktrading.order.journal.OrderEvent.PositionChanged;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * {@link OrderEvent}를 저널/스냅샷 레코드로 직렬화한다.
+ * <p>
+ * 레코드: {@code [본문 길이 int][CRC32 int][순번 long][유형 byte][본문]}. CRC는 순번부터 본문 끝까지 계산한다.
+ * enum은 순번(ordinal) 1바이트, 문자열은 {@code [길이 short][UTF-8]}로 기록한다.
+ */
+public final class OrderEventCodec {
+
+    public static final int HEADER_SIZE = Integer.BYTES + Integer.BYTES + Long.BYTES + Byte.BYTES;
+
+    private static final byte TYPE_ORDER = 1;
+    private static final byte TYPE_HOLD = 2;
+    private static final byte TYPE_CASH = 3;
+    private static final byte TYPE_POSITION = 4;
+    private static final byte TYPE_ORDERS_EXPIRED = 5;
+
+    private static final OrderEventType[] EVENT_TYPES = OrderEventType.values();
+    private static final OrderSide[] SIDES = OrderSide.values();
+    private static final OrderType[] ORDER_TYPES = OrderType.values();
+    private static final OrderTif[] TIFS = OrderTif.values();
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+    private static final HoldType[] HOLD_TYPES = HoldType.values();
+
+    private OrderEventCodec() {
+    }
+
+    /** 순번이 붙은 이벤트. */
+    public record SequencedEvent(long sequence, OrderEvent event) {
+    }
+
+    /** 레코드 하나를 기록하는 데 필요한 최대 바이트 수. */
+    public static int maxRecordSize(OrderEvent event) {
+        return HEADER_SIZE + switch (event) {
+            case OrderChanged order -> Long.BYTES * 9 + Byte.BYTES * 5 + Integer.BYTES + stringSize(order.symbol());
+            case HoldChanged ignored -> Long.BYTES * 6 + Byte.BYTES;
+            case CashChanged ignored -> Long.BYTES * 4;
+            case PositionChanged position -> Long.BYTES * 5 + stringSize(position.symbol());
+            case OrdersExpired expired -> Integer.BYTES + Long.BYTES * 2 * expired.orders().size();
+        };
+    }
+
+    public static void write(ByteBuffer buffer, long sequence, OrderEvent event) {
+        int start = buffer.position();
+        buffer.position(start + Integer.BYTES + Integer.BYTES);
+        buffer.putLong(sequence);
+        switch (event) {
+            case OrderChanged order -> {
+                buffer.put(TYPE_ORDER);
+                buffer.put((byte) order.type().ordinal());
+                buffer.putLong(order.orderId());
+                buffer.putLong(order.accountId());
+                putString(buffer, order.symbol());
+                buffer.put((byte) order.side().ordinal());
+                buffer.put((byte) order.orderType().ordinal());
+                buffer.put((byte) order.tif().ordinal());
+                buffer.putLong(order.limitPrice());
+                buffer.putLong(order.quantity());
+                buffer.putLong(order.filledQuantity());
+                buffer.putLong(order.remainingQuantity());
+                buffer.put((byte) order.status().ordinal());
+                buffer.putLong(order.version());
+                buffer.putLong(order.createdAt().getEpochSecond());
+                buffer.putInt(order.createdAt().getNano());
+            }
+            case HoldChanged hold -> {
+                buffer.put(TYPE_HOLD);
+                buffer.putLong(hold.holdId());
+                buffer.putLong(hold.orderId());
+                buffer.putLong(hold.accountId());
+                buffer.put((byte) hold.holdType().ordinal());
+                buffer.putLong(hold.totalAmount());
+                buffer.putLong(hold.consumedAmount());
+                buffer.putLong(hold.releasedAmount());
+            }
+            case CashChanged cash -> {
+                buffer.put(TYPE_CASH);
+                buffer.putLong(cash.accountId());
+                buffer.putLong(cash.availableCash());
+                buffer.putLong(cash.heldCash());
+                buffer.putLong(cash.version());
+            }
+            case PositionChanged position -> {
+                buffer.put(TYPE_POSITION);
+                buffer.putLong(position.accountId());
+                putString(buffer, position.symbol());
+                buffer.putLong(position.availableQuantity());
+                buffer.putLong(position.heldQuantity());
+                buffer.putLong(position.averagePrice());
+                buffer.putLong(position.version());
+            }
+            case OrdersExpired expired -> {
+                buffer.put(TYPE_ORDERS_EXPIRED);
+                buffer.putInt(expired.orders().size());
+                for (ExpiredOrder order : expired.orders()) {
+                    buffer.putLong(order.orderId());
+                    buffer.putLong(order.version());
+                }
+            }
+        }
+
+        int end = buffer.position();
+        int bodyStart = start + Integer.BYTES + Integer.BYTES;
+        buffer.putInt(start, end - bodyStart);
+        buffer.putInt(start + Integer.BYTES, checksum(buffer, bodyStart, end));
+    }
+
+    /**
+     * 버퍼의 현재 위치에서 레코드 하나를 읽는다.
+     * 남은 바이트가 모자라거나 CRC가 맞지 않으면(쓰다 만 레코드) 위치를 그대로 두고 null을 반환한다.
+     */
+    public static SequencedEvent read(ByteBuffer buffer) {
+        int start = buffer.position();
+        if (buffer.remaining() < HEADER_SIZE) {
+            return null;
+        }
+        int length = buffer.getInt(start);
+        int crc = buffer.getInt(start + Integer.BYTES);
+        int bodyStart = start + Integer.BYTES + Integer.BYTES;
+        if (length < Long.BYTES + Byte.BYTES || length > buffer.limit() - bodyStart
+                || checksum(buffer, bodyStart, bodyStart + length) != crc) {
+            return null;
+        }
+
+        ByteBuffer record = buffer.slice(bodyStart, length);
+        try {
+            SequencedEvent event = new SequencedEvent(record.getLong(), readEvent(record));
+            buffer.position(bodyStart + length);
+            return event;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+
+    private static OrderEvent readEvent(ByteBuffer record) {
+        byte type = record.get();
+        return switch (type) {
+            case TYPE_ORDER -> new OrderChanged(
+                    EVENT_TYPES[record.get()],
+                    record.getLong(),
+                    record.getLong(),
+                    getString(record),
+                    SIDES[record.get()],
+                    ORDER_TYPES[record.get()],
+                    TIFS[record.get()],
+                    record.getLong(),
+                    record.getLong(),
+                    record.getLong(),
+                    record.getLong(),
+                    STATUSES[record.get()],
+                    record.getLong(),
+                    Instant.ofEpochSecond(record.getLong(), record.getInt())
+            );
+            case TYPE_HOLD -> new HoldChanged(
+                    record.getLong(),
+                    record.getLong(),
+                    record.getLong(),
+                    HOLD_TYPES[record.get()],
+                    record.getLong(),
+                    record.getLong(),
+                    record.getLong()
+            );
+            case TYPE_CASH -> new CashChanged(record.getLong(), record.getLong(), record.getLong(), record.getLong());
+            case TYPE_POSITION -> new PositionChanged(
+                    record.getLong(),
+                    getString(record),
+                    record.getLong(),
+                    record.getLong(),
+                    record.getLong(),
+                    record.getLong()
+            );
+            case TYPE_ORDERS_EXPIRED -> {
+                int count = record.getInt();
+                List<ExpiredOrder> orders = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    orders.add(new ExpiredOrder(record.getLong(), record.getLong()));
+                }
+                yield new OrdersExpired(orders);
+            }
+            default -> throw new IndexOutOfBoundsException("Unknown order event type: " + type);
+        };
+    }
+
+    private static int stringSize(String value) {
+        return Short.BYTES + value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static void putString(ByteBuffer buffer, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int checksum(ByteBuffer buffer, int from, int to) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(buffer.slice(from, to - from));
+        return (int) crc32.getValue();
+    }
+}
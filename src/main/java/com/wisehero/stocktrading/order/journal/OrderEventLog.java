@@ -0,0 +1,333 @@
+package com.wisehero.stocktrading.order.journal;
+
+import com.wisehero.stocktrading.order.journal.OrderEventCodec.SequencedEvent;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 주문 이벤트를 순번대로 이어 쓰는 로컬 세그먼트 로그와 스냅샷 파일.
+ * <p>
+ * 세그먼트 파일 이름은 첫 레코드 순번({@code events-<순번>.log})이고 크기가 넘으면 다음 파일로 넘어간다.
+ * 스냅샷({@code snapshot-<순번>.snap})은 그 순번까지 반영된 상태를 같은 레코드 형식으로 담으며,
+ * 스냅샷 이전 레코드만 담은 세그먼트는 지운다.
+ * <p>
+ * 정상 종료 때만 마지막 순번을 담은 표식 파일을 남긴다. 기동 시 표식을 읽자마자 지우므로,
+ * 표식이 없으면 직전 프로세스가 비정상 종료해 로그 끝이 유실됐을 수 있다는 뜻이다.
+ * <p>
+ * append/roll/close는 호출자가 직렬화해야 한다. 스냅샷 쓰기와 오래된 세그먼트 삭제는 기록과 동시에 불러도 된다.
+ */
+public final class OrderEventLog implements AutoCloseable {
+
+    private static final String SEGMENT_PREFIX = "events-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".snap";
+    private static final String CLEAN_MARKER = "clean-shutdown";
+    private static final int SNAPSHOT_MAGIC = 0x4F455653;
+    private static final int SNAPSHOT_HEADER_SIZE = Integer.BYTES + Long.BYTES + Integer.BYTES;
+
+    private final Path directory;
+    private final long segmentSize;
+
+    private ByteBuffer writeBuffer = ByteBuffer.allocate(64 * 1024);
+    private FileChannel active;
+    private long activeSize;
+    private long lastSequence;
+
+    public OrderEventLog(Path directory, long segmentSize) {
+        if (segmentSize < 4096) {
+            throw new IllegalArgumentException("segmentSize is too small");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create order journal directory: " + directory, e);
+        }
+    }
+
+    /** 정상 종료 표식의 순번을 읽고 표식을 지운다. 표식이 없으면 -1. */
+    public long consumeCleanMarker() {
+        Path marker = directory.resolve(CLEAN_MARKER);
+        try {
+            if (!Files.exists(marker)) {
+                return -1;
+            }
+            long sequence = Long.parseLong(Files.readString(marker, StandardCharsets.US_ASCII).trim());
+            Files.delete(marker);
+            return sequence;
+        } catch (NumberFormatException e) {
+            deleteQuietly(marker);
+            return -1;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read order journal marker", e);
+        }
+    }
+
+    /**
+     * {@code afterSequence} 다음 레코드부터 순서대로 재생하고 마지막으로 재생한 순번을 반환한다.
+     * 쓰다 만 레코드나 순번이 끊긴 곳을 만나면 그 앞에서 멈춘다.
+     */
+    public long replay(long afterSequence, Consumer<SequencedEvent> consumer) {
+        long expected = afterSequence + 1;
+        List<Path> segments = list(SEGMENT_PREFIX, SEGMENT_SUFFIX);
+        for (int i = 0; i < segments.size(); i++) {
+            // 다음 세그먼트가 기대 순번 이하에서 시작하면 이 세그먼트는 이미 스냅샷에 반영됐다.
+            if (i + 1 < segments.size() && firstSequence(segments.get(i + 1), SEGMENT_PREFIX, SEGMENT_SUFFIX) <= expected) {
+                continue;
+            }
+            Path segment = segments.get(i);
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                SequencedEvent event;
+                while ((event = OrderEventCodec.read(buffer)) != null) {
+                    if (event.sequence() < expected) {
+                        continue;
+                    }
+                    if (event.sequence() != expected) {
+                        return expected - 1;
+                    }
+                    consumer.accept(event);
+                    expected++;
+                }
+                if (buffer.hasRemaining()) {
+                    return expected - 1;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to replay order journal segment: " + segment, e);
+            }
+        }
+        return expected - 1;
+    }
+
+    /** {@code lastSequence} 다음 순번부터 새 세그먼트에 기록을 시작한다. */
+    public void start(long lastSequence) {
+        this.lastSequence = lastSequence;
+        roll();
+    }
+
+    /** 이벤트에 순번을 붙여 기록하고 마지막 순번을 반환한다. fsync는 하지 않는다. */
+    public long append(List<OrderEvent> events) {
+        int size = 0;
+        for (OrderEvent event : events) {
+            size += OrderEventCodec.maxRecordSize(event);
+        }
+        if (writeBuffer.capacity() < size) {
+            writeBuffer = ByteBuffer.allocate(Math.max(size, writeBuffer.capacity() * 2));
+        }
+
+        writeBuffer.clear();
+        long sequence = lastSequence;
+        for (OrderEvent event : events) {
+            OrderEventCodec.write(writeBuffer, ++sequence, event);
+        }
+        writeBuffer.flip();
+        try {
+            while (writeBuffer.hasRemaining()) {
+                activeSize += active.write(writeBuffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append order journal", e);
+        }
+
+        lastSequence = sequence;
+        if (activeSize >= segmentSize) {
+            roll();
+        }
+        return sequence;
+    }
+
+    public long lastSequence() {
+        return lastSequence;
+    }
+
+    /** 현재 세그먼트를 닫고 다음 순번부터 새 세그먼트를 연다. */
+    public void roll() {
+        closeActive();
+        Path segment = directory.resolve(SEGMENT_PREFIX + "%020d".formatted(lastSequence + 1) + SEGMENT_SUFFIX);
+        try {
+            active = FileChannel.open(
+                    segment,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE
+            );
+            activeSize = 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open order journal segment: " + segment, e);
+        }
+    }
+
+    /** {@code sequence}까지 반영된 상태를 스냅샷으로 남기고, 그 이전 스냅샷과 세그먼트를 지운다. */
+    public void writeSnapshot(long sequence, List<OrderEvent> state) {
+        int size = SNAPSHOT_HEADER_SIZE;
+        for (OrderEvent event : state) {
+            size += OrderEventCodec.maxRecordSize(event);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(SNAPSHOT_MAGIC);
+        buffer.putLong(sequence);
+        buffer.putInt(state.size());
+        for (OrderEvent event : state) {
+            OrderEventCodec.write(buffer, sequence, event);
+        }
+        buffer.flip();
+
+        String name = SNAPSHOT_PREFIX + "%020d".formatted(sequence) + SNAPSHOT_SUFFIX;
+        Path temp = directory.resolve(name + ".tmp");
+        try (FileChannel channel = FileChannel.open(
+                temp,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE
+        )) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write order journal snapshot", e);
+        }
+
+        Path snapshot = directory.resolve(name);
+        try {
+            Files.move(temp, snapshot, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to publish order journal snapshot", e);
+        }
+
+        for (Path older : list(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX)) {
+            if (firstSequence(older, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX) < sequence) {
+                deleteQuietly(older);
+            }
+        }
+        deleteSegmentsThrough(sequence);
+    }
+
+    /** 읽을 수 있는 가장 최근 스냅샷. 없으면 null. */
+    public Snapshot readLatestSnapshot() {
+        List<Path> snapshots = list(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+        for (int i = snapshots.size() - 1; i >= 0; i--) {
+            Snapshot snapshot = readSnapshot(snapshots.get(i));
+            if (snapshot != null) {
+                return snapshot;
+            }
+        }
+        return null;
+    }
+
+    /** 세그먼트와 스냅샷을 모두 지우고 {@code lastSequence} 다음부터 새로 기록한다. */
+    public void reset(long lastSequence) {
+        closeActive();
+        list(SEGMENT_PREFIX, SEGMENT_SUFFIX).forEach(OrderEventLog::deleteQuietly);
+        list(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX).forEach(OrderEventLog::deleteQuietly);
+        start(lastSequence);
+    }
+
+    /** 기록 중인 세그먼트를 디스크에 내리고 닫는다. {@code clean}이면 정상 종료 표식을 남긴다. */
+    public void close(boolean clean) {
+        closeActive();
+        if (!clean) {
+            return;
+        }
+        try {
+            Files.writeString(directory.resolve(CLEAN_MARKER), Long.toString(lastSequence), StandardCharsets.US_ASCII);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write order journal marker", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        close(false);
+    }
+
+    private Snapshot readSnapshot(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < SNAPSHOT_HEADER_SIZE || buffer.getInt() != SNAPSHOT_MAGIC) {
+                return null;
+            }
+            long sequence = buffer.getLong();
+            int count = buffer.getInt();
+            List<OrderEvent> events = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                SequencedEvent event = OrderEventCodec.read(buffer);
+                if (event == null) {
+                    return null;
+                }
+                events.add(event.event());
+            }
+            return new Snapshot(sequence, events);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void deleteSegmentsThrough(long sequence) {
+        List<Path> segments = list(SEGMENT_PREFIX, SEGMENT_SUFFIX);
+        for (int i = 0; i + 1 < segments.size(); i++) {
+            if (firstSequence(segments.get(i + 1), SEGMENT_PREFIX, SEGMENT_SUFFIX) - 1 <= sequence) {
+                deleteQuietly(segments.get(i));
+            }
+        }
+    }
+
+    private void closeActive() {
+        if (active == null) {
+            return;
+        }
+        try {
+            active.force(false);
+            active.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close order journal segment", e);
+        } finally {
+            active = null;
+        }
+    }
+
+    private List<Path> list(String prefix, String suffix) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(prefix) && name.endsWith(suffix);
+                    })
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list order journal directory: " + directory, e);
+        }
+    }
+
+    private static long firstSequence(Path path, String prefix, String suffix) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length()));
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // 다음 스냅샷 때 다시 지운다.
+        }
+    }
+
+    /** 스냅샷 순번과 그 시점의 상태 이벤트. */
+    public record Snapshot(long sequence, List<OrderEvent> events) {
+    }
+}
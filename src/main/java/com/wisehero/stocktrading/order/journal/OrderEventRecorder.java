@@ -0,0 +1,164 @@
+package com.wisehero.stocktrading.order.journal;
+
+import com.wisehero.stocktrading.account.domain.CashBalance;
+import com.wisehero.stocktrading.account.domain.Position;
+import com.wisehero.stocktrading.order.domain.Order;
+import com.wisehero.stocktrading.order.domain.OrderHold;
+import com.wisehero.stocktrading.order.journal.OrderEvent.CashChanged;
+import com.wisehero.stocktrading.order.journal.OrderEvent.ExpiredOrder;
+import com.wisehero.stocktrading.order.journal.OrderEvent.HoldChanged;
+import com.wisehero.stocktrading.order.journal.OrderEvent.OrderChanged;
+import com.wisehero.stocktrading.order.journal.OrderEvent.OrdersExpired;
+import com.wisehero.stocktrading.order.journal.OrderEvent.PositionChanged;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 주문/선점/잔고/포지션 엔티티의 INSERT/UPDATE를 Hibernate 이벤트로 받아 주문 이벤트로 바꾼다.
+ * <p>
+ * 이벤트는 트랜잭션별로 모았다가 커밋된 뒤에만 {@link OrderStateJournal}에 넘기므로 롤백된 변경은 저널에 남지 않는다.
+ * 엔티티를 거치지 않는 일괄 UPDATE(DAY 만료)는 호출자가 {@link #recordExpired}, {@link #recordCash},
+ * {@link #recordPosition}으로 직접 남긴다.
+ */
+@Component
+public class OrderEventRecorder implements PostInsertEventListener, PostUpdateEventListener {
+
+    private static final Set<String> AMEND_PROPERTIES = Set.of("limitPrice", "quantity");
+    private static final String FILL_PROPERTY = "filledQuantity";
+
+    private final OrderStateJournal journal;
+
+    public OrderEventRecorder(OrderStateJournal journal, EntityManagerFactory entityManagerFactory) {
+        this.journal = journal;
+        if (journal.isEnabled()) {
+            EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                    .getServiceRegistry()
+                    .getService(EventListenerRegistry.class);
+            registry.appendListeners(EventType.POST_INSERT, this);
+            registry.appendListeners(EventType.POST_UPDATE, this);
+        }
+    }
+
+    public boolean isEnabled() {
+        return journal.isEnabled();
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        OrderEvent orderEvent = toEvent(event.getEntity(), null, null);
+        if (orderEvent != null) {
+            record(orderEvent);
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        OrderEvent orderEvent = toEvent(event.getEntity(), event.getPersister(), event.getDirtyProperties());
+        if (orderEvent != null) {
+            record(orderEvent);
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    /** 일괄 UPDATE로 만료될 주문을 남긴다. UPDATE가 버전을 1 올리므로 조회 시점 버전 + 1로 기록한다. */
+    public void recordExpired(Collection<Order> orders) {
+        List<ExpiredOrder> expiredOrders = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            expiredOrders.add(new ExpiredOrder(order.getId(), order.getVersion() + 1));
+        }
+        record(new OrdersExpired(expiredOrders));
+    }
+
+    /** 일괄 UPDATE 뒤 다시 읽은 현금 잔고를 남긴다. */
+    public void recordCash(CashBalance cashBalance) {
+        record(CashChanged.of(cashBalance));
+    }
+
+    /** 일괄 UPDATE 뒤 다시 읽은 포지션을 남긴다. */
+    public void recordPosition(Position position) {
+        record(PositionChanged.of(position));
+    }
+
+    private OrderEvent toEvent(Object entity, EntityPersister persister, int[] dirtyProperties) {
+        return switch (entity) {
+            case Order order -> OrderChanged.of(classify(order, persister, dirtyProperties), order);
+            case OrderHold hold -> HoldChanged.of(hold);
+            case CashBalance cashBalance -> CashChanged.of(cashBalance);
+            case Position position -> PositionChanged.of(position);
+            default -> null;
+        };
+    }
+
+    /** 체결 없이 가격/수량만 바뀐 미체결 주문은 정정으로, 나머지는 변경 후 상태로 구분한다. */
+    private static OrderEventType classify(Order order, EntityPersister persister, int[] dirtyProperties) {
+        OrderEventType type = OrderEventType.of(order.getStatus());
+        if (persister == null || dirtyProperties == null || !order.isOpen()) {
+            return type;
+        }
+
+        String[] propertyNames = persister.getPropertyNames();
+        boolean amended = false;
+        for (int index : dirtyProperties) {
+            String propertyName = propertyNames[index];
+            if (FILL_PROPERTY.equals(propertyName)) {
+                return type;
+            }
+            amended |= AMEND_PROPERTIES.contains(propertyName);
+        }
+        return amended ? OrderEventType.AMENDED : type;
+    }
+
+    private void record(OrderEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            journal.publish(List.of(event));
+            return;
+        }
+        pendingEvents().add(event);
+    }
+
+    private List<OrderEvent> pendingEvents() {
+        @SuppressWarnings("unchecked")
+        List<OrderEvent> pending = (List<OrderEvent>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new PendingEventSynchronization(pending));
+        }
+        return pending;
+    }
+
+    private final class PendingEventSynchronization implements TransactionSynchronization {
+
+        private final List<OrderEvent> pending;
+
+        private PendingEventSynchronization(List<OrderEvent> pending) {
+            this.pending = pending;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(OrderEventRecorder.this);
+            if (status == STATUS_COMMITTED) {
+                journal.publish(pending);
+            }
+        }
+    }
+}
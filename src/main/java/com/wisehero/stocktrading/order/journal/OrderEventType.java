@@ -0,0 +1,30 @@
+package com.wisehero.stocktrading.order.journal;
+
+import com.wisehero.stocktrading.order.domain.OrderStatus;
+
+/**
+ * 주문 변경 이벤트의 종류. 저널에는 순번(ordinal)으로 기록하므로 항목은 뒤에만 추가한다.
+ */
+public enum OrderEventType {
+    PENDING,
+    ACCEPTED,
+    FILLED,
+    AMENDED,
+    CANCEL_REQUESTED,
+    CANCELED,
+    EXPIRED,
+    REJECTED;
+
+    /** 변경 후 주문 상태에 대응하는 기본 이벤트 종류. 정정은 상태만으로 구분할 수 없어 기록 시점에 따로 판단한다. */
+    public static OrderEventType of(OrderStatus status) {
+        return switch (status) {
+            case PENDING_NEW -> PENDING;
+            case NEW -> ACCEPTED;
+            case PARTIALLY_FILLED, FILLED -> FILLED;
+            case PENDING_CANCEL -> CANCEL_REQUESTED;
+            case CANCELED -> CANCELED;
+            case EXPIRED -> EXPIRED;
+            case REJECTED -> REJECTED;
+        };
+    }
+}
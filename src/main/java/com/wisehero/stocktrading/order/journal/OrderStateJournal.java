@@ -0,0 +1,258 @@
+package com.wisehero.stocktrading.order.journal;
+
+import com.wisehero.stocktrading.account.repository.CashBalanceRepository;
+import com.wisehero.stocktrading.account.repository.PositionRepository;
+import com.wisehero.stocktrading.order.domain.Order;
+import com.wisehero.stocktrading.order.domain.OrderHold;
+import com.wisehero.stocktrading.order.domain.OrderStatus;
+import com.wisehero.stocktrading.order.domain.OrderTif;
+import com.wisehero.stocktrading.order.journal.OrderEvent.CashChanged;
+import com.wisehero.stocktrading.order.journal.OrderEvent.HoldChanged;
+import com.wisehero.stocktrading.order.journal.OrderEvent.OrderChanged;
+import com.wisehero.stocktrading.order.journal.OrderEvent.PositionChanged;
+import com.wisehero.stocktrading.order.journal.OrderEventLog.Snapshot;
+import com.wisehero.stocktrading.order.partition.OpenOrderWindow;
+import com.wisehero.stocktrading.order.repository.OrderHoldRepository;
+import com.wisehero.stocktrading.order.repository.OrderRepository;
+import jakarta.annotation.PreDestroy;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 커밋된 주문 이벤트를 로컬 로그({@link OrderEventLog})에 남기고 메모리 상태({@link OrderStateProjection})에 반영한다.
+ * <p>
+ * 저널은 DB에서 파생된 기록이고 원장은 여전히 DB다. 정상 종료 후 재기동하면 최근 스냅샷과 그 뒤 로그만 재생해
+ * 미체결 주문/선점/잔고를 복원하므로 주문 테이블을 다시 읽지 않는다. 정상 종료 표식이 없거나 로그가 표식과 맞지 않으면
+ * (비정상 종료, 기록 실패) DB에서 한 번 다시 적재하고 그 상태를 새 스냅샷으로 남긴다.
+ * <p>
+ * 같은 DB를 여러 노드가 갱신하면 로그에 다른 노드의 변경이 빠지므로, 그런 배포에서는 끈다.
+ */
+@Component
+public class OrderStateJournal implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderStateJournal.class);
+    private static final List<OrderStatus> OPEN_STATUSES = List.of(OrderStatus.NEW, OrderStatus.PARTIALLY_FILLED);
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    private final boolean enabled;
+    private final OrderRepository orderRepository;
+    private final OrderHoldRepository orderHoldRepository;
+    private final CashBalanceRepository cashBalanceRepository;
+    private final PositionRepository positionRepository;
+    private final OpenOrderWindow openOrderWindow;
+    private final TransactionTemplate readOnlyTransaction;
+    private final OrderEventLog eventLog;
+    private final OrderStateProjection projection = new OrderStateProjection();
+    // 로그 기록(파일 I/O)을 락 안에서 하므로, 가상 스레드가 캐리어를 붙잡지 않도록 모니터 대신 ReentrantLock을 쓴다.
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private boolean recovered;
+    private boolean failed;
+    private boolean closed;
+    private long lastSnapshotSequence = -1;
+
+    public OrderStateJournal(
+            OrderRepository orderRepository,
+            OrderHoldRepository orderHoldRepository,
+            CashBalanceRepository cashBalanceRepository,
+            PositionRepository positionRepository,
+            OpenOrderWindow openOrderWindow,
+            PlatformTransactionManager transactionManager,
+            @Value("${trading.order-journal.enabled:false}") boolean enabled,
+            @Value("${trading.order-journal.directory:./data/order-journal}") String directory,
+            @Value("${trading.order-journal.segment-size:64MB}") DataSize segmentSize
+    ) {
+        this.enabled = enabled;
+        this.orderRepository = orderRepository;
+        this.orderHoldRepository = orderHoldRepository;
+        this.cashBalanceRepository = cashBalanceRepository;
+        this.positionRepository = positionRepository;
+        this.openOrderWindow = openOrderWindow;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.eventLog = enabled ? new OrderEventLog(Path.of(directory), segmentSize.toBytes()) : null;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            return;
+        }
+        lock.lock();
+        try {
+            recover();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** 복원된 미체결 주문을 접수 순서대로 반환한다. 저널이 꺼져 있으면 비어 있다. */
+    public Optional<List<OrderChanged>> openOrders() {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        lock.lock();
+        try {
+            recover();
+            return Optional.of(projection.openOrders());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 한 트랜잭션에서 커밋된 이벤트를 순서대로 기록하고 메모리 상태에 반영한다. */
+    void publish(List<OrderEvent> events) {
+        if (!enabled || events.isEmpty()) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (failed || closed) {
+                // 빠진 이벤트가 생겼으므로 다음 기동은 DB에서 다시 적재해야 한다.
+                eventLog.consumeCleanMarker();
+                return;
+            }
+            try {
+                recover();
+                eventLog.append(events);
+                events.forEach(projection::apply);
+            } catch (RuntimeException e) {
+                failed = true;
+                log.error("주문 저널 기록 실패 - 이후 기록을 중단하고 다음 기동 때 DB에서 복원한다", e);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 현재 상태를 스냅샷으로 남기고 그 이전 로그 세그먼트를 정리한다. */
+    @Scheduled(
+            fixedDelayString = "${trading.order-journal.snapshot-interval:PT5M}",
+            initialDelayString = "${trading.order-journal.snapshot-interval:PT5M}"
+    )
+    public void snapshot() {
+        if (!enabled) {
+            return;
+        }
+        long sequence;
+        List<OrderEvent> state;
+        lock.lock();
+        try {
+            if (!recovered || failed || closed || eventLog.lastSequence() == lastSnapshotSequence) {
+                return;
+            }
+            eventLog.roll();
+            sequence = eventLog.lastSequence();
+            state = projection.snapshot();
+            lastSnapshotSequence = sequence;
+        } finally {
+            lock.unlock();
+        }
+        eventLog.writeSnapshot(sequence, state);
+        log.debug("주문 저널 스냅샷 - 순번: {}, 항목 수: {}", sequence, state.size());
+    }
+
+    /** 마지막 스냅샷을 남기고 정상 종료 표식을 기록한다. 기록에 실패한 적이 있으면 표식을 남기지 않는다. */
+    @PreDestroy
+    public void close() {
+        if (!enabled) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            boolean clean = recovered && !failed;
+            if (clean && eventLog.lastSequence() != lastSnapshotSequence) {
+                eventLog.roll();
+                eventLog.writeSnapshot(eventLog.lastSequence(), projection.snapshot());
+            }
+            eventLog.close(clean);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 호출자가 {@link #lock}을 잡고 부른다. */
+    private void recover() {
+        if (recovered) {
+            return;
+        }
+
+        long cleanSequence = eventLog.consumeCleanMarker();
+        Snapshot snapshot = cleanSequence >= 0 ? eventLog.readLatestSnapshot() : null;
+        if (snapshot != null) {
+            snapshot.events().forEach(projection::apply);
+            int[] replayed = new int[1];
+            long lastSequence = eventLog.replay(snapshot.sequence(), event -> {
+                projection.apply(event.event());
+                replayed[0]++;
+            });
+            if (lastSequence == cleanSequence) {
+                eventLog.start(lastSequence);
+                lastSnapshotSequence = snapshot.sequence();
+                recovered = true;
+                log.info(
+                        "주문 저널 복원 완료 - 스냅샷 순번: {}, 재생 이벤트: {}, 주문 수: {}",
+                        snapshot.sequence(),
+                        replayed[0],
+                        projection.orderCount()
+                );
+                return;
+            }
+            log.warn("주문 저널이 정상 종료 표식({})과 맞지 않아 DB에서 다시 적재한다 - 재생 끝 순번: {}", cleanSequence, lastSequence);
+            projection.clear();
+        }
+
+        loadFromDatabase();
+        eventLog.reset(0);
+        eventLog.writeSnapshot(0, projection.snapshot());
+        lastSnapshotSequence = 0;
+        recovered = true;
+        log.info("주문 저널을 DB에서 적재 완료 - 주문 수: {}", projection.orderCount());
+    }
+
+    /** 미체결 주문은 DAY 주문뿐이다(IOC/FOK는 접수 트랜잭션 안에서 종료된다). */
+    private void loadFromDatabase() {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            List<Order> openOrders = openOrderWindow.since()
+                    .map(since -> orderRepository.findByTifAndStatusInAndTradeDateGreaterThanEqualOrderByCreatedAtAscIdAsc(
+                            OrderTif.DAY,
+                            OPEN_STATUSES,
+                            since
+                    ))
+                    .orElseGet(() -> orderRepository.findByTifAndStatusInOrderByCreatedAtAscIdAsc(OrderTif.DAY, OPEN_STATUSES));
+            for (Order order : openOrders) {
+                projection.apply(OrderChanged.of(OrderEventType.of(order.getStatus()), order));
+            }
+            for (int from = 0; from < openOrders.size(); from += LOAD_CHUNK_SIZE) {
+                List<Long> orderIds = openOrders.subList(from, Math.min(from + LOAD_CHUNK_SIZE, openOrders.size()))
+                        .stream()
+                        .map(Order::getId)
+                        .toList();
+                for (OrderHold hold : orderHoldRepository.findByOrderIdIn(orderIds)) {
+                    projection.apply(HoldChanged.of(hold));
+                }
+            }
+            cashBalanceRepository.findAll().forEach(cash -> projection.apply(CashChanged.of(cash)));
+            positionRepository.findAll().forEach(position -> projection.apply(PositionChanged.of(position)));
+        });
+    }
+}
@@ -0,0 +1,122 @@
+package com.wisehero.stocktrading.order.journal;
+
+import com.wisehero.stocktrading.account.domain.PositionId;
+import com.wisehero.stocktrading.order.journal.OrderEvent.CashChanged;
+import com.wisehero.stocktrading.order.journal.OrderEvent.ExpiredOrder;
+import com.wisehero.stocktrading.order.journal.OrderEvent.HoldChanged;
+import com.wisehero.stocktrading.order.journal.OrderEvent.OrderChanged;
+import com.wisehero.stocktrading.order.journal.OrderEvent.OrdersExpired;
+import com.wisehero.stocktrading.order.journal.OrderEvent.PositionChanged;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 이벤트를 적용해 만든 메모리 상태: 주문, 미체결 주문의 선점, 현금 잔고, 포지션.
+ * <p>
+ * 주문/잔고/포지션은 버전이 더 큰 이벤트만 반영한다. 종료된 주문은 늦게 도착한 이전 버전 이벤트가
+ * 되살리지 못하도록 {@link #compact()} 전까지 남겨 두고, 스냅샷에는 미체결 주문과 그 선점만 담는다.
+ * <p>
+ * 스레드 안전하지 않다. 호출자가 직렬화한다.
+ */
+public class OrderStateProjection {
+
+    private static final Comparator<OrderChanged> ACCEPTANCE_ORDER = Comparator
+            .comparing(OrderChanged::createdAt)
+            .thenComparingLong(OrderChanged::orderId);
+
+    private final Map<Long, OrderChanged> orders = new HashMap<>();
+    private final Map<Long, HoldChanged> holds = new HashMap<>();
+    private final Map<Long, CashChanged> cashBalances = new HashMap<>();
+    private final Map<PositionId, PositionChanged> positions = new HashMap<>();
+
+    public void apply(OrderEvent event) {
+        switch (event) {
+            case OrderChanged order -> {
+                OrderChanged current = orders.get(order.orderId());
+                if (current == null || current.version() < order.version()) {
+                    orders.put(order.orderId(), order);
+                }
+            }
+            case HoldChanged hold -> holds.put(hold.holdId(), hold);
+            case CashChanged cash -> {
+                CashChanged current = cashBalances.get(cash.accountId());
+                if (current == null || current.version() < cash.version()) {
+                    cashBalances.put(cash.accountId(), cash);
+                }
+            }
+            case PositionChanged position -> {
+                PositionId id = new PositionId(position.accountId(), position.symbol());
+                PositionChanged current = positions.get(id);
+                if (current == null || current.version() < position.version()) {
+                    positions.put(id, position);
+                }
+            }
+            case OrdersExpired expired -> {
+                for (ExpiredOrder expiredOrder : expired.orders()) {
+                    OrderChanged current = orders.get(expiredOrder.orderId());
+                    if (current != null && current.version() < expiredOrder.version()) {
+                        orders.put(expiredOrder.orderId(), current.expired(expiredOrder.version()));
+                    }
+                }
+            }
+        }
+    }
+
+    /** 종료된 주문과 그 선점을 버린다. */
+    public void compact() {
+        orders.values().removeIf(order -> order.status().isTerminal());
+        holds.values().removeIf(hold -> {
+            OrderChanged order = orders.get(hold.orderId());
+            return order == null || order.status().isTerminal();
+        });
+    }
+
+    /** 종료 주문을 정리한 뒤 현재 상태를 스냅샷용 이벤트 목록으로 반환한다. */
+    public List<OrderEvent> snapshot() {
+        compact();
+        List<OrderEvent> events = new ArrayList<>(orders.size() + holds.size() + cashBalances.size() + positions.size());
+        events.addAll(orders.values());
+        events.addAll(holds.values());
+        events.addAll(cashBalances.values());
+        events.addAll(positions.values());
+        return events;
+    }
+
+    /** 미체결 주문을 접수 순서(생성 시각, ID)로 반환한다. */
+    public List<OrderChanged> openOrders() {
+        return orders.values().stream()
+                .filter(order -> order.status().isOpen())
+                .sorted(ACCEPTANCE_ORDER)
+                .toList();
+    }
+
+    public OrderChanged findOrder(long orderId) {
+        return orders.get(orderId);
+    }
+
+    public HoldChanged findHold(long holdId) {
+        return holds.get(holdId);
+    }
+
+    public CashChanged findCash(long accountId) {
+        return cashBalances.get(accountId);
+    }
+
+    public PositionChanged findPosition(long accountId, String symbol) {
+        return positions.get(new PositionId(accountId, symbol));
+    }
+
+    public int orderCount() {
+        return orders.size();
+    }
+
+    public void clear() {
+        orders.clear();
+        holds.clear();
+        cashBalances.clear();
+        positions.clear();
+    }
+}
@@ -0,0 +1,68 @@
+package com.wisehero.stocktrading.order.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 아웃박스 묶음을 로컬 파일에 JSON 한 줄씩 이어 쓴다. 묶음마다 flush하고, {@code fsync=true}면 디스크까지 내린다.
+ */
+@Component
+@ConditionalOnProperty(name = "trading.outbox.file.enabled", havingValue = "true")
+public class FileOutboxSink implements OutboxSink {
+
+    private final ObjectMapper objectMapper;
+    private final Path path;
+    private final boolean fsync;
+    private final FileChannel channel;
+    private final BufferedWriter writer;
+
+    public FileOutboxSink(
+            ObjectMapper objectMapper,
+            @Value("${trading.outbox.file.path:./data/outbox.jsonl}") Path path,
+            @Value("${trading.outbox.file.fsync:false}") boolean fsync
+    ) throws IOException {
+        this.objectMapper = objectMapper;
+        this.path = path;
+        this.fsync = fsync;
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        this.writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        try {
+            for (OutboxMessage message : messages) {
+                writer.write(objectMapper.writeValueAsString(message));
+                writer.newLine();
+            }
+            writer.flush();
+            if (fsync) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write outbox file: " + path, e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,31 @@
+package com.wisehero.stocktrading.order.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.wisehero.stocktrading.order.domain.OutboxEvent;
+import com.wisehero.stocktrading.order.domain.OutboxEventType;
+import java.time.Instant;
+
+/**
+ * 싱크로 넘기는 아웃박스 이벤트. {@code id}는 이벤트마다 유일하므로 소비자는 이것으로 중복을 거른다.
+ * 파일/소켓 싱크는 {@code payload}를 문자열이 아닌 JSON 객체로 그대로 싣는다.
+ */
+public record OutboxMessage(
+        long id,
+        OutboxEventType type,
+        long accountId,
+        long orderId,
+        Instant createdAt,
+        @JsonRawValue String payload
+) {
+
+    public static OutboxMessage from(OutboxEvent event) {
+        return new OutboxMessage(
+                event.getId(),
+                event.getEventType(),
+                event.getAccountId(),
+                event.getOrderId(),
+                event.getCreatedAt(),
+                event.getPayload()
+        );
+    }
+}
@@ -0,0 +1,159 @@
+package com.wisehero.stocktrading.order.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wisehero.stocktrading.order.api.dto.FillEvent;
+import com.wisehero.stocktrading.order.api.dto.OrderUpdateEvent;
+import com.wisehero.stocktrading.order.domain.Fill;
+import com.wisehero.stocktrading.order.domain.Order;
+import com.wisehero.stocktrading.order.domain.OrderStatus;
+import com.wisehero.stocktrading.order.domain.OutboxEvent;
+import com.wisehero.stocktrading.order.domain.OutboxEventType;
+import com.wisehero.stocktrading.order.repository.OutboxEventRepository;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 주문 상태 변경과 체결을 같은 트랜잭션의 {@code outbox_events} 행으로 남긴다.
+ * <p>
+ * 트랜잭션 동안 모았다가 커밋 직전({@code beforeCommit})에 한 번에 저장하므로 JDBC 배치로 INSERT되고,
+ * 주문은 한 트랜잭션에서 여러 번 바뀌어도 최종 상태 한 건만 남는다. 순서는 주문, 체결, 일괄 만료이므로
+ * ID 순으로 읽는 소비자는 체결보다 그 주문을 먼저 본다.
+ * 롤백되면 주문/체결과 함께 사라진다. 내보내기는 {@link OutboxRelay}가 따로 한다.
+ */
+@Component
+public class OutboxRecorder {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final boolean enabled;
+
+    public OutboxRecorder(
+            OutboxEventRepository outboxEventRepository,
+            ObjectMapper objectMapper,
+            Clock clock,
+            @Value("${trading.outbox.enabled:true}") boolean enabled
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.enabled = enabled;
+    }
+
+    public void recordOrder(Order order) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            outboxEventRepository.save(orderEvent(OrderUpdateEvent.from(order), Instant.now(clock)));
+            return;
+        }
+        pendingEvents().orders.put(order.getId(), order);
+    }
+
+    public void recordFill(Order order, Fill fill) {
+        if (!enabled) {
+            return;
+        }
+        FillEvent event = FillEvent.of(order, fill);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            outboxEventRepository.save(fillEvent(event, Instant.now(clock)));
+            return;
+        }
+        pendingEvents().fills.add(event);
+    }
+
+    /** 엔티티를 거치지 않고 일괄 만료된 주문을 EXPIRED 상태로 남긴다. */
+    public void recordExpired(Collection<Order> orders, Instant expiredAt) {
+        if (!enabled) {
+            return;
+        }
+        List<OrderUpdateEvent> events = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            events.add(OrderUpdateEvent.of(order, OrderStatus.EXPIRED, expiredAt));
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Instant now = Instant.now(clock);
+            outboxEventRepository.saveAll(events.stream().map(event -> orderEvent(event, now)).toList());
+            return;
+        }
+        pendingEvents().expired.addAll(events);
+    }
+
+    private PendingEvents pendingEvents() {
+        PendingEvents pending = (PendingEvents) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingEvents();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new PendingEventSynchronization(pending));
+        }
+        return pending;
+    }
+
+    private OutboxEvent orderEvent(OrderUpdateEvent event, Instant now) {
+        return OutboxEvent.create(OutboxEventType.ORDER, event.accountId(), event.orderId(), toJson(event), now);
+    }
+
+    private OutboxEvent fillEvent(FillEvent event, Instant now) {
+        return OutboxEvent.create(OutboxEventType.FILL, event.accountId(), event.orderId(), toJson(event), now);
+    }
+
+    private String toJson(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize outbox event: " + event, e);
+        }
+    }
+
+    private static final class PendingEvents {
+
+        private final List<FillEvent> fills = new ArrayList<>();
+        private final Map<Long, Order> orders = new LinkedHashMap<>();
+        private final List<OrderUpdateEvent> expired = new ArrayList<>();
+    }
+
+    private final class PendingEventSynchronization implements TransactionSynchronization {
+
+        private final PendingEvents pending;
+
+        private PendingEventSynchronization(PendingEvents pending) {
+            this.pending = pending;
+        }
+
+        /** 주문의 갱신 시각은 flush 때 찍히므로 먼저 flush하고 최종 상태를 변환한다. */
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (!pending.orders.isEmpty()) {
+                outboxEventRepository.flush();
+            }
+            Instant now = Instant.now(clock);
+            List<OutboxEvent> events = new ArrayList<>(pending.fills.size() + pending.orders.size() + pending.expired.size());
+            for (Order order : pending.orders.values()) {
+                events.add(orderEvent(OrderUpdateEvent.from(order), now));
+            }
+            for (FillEvent fill : pending.fills) {
+                events.add(fillEvent(fill, now));
+            }
+            for (OrderUpdateEvent expired : pending.expired) {
+                events.add(orderEvent(expired, now));
+            }
+            outboxEventRepository.saveAll(events);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(OutboxRecorder.this);
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.wisehero.stocktrading.order.outbox;
+
+import com.wisehero.stocktrading.order.domain.OutboxDeadLetter;
+import com.wisehero.stocktrading.order.domain.OutboxEvent;
+import com.wisehero.stocktrading.order.repository.OutboxDeadLetterRepository;
+import com.wisehero.stocktrading.order.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * {@code outbox_events}를 ID 순으로 {@code batch-size}개씩 읽어 모든 {@link OutboxSink}에 넘기고 지운다.
+ * <p>
+ * 시퀀스 ID는 커밋 순서와 다를 수 있으므로 커서를 두지 않고 매번 남은 행의 앞부분을 읽는다. 늦게 커밋된 작은 ID도
+ * 다음 묶음에서 빠지지 않는다. 싱크가 실패하면 같은 묶음을 지우지 않고 다시 넘긴다(최소 한 번 전달).
+ * <p>
+ * {@code max-attempts}번 연속 실패하면 묶음을 반씩 나눠 한 번씩 다시 보내, 혼자서도 실패하는 이벤트만
+ * {@code outbox_dead_letters}로 옮기고 나머지는 그대로 지운다. 나눠 보낸 조각이 하나도 전달되지 않으면
+ * 이벤트가 아니라 싱크 장애로 보고 옮기지 않은 채 계속 재시도한다.
+ * 묶음이 가득 차면 쉬지 않고 다음 묶음을 읽고, 비어 있거나 덜 찼으면 {@code poll-interval}만큼 기다린다.
+ * <p>
+ * 여러 노드에서 켜면 같은 행을 중복으로 내보낼 수 있다. 소비자는 {@link OutboxMessage#id()}로 거른다.
+ */
+@Component
+@ConditionalOnProperty(name = "trading.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+    private static final long MAX_RETRY_BACKOFF_MILLIS = 5_000L;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxDeadLetterRepository outboxDeadLetterRepository;
+    private final ObjectProvider<OutboxSink> sinkProvider;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long pollIntervalMillis;
+    private final Counter publishedCounter;
+    private final Counter failureCounter;
+    private final Counter deadLetterCounter;
+    private final Timer lagTimer;
+    private final Thread relayThread;
+    private List<OutboxSink> sinks = List.of();
+    private volatile boolean running = true;
+
+    public OutboxRelay(
+            OutboxEventRepository outboxEventRepository,
+            OutboxDeadLetterRepository outboxDeadLetterRepository,
+            ObjectProvider<OutboxSink> sinkProvider,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            Clock clock,
+            @Value("${trading.outbox.batch-size:1000}") int batchSize,
+            @Value("${trading.outbox.poll-interval:100ms}") Duration pollInterval,
+            @Value("${trading.outbox.max-attempts:10}") int maxAttempts
+    ) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("trading.outbox.batch-size must be positive");
+        }
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("trading.outbox.max-attempts must be positive");
+        }
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxDeadLetterRepository = outboxDeadLetterRepository;
+        this.sinkProvider = sinkProvider;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.pollIntervalMillis = Math.max(1L, pollInterval.toMillis());
+        this.publishedCounter = Counter.builder("trading.outbox.published")
+                .description("싱크로 내보낸 아웃박스 이벤트 수")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("trading.outbox.failures")
+                .description("싱크 실패로 다시 내보낸 아웃박스 묶음 수")
+                .register(meterRegistry);
+        this.deadLetterCounter = Counter.builder("trading.outbox.dead.lettered")
+                .description("싱크가 끝내 받지 못해 outbox_dead_letters로 옮긴 아웃박스 이벤트 수")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("trading.outbox.lag")
+                .description("아웃박스 기록부터 싱크 전달까지 걸린 시간")
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .register(meterRegistry);
+
+        this.relayThread = new Thread(this::runRelay, "outbox-relay");
+        this.relayThread.setDaemon(true);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        sinks = sinkProvider.orderedStream().toList();
+        relayThread.start();
+        log.info("아웃박스 릴레이 시작 - 싱크: {}", sinks.stream().map(sink -> sink.getClass().getSimpleName()).toList());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        relayThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void runRelay() {
+        for (OutboxSink sink : sinks) {
+            try {
+                sink.start();
+            } catch (RuntimeException e) {
+                log.error("아웃박스 싱크 시작 실패 - {}", sink.getClass().getSimpleName(), e);
+            }
+        }
+        while (running) {
+            int relayed;
+            try {
+                relayed = relayBatch();
+            } catch (RuntimeException e) {
+                log.warn("아웃박스 조회/삭제 실패", e);
+                relayed = 0;
+            }
+            if (relayed < batchSize) {
+                sleepQuietly(pollIntervalMillis);
+            }
+        }
+    }
+
+    /** 한 묶음을 내보내고(격리한 이벤트는 옮기고) 지운 뒤 건수를 반환한다. 종료 중에 싱크가 계속 실패하면 지우지 않고 0을 반환한다. */
+    private int relayBatch() {
+        List<OutboxEvent> events = transactionTemplate.execute(status ->
+                outboxEventRepository.findByOrderByIdAsc(Limit.of(batchSize)));
+        if (events == null || events.isEmpty()) {
+            return 0;
+        }
+
+        List<OutboxMessage> messages = new ArrayList<>(events.size());
+        List<Long> ids = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            messages.add(OutboxMessage.from(event));
+            ids.add(event.getId());
+        }
+        Set<Long> poisonedIds = publishWithRetry(messages);
+        if (poisonedIds == null) {
+            return 0;
+        }
+
+        Instant now = clock.instant();
+        List<OutboxDeadLetter> deadLetters = new ArrayList<>(poisonedIds.size());
+        for (OutboxEvent event : events) {
+            if (poisonedIds.contains(event.getId())) {
+                deadLetters.add(OutboxDeadLetter.from(event, now));
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxDeadLetterRepository.saveAll(deadLetters);
+            outboxEventRepository.deleteAllByIdInBatch(ids);
+        });
+        publishedCounter.increment(messages.size() - deadLetters.size());
+        deadLetterCounter.increment(deadLetters.size());
+        for (OutboxMessage message : messages) {
+            if (!poisonedIds.contains(message.id())) {
+                lagTimer.record(Math.max(0L, now.toEpochMilli() - message.createdAt().toEpochMilli()), TimeUnit.MILLISECONDS);
+            }
+        }
+        return messages.size();
+    }
+
+    /**
+     * 묶음을 모든 싱크에 넘기고, 끝내 보내지 못해 격리할 이벤트 ID를 반환한다(모두 보냈으면 비어 있다).
+     * 종료 중에 싱크가 계속 실패하면 {@code null}.
+     */
+    private Set<Long> publishWithRetry(List<OutboxMessage> messages) {
+        for (int attempt = 0; ; attempt++) {
+            RuntimeException error = publish(messages);
+            if (error == null) {
+                return Set.of();
+            }
+            failureCounter.increment();
+            if (!running) {
+                log.error("아웃박스 전달 실패 - 다음 기동 시 다시 보낸다. 건수: {}", messages.size(), error);
+                return null;
+            }
+            if ((attempt + 1) % maxAttempts == 0 && messages.size() > 1) {
+                Set<Long> poisonedIds = new HashSet<>();
+                if (isolate(messages, poisonedIds)) {
+                    log.error("아웃박스 전달 {}회 실패 - 싱크가 받지 못한 이벤트를 격리한다. ID: {}", attempt + 1, poisonedIds, error);
+                    return poisonedIds;
+                }
+                // 한 조각도 보내지 못했으면 특정 이벤트가 아니라 싱크 장애다.
+            }
+            log.warn("아웃박스 전달 실패 - 재시도 {}회, 건수: {}", attempt + 1, messages.size(), error);
+            sleepQuietly(Math.min(MAX_RETRY_BACKOFF_MILLIS, 100L << Math.min(attempt, 6)));
+        }
+    }
+
+    /** 묶음을 반씩 나눠 한 번씩 보내고, 혼자서도 실패한 이벤트 ID를 모은다. 한 조각이라도 보냈으면 {@code true}. */
+    private boolean isolate(List<OutboxMessage> messages, Set<Long> poisonedIds) {
+        if (messages.size() == 1) {
+            poisonedIds.add(messages.get(0).id());
+            return false;
+        }
+        int middle = messages.size() / 2;
+        boolean delivered = false;
+        for (List<OutboxMessage> half : List.of(messages.subList(0, middle), messages.subList(middle, messages.size()))) {
+            if (publish(half) == null) {
+                delivered = true;
+            } else {
+                delivered |= isolate(half, poisonedIds);
+            }
+        }
+        return delivered;
+    }
+
+    /** 모든 싱크에 넘긴다. 실패하면 그 예외를 반환한다. */
+    private RuntimeException publish(List<OutboxMessage> messages) {
+        try {
+            for (OutboxSink sink : sinks) {
+                sink.publish(messages);
+            }
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.wisehero.stocktrading.order.outbox;
+
+import java.util.List;
+
+/**
+ * {@link OutboxRelay}가 아웃박스 묶음을 넘기는 대상. 이 타입의 빈은 모두 등록된 순서대로 같은 묶음을 받는다.
+ * <p>
+ * 예외를 던지면 릴레이가 같은 묶음을 모든 싱크에 다시 넘기므로(최소 한 번 전달), 소비자는 {@link OutboxMessage#id()}로 중복을 거른다.
+ * 릴레이 스레드 하나에서만 불린다.
+ */
+public interface OutboxSink {
+
+    /** 릴레이 스레드가 첫 묶음을 넘기기 전에 한 번 부른다. 실패해도 릴레이는 계속한다. */
+    default void start() {
+    }
+
+    void publish(List<OutboxMessage> messages);
+}
@@ -0,0 +1,86 @@
+package com.wisehero.stocktrading.order.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 아웃박스 묶음을 로컬 TCP 소비자에게 JSON 한 줄씩 보낸다.
+ * <p>
+ * 처음 보낼 때 연결하고, 쓰기에 실패하면 연결을 닫고 예외를 던져 릴레이가 다시 보내게 한다. 다음 시도에서 다시 연결한다.
+ */
+@Component
+@ConditionalOnProperty(name = "trading.outbox.socket.enabled", havingValue = "true")
+public class SocketOutboxSink implements OutboxSink {
+
+    private final ObjectMapper objectMapper;
+    private final InetSocketAddress address;
+    private final int connectTimeoutMillis;
+    private Socket socket;
+    private BufferedWriter writer;
+
+    public SocketOutboxSink(
+            ObjectMapper objectMapper,
+            @Value("${trading.outbox.socket.host:127.0.0.1}") String host,
+            @Value("${trading.outbox.socket.port:9300}") int port,
+            @Value("${trading.outbox.socket.connect-timeout:PT1S}") Duration connectTimeout
+    ) {
+        this.objectMapper = objectMapper;
+        this.address = new InetSocketAddress(host, port);
+        this.connectTimeoutMillis = Math.toIntExact(connectTimeout.toMillis());
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        try {
+            if (writer == null) {
+                connect();
+            }
+            for (OutboxMessage message : messages) {
+                writer.write(objectMapper.writeValueAsString(message));
+                writer.write('\n');
+            }
+            writer.flush();
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException("Failed to send outbox batch to " + address, e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        try {
+            if (socket != null) {
+                socket.close();
+            }
+        } catch (IOException ignored) {
+            // 다시 연결할 때 새 소켓을 연다.
+        }
+        socket = null;
+        writer = null;
+    }
+
+    private void connect() throws IOException {
+        Socket connected = new Socket();
+        try {
+            connected.setTcpNoDelay(true);
+            connected.connect(address, connectTimeoutMillis);
+        } catch (IOException e) {
+            connected.close();
+            throw e;
+        }
+        socket = connected;
+        writer = new BufferedWriter(new OutputStreamWriter(connected.getOutputStream(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,87 @@
+package com.wisehero.stocktrading.order.partition;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * MySQL 거래일 RANGE COLUMNS 파티션 DDL.
+ * <p>
+ * 파티션은 하루 하나이고 이름은 {@code pYYYYMMDD}, 상한은 다음 날이다. 첫 파티션은 하한이 없어 그 이전 행을 모두 담는다.
+ * {@code MAXVALUE} 파티션을 두지 않아야 {@code ADD PARTITION}으로 뒤에 이어 붙일 수 있으므로, 미리 만든 범위를 벗어난
+ * 거래일의 INSERT는 실패한다.
+ */
+final class MySqlPartitionDdl {
+
+    private static final String PREFIX = "p";
+    private static final String PARTITION_KEY = "trade_date";
+
+    private MySqlPartitionDdl() {
+    }
+
+    static String partitionName(LocalDate day) {
+        return PREFIX + day.format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+
+    /** 이 클래스가 만든 이름이 아니면 비어 있다. */
+    static Optional<LocalDate> partitionDay(String partitionName) {
+        if (partitionName == null || !partitionName.startsWith(PREFIX)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(LocalDate.parse(partitionName.substring(PREFIX.length()), DateTimeFormatter.BASIC_ISO_DATE));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 기본 키와 유니크 키에 분할 키를 붙인다. 분할 키가 없는 기존 유니크 키는 지운다.
+     * 엔티티 매핑은 기존 행 때문에 분할 키 컬럼을 NULL 허용으로 두므로 여기서 NOT NULL로 바꾼다.
+     * 분할 키를 붙인 유니크 키는 엔티티 매핑과 같으므로 {@code ddl-auto}가 이미 만들었으면 다시 만들지 않는다.
+     */
+    static String rekey(PartitionedTable table, List<String> uniqueIndexesWithoutKey, boolean addUniqueKey) {
+        StringBuilder sql = new StringBuilder()
+                .append("ALTER TABLE ").append(table.tableName())
+                .append(" MODIFY ").append(PARTITION_KEY).append(" DATE NOT NULL")
+                .append(", DROP PRIMARY KEY, ADD PRIMARY KEY (id, ").append(PARTITION_KEY).append(')');
+        for (String index : uniqueIndexesWithoutKey) {
+            sql.append(", DROP INDEX `").append(index).append('`');
+        }
+        if (addUniqueKey) {
+            sql.append(", ADD UNIQUE KEY ").append(table.uniqueKeyName())
+                    .append(" (").append(table.uniqueKeyColumns()).append(", ").append(PARTITION_KEY).append(')');
+        }
+        return sql.toString();
+    }
+
+    static String partitionBy(PartitionedTable table, LocalDate firstDay, LocalDate lastDay) {
+        return "ALTER TABLE " + table.tableName()
+                + " PARTITION BY RANGE COLUMNS(" + PARTITION_KEY + ") (" + definitions(firstDay, lastDay) + ")";
+    }
+
+    static String addPartitions(PartitionedTable table, LocalDate firstDay, LocalDate lastDay) {
+        return "ALTER TABLE " + table.tableName() + " ADD PARTITION (" + definitions(firstDay, lastDay) + ")";
+    }
+
+    /** 파티션 단위로 데이터 파일을 지우므로 행 수와 관계없이 메타데이터 변경만큼 걸린다. */
+    static String dropPartitions(PartitionedTable table, List<String> partitionNames) {
+        return "ALTER TABLE " + table.tableName() + " DROP PARTITION " + String.join(", ", partitionNames);
+    }
+
+    /** 파티션 하나만 읽어 행이 남았는지 본다. */
+    static String probe(PartitionedTable table, String partitionName) {
+        return "SELECT 1 FROM " + table.tableName() + " PARTITION (" + partitionName + ") LIMIT 1";
+    }
+
+    private static String definitions(LocalDate firstDay, LocalDate lastDay) {
+        List<String> definitions = new ArrayList<>();
+        for (LocalDate day = firstDay; !day.isAfter(lastDay); day = day.plusDays(1)) {
+            definitions.add("PARTITION " + partitionName(day) + " VALUES LESS THAN ('" + day.plusDays(1) + "')");
+        }
+        return String.join(", ", definitions);
+    }
+}
@@ -0,0 +1,40 @@
+package com.wisehero.stocktrading.order.partition;
+
+import com.wisehero.stocktrading.common.time.TradeCalendar;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 미체결 주문 조회(호가창/가격 인덱스/주문 저널 복원, DAY 만료)가 읽을 거래일 하한.
+ * <p>
+ * 거래일 파티션을 켜면 오늘에서 {@code open-order-lookback}만큼만 거슬러 읽어 최근 파티션만 스캔한다.
+ * {@code P0D}이면 오늘 파티션만 읽는다. 끄면 하한이 없으므로 조회에 거래일 조건을 걸지 않는다.
+ */
+@Component
+public class OpenOrderWindow {
+
+    private final TradeCalendar tradeCalendar;
+    private final boolean enabled;
+    private final long lookbackDays;
+
+    public OpenOrderWindow(
+            TradeCalendar tradeCalendar,
+            @Value("${trading.partitioning.enabled:false}") boolean enabled,
+            @Value("${trading.partitioning.open-order-lookback:P7D}") Duration lookback
+    ) {
+        if (lookback.isNegative()) {
+            throw new IllegalArgumentException("trading.partitioning.open-order-lookback must not be negative");
+        }
+        this.tradeCalendar = tradeCalendar;
+        this.enabled = enabled;
+        this.lookbackDays = lookback.toDays();
+    }
+
+    /** 파티션을 끄면 비어 있다. */
+    public Optional<LocalDate> since() {
+        return enabled ? Optional.of(tradeCalendar.today().minusDays(lookbackDays)) : Optional.empty();
+    }
+}
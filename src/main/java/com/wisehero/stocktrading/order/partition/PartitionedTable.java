@@ -0,0 +1,33 @@
+package com.wisehero.stocktrading.order.partition;
+
+/**
+ * 거래일({@code trade_date})로 나누는 테이블과, 분할 키를 붙인 유니크 키(엔티티 매핑과 같다).
+ * MySQL은 파티션 테이블의 기본 키와 모든 유니크 키에 분할 키가 들어 있어야 한다.
+ */
+enum PartitionedTable {
+
+    ORDERS("orders", "uk_orders_account_idempotency_td", "account_id, idempotency_key"),
+    FILLS("fills", "uk_fills_execution_id_td", "execution_id");
+
+    private final String tableName;
+    private final String uniqueKeyName;
+    private final String uniqueKeyColumns;
+
+    PartitionedTable(String tableName, String uniqueKeyName, String uniqueKeyColumns) {
+        this.tableName = tableName;
+        this.uniqueKeyName = uniqueKeyName;
+        this.uniqueKeyColumns = uniqueKeyColumns;
+    }
+
+    String tableName() {
+        return tableName;
+    }
+
+    String uniqueKeyName() {
+        return uniqueKeyName;
+    }
+
+    String uniqueKeyColumns() {
+        return uniqueKeyColumns;
+    }
+}
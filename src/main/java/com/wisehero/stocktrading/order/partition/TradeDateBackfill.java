@@ -0,0 +1,97 @@
+package com.wisehero.stocktrading.order.partition;
+
+import com.wisehero.stocktrading.common.time.TradeCalendar;
+import com.wisehero.stocktrading.order.repository.FillRepository;
+import com.wisehero.stocktrading.order.repository.OrderRepository;
+import com.wisehero.stocktrading.order.repository.UndatedRowView;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * {@code trade_date} 컬럼이 생기기 전에 쌓인 주문/체결 행의 거래일을 채운다.
+ * <p>
+ * 주문은 접수 시각, 체결은 체결 시각을 시장 시간대({@link TradeCalendar})로 자른 날짜로, 새 행과 같은 기준이다.
+ * 파티션 설정과 관계없이 기동 시 한 번 돌고, {@link TradeDatePartitionManager}는 키를 바꾸기 전에 다시 불러 빈 행이 없음을 확인한다.
+ * 채울 행이 없으면 조회 한 번으로 끝난다.
+ */
+@Component
+public class TradeDateBackfill implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(TradeDateBackfill.class);
+    private static final int CHUNK_SIZE = 1000;
+
+    private final OrderRepository orderRepository;
+    private final FillRepository fillRepository;
+    private final TradeCalendar tradeCalendar;
+    private final TransactionTemplate transactionTemplate;
+    // 기동 시 채움과 파티션 관리자의 확인이 겹치지 않게 한다.
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public TradeDateBackfill(
+            OrderRepository orderRepository,
+            FillRepository fillRepository,
+            TradeCalendar tradeCalendar,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.orderRepository = orderRepository;
+        this.fillRepository = fillRepository;
+        this.tradeCalendar = tradeCalendar;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        backfill();
+    }
+
+    /** 거래일이 빈 주문/체결 행을 묶음 단위 트랜잭션으로 채운다. */
+    public void backfill() {
+        lock.lock();
+        try {
+            long orders = backfill(orderRepository::findWithoutTradeDate, orderRepository::updateTradeDateByIdIn);
+            long fills = backfill(fillRepository::findWithoutTradeDate, fillRepository::updateTradeDateByIdIn);
+            if (orders > 0 || fills > 0) {
+                log.info("거래일이 빈 행 채움 완료 - 주문: {}, 체결: {}", orders, fills);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long backfill(
+            Function<Limit, List<UndatedRowView>> finder,
+            BiFunction<Collection<Long>, LocalDate, Integer> updater
+    ) {
+        long total = 0;
+        while (true) {
+            Integer count = transactionTemplate.execute(status -> {
+                List<UndatedRowView> rows = finder.apply(Limit.of(CHUNK_SIZE));
+                Map<LocalDate, List<Long>> idsByTradeDate = new TreeMap<>();
+                for (UndatedRowView row : rows) {
+                    idsByTradeDate.computeIfAbsent(tradeCalendar.tradeDateOf(row.occurredAt()), day -> new ArrayList<>())
+                            .add(row.id());
+                }
+                idsByTradeDate.forEach((tradeDate, ids) -> updater.apply(ids, tradeDate));
+                return rows.size();
+            });
+            total += count;
+            if (count < CHUNK_SIZE) {
+                return total;
+            }
+        }
+    }
+}
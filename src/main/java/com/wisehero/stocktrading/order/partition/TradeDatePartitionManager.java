@@ -0,0 +1,242 @@
+package com.wisehero.stocktrading.order.partition;
+
+import com.wisehero.stocktrading.common.time.TradeCalendar;
+import com.wisehero.stocktrading.order.domain.OrderStatus;
+import com.wisehero.stocktrading.order.domain.OrderTif;
+import com.wisehero.stocktrading.order.repository.OrderRepository;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문/체결 테이블을 거래일({@code trade_date}) RANGE 파티션으로 유지한다.
+ * <p>
+ * 기동 시와 날짜가 바뀔 때 오늘부터 {@code precreate-days}일 뒤까지 파티션을 미리 만들고,
+ * {@code retention}보다 오래된 파티션은 비어 있을 때만(보관 배치가 행을 모두 옮긴 뒤) {@code DROP PARTITION}으로 지운다.
+ * 선점은 주문 단위로 보관 테이블에 옮겨지므로, 행이 남은 파티션을 지우면 선점만 고아로 남는다. 그래서 건너뛰고 경고만 남긴다.
+ * 파티션이 없는 테이블은 처음 한 번 빈 거래일을 채우고({@link TradeDateBackfill}) 기본 키/유니크 키에 거래일을 붙여 파티션 테이블로 바꾼다.
+ * <p>
+ * MySQL이 아닌 DB(테스트의 H2)에서는 DDL 없이 넘어가고, 미체결 주문 조회의 거래일 하한({@link OpenOrderWindow})만 적용된다.
+ */
+@Component
+@ConditionalOnProperty(name = "trading.partitioning.enabled", havingValue = "true")
+public class TradeDatePartitionManager implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(TradeDatePartitionManager.class);
+    private static final List<OrderStatus> OPEN_STATUSES = List.of(OrderStatus.NEW, OrderStatus.PARTIALLY_FILLED);
+    private static final String PARTITIONS_SQL = """
+            SELECT PARTITION_NAME FROM information_schema.PARTITIONS
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL
+            ORDER BY PARTITION_ORDINAL_POSITION
+            """;
+    private static final String PRIMARY_KEY_HAS_TRADE_DATE_SQL = """
+            SELECT COUNT(*) FROM information_schema.STATISTICS
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND INDEX_NAME = 'PRIMARY' AND COLUMN_NAME = 'trade_date'
+            """;
+    private static final String UNIQUE_INDEXES_WITHOUT_TRADE_DATE_SQL = """
+            SELECT INDEX_NAME FROM information_schema.STATISTICS
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND NON_UNIQUE = 0 AND INDEX_NAME <> 'PRIMARY'
+            GROUP BY INDEX_NAME
+            HAVING SUM(COLUMN_NAME = 'trade_date') = 0
+            """;
+    private static final String INDEX_EXISTS_SQL = """
+            SELECT COUNT(*) FROM information_schema.STATISTICS
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND INDEX_NAME = ?
+            """;
+    // 멱등키 전역 유니크 키를 지우기 전에, 그 테이블이 생기기 전의 주문도 order_idempotency_keys가 막도록 옮긴다.
+    private static final String COPY_IDEMPOTENCY_KEYS_SQL = """
+            INSERT INTO order_idempotency_keys (order_id, account_id, idempotency_key)
+            SELECT o.id, o.account_id, o.idempotency_key FROM orders o
+            WHERE NOT EXISTS (SELECT 1 FROM order_idempotency_keys k WHERE k.order_id = o.id)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OrderRepository orderRepository;
+    private final TradeCalendar tradeCalendar;
+    private final OpenOrderWindow openOrderWindow;
+    private final TradeDateBackfill tradeDateBackfill;
+    private final int precreateDays;
+    private final long retentionDays;
+    // 기동 점검과 날짜 변경 점검이 겹치지 않게 한다. DDL을 기다리는 동안 캐리어를 붙잡지 않도록 ReentrantLock을 쓴다.
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public TradeDatePartitionManager(
+            JdbcTemplate jdbcTemplate,
+            OrderRepository orderRepository,
+            TradeCalendar tradeCalendar,
+            OpenOrderWindow openOrderWindow,
+            TradeDateBackfill tradeDateBackfill,
+            @Value("${trading.partitioning.precreate-days:7}") int precreateDays,
+            @Value("${trading.partitioning.retention:P90D}") Duration retention,
+            @Value("${trading.order-archive.retention:P30D}") Duration archiveRetention
+    ) {
+        if (precreateDays <= 0) {
+            throw new IllegalArgumentException("trading.partitioning.precreate-days must be positive");
+        }
+        if (retention.isNegative()) {
+            throw new IllegalArgumentException("trading.partitioning.retention must not be negative");
+        }
+        if (!retention.isZero() && retention.compareTo(archiveRetention) <= 0) {
+            throw new IllegalArgumentException("trading.partitioning.retention must be longer than trading.order-archive.retention");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.orderRepository = orderRepository;
+        this.tradeCalendar = tradeCalendar;
+        this.openOrderWindow = openOrderWindow;
+        this.tradeDateBackfill = tradeDateBackfill;
+        this.precreateDays = precreateDays;
+        this.retentionDays = retention.toDays();
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        // 기본 키에 넣을 거래일이 비어 있으면 키를 바꿀 수 없으므로 먼저 채운다.
+        tradeDateBackfill.backfill();
+        TradeDatePartitionReport report = maintain();
+        if (report.supported()) {
+            logReport(report);
+        } else {
+            log.info("파티션을 지원하지 않는 DB라 거래일 조건만 적용한다 - 기준일: {}", report.today());
+        }
+
+        LocalDate since = openOrderWindow.since().orElseThrow();
+        if (orderRepository.existsByTifAndStatusInAndTradeDateLessThan(OrderTif.DAY, OPEN_STATUSES, since)) {
+            log.warn("거래일 {} 이전의 미체결 DAY 주문이 있어 호가창 복원/만료 대상에서 빠진다 - open-order-lookback을 늘려 정리해야 한다", since);
+        }
+    }
+
+    /** 오늘 기준으로 파티션을 미리 만들고 보관 기간이 지난 빈 파티션을 지운다. */
+    public TradeDatePartitionReport maintain() {
+        LocalDate today = tradeCalendar.today();
+        lock.lock();
+        try {
+            if (!isMySql()) {
+                return TradeDatePartitionReport.unsupported(today);
+            }
+            List<String> created = new ArrayList<>();
+            List<String> dropped = new ArrayList<>();
+            List<String> retained = new ArrayList<>();
+            for (PartitionedTable table : PartitionedTable.values()) {
+                maintain(table, today, created, dropped, retained);
+            }
+            return new TradeDatePartitionReport(today, true, created, dropped, retained);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void maintain(
+            PartitionedTable table,
+            LocalDate today,
+            List<String> created,
+            List<String> dropped,
+            List<String> retained
+    ) {
+        LocalDate lastDay = today.plusDays(precreateDays);
+        List<LocalDate> days = partitionDays(table);
+        if (days.isEmpty()) {
+            if (!primaryKeyHasTradeDate(table)) {
+                if (table == PartitionedTable.ORDERS) {
+                    jdbcTemplate.update(COPY_IDEMPOTENCY_KEYS_SQL);
+                }
+                jdbcTemplate.execute(MySqlPartitionDdl.rekey(
+                        table,
+                        uniqueIndexesWithoutTradeDate(table),
+                        !indexExists(table, table.uniqueKeyName())
+                ));
+            }
+            // 첫 파티션(어제)은 하한이 없어 기존 행을 모두 담는다.
+            LocalDate firstDay = today.minusDays(1);
+            jdbcTemplate.execute(MySqlPartitionDdl.partitionBy(table, firstDay, lastDay));
+            addNames(table, firstDay, lastDay, created);
+            return;
+        }
+
+        LocalDate lastExisting = days.get(days.size() - 1);
+        if (lastExisting.isBefore(lastDay)) {
+            jdbcTemplate.execute(MySqlPartitionDdl.addPartitions(table, lastExisting.plusDays(1), lastDay));
+            addNames(table, lastExisting.plusDays(1), lastDay, created);
+        }
+
+        if (retentionDays == 0) {
+            return;
+        }
+        LocalDate dropBefore = today.minusDays(retentionDays);
+        List<String> expired = new ArrayList<>();
+        for (LocalDate day : days) {
+            if (!day.isBefore(dropBefore)) {
+                break;
+            }
+            String name = MySqlPartitionDdl.partitionName(day);
+            if (jdbcTemplate.queryForList(MySqlPartitionDdl.probe(table, name), Integer.class).isEmpty()) {
+                expired.add(name);
+            } else {
+                retained.add(table.tableName() + "." + name);
+            }
+        }
+        if (!expired.isEmpty()) {
+            jdbcTemplate.execute(MySqlPartitionDdl.dropPartitions(table, expired));
+            expired.forEach(name -> dropped.add(table.tableName() + "." + name));
+        }
+    }
+
+    /** 점검 결과를 남긴다. 행이 남아 지우지 못한 파티션이 있으면 경고로 남긴다. */
+    private static void logReport(TradeDatePartitionReport report) {
+        log.info(
+                "거래일 파티션 점검 완료 - 기준일: {}, 생성: {}, 삭제: {}",
+                report.today(),
+                report.createdPartitions(),
+                report.droppedPartitions()
+        );
+        if (!report.retainedPartitions().isEmpty()) {
+            log.warn("보관 기간이 지났지만 행이 남아 지우지 않은 파티션 - {}", report.retainedPartitions());
+        }
+    }
+
+    private boolean isMySql() {
+        String productName = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()
+        );
+        return "MySQL".equalsIgnoreCase(productName);
+    }
+
+    private List<LocalDate> partitionDays(PartitionedTable table) {
+        List<LocalDate> days = new ArrayList<>();
+        for (String name : jdbcTemplate.queryForList(PARTITIONS_SQL, String.class, table.tableName())) {
+            days.add(MySqlPartitionDdl.partitionDay(name).orElseThrow(
+                    () -> new IllegalStateException("Unexpected partition " + table.tableName() + "." + name)
+            ));
+        }
+        return days;
+    }
+
+    private boolean primaryKeyHasTradeDate(PartitionedTable table) {
+        Integer count = jdbcTemplate.queryForObject(PRIMARY_KEY_HAS_TRADE_DATE_SQL, Integer.class, table.tableName());
+        return count != null && count > 0;
+    }
+
+    private List<String> uniqueIndexesWithoutTradeDate(PartitionedTable table) {
+        return jdbcTemplate.queryForList(UNIQUE_INDEXES_WITHOUT_TRADE_DATE_SQL, String.class, table.tableName());
+    }
+
+    private boolean indexExists(PartitionedTable table, String indexName) {
+        Integer count = jdbcTemplate.queryForObject(INDEX_EXISTS_SQL, Integer.class, table.tableName(), indexName);
+        return count != null && count > 0;
+    }
+
+    private static void addNames(PartitionedTable table, LocalDate firstDay, LocalDate lastDay, List<String> names) {
+        for (LocalDate day = firstDay; !day.isAfter(lastDay); day = day.plusDays(1)) {
+            names.add(table.tableName() + "." + MySqlPartitionDdl.partitionName(day));
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.wisehero.stocktrading.order.partition;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 거래일 파티션 점검 결과. 파티션 이름은 {@code 테이블.pYYYYMMDD}다.
+ *
+ * @param supported DB가 파티션을 지원해 DDL을 실행했는지 여부(H2면 false)
+ * @param retainedPartitions 보관 기간이 지났지만 행이 남아 지우지 않은 파티션
+ */
+public record TradeDatePartitionReport(
+        LocalDate today,
+        boolean supported,
+        List<String> createdPartitions,
+        List<String> droppedPartitions,
+        List<String> retainedPartitions
+) {
+
+    static TradeDatePartitionReport unsupported(LocalDate today) {
+        return new TradeDatePartitionReport(today, false, List.of(), List.of(), List.of());
+    }
+}
@@ -0,0 +1,25 @@
+package com.wisehero.stocktrading.order.repository;
+
+import com.wisehero.stocktrading.order.domain.ArchivedFill;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ArchivedFillRepository extends JpaRepository<ArchivedFill, Long> {
+
+    List<ArchivedFill> findByOrderIdOrderByIdAsc(Long orderId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            insert into ArchivedFill (
+                id, executionId, orderId, fillPrice, fillQuantity, feeAmount, taxAmount, filledAt, tradeDate, createdAt)
+            select f.id, f.executionId, f.orderId, f.fillPrice, f.fillQuantity, f.feeAmount, f.taxAmount,
+                f.filledAt, f.tradeDate, f.createdAt
+            from Fill f
+            where f.orderId in :orderIds
+            """)
+    int copyFromFills(@Param("orderIds") Collection<Long> orderIds);
+}
@@ -0,0 +1,22 @@
+package com.wisehero.stocktrading.order.repository;
+
+import com.wisehero.stocktrading.order.domain.ArchivedOrderHold;
+import java.util.Collection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ArchivedOrderHoldRepository extends JpaRepository<ArchivedOrderHold, Long> {
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            insert into ArchivedOrderHold (
+                id, orderId, accountId, holdType, totalAmount, consumedAmount, releasedAmount, createdAt, updatedAt)
+            select h.id, h.orderId, h.accountId, h.holdType, h.totalAmount, h.consumedAmount, h.releasedAmount,
+                h.createdAt, h.updatedAt
+            from OrderHold h
+            where h.orderId in :orderIds
+            """)
+    int copyFromHolds(@Param("orderIds") Collection<Long> orderIds);
+}
@@ -0,0 +1,26 @@
+package com.wisehero.stocktrading.order.repository;
+
+import com.wisehero.stocktrading.order.domain.ArchivedOrder;
+import java.util.Collection;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ArchivedOrderRepository extends JpaRepository<ArchivedOrder, Long> {
+
+    Optional<ArchivedOrder> findByIdAndAccountId(Long id, Long accountId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            insert into ArchivedOrder (
+                id, accountId, idempotencyKey, symbol, side, orderType, tif, limitPrice, quantity,
+                filledQuantity, remainingQuantity, status, rejectReason, tradeDate, createdAt, updatedAt)
+            select o.id, o.accountId, o.idempotencyKey, o.symbol, o.side, o.orderType, o.tif, o.limitPrice, o.quantity,
+                o.filledQuantity, o.remainingQuantity, o.status, o.rejectReason, o.tradeDate, o.createdAt, o.updatedAt
+            from Order o
+            where o.id in :orderIds
+            """)
+    int copyFromOrders(@Param("orderIds") Collection<Long> orderIds);
+}
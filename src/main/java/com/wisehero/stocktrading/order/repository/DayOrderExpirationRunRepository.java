@@ -0,0 +1,23 @@
+package com.wisehero.stocktrading.order.repository;
+
+import com.wisehero.stocktrading.order.domain.DayOrderExpirationRun;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface DayOrderExpirationRunRepository extends JpaRepository<DayOrderExpirationRun, Long> {
+
+    Optional<DayOrderExpirationRun> findByBusinessDate(LocalDate businessDate);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update DayOrderExpirationRun r
+            set r.expiredCount = r.expiredCount + :count, r.updatedAt = :now
+            where r.id = :id
+            """)
+    int addExpiredCount(@Param("id") Long id, @Param("count") long count, @Param("now") Instant now);
+}
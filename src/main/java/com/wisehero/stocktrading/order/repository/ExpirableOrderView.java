@@ -0,0 +1,10 @@
+package com.wisehero.stocktrading.order.repository;
+
+/**
+ * DAY 만료 묶음에서 락 없이 먼저 읽는 (주문, 계좌) 조회 결과.
+ */
+public record ExpirableOrderView(
+        Long orderId,
+        Long accountId
+) {
+}
@@ -1,10 +1,37 @@
 package com.wisehero.stocktrading.order.repository;
 
 import com.wisehero.stocktrading.order.domain.Fill;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface FillRepository extends JpaRepository<Fill, Long> {
 
     List<Fill> findByOrderIdOrderByIdAsc(Long orderId);
+
+    List<Fill> findByOrderIdInOrderByIdAsc(Collection<Long> orderIds);
+
+    @Query("select f.executionId from Fill f where f.executionId in :executionIds")
+    List<String> findExecutionIdsIn(@Param("executionIds") Collection<String> executionIds);
+
+    @Query("""
+            select new com.wisehero.stocktrading.order.repository.UndatedRowView(f.id, f.filledAt)
+            from Fill f
+            where f.tradeDate is null
+            order by f.id
+            """)
+    List<UndatedRowView> findWithoutTradeDate(Limit limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Fill f set f.tradeDate = :tradeDate where f.id in :fillIds")
+    int updateTradeDateByIdIn(@Param("fillIds") Collection<Long> fillIds, @Param("tradeDate") LocalDate tradeDate);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Fill f where f.orderId in :orderIds")
+    int deleteByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
 }
@@ -0,0 +1,15 @@
+package com.wisehero.stocktrading.order.repository;
+
+import com.wisehero.stocktrading.order.domain.HoldType;
+import java.math.BigDecimal;
+
+/**
+ * 계좌/종목/선점 유형별로 합산한 미사용 선점 잔량.
+ */
+public record HoldReleaseSummary(
+        Long accountId,
+        String symbol,
+        HoldType holdType,
+        BigDecimal remainingAmount
+) {
+}
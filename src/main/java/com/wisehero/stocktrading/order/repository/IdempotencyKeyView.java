@@ -0,0 +1,10 @@
+package com.wisehero.stocktrading.order.repository;
+
+/**
+ * 멱등키 필터 예열에 쓰는 (계좌, 멱등키) 조회 결과.
+ */
+public record IdempotencyKeyView(
+        Long accountId,
+        String idempotencyKey
+) {
+}
@@ -1,10 +1,39 @@
 package com.wisehero.stocktrading.order.repository;
 
 import com.wisehero.stocktrading.order.domain.OrderHold;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface OrderHoldRepository extends JpaRepository<OrderHold, Long> {
 
     Optional<OrderHold> findByOrderId(Long orderId);
+
+    List<OrderHold> findByOrderIdIn(Collection<Long> orderIds);
+
+    @Query("""
+            select new com.wisehero.stocktrading.order.repository.HoldReleaseSummary(
+                h.accountId, o.symbol, h.holdType, sum(h.totalAmount - h.consumedAmount - h.releasedAmount))
+            from OrderHold h join Order o on o.id = h.orderId
+            where h.orderId in :orderIds
+            group by h.accountId, o.symbol, h.holdType
+            """)
+    List<HoldReleaseSummary> sumRemainingByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update OrderHold h
+            set h.releasedAmount = h.totalAmount - h.consumedAmount, h.updatedAt = :now
+            where h.orderId in :orderIds
+            """)
+    int releaseRemainingByOrderIdIn(@Param("orderIds") Collection<Long> orderIds, @Param("now") Instant now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from OrderHold h where h.orderId in :orderIds")
+    int deleteByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
 }
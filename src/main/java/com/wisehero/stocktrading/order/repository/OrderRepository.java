@@ -3,18 +3,147 @@ package com.wisehero.stocktrading.order.repository;
 import com.wisehero.stocktrading.order.domain.Order;
 import com.wisehero.stocktrading.order.domain.OrderStatus;
 import com.wisehero.stocktrading.order.domain.OrderTif;
+import jakarta.persistence.LockModeType;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
     Optional<Order> findByAccountIdAndIdempotencyKey(Long accountId, String idempotencyKey);
 
+    List<Order> findByAccountIdAndIdempotencyKeyIn(Long accountId, Collection<String> idempotencyKeys);
+
+    @Query("""
+            select new com.wisehero.stocktrading.order.repository.IdempotencyKeyView(o.accountId, o.idempotencyKey)
+            from Order o
+            where o.createdAt >= :since
+            """)
+    List<IdempotencyKeyView> findIdempotencyKeysCreatedSince(@Param("since") Instant since);
+
     Optional<Order> findByIdAndAccountId(Long id, Long accountId);
 
     List<Order> findBySymbolAndStatusInOrderByCreatedAtAscIdAsc(String symbol, Collection<OrderStatus> statuses);
 
     List<Order> findByTifAndStatusInOrderByCreatedAtAscIdAsc(OrderTif tif, Collection<OrderStatus> statuses);
+
+    // 파티션을 켜면 미체결 주문 조회에 거래일 하한(OpenOrderWindow)을 함께 걸어 최근 파티션만 읽는다.
+    List<Order> findBySymbolAndStatusInAndTradeDateGreaterThanEqualOrderByCreatedAtAscIdAsc(
+            String symbol,
+            Collection<OrderStatus> statuses,
+            LocalDate tradeDate
+    );
+
+    List<Order> findByTifAndStatusInAndTradeDateGreaterThanEqualOrderByCreatedAtAscIdAsc(
+            OrderTif tif,
+            Collection<OrderStatus> statuses,
+            LocalDate tradeDate
+    );
+
+    boolean existsByTifAndStatusInAndTradeDateLessThan(OrderTif tif, Collection<OrderStatus> statuses, LocalDate tradeDate);
+
+    @Query("select distinct o.symbol from Order o where o.tif = :tif and o.status in :statuses")
+    List<String> findDistinctSymbolsByTifAndStatusIn(
+            @Param("tif") OrderTif tif,
+            @Param("statuses") Collection<OrderStatus> statuses
+    );
+
+    @Query("""
+            select distinct o.symbol from Order o
+            where o.tif = :tif and o.status in :statuses and o.tradeDate >= :since
+            """)
+    List<String> findDistinctSymbolsByTifAndStatusInAndTradeDateGreaterThanEqual(
+            @Param("tif") OrderTif tif,
+            @Param("statuses") Collection<OrderStatus> statuses,
+            @Param("since") LocalDate since
+    );
+
+    @Query("""
+            select new com.wisehero.stocktrading.order.repository.ExpirableOrderView(o.id, o.accountId)
+            from Order o
+            where o.tif = :tif and o.symbol = :symbol and o.status in :statuses and o.id > :afterOrderId
+            order by o.id
+            """)
+    List<ExpirableOrderView> findExpirableOrders(
+            @Param("tif") OrderTif tif,
+            @Param("symbol") String symbol,
+            @Param("statuses") Collection<OrderStatus> statuses,
+            @Param("afterOrderId") Long afterOrderId,
+            Limit limit
+    );
+
+    @Query("""
+            select new com.wisehero.stocktrading.order.repository.ExpirableOrderView(o.id, o.accountId)
+            from Order o
+            where o.tif = :tif and o.symbol = :symbol and o.status in :statuses
+              and o.tradeDate >= :since and o.id > :afterOrderId
+            order by o.id
+            """)
+    List<ExpirableOrderView> findExpirableOrdersSince(
+            @Param("tif") OrderTif tif,
+            @Param("symbol") String symbol,
+            @Param("statuses") Collection<OrderStatus> statuses,
+            @Param("since") LocalDate since,
+            @Param("afterOrderId") Long afterOrderId,
+            Limit limit
+    );
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<Order> findByIdInAndStatusInOrderByIdAsc(Collection<Long> ids, Collection<OrderStatus> statuses);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Order o
+            set o.status = :status, o.version = o.version + 1, o.updatedAt = :now
+            where o.id in :orderIds
+            """)
+    int updateStatusByIdIn(
+            @Param("orderIds") Collection<Long> orderIds,
+            @Param("status") OrderStatus status,
+            @Param("now") Instant now
+    );
+
+    @Query("""
+            select o.id from Order o
+            where o.id > :afterOrderId and o.status in :statuses and o.updatedAt < :cutoff
+            order by o.id
+            """)
+    List<Long> findArchivableIds(
+            @Param("statuses") Collection<OrderStatus> statuses,
+            @Param("cutoff") Instant cutoff,
+            @Param("afterOrderId") Long afterOrderId,
+            Limit limit
+    );
+
+    @Query("""
+            select o from Order o
+            where o.id > :afterOrderId
+              and not exists (select 1 from OrderView v where v.orderId = o.id)
+            order by o.id
+            """)
+    List<Order> findWithoutView(@Param("afterOrderId") Long afterOrderId, Limit limit);
+
+    @Query("""
+            select new com.wisehero.stocktrading.order.repository.UndatedRowView(o.id, o.createdAt)
+            from Order o
+            where o.tradeDate is null
+            order by o.id
+            """)
+    List<UndatedRowView> findWithoutTradeDate(Limit limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Order o set o.tradeDate = :tradeDate where o.id in :orderIds")
+    int updateTradeDateByIdIn(@Param("orderIds") Collection<Long> orderIds, @Param("tradeDate") LocalDate tradeDate);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Order o where o.id in :orderIds")
+    int deleteByIdIn(@Param("orderIds") Collection<Long> orderIds);
 }
@@ -0,0 +1,46 @@
+package com.wisehero.stocktrading.order.repository;
+
+import com.wisehero.stocktrading.order.domain.OrderView;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 주문 읽기 모델 저장소. 목록은 (생성 시각, 주문 ID) 역순 키셋으로 읽는다.
+ */
+public interface OrderViewRepository extends JpaRepository<OrderView, Long> {
+
+    List<OrderView> findByAccountIdOrderByCreatedAtDescOrderIdDesc(Long accountId, Limit limit);
+
+    @Query("""
+            select v from OrderView v
+            where v.accountId = :accountId
+              and (v.createdAt < :createdAt or (v.createdAt = :createdAt and v.orderId < :orderId))
+            order by v.createdAt desc, v.orderId desc
+            """)
+    List<OrderView> findPageBefore(
+            @Param("accountId") Long accountId,
+            @Param("createdAt") Instant createdAt,
+            @Param("orderId") Long orderId,
+            Limit limit
+    );
+
+    List<OrderView> findByAccountIdAndOpenOrderTrueOrderByCreatedAtDescOrderIdDesc(Long accountId, Limit limit);
+
+    @Query("""
+            select v from OrderView v
+            where v.accountId = :accountId
+              and v.openOrder = true
+              and (v.createdAt < :createdAt or (v.createdAt = :createdAt and v.orderId < :orderId))
+            order by v.createdAt desc, v.orderId desc
+            """)
+    List<OrderView> findOpenPageBefore(
+            @Param("accountId") Long accountId,
+            @Param("createdAt") Instant createdAt,
+            @Param("orderId") Long orderId,
+            Limit limit
+    );
+}
@@ -0,0 +1,7 @@
+package com.wisehero.stocktrading.order.repository;
+
+import com.wisehero.stocktrading.order.domain.OutboxDeadLetter;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OutboxDeadLetterRepository extends JpaRepository<OutboxDeadLetter, Long> {
+}
@@ -0,0 +1,12 @@
+package com.wisehero.stocktrading.order.repository;
+
+import java.time.Instant;
+
+/**
+ * 거래일({@code trade_date})이 비어 있는 주문/체결 행과, 거래일을 다시 계산할 시각(접수/체결 시각).
+ */
+public record UndatedRowView(
+        Long id,
+        Instant occurredAt
+) {
+}
@@ -1,6 +1,7 @@
 package com.wisehero.stocktrading.order.scheduler;
 
-import com.wisehero.stocktrading.order.service.OrderService;
+import com.wisehero.stocktrading.order.service.DayOrderExpirationReport;
+import com.wisehero.stocktrading.order.service.DayOrderExpirationService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -14,10 +15,10 @@ public class DayOrderExpirationScheduler {
 
     private static final Logger log = LoggerFactory.getLogger(DayOrderExpirationScheduler.class);
 
-    private final OrderService orderService;
+    private final DayOrderExpirationService dayOrderExpirationService;
 
-    public DayOrderExpirationScheduler(OrderService orderService) {
-        this.orderService = orderService;
+    public DayOrderExpirationScheduler(DayOrderExpirationService dayOrderExpirationService) {
+        this.dayOrderExpirationService = dayOrderExpirationService;
     }
 
     @Scheduled(
@@ -25,7 +26,14 @@ public class DayOrderExpirationScheduler {
             zone = "${trading.market-time-zone:Asia/Seoul}"
     )
     public void expireDayOrders() {
-        int expiredCount = orderService.expireDayOrders();
-        log.info("DAY 주문 만료 배치 완료 - 만료 건수: {}", expiredCount);
+        DayOrderExpirationReport report = dayOrderExpirationService.expireDayOrders();
+        log.info(
+                "DAY 주문 만료 배치 완료 - 기준일: {}, 파티션: {}개(실패 {}개), 만료 건수: {}, 소요: {}ms",
+                report.businessDate(),
+                report.partitions().size(),
+                report.failedPartitionCount(),
+                report.expiredCount(),
+                report.elapsed().toMillis()
+        );
     }
 }
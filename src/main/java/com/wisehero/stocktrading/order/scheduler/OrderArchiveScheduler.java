@@ -0,0 +1,40 @@
+package com.wisehero.stocktrading.order.scheduler;
+
+import com.wisehero.stocktrading.order.service.OrderArchiveReport;
+import com.wisehero.stocktrading.order.service.OrderArchiveService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 장 마감 이후 보관 기간이 지난 종료 주문을 보관 테이블로 옮기는 스케줄러.
+ */
+@Component
+@ConditionalOnProperty(name = "trading.order-archive.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderArchiveScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderArchiveScheduler.class);
+
+    private final OrderArchiveService orderArchiveService;
+
+    public OrderArchiveScheduler(OrderArchiveService orderArchiveService) {
+        this.orderArchiveService = orderArchiveService;
+    }
+
+    @Scheduled(
+            cron = "${trading.order-archive.cron:0 30 2 * * *}",
+            zone = "${trading.market-time-zone:Asia/Seoul}"
+    )
+    public void archiveTerminalOrders() {
+        OrderArchiveReport report = orderArchiveService.archiveTerminalOrders();
+        log.info(
+                "종료 주문 보관 배치 완료 - 기준 시각: {}, 주문: {}건, 체결: {}건, 소요: {}ms",
+                report.cutoff(),
+                report.orderCount(),
+                report.fillCount(),
+                report.elapsed().toMillis()
+        );
+    }
+}
@@ -0,0 +1,45 @@
+package com.wisehero.stocktrading.order.scheduler;
+
+import com.wisehero.stocktrading.order.partition.TradeDatePartitionManager;
+import com.wisehero.stocktrading.order.partition.TradeDatePartitionReport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 거래일이 바뀐 직후 파티션을 미리 만들고 보관 기간이 지난 빈 파티션을 지우는 스케줄러.
+ */
+@Component
+@ConditionalOnProperty(name = "trading.partitioning.enabled", havingValue = "true")
+public class TradeDatePartitionScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(TradeDatePartitionScheduler.class);
+
+    private final TradeDatePartitionManager partitionManager;
+
+    public TradeDatePartitionScheduler(TradeDatePartitionManager partitionManager) {
+        this.partitionManager = partitionManager;
+    }
+
+    @Scheduled(
+            cron = "${trading.partitioning.cron:0 5 0 * * *}",
+            zone = "${trading.market-time-zone:Asia/Seoul}"
+    )
+    public void maintainPartitions() {
+        TradeDatePartitionReport report = partitionManager.maintain();
+        if (!report.supported()) {
+            return;
+        }
+        log.info(
+                "거래일 파티션 점검 완료 - 기준일: {}, 생성: {}, 삭제: {}",
+                report.today(),
+                report.createdPartitions(),
+                report.droppedPartitions()
+        );
+        if (!report.retainedPartitions().isEmpty()) {
+            log.warn("보관 기간이 지났지만 행이 남아 지우지 않은 파티션 - {}", report.retainedPartitions());
+        }
+    }
+}
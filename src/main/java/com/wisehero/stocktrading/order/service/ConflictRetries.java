@@ -0,0 +1,27 @@
+package com.wisehero.stocktrading.order.service;
+
+import java.util.function.Supplier;
+import org.springframework.dao.ConcurrencyFailureException;
+
+/**
+ * 버전 충돌({@code ObjectOptimisticLockingFailureException})이나 계좌 락 대기 초과({@code CannotAcquireLockException})로
+ * 롤백된 트랜잭션을 정해진 횟수까지 처음부터 다시 실행한다. 트랜잭션 경계 바깥에서만 호출해야 한다.
+ */
+final class ConflictRetries {
+
+    private ConflictRetries() {
+    }
+
+    static <T> T run(int maxRetries, Supplier<T> transaction, Runnable onRetry) {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return transaction.get();
+            } catch (ConcurrencyFailureException exception) {
+                if (attempt >= maxRetries) {
+                    throw exception;
+                }
+                onRetry.run();
+            }
+        }
+    }
+}
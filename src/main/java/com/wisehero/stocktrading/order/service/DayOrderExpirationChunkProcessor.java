@@ -0,0 +1,223 @@
+package com.wisehero.stocktrading.order.service;
+
+import com.wisehero.stocktrading.account.domain.PositionId;
+import com.wisehero.stocktrading.account.ledger.AccountBook;
+import com.wisehero.stocktrading.account.service.AccountLockManager;
+import com.wisehero.stocktrading.exchange.OrderExecutionGateway;
+import com.wisehero.stocktrading.order.domain.DayOrderExpirationRun;
+import com.wisehero.stocktrading.order.domain.HoldType;
+import com.wisehero.stocktrading.order.domain.Order;
+import com.wisehero.stocktrading.order.domain.OrderStatus;
+import com.wisehero.stocktrading.order.domain.OrderTif;
+import com.wisehero.stocktrading.order.index.OpenOrderIndexer;
+import com.wisehero.stocktrading.order.journal.OrderEventRecorder;
+import com.wisehero.stocktrading.order.outbox.OutboxRecorder;
+import com.wisehero.stocktrading.order.partition.OpenOrderWindow;
+import com.wisehero.stocktrading.order.repository.DayOrderExpirationRunRepository;
+import com.wisehero.stocktrading.order.repository.ExpirableOrderView;
+import com.wisehero.stocktrading.order.repository.HoldReleaseSummary;
+import com.wisehero.stocktrading.order.repository.OrderHoldRepository;
+import com.wisehero.stocktrading.order.repository.OrderRepository;
+import com.wisehero.stocktrading.order.stream.ExecutionReportPublisher;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * DAY 주문 만료를 종목 파티션 안에서 묶음 단위 트랜잭션으로 처리한다.
+ * <p>
+ * 묶음마다 대상 주문의 계좌를 락 없이 읽어 계좌 락을 먼저 잡고, 그다음 대상 주문을 비관적 락으로 잡은 뒤, 선점 잔량을 계좌(현금)/계좌+종목(수량)별로 합산해
+ * 잔고를 한 번씩만 갱신하고 주문/선점은 IN 조건의 일괄 UPDATE로 종료한다.
+ * 일괄 UPDATE는 엔티티 이벤트가 없으므로 주문 저널에는 만료 주문을 직접 남긴다. 잔고/포지션은 {@link AccountBook}이 남긴다.
+ * 진행 기록({@link DayOrderExpirationRun})은 모든 파티션이 한 행을 갱신하므로 묶음마다 잠그지 않고,
+ * 파티션이 끝날 때 {@link #addExpiredCount}로 한 번만 더한다.
+ * <p>
+ * 주문 트랜잭션과 같은 순서(계좌 락 → 주문 행)로 잡아야 서로의 락을 기다리며 교착하지 않는다.
+ * 여러 파티션이 병렬로 실행되므로 공유 행은 항상 같은 순서(주문 → 포지션 → 계좌 ID 오름차순 현금)로 잠가
+ * 파티션 간 교착을 피한다.
+ */
+@Component
+public class DayOrderExpirationChunkProcessor {
+
+    private static final List<OrderStatus> EXPIRABLE_STATUSES = List.of(OrderStatus.NEW, OrderStatus.PARTIALLY_FILLED);
+
+    private final OrderRepository orderRepository;
+    private final OrderHoldRepository orderHoldRepository;
+    private final AccountBook accountBook;
+    private final AccountLockManager accountLockManager;
+    private final DayOrderExpirationRunRepository runRepository;
+    private final OrderExecutionGateway orderExecutionGateway;
+    private final OpenOrderIndexer openOrderIndexer;
+    private final OrderEventRecorder orderEventRecorder;
+    private final ExecutionReportPublisher executionReportPublisher;
+    private final OutboxRecorder outboxRecorder;
+    private final OpenOrderWindow openOrderWindow;
+    private final Clock clock;
+
+    public DayOrderExpirationChunkProcessor(
+            OrderRepository orderRepository,
+            OrderHoldRepository orderHoldRepository,
+            AccountBook accountBook,
+            AccountLockManager accountLockManager,
+            DayOrderExpirationRunRepository runRepository,
+            OrderExecutionGateway orderExecutionGateway,
+            OpenOrderIndexer openOrderIndexer,
+            OrderEventRecorder orderEventRecorder,
+            ExecutionReportPublisher executionReportPublisher,
+            OutboxRecorder outboxRecorder,
+            OpenOrderWindow openOrderWindow,
+            Clock clock
+    ) {
+        this.orderRepository = orderRepository;
+        this.orderHoldRepository = orderHoldRepository;
+        this.accountBook = accountBook;
+        this.accountLockManager = accountLockManager;
+        this.runRepository = runRepository;
+        this.orderExecutionGateway = orderExecutionGateway;
+        this.openOrderIndexer = openOrderIndexer;
+        this.orderEventRecorder = orderEventRecorder;
+        this.executionReportPublisher = executionReportPublisher;
+        this.outboxRecorder = outboxRecorder;
+        this.openOrderWindow = openOrderWindow;
+        this.clock = clock;
+    }
+
+    /** 영업일의 진행 기록을 시작하거나, 중단된 기록이 있으면 그대로 이어받는다. */
+    @Transactional
+    public DayOrderExpirationRun startOrResume(LocalDate businessDate) {
+        Instant now = Instant.now(clock);
+        DayOrderExpirationRun run = runRepository.findByBusinessDate(businessDate)
+                .orElseGet(() -> DayOrderExpirationRun.start(businessDate, now));
+        if (run.isCompleted()) {
+            run.restart(now);
+        }
+        return runRepository.save(run);
+    }
+
+    @Transactional(readOnly = true)
+    public List<String> findExpirableSymbols() {
+        return openOrderWindow.since()
+                .map(since -> orderRepository.findDistinctSymbolsByTifAndStatusInAndTradeDateGreaterThanEqual(
+                        OrderTif.DAY,
+                        EXPIRABLE_STATUSES,
+                        since
+                ))
+                .orElseGet(() -> orderRepository.findDistinctSymbolsByTifAndStatusIn(OrderTif.DAY, EXPIRABLE_STATUSES));
+    }
+
+    /**
+     * 종목의 미체결 DAY 주문 중 {@code afterOrderId} 다음부터 최대 {@code chunkSize}건을 만료한다.
+     * 더 이상 대상이 없으면 읽은 건수 0인 결과를 반환한다.
+     */
+    @Transactional
+    public ExpiredChunk expireChunk(String symbol, long afterOrderId, int chunkSize) {
+        List<ExpirableOrderView> candidates = openOrderWindow.since()
+                .map(since -> orderRepository.findExpirableOrdersSince(
+                        OrderTif.DAY,
+                        symbol,
+                        EXPIRABLE_STATUSES,
+                        since,
+                        afterOrderId,
+                        Limit.of(chunkSize)
+                ))
+                .orElseGet(() -> orderRepository.findExpirableOrders(
+                        OrderTif.DAY,
+                        symbol,
+                        EXPIRABLE_STATUSES,
+                        afterOrderId,
+                        Limit.of(chunkSize)
+                ));
+        if (candidates.isEmpty()) {
+            return new ExpiredChunk(0, 0, afterOrderId);
+        }
+
+        List<Long> candidateIds = new ArrayList<>(candidates.size());
+        Set<Long> accountIds = new HashSet<>();
+        for (ExpirableOrderView candidate : candidates) {
+            candidateIds.add(candidate.orderId());
+            accountIds.add(candidate.accountId());
+        }
+        long lastCandidateId = candidateIds.get(candidateIds.size() - 1);
+        // 주문 트랜잭션처럼 계좌 락을 잡은 뒤 주문 행을 잠근다. 주문의 계좌는 바뀌지 않으므로 잠근 주문은 모두 잡은 계좌 안에 있다.
+        accountLockManager.lockAll(accountIds);
+        // 락 없이 읽은 뒤 체결/취소된 주문은 상태 조건에서 빠진다.
+        List<Order> orders = orderRepository.findByIdInAndStatusInOrderByIdAsc(candidateIds, EXPIRABLE_STATUSES);
+        if (orders.isEmpty()) {
+            return new ExpiredChunk(candidates.size(), 0, lastCandidateId);
+        }
+
+        Instant now = Instant.now(clock);
+        List<Long> orderIds = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            orderIds.add(order.getId());
+        }
+
+        releaseHolds(orderIds, now);
+        orderHoldRepository.releaseRemainingByOrderIdIn(orderIds, now);
+        orderRepository.updateStatusByIdIn(orderIds, OrderStatus.EXPIRED, now);
+        if (orderEventRecorder.isEnabled()) {
+            orderEventRecorder.recordExpired(orders);
+        }
+
+        orderExecutionGateway.cancelAll(symbol, orderIds);
+        openOrderIndexer.trackClosed(orderIds);
+        executionReportPublisher.recordExpired(orders, now);
+        outboxRecorder.recordExpired(orders, now);
+        return new ExpiredChunk(candidates.size(), orders.size(), lastCandidateId);
+    }
+
+    /** 파티션에서 만료한 건수를 진행 기록에 더한다. */
+    @Transactional
+    public void addExpiredCount(Long runId, long expiredCount) {
+        runRepository.addExpiredCount(runId, expiredCount, Instant.now(clock));
+    }
+
+    @Transactional
+    public void complete(Long runId) {
+        runRepository.findById(runId)
+                .orElseThrow(() -> new IllegalStateException("Day order expiration run not found: " + runId))
+                .complete(Instant.now(clock));
+    }
+
+    private void releaseHolds(List<Long> orderIds, Instant now) {
+        Map<Long, BigDecimal> cashByAccountId = new TreeMap<>();
+        Map<PositionId, BigDecimal> quantityByPositionId = new LinkedHashMap<>();
+        for (HoldReleaseSummary summary : orderHoldRepository.sumRemainingByOrderIdIn(orderIds)) {
+            if (summary.remainingAmount().signum() <= 0) {
+                continue;
+            }
+
+            if (summary.holdType() == HoldType.CASH) {
+                cashByAccountId.merge(summary.accountId(), summary.remainingAmount(), BigDecimal::add);
+                continue;
+            }
+            quantityByPositionId.merge(
+                    new PositionId(summary.accountId(), summary.symbol()),
+                    summary.remainingAmount(),
+                    BigDecimal::add
+            );
+        }
+
+        accountBook.releaseExpiredHolds(cashByAccountId, quantityByPositionId, now);
+    }
+
+    /**
+     * 한 묶음의 결과. 락 없이 읽은 대상 중 그사이 종료된 주문은 만료 건수에서 빠지므로,
+     * 더 읽을 대상이 있는지는 {@code scannedCount}로 판단한다.
+     *
+     * @param lastOrderId 다음 묶음 조회 기준이 되는 마지막 대상 주문 ID
+     */
+    public record ExpiredChunk(int scannedCount, int expiredCount, long lastOrderId) {
+    }
+}
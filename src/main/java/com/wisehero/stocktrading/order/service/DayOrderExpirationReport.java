@@ -0,0 +1,27 @@
+package com.wisehero.stocktrading.order.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DAY 주문 만료 배치 실행 결과. 종목 파티션별 만료 건수와 소요 시간을 담는다.
+ */
+public record DayOrderExpirationReport(
+        LocalDate businessDate,
+        List<Partition> partitions,
+        int failedPartitionCount,
+        Duration elapsed
+) {
+
+    public int expiredCount() {
+        int expiredCount = 0;
+        for (Partition partition : partitions) {
+            expiredCount += partition.expiredCount();
+        }
+        return expiredCount;
+    }
+
+    public record Partition(String symbol, int expiredCount, Duration elapsed) {
+    }
+}
@@ -0,0 +1,141 @@
+package com.wisehero.stocktrading.order.service;
+
+import com.wisehero.stocktrading.common.concurrent.WorkerThreads;
+import com.wisehero.stocktrading.order.domain.DayOrderExpirationRun;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 장 종료 DAY 주문 만료 배치.
+ * <p>
+ * 만료 대상을 종목 파티션으로 나눠 크기가 고정된 스레드 풀에서 병렬로 처리한다.
+ * 파티션 안에서는 묶음 단위로 커밋하므로 한 파티션이 실패해도 다른 파티션과 이미 커밋된 묶음은 유지되고,
+ * 진행 기록이 {@code RUNNING}으로 남아 다음 실행에서 남은 주문만 이어서 처리한다.
+ */
+@Service
+public class DayOrderExpirationService {
+
+    private static final Logger log = LoggerFactory.getLogger(DayOrderExpirationService.class);
+
+    private final DayOrderExpirationChunkProcessor chunkProcessor;
+    private final int chunkSize;
+    private final ZoneId marketZone;
+    private final Clock clock;
+    private final ExecutorService executor;
+    private final int conflictRetries;
+
+    public DayOrderExpirationService(
+            DayOrderExpirationChunkProcessor chunkProcessor,
+            Clock clock,
+            @Value("${trading.expiration.chunk-size:1000}") int chunkSize,
+            @Value("${trading.expiration.parallelism:0}") int parallelism,
+            @Value("${trading.market-time-zone:Asia/Seoul}") String marketTimeZone,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${trading.account-lock.conflict-retries:3}") int conflictRetries
+    ) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("trading.expiration.chunk-size must be positive");
+        }
+        this.chunkProcessor = chunkProcessor;
+        this.chunkSize = chunkSize;
+        this.marketZone = ZoneId.of(marketTimeZone);
+        this.clock = clock;
+        this.conflictRetries = conflictRetries;
+
+        int resolvedParallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        // 가상 스레드에서도 풀 크기로 동시 파티션 수(DB 커넥션/락 경합)를 제한한다.
+        this.executor = Executors.newFixedThreadPool(
+                resolvedParallelism,
+                WorkerThreads.factory("day-order-expiration-", virtualThreads)
+        );
+    }
+
+    /** 남아 있는 DAY 주문을 종목별로 병렬 만료하고, 파티션별 결과를 반환한다. */
+    public DayOrderExpirationReport expireDayOrders() {
+        long startedAt = System.nanoTime();
+        LocalDate businessDate = LocalDate.ofInstant(clock.instant(), marketZone);
+        DayOrderExpirationRun run = chunkProcessor.startOrResume(businessDate);
+        if (run.getExpiredCount() > 0) {
+            log.info("DAY 주문 만료 배치 재개 - 기준일: {}, 기존 누적 건수: {}", businessDate, run.getExpiredCount());
+        }
+
+        List<String> symbols = chunkProcessor.findExpirableSymbols();
+        List<Future<DayOrderExpirationReport.Partition>> futures = new ArrayList<>(symbols.size());
+        for (String symbol : symbols) {
+            futures.add(executor.submit(() -> expirePartition(run.getId(), symbol)));
+        }
+
+        List<DayOrderExpirationReport.Partition> partitions = new ArrayList<>(symbols.size());
+        int failedPartitionCount = 0;
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                partitions.add(futures.get(i).get());
+            } catch (ExecutionException exception) {
+                failedPartitionCount++;
+                log.error("DAY 주문 만료 파티션 실패 - 종목: {}", symbols.get(i), exception.getCause());
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Day order expiration interrupted", exception);
+            }
+        }
+
+        if (failedPartitionCount == 0) {
+            chunkProcessor.complete(run.getId());
+        }
+        return new DayOrderExpirationReport(
+                businessDate,
+                partitions,
+                failedPartitionCount,
+                Duration.ofNanos(System.nanoTime() - startedAt)
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private DayOrderExpirationReport.Partition expirePartition(Long runId, String symbol) {
+        long startedAt = System.nanoTime();
+        int expiredCount = 0;
+        long afterOrderId = 0L;
+        try {
+            while (true) {
+                long from = afterOrderId;
+                // 주문 트랜잭션과 계좌 락/버전이 엇갈려 롤백된 묶음은 같은 위치부터 다시 처리한다.
+                DayOrderExpirationChunkProcessor.ExpiredChunk chunk = ConflictRetries.run(
+                        conflictRetries,
+                        () -> chunkProcessor.expireChunk(symbol, from, chunkSize),
+                        () -> log.warn("DAY 주문 만료 묶음 재시도 - 종목: {}, 시작 주문 ID: {}", symbol, from)
+                );
+                if (chunk.scannedCount() == 0) {
+                    break;
+                }
+                expiredCount += chunk.expiredCount();
+                afterOrderId = chunk.lastOrderId();
+            }
+        } finally {
+            // 진행 기록은 파티션마다 한 번만 갱신한다. 실패한 파티션도 이미 커밋된 묶음의 건수는 남긴다.
+            if (expiredCount > 0) {
+                chunkProcessor.addExpiredCount(runId, expiredCount);
+            }
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        log.info("DAY 주문 만료 파티션 완료 - 종목: {}, 만료 건수: {}, 소요: {}ms", symbol, expiredCount, elapsed.toMillis());
+        return new DayOrderExpirationReport.Partition(symbol, expiredCount, elapsed);
+    }
+}
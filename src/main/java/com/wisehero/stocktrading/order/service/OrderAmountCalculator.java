@@ -0,0 +1,49 @@
+package com.wisehero.stocktrading.order.service;
+
+import com.wisehero.stocktrading.common.numeric.FixedDecimal;
+import java.math.BigDecimal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 체결 대금, 수수료, 매수 선점 금액을 고정소수점({@link FixedDecimal})으로 계산한다.
+ * 모든 결과는 소수점 4자리 HALF_UP 반올림으로 기존 BigDecimal 계산과 같은 값을 낸다.
+ */
+@Component
+public class OrderAmountCalculator {
+
+    private final long feeRateUnscaled;
+    private final int feeRateScale;
+
+    public OrderAmountCalculator(@Value("${trading.fee-rate:0.00015}") BigDecimal feeRate) {
+        BigDecimal resolvedFeeRate = feeRate == null || feeRate.signum() < 0 ? BigDecimal.ZERO : feeRate.stripTrailingZeros();
+        if (resolvedFeeRate.scale() < 0) {
+            resolvedFeeRate = resolvedFeeRate.setScale(0);
+        }
+        this.feeRateUnscaled = resolvedFeeRate.unscaledValue().longValueExact();
+        this.feeRateScale = resolvedFeeRate.scale();
+    }
+
+    /** 가격 x 수량 체결 대금. */
+    public long notional(long price, long quantity) {
+        return FixedDecimal.multiply(price, quantity);
+    }
+
+    /** 체결 대금 기준 수수료. 수수료율이나 대금이 0 이하이면 0이다. */
+    public long fee(long notional) {
+        if (feeRateUnscaled <= 0 || notional <= 0) {
+            return FixedDecimal.ZERO;
+        }
+        return FixedDecimal.multiply(notional, feeRateUnscaled, feeRateScale);
+    }
+
+    /** 매수 주문 선점 금액 = 예상 체결 대금 + 예상 수수료. */
+    public long reserveAmount(long price, long quantity) {
+        long reserveNotional = notional(price, quantity);
+        return FixedDecimal.add(reserveNotional, fee(reserveNotional));
+    }
+
+    public BigDecimal reserveAmount(BigDecimal price, BigDecimal quantity) {
+        return FixedDecimal.toBigDecimal(reserveAmount(FixedDecimal.fromBigDecimal(price), FixedDecimal.fromBigDecimal(quantity)));
+    }
+}
@@ -0,0 +1,81 @@
+package com.wisehero.stocktrading.order.service;
+
+import com.wisehero.stocktrading.order.domain.OrderStatus;
+import com.wisehero.stocktrading.order.repository.ArchivedFillRepository;
+import com.wisehero.stocktrading.order.repository.ArchivedOrderHoldRepository;
+import com.wisehero.stocktrading.order.repository.ArchivedOrderRepository;
+import com.wisehero.stocktrading.order.repository.FillRepository;
+import com.wisehero.stocktrading.order.repository.OrderHoldRepository;
+import com.wisehero.stocktrading.order.repository.OrderIdempotencyKeyRepository;
+import com.wisehero.stocktrading.order.repository.OrderRepository;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 종료 주문과 그 선점/체결을 묶음 단위 트랜잭션으로 보관 테이블에 옮긴다.
+ * <p>
+ * 행을 애플리케이션으로 읽지 않고 INSERT ... SELECT 후 DELETE를 IN 조건으로 한 번씩 내린다.
+ * 종료 주문은 더 이상 바뀌지 않으므로 락을 잡지 않는다. 옮긴 주문의 멱등키는 보관 전처럼 다시 쓸 수 있게 지운다.
+ */
+@Component
+public class OrderArchiveChunkProcessor {
+
+    private static final List<OrderStatus> ARCHIVABLE_STATUSES = List.of(
+            OrderStatus.FILLED,
+            OrderStatus.CANCELED,
+            OrderStatus.EXPIRED,
+            OrderStatus.REJECTED
+    );
+
+    private final OrderRepository orderRepository;
+    private final OrderHoldRepository orderHoldRepository;
+    private final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
+    private final FillRepository fillRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final ArchivedOrderHoldRepository archivedOrderHoldRepository;
+    private final ArchivedFillRepository archivedFillRepository;
+
+    public OrderArchiveChunkProcessor(
+            OrderRepository orderRepository,
+            OrderHoldRepository orderHoldRepository,
+            OrderIdempotencyKeyRepository orderIdempotencyKeyRepository,
+            FillRepository fillRepository,
+            ArchivedOrderRepository archivedOrderRepository,
+            ArchivedOrderHoldRepository archivedOrderHoldRepository,
+            ArchivedFillRepository archivedFillRepository
+    ) {
+        this.orderRepository = orderRepository;
+        this.orderHoldRepository = orderHoldRepository;
+        this.orderIdempotencyKeyRepository = orderIdempotencyKeyRepository;
+        this.fillRepository = fillRepository;
+        this.archivedOrderRepository = archivedOrderRepository;
+        this.archivedOrderHoldRepository = archivedOrderHoldRepository;
+        this.archivedFillRepository = archivedFillRepository;
+    }
+
+    /** {@code afterOrderId} 다음부터 {@code cutoff} 이전에 종료된 주문을 최대 {@code chunkSize}건 옮긴다. */
+    @Transactional
+    public ArchivedChunk archiveChunk(long afterOrderId, Instant cutoff, int chunkSize) {
+        List<Long> orderIds = orderRepository.findArchivableIds(ARCHIVABLE_STATUSES, cutoff, afterOrderId, Limit.of(chunkSize));
+        if (orderIds.isEmpty()) {
+            return new ArchivedChunk(0, 0, afterOrderId);
+        }
+
+        archivedOrderRepository.copyFromOrders(orderIds);
+        archivedOrderHoldRepository.copyFromHolds(orderIds);
+        int fillCount = archivedFillRepository.copyFromFills(orderIds);
+
+        fillRepository.deleteByOrderIdIn(orderIds);
+        orderHoldRepository.deleteByOrderIdIn(orderIds);
+        orderIdempotencyKeyRepository.deleteByOrderIdIn(orderIds);
+        orderRepository.deleteByIdIn(orderIds);
+        return new ArchivedChunk(orderIds.size(), fillCount, orderIds.get(orderIds.size() - 1));
+    }
+
+    /** 한 묶음의 주문/체결 건수와 다음 묶음 조회 기준이 되는 마지막 주문 ID. */
+    public record ArchivedChunk(int orderCount, int fillCount, long lastOrderId) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.wisehero.stocktrading.order.service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 종료 주문 보관 배치 실행 결과.
+ */
+public record OrderArchiveReport(
+        Instant cutoff,
+        int orderCount,
+        int fillCount,
+        Duration elapsed
+) {
+}
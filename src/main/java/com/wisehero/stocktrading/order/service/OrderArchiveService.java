@@ -0,0 +1,80 @@
+package com.wisehero.stocktrading.order.service;
+
+import com.wisehero.stocktrading.order.api.dto.OrderResponse;
+import com.wisehero.stocktrading.order.repository.ArchivedFillRepository;
+import com.wisehero.stocktrading.order.repository.ArchivedOrderRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 종료 후 {@code retention}이 지난 주문과 그 선점/체결을 보관 테이블로 옮겨 운영 테이블과 인덱스를 작게 유지한다.
+ * <p>
+ * 주문 ID 순으로 {@code chunk-size}건씩 옮기고 묶음마다 커밋하므로, 중간에 실패해도 이미 옮긴 묶음은 유지되고
+ * 다음 실행에서 남은 주문만 다시 찾는다.
+ * <p>
+ * 보관된 주문의 멱등키는 유니크 인덱스에서 빠지므로 보관 기간은 멱등키 예열 구간보다 길어야 한다.
+ */
+@Service
+public class OrderArchiveService {
+
+    private final OrderArchiveChunkProcessor chunkProcessor;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final ArchivedFillRepository archivedFillRepository;
+    private final Clock clock;
+    private final Duration retention;
+    private final int chunkSize;
+
+    public OrderArchiveService(
+            OrderArchiveChunkProcessor chunkProcessor,
+            ArchivedOrderRepository archivedOrderRepository,
+            ArchivedFillRepository archivedFillRepository,
+            Clock clock,
+            @Value("${trading.order-archive.retention:P30D}") Duration retention,
+            @Value("${trading.order-archive.chunk-size:1000}") int chunkSize,
+            @Value("${trading.idempotency.warmup-window:PT24H}") Duration idempotencyWarmupWindow
+    ) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("trading.order-archive.chunk-size must be positive");
+        }
+        if (retention.compareTo(idempotencyWarmupWindow) <= 0) {
+            throw new IllegalArgumentException("trading.order-archive.retention must be longer than trading.idempotency.warmup-window");
+        }
+        this.chunkProcessor = chunkProcessor;
+        this.archivedOrderRepository = archivedOrderRepository;
+        this.archivedFillRepository = archivedFillRepository;
+        this.clock = clock;
+        this.retention = retention;
+        this.chunkSize = chunkSize;
+    }
+
+    /** 보관 기간이 지난 종료 주문을 모두 옮기고 결과를 반환한다. */
+    public OrderArchiveReport archiveTerminalOrders() {
+        long startedAt = System.nanoTime();
+        Instant cutoff = clock.instant().minus(retention);
+        int orderCount = 0;
+        int fillCount = 0;
+        long afterOrderId = 0L;
+        while (true) {
+            OrderArchiveChunkProcessor.ArchivedChunk chunk = chunkProcessor.archiveChunk(afterOrderId, cutoff, chunkSize);
+            if (chunk.orderCount() == 0) {
+                break;
+            }
+            orderCount += chunk.orderCount();
+            fillCount += chunk.fillCount();
+            afterOrderId = chunk.lastOrderId();
+        }
+        return new OrderArchiveReport(cutoff, orderCount, fillCount, Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    /** 운영 테이블에 없는 주문을 보관 테이블에서 찾는다. */
+    @Transactional(readOnly = true)
+    public Optional<OrderResponse> findArchivedOrder(Long orderId, Long accountId) {
+        return archivedOrderRepository.findByIdAndAccountId(orderId, accountId)
+                .map(order -> OrderResponse.from(order, archivedFillRepository.findByOrderIdOrderByIdAsc(orderId)));
+    }
+}
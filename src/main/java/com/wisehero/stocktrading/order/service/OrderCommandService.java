@@ -0,0 +1,107 @@
+package com.wisehero.stocktrading.order.service;
+
+import com.wisehero.stocktrading.common.exception.ApiException;
+import com.wisehero.stocktrading.common.sequencer.SymbolSequencer;
+import com.wisehero.stocktrading.order.api.dto.OrderAmendRequest;
+import com.wisehero.stocktrading.order.api.dto.OrderBatchResponse;
+import com.wisehero.stocktrading.order.api.dto.OrderCreateRequest;
+import com.wisehero.stocktrading.order.api.dto.OrderResponse;
+import java.util.List;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+/**
+ * 주문 변경 명령을 종목 단위 시퀀서로 직렬화해 {@link OrderService}에 전달한다.
+ * 같은 종목의 생성/정정/취소는 한 스레드에서 접수 순서대로 실행된다.
+ * 명령 단위로 끝난 거절/낙관적 락 충돌은 여기서 {@link OrderMetrics}에 집계한다.
+ * 버전 충돌이나 계좌 락 대기 초과로 롤백된 트랜잭션은 {@code trading.account-lock.conflict-retries}번까지 다시 실행한다.
+ */
+@Service
+public class OrderCommandService {
+
+    private final OrderService orderService;
+    private final SymbolSequencer symbolSequencer;
+    private final OrderMetrics orderMetrics;
+    private final int conflictRetries;
+
+    public OrderCommandService(
+            OrderService orderService,
+            SymbolSequencer symbolSequencer,
+            OrderMetrics orderMetrics,
+            @Value("${trading.account-lock.conflict-retries:3}") int conflictRetries
+    ) {
+        if (conflictRetries < 0) {
+            throw new IllegalArgumentException("trading.account-lock.conflict-retries must not be negative");
+        }
+        this.orderService = orderService;
+        this.symbolSequencer = symbolSequencer;
+        this.orderMetrics = orderMetrics;
+        this.conflictRetries = conflictRetries;
+    }
+
+    public OrderResponse createOrder(OrderCreateRequest request) {
+        return measured(() -> symbolSequencer.execute(
+                request.symbol(),
+                () -> retryingConflicts(() -> createOrderOrFindExisting(request))
+        ));
+    }
+
+    /**
+     * 일괄 주문은 여러 종목에 걸쳐 계좌 선점을 한 트랜잭션으로 묶어야 하므로 호출 스레드에서 처리한다.
+     * 대신 배치에 포함된 종목의 샤드를 재시도까지 모두 붙잡아, 단건 명령과 같은 종목 행/호가창을 동시에 바꾸지 않게 한다.
+     */
+    public OrderBatchResponse createOrders(List<OrderCreateRequest> requests) {
+        List<String> symbols = requests.stream()
+                .map(OrderCreateRequest::symbol)
+                .toList();
+        return measured(() -> symbolSequencer.executeAcross(
+                symbols,
+                () -> retryingConflicts(() -> orderService.createOrders(requests))
+        ));
+    }
+
+    public OrderResponse amendOrder(Long orderId, OrderAmendRequest request) {
+        return measured(() -> {
+            String symbol = orderService.getOrderSymbol(orderId, request.accountId());
+            return symbolSequencer.execute(symbol, () -> retryingConflicts(() -> orderService.amendOrder(orderId, request)));
+        });
+    }
+
+    public OrderResponse cancelOrder(Long orderId, Long accountId) {
+        return measured(() -> {
+            String symbol = orderService.getOrderSymbol(orderId, accountId);
+            return symbolSequencer.execute(symbol, () -> retryingConflicts(() -> orderService.cancelOrder(orderId, accountId)));
+        });
+    }
+
+    /**
+     * 멱등키 조회를 건너뛴 주문이 DB 유니크 제약에 걸리면 트랜잭션은 롤백되고, 이미 접수된 주문으로 응답한다.
+     */
+    private OrderResponse createOrderOrFindExisting(OrderCreateRequest request) {
+        try {
+            return orderService.createOrder(request);
+        } catch (DataIntegrityViolationException exception) {
+            return orderService.findOrderByIdempotencyKey(request.accountId(), request.idempotencyKey())
+                    .orElseThrow(() -> exception);
+        }
+    }
+
+    private <T> T retryingConflicts(Supplier<T> transaction) {
+        return ConflictRetries.run(conflictRetries, transaction, orderMetrics::recordConflictRetry);
+    }
+
+    private <T> T measured(Supplier<T> command) {
+        try {
+            return command.get();
+        } catch (ApiException exception) {
+            orderMetrics.recordReject(exception.getErrorCode());
+            throw exception;
+        } catch (ObjectOptimisticLockingFailureException exception) {
+            orderMetrics.recordOptimisticLockFailure();
+            throw exception;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.wisehero.stocktrading.order.service;
+
+import com.wisehero.stocktrading.common.api.ApiErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 처리 경로의 단계별 지연과 체결/거절/낙관적 락 충돌/재시도 건수를 Micrometer로 기록한다.
+ * <p>
+ * 핫패스에서 태그 조합으로 미터를 찾지 않도록 단계/에러 코드별 미터를 생성 시점에 모두 등록해 둔다.
+ */
+@Component
+public class OrderMetrics {
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99, 0.999};
+
+    private final Map<Stage, Timer> stageTimers = new EnumMap<>(Stage.class);
+    private final Map<ApiErrorCode, Counter> rejectCounters = new EnumMap<>(ApiErrorCode.class);
+    private final Counter fillCounter;
+    private final Counter optimisticLockFailureCounter;
+    private final Counter conflictRetryCounter;
+
+    public OrderMetrics(MeterRegistry meterRegistry) {
+        for (Stage stage : Stage.values()) {
+            stageTimers.put(stage, Timer.builder("trading.order.stage")
+                    .description("주문 처리 단계별 소요 시간")
+                    .tag("stage", stage.tagValue)
+                    .publishPercentiles(PERCENTILES)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+        for (ApiErrorCode errorCode : ApiErrorCode.values()) {
+            rejectCounters.put(errorCode, Counter.builder("trading.order.rejects")
+                    .description("에러 코드별 주문 거절 건수")
+                    .tag("code", errorCode.code())
+                    .register(meterRegistry));
+        }
+        this.fillCounter = Counter.builder("trading.order.fills")
+                .description("체결 반영 건수(상대 주문 포함)")
+                .register(meterRegistry);
+        this.optimisticLockFailureCounter = Counter.builder("trading.order.optimistic-lock.failures")
+                .description("잔고/주문 버전 충돌로 실패한 주문 명령 건수")
+                .register(meterRegistry);
+        this.conflictRetryCounter = Counter.builder("trading.order.conflict.retries")
+                .description("버전 충돌/계좌 락 대기 초과로 다시 실행한 주문 명령 건수")
+                .register(meterRegistry);
+    }
+
+    public <T> T time(Stage stage, Supplier<T> operation) {
+        return stageTimers.get(stage).record(operation);
+    }
+
+    public void time(Stage stage, Runnable operation) {
+        stageTimers.get(stage).record(operation);
+    }
+
+    public void recordFill() {
+        fillCounter.increment();
+    }
+
+    public void recordReject(ApiErrorCode errorCode) {
+        rejectCounters.get(errorCode).increment();
+    }
+
+    public void recordOptimisticLockFailure() {
+        optimisticLockFailureCounter.increment();
+    }
+
+    public void recordConflictRetry() {
+        conflictRetryCounter.increment();
+    }
+
+    /** 주문 처리 단계. 태그 값은 Prometheus 라벨로 그대로 노출된다. */
+    public enum Stage {
+        VALIDATION("validation"),
+        IDEMPOTENCY_LOOKUP("idempotency_lookup"),
+        RESERVE("reserve"),
+        GATEWAY_MATCH("gateway_match"),
+        FILL_PERSIST("fill_persist"),
+        BALANCE_UPDATE("balance_update"),
+        RESPONSE_MAPPING("response_mapping");
+
+        private final String tagValue;
+
+        Stage(String tagValue) {
+            this.tagValue = tagValue;
+        }
+    }
+}
@@ -1,35 +1,49 @@
 package com.wisehero.stocktrading.order.service;
 
-import com.wisehero.stocktrading.account.domain.CashBalance;
-import com.wisehero.stocktrading.account.domain.Position;
 import com.wisehero.stocktrading.account.domain.PositionId;
-import com.wisehero.stocktrading.account.repository.CashBalanceRepository;
-import com.wisehero.stocktrading.account.repository.PositionRepository;
+import com.wisehero.stocktrading.account.ledger.AccountBook;
 import com.wisehero.stocktrading.common.api.ApiErrorCode;
 import com.wisehero.stocktrading.common.exception.ApiException;
+import com.wisehero.stocktrading.common.numeric.FixedDecimal;
+import com.wisehero.stocktrading.common.time.TradeCalendar;
 import com.wisehero.stocktrading.exchange.OrderExecutionGateway;
+import com.wisehero.stocktrading.exchange.dto.MatchExecution;
 import com.wisehero.stocktrading.exchange.dto.MatchResult;
 import com.wisehero.stocktrading.order.api.dto.OrderAmendRequest;
+import com.wisehero.stocktrading.order.api.dto.OrderBatchItemResponse;
+import com.wisehero.stocktrading.order.api.dto.OrderBatchResponse;
 import com.wisehero.stocktrading.order.api.dto.OrderCreateRequest;
 import com.wisehero.stocktrading.order.api.dto.OrderResponse;
 import com.wisehero.stocktrading.order.domain.Fill;
 import com.wisehero.stocktrading.order.domain.HoldType;
 import com.wisehero.stocktrading.order.domain.Order;
 import com.wisehero.stocktrading.order.domain.OrderHold;
+import com.wisehero.stocktrading.order.domain.OrderIdempotencyKey;
 import com.wisehero.stocktrading.order.domain.OrderSide;
-import com.wisehero.stocktrading.order.domain.OrderStatus;
 import com.wisehero.stocktrading.order.domain.OrderTif;
 import com.wisehero.stocktrading.order.domain.OrderType;
-import com.wisehero.stocktrading.order.repository.FillRepository;
+import com.wisehero.stocktrading.order.fill.FillStore;
+import com.wisehero.stocktrading.order.idempotency.IdempotencyKeyRegistry;
+import com.wisehero.stocktrading.order.idempotency.RecentOrderCache.CachedOrder;
+import com.wisehero.stocktrading.order.index.OpenOrderIndexer;
+import com.wisehero.stocktrading.order.outbox.OutboxRecorder;
 import com.wisehero.stocktrading.order.repository.OrderHoldRepository;
+import com.wisehero.stocktrading.order.repository.OrderIdempotencyKeyRepository;
 import com.wisehero.stocktrading.order.repository.OrderRepository;
+import com.wisehero.stocktrading.order.service.OrderMetrics.Stage;
+import com.wisehero.stocktrading.order.stream.ExecutionReportPublisher;
 import com.wisehero.stocktrading.quote.domain.MockQuote;
 import com.wisehero.stocktrading.quote.repository.MockQuoteRepository;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.Clock;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import org.springframework.beans.factory.annotation.Value;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,76 +54,169 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class OrderService {
 
-    private static final List<OrderStatus> REMATCHABLE_STATUSES = List.of(OrderStatus.NEW, OrderStatus.PARTIALLY_FILLED);
+    private static final int REMATCH_CHUNK_SIZE = 200;
     private static final BigDecimal ZERO = BigDecimal.ZERO;
-    private static final int MONEY_SCALE = 4;
+    private static final BigDecimal ZERO_MONEY = FixedDecimal.toBigDecimal(FixedDecimal.ZERO);
 
     private final OrderRepository orderRepository;
+    private final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
     private final OrderHoldRepository orderHoldRepository;
-    private final FillRepository fillRepository;
+    private final FillStore fillStore;
     private final MockQuoteRepository mockQuoteRepository;
-    private final CashBalanceRepository cashBalanceRepository;
-    private final PositionRepository positionRepository;
+    private final AccountBook accountBook;
     private final OrderExecutionGateway orderExecutionGateway;
-    private final BigDecimal feeRate;
+    private final OrderAmountCalculator orderAmountCalculator;
+    private final OpenOrderIndexer openOrderIndexer;
+    private final OrderMetrics orderMetrics;
+    private final IdempotencyKeyRegistry idempotencyKeyRegistry;
+    private final ExecutionReportPublisher executionReportPublisher;
+    private final OutboxRecorder outboxRecorder;
+    private final OrderArchiveService orderArchiveService;
+    private final TradeCalendar tradeCalendar;
+    private final Clock clock;
 
     public OrderService(
             OrderRepository orderRepository,
+            OrderIdempotencyKeyRepository orderIdempotencyKeyRepository,
             OrderHoldRepository orderHoldRepository,
-            FillRepository fillRepository,
+            FillStore fillStore,
             MockQuoteRepository mockQuoteRepository,
-            CashBalanceRepository cashBalanceRepository,
-            PositionRepository positionRepository,
+            AccountBook accountBook,
             OrderExecutionGateway orderExecutionGateway,
-            @Value("${trading.fee-rate:0.00015}") BigDecimal feeRate
+            OrderAmountCalculator orderAmountCalculator,
+            OpenOrderIndexer openOrderIndexer,
+            OrderMetrics orderMetrics,
+            IdempotencyKeyRegistry idempotencyKeyRegistry,
+            ExecutionReportPublisher executionReportPublisher,
+            OutboxRecorder outboxRecorder,
+            OrderArchiveService orderArchiveService,
+            TradeCalendar tradeCalendar,
+            Clock clock
     ) {
         this.orderRepository = orderRepository;
+        this.orderIdempotencyKeyRepository = orderIdempotencyKeyRepository;
         this.orderHoldRepository = orderHoldRepository;
-        this.fillRepository = fillRepository;
+        this.fillStore = fillStore;
         this.mockQuoteRepository = mockQuoteRepository;
-        this.cashBalanceRepository = cashBalanceRepository;
-        this.positionRepository = positionRepository;
+        this.accountBook = accountBook;
         this.orderExecutionGateway = orderExecutionGateway;
-        this.feeRate = feeRate == null || feeRate.compareTo(ZERO) < 0 ? ZERO : feeRate;
+        this.orderAmountCalculator = orderAmountCalculator;
+        this.openOrderIndexer = openOrderIndexer;
+        this.orderMetrics = orderMetrics;
+        this.idempotencyKeyRegistry = idempotencyKeyRegistry;
+        this.executionReportPublisher = executionReportPublisher;
+        this.outboxRecorder = outboxRecorder;
+        this.orderArchiveService = orderArchiveService;
+        this.tradeCalendar = tradeCalendar;
+        this.clock = clock;
     }
 
     @Transactional
     public OrderResponse createOrder(OrderCreateRequest request) {
         String symbol = normalizeSymbol(request.symbol());
-        OrderTif tif = resolveTif(request.orderType(), request.tif());
-        validateCreateRequest(request, tif);
+        OrderTif tif = orderMetrics.time(Stage.VALIDATION, () -> validateCreateRequest(request));
 
         // 멱등키가 같으면 기존 주문을 그대로 반환해 중복 주문 생성을 막는다.
-        Order existingOrder = orderRepository.findByAccountIdAndIdempotencyKey(request.accountId(), request.idempotencyKey())
-                .orElse(null);
-        if (existingOrder != null) {
-            return toOrderResponse(existingOrder);
+        CachedOrder cachedOrder = idempotencyKeyRegistry.findCached(request.accountId(), request.idempotencyKey());
+        if (cachedOrder != null) {
+            return toCachedOrderResponse(cachedOrder);
+        }
+
+        // 필터에 없는 키는 확실히 처음이므로 유니크 인덱스 조회를 건너뛴다.
+        boolean mightExist = idempotencyKeyRegistry.mightExist(request.accountId(), request.idempotencyKey());
+        if (mightExist) {
+            Order existingOrder = orderMetrics.time(Stage.IDEMPOTENCY_LOOKUP, () -> orderRepository
+                    .findByAccountIdAndIdempotencyKey(request.accountId(), request.idempotencyKey())
+                    .orElse(null));
+            idempotencyKeyRegistry.recordLookup(existingOrder != null);
+            if (existingOrder != null) {
+                return registerIdempotencyKey(existingOrder, toOrderResponse(existingOrder));
+            }
         }
 
-        Order order = Order.newPending(
-                request.accountId(),
-                request.idempotencyKey(),
-                symbol,
-                request.side(),
-                request.orderType(),
-                tif,
-                request.limitPrice(),
-                request.quantity()
-        );
-        orderRepository.save(order);
+        Order order = newPendingOrder(request, symbol, tif);
+        BigDecimal holdAmount = reserveForOrder(order);
+        acceptOrder(order, holdAmount, !mightExist);
 
-        OrderHold orderHold = reserveForOrder(order);
-        orderHoldRepository.save(orderHold);
+        return registerIdempotencyKey(order, toAcceptedOrderResponse(order));
+    }
 
-        // 주문 저장 직후 즉시 모의체결을 시도한다.
-        order.markAccepted();
-        applyMatch(order, orderHold);
-        postProcessByTif(order, orderHold);
+    /**
+     * 조회를 건너뛴 주문이 유니크 제약에 걸렸을 때 기존 주문을 찾아 반환한다.
+     * 다른 노드에서 접수됐거나 필터 세대에서 밀려난 멱등키가 여기에 해당한다.
+     */
+    @Transactional(readOnly = true)
+    public Optional<OrderResponse> findOrderByIdempotencyKey(Long accountId, String idempotencyKey) {
+        return orderRepository.findByAccountIdAndIdempotencyKey(accountId, idempotencyKey)
+                .map(order -> {
+                    idempotencyKeyRegistry.recordUniqueViolation();
+                    return registerIdempotencyKey(order, toOrderResponse(order));
+                });
+    }
+
+    /**
+     * 여러 주문을 한 트랜잭션에서 접수한다.
+     * 계좌 잔고/보유 종목/시세를 먼저 한 번에 읽어 두고, 주문별 검증/멱등/선점 실패는 해당 항목만 거절한다.
+     * 선점 이후 단계(체결 반영)에서 발생한 예외는 배치 전체를 롤백한다.
+     */
+    @Transactional
+    public OrderBatchResponse createOrders(List<OrderCreateRequest> requests) {
+        preloadForBatch(requests);
+        Map<IdempotencyKey, Order> ordersByKey = orderMetrics.time(Stage.IDEMPOTENCY_LOOKUP, () -> findExistingOrders(requests));
+
+        Order[] orders = new Order[requests.size()];
+        ApiException[] failures = new ApiException[requests.size()];
+        for (int i = 0; i < requests.size(); i++) {
+            OrderCreateRequest request = requests.get(i);
+            IdempotencyKey key = new IdempotencyKey(request.accountId(), request.idempotencyKey());
+
+            Order order;
+            BigDecimal holdAmount;
+            try {
+                String symbol = normalizeSymbol(request.symbol());
+                OrderTif tif = orderMetrics.time(Stage.VALIDATION, () -> validateCreateRequest(request));
+
+                // 이미 저장됐거나 같은 배치 앞쪽에서 접수된 멱등키는 기존 주문으로 응답한다.
+                Order existingOrder = ordersByKey.get(key);
+                if (existingOrder != null) {
+                    orders[i] = existingOrder;
+                    continue;
+                }
+
+                order = newPendingOrder(request, symbol, tif);
+                holdAmount = reserveForOrder(order);
+            } catch (ApiException exception) {
+                orderMetrics.recordReject(exception.getErrorCode());
+                failures[i] = exception;
+                continue;
+            }
 
-        orderRepository.save(order);
-        orderHoldRepository.save(orderHold);
+            acceptOrder(order, holdAmount, false);
+            orders[i] = order;
+            ordersByKey.put(key, order);
+        }
+
+        Map<Long, List<Fill>> fillsByOrderId = findFillsByOrderId(orders);
+        List<OrderBatchItemResponse> results = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            String idempotencyKey = requests.get(i).idempotencyKey();
+            if (failures[i] != null) {
+                results.add(OrderBatchItemResponse.failure(
+                        i,
+                        idempotencyKey,
+                        failures[i].getErrorCode(),
+                        failures[i].getMessage()
+                ));
+                continue;
+            }
 
-        return toOrderResponse(order);
+            Order order = orders[i];
+            List<Fill> fills = fillsByOrderId.getOrDefault(order.getId(), List.of());
+            OrderResponse response = orderMetrics.time(Stage.RESPONSE_MAPPING, () -> OrderResponse.from(order, fills));
+            results.add(OrderBatchItemResponse.success(i, idempotencyKey, registerIdempotencyKey(order, response)));
+        }
+
+        return OrderBatchResponse.of(results);
     }
 
     @Transactional
@@ -137,7 +244,7 @@ public class OrderService {
         applyMatch(order, hold);
         postProcessByTif(order, hold);
 
-        orderRepository.save(order);
+        saveOrder(order);
         orderHoldRepository.save(hold);
 
         return toOrderResponse(order);
@@ -157,100 +264,167 @@ public class OrderService {
         order.markCanceled();
         releaseRemainingHold(order, hold);
 
-        orderRepository.save(order);
+        saveOrder(order);
         orderHoldRepository.save(hold);
 
         return toOrderResponse(order);
     }
 
+    /** 운영 테이블에 없으면 보관 테이블에서 찾는다. */
     @Transactional(readOnly = true)
     public OrderResponse getOrder(Long orderId, Long accountId) {
-        Order order = getOrderOrThrow(orderId, accountId);
-        return toOrderResponse(order);
+        Optional<Order> order = orderRepository.findByIdAndAccountId(orderId, accountId);
+        if (order.isPresent()) {
+            return toOrderResponse(order.get());
+        }
+        return orderArchiveService.findArchivedOrder(orderId, accountId)
+                .orElseThrow(() -> new ApiException(ApiErrorCode.ORDER_NOT_FOUND));
+    }
+
+    @Transactional(readOnly = true)
+    public String getOrderSymbol(Long orderId, Long accountId) {
+        return getOrderOrThrow(orderId, accountId).getSymbol();
     }
 
     @Transactional
     public void rematchOpenOrdersForSymbol(String symbol) {
         String normalizedSymbol = normalizeSymbol(symbol);
-        List<Order> openOrders = orderRepository.findBySymbolAndStatusInOrderByCreatedAtAscIdAsc(
-                normalizedSymbol,
-                REMATCHABLE_STATUSES
-        );
+        if (!orderExecutionGateway.hasLiquidity(normalizedSymbol)) {
+            return;
+        }
 
-        for (Order order : openOrders) {
-            if (!order.isOpen()) {
-                continue;
+        MockQuote quote = mockQuoteRepository.findById(normalizedSymbol).orElse(null);
+        if (quote == null) {
+            return;
+        }
+
+        // 가격 인덱스에서 현재 시세와 교차하는 DAY 지정가 주문만 가격-시간 우선순위로 꺼내 재매칭한다.
+        List<Long> candidateIds = openOrderIndexer.findCrossingOrderIds(normalizedSymbol, quote.getPrice());
+        for (int from = 0; from < candidateIds.size(); from += REMATCH_CHUNK_SIZE) {
+            List<Long> chunkIds = candidateIds.subList(from, Math.min(from + REMATCH_CHUNK_SIZE, candidateIds.size()));
+            if (!rematchChunk(normalizedSymbol, chunkIds)) {
+                return;
             }
+        }
+    }
 
-            // 시세 갱신 시점에 DAY + NEW/PARTIALLY_FILLED 주문만 다시 체결 시도한다.
-            if (order.getTif() != OrderTif.DAY) {
+    /**
+     * 묶음 단위로 주문/선점/잔고/보유 종목을 IN 조회한 뒤 인덱스 순서대로 재매칭한다.
+     * 시세 유동성이 소진되면 false를 돌려 이후 묶음은 조회하지 않는다.
+     */
+    private boolean rematchChunk(String symbol, List<Long> orderIds) {
+        Map<Long, Order> ordersById = new HashMap<>();
+        for (Order order : orderRepository.findAllById(orderIds)) {
+            ordersById.put(order.getId(), order);
+        }
+
+        List<Order> chunk = new ArrayList<>(orderIds.size());
+        Set<Long> accountIds = new HashSet<>();
+        Set<PositionId> positionIds = new HashSet<>();
+        for (Long orderId : orderIds) {
+            Order order = ordersById.get(orderId);
+            // 인덱스는 커밋 이후에 갱신되므로 DB 상태로 한 번 더 거른다.
+            if (order == null || !order.isOpen() || order.getTif() != OrderTif.DAY || !orderExecutionGateway.isMatchable(order)) {
                 continue;
             }
+            chunk.add(order);
+            accountIds.add(order.getAccountId());
+            positionIds.add(new PositionId(order.getAccountId(), symbol));
+        }
+        if (chunk.isEmpty()) {
+            return true;
+        }
 
-            OrderHold hold = getOrderHoldOrThrow(order.getId());
-            applyMatch(order, hold);
-            postProcessByTif(order, hold);
-
-            orderRepository.save(order);
-            orderHoldRepository.save(hold);
+        Map<Long, OrderHold> holdsByOrderId = new HashMap<>();
+        for (OrderHold hold : orderHoldRepository.findByOrderIdIn(orderIds)) {
+            holdsByOrderId.put(hold.getOrderId(), hold);
         }
-    }
+        accountBook.preload(accountIds, positionIds);
 
-    @Transactional
-    public int expireDayOrders() {
-        List<Order> dayOrders = orderRepository.findByTifAndStatusInOrderByCreatedAtAscIdAsc(
-                OrderTif.DAY,
-                REMATCHABLE_STATUSES
-        );
+        for (Order order : chunk) {
+            if (!orderExecutionGateway.hasLiquidity(symbol)) {
+                return false;
+            }
 
-        int expiredCount = 0;
-        for (Order order : dayOrders) {
-            if (!order.isOpen()) {
-                continue;
+            OrderHold hold = holdsByOrderId.get(order.getId());
+            if (hold == null) {
+                throw new ApiException(ApiErrorCode.ORDER_INVALID_STATUS, "주문 선점 정보를 찾을 수 없습니다.");
             }
 
-            OrderHold hold = getOrderHoldOrThrow(order.getId());
-            order.markExpired();
-            releaseRemainingHold(order, hold);
+            applyMatch(order, hold);
+            postProcessByTif(order, hold);
 
-            orderRepository.save(order);
+            saveOrder(order);
             orderHoldRepository.save(hold);
-            expiredCount++;
         }
-
-        return expiredCount;
+        return true;
     }
 
     private void applyMatch(Order order, OrderHold hold) {
-        MatchResult matchResult = orderExecutionGateway.match(order);
+        MatchResult matchResult = orderMetrics.time(Stage.GATEWAY_MATCH, () -> orderExecutionGateway.match(order));
         if (!matchResult.hasFill()) {
             return;
         }
 
-        BigDecimal fillQuantity = matchResult.fillQuantity();
-        BigDecimal fillPrice = matchResult.fillPrice();
-        BigDecimal notional = toMoney(fillPrice.multiply(fillQuantity));
-        BigDecimal feeAmount = calculateFee(notional);
-        BigDecimal taxAmount = ZERO.setScale(MONEY_SCALE, RoundingMode.HALF_UP);
+        for (MatchExecution execution : matchResult.executions()) {
+            applyFill(order, hold, execution.executionId(), execution.fillPrice(), execution.fillQuantity());
 
-        order.applyFill(fillQuantity);
+            // 호가창에 대기 중이던 상대 주문도 같은 가격/수량으로 체결 처리한다.
+            if (execution.hasCounterOrder()) {
+                applyCounterFill(execution);
+            }
+        }
+    }
+
+    private void applyCounterFill(MatchExecution execution) {
+        Order counterOrder = orderRepository.findById(execution.counterOrderId())
+                .orElseThrow(() -> new ApiException(ApiErrorCode.ORDER_NOT_FOUND));
+        OrderHold counterHold = getOrderHoldOrThrow(counterOrder.getId());
+
+        applyFill(counterOrder, counterHold, execution.counterExecutionId(), execution.fillPrice(), execution.fillQuantity());
+
+        saveOrder(counterOrder);
+        orderHoldRepository.save(counterHold);
+    }
+
+    private void applyFill(
+            Order order,
+            OrderHold hold,
+            String executionId,
+            long fillPrice,
+            long fillQuantity
+    ) {
+        // 대금/수수료는 고정소수점으로 계산하고 엔티티에 반영할 때만 BigDecimal로 변환한다.
+        long notional = orderAmountCalculator.notional(fillPrice, fillQuantity);
+        long feeAmount = orderAmountCalculator.fee(notional);
+        BigDecimal fillPriceValue = FixedDecimal.toBigDecimal(fillPrice);
+        BigDecimal fillQuantityValue = FixedDecimal.toBigDecimal(fillQuantity);
 
+        order.applyFill(fillQuantityValue);
+
+        Instant filledAt = Instant.now(clock);
         Fill fill = Fill.create(
-                matchResult.executionId(),
+                executionId,
                 order.getId(),
-                fillPrice,
-                fillQuantity,
-                feeAmount,
-                taxAmount,
-                Instant.now()
+                fillPriceValue,
+                fillQuantityValue,
+                FixedDecimal.toBigDecimal(feeAmount),
+                ZERO_MONEY,
+                filledAt,
+                tradeCalendar.tradeDateOf(filledAt)
         );
-        fillRepository.save(fill);
-
-        if (order.getSide() == OrderSide.BUY) {
-            applyBuyFill(order, hold, fillQuantity, fillPrice, notional, feeAmount);
-        } else {
-            applySellFill(order, hold, fillQuantity, notional, feeAmount);
-        }
+        orderMetrics.time(Stage.FILL_PERSIST, () -> fillStore.append(fill));
+        orderMetrics.recordFill();
+        executionReportPublisher.recordFill(order, fill);
+        outboxRecorder.recordFill(order, fill);
+
+        orderMetrics.time(Stage.BALANCE_UPDATE, () -> {
+            if (order.getSide() == OrderSide.BUY) {
+                applyBuyFill(order, hold, fillQuantityValue, fillPriceValue, FixedDecimal.add(notional, feeAmount));
+            } else {
+                applySellFill(order, hold, fillQuantityValue, FixedDecimal.subtract(notional, feeAmount));
+            }
+        });
 
         // 완전체결되면 남아있는 선점분을 즉시 해제한다.
         if (!order.isOpen()) {
@@ -263,77 +437,136 @@ public class OrderService {
             OrderHold hold,
             BigDecimal fillQuantity,
             BigDecimal fillPrice,
-            BigDecimal notional,
-            BigDecimal feeAmount
+            long settlement
     ) {
-        BigDecimal settlementAmount = notional.add(feeAmount);
+        BigDecimal settlementAmount = FixedDecimal.toBigDecimal(settlement);
 
         hold.consume(settlementAmount);
 
-        CashBalance cashBalance = getCashBalanceOrThrow(order.getAccountId());
-        cashBalance.consumeHeld(settlementAmount);
-        cashBalanceRepository.save(cashBalance);
-
-        PositionId positionId = new PositionId(order.getAccountId(), order.getSymbol());
-        Position position = positionRepository.findById(positionId)
-                .orElseGet(() -> Position.create(order.getAccountId(), order.getSymbol(), ZERO, ZERO));
-        position.addBoughtQuantity(fillQuantity, fillPrice);
-        positionRepository.save(position);
+        accountBook.consumeHeldCash(order.getAccountId(), settlementAmount);
+        accountBook.addBoughtQuantity(order.getAccountId(), order.getSymbol(), fillQuantity, fillPrice);
     }
 
     private void applySellFill(
             Order order,
             OrderHold hold,
             BigDecimal fillQuantity,
-            BigDecimal notional,
-            BigDecimal feeAmount
+            long settlement
     ) {
         hold.consume(fillQuantity);
 
-        Position position = getPositionOrThrow(order.getAccountId(), order.getSymbol());
-        position.consumeHeld(fillQuantity);
-        positionRepository.save(position);
+        accountBook.consumeHeldQuantity(order.getAccountId(), order.getSymbol(), fillQuantity);
 
-        BigDecimal settlementAmount = notional.subtract(feeAmount);
-        if (settlementAmount.compareTo(ZERO) > 0) {
-            CashBalance cashBalance = getCashBalanceOrThrow(order.getAccountId());
-            cashBalance.addAvailable(settlementAmount);
-            cashBalanceRepository.save(cashBalance);
+        if (settlement > 0) {
+            accountBook.addAvailableCash(order.getAccountId(), FixedDecimal.toBigDecimal(settlement));
         }
     }
 
-    private OrderHold reserveForOrder(Order order) {
-        if (order.getSide() == OrderSide.BUY) {
-            return reserveCashForBuyOrder(order);
+    private Order newPendingOrder(OrderCreateRequest request, String symbol, OrderTif tif) {
+        return Order.newPending(
+                request.accountId(),
+                request.idempotencyKey(),
+                symbol,
+                request.side(),
+                request.orderType(),
+                tif,
+                request.limitPrice(),
+                request.quantity(),
+                tradeCalendar.today()
+        );
+    }
+
+    /**
+     * 선점이 끝난 주문을 저장하고 즉시 모의체결을 시도한다.
+     * 선점 실패 시 주문이 남지 않도록 저장은 선점 이후에 한다.
+     * 멱등키 조회를 건너뛴 주문은 호가창에 반영되기 전에 INSERT를 내려 유니크 제약 위반을 먼저 확인한다.
+     * 멱등키 유니크 검사는 거래일과 관계없는 {@code order_idempotency_keys}가 맡는다.
+     */
+    private void acceptOrder(Order order, BigDecimal holdAmount, boolean verifyIdempotencyKey) {
+        orderRepository.save(order);
+        orderIdempotencyKeyRepository.save(OrderIdempotencyKey.of(order));
+        if (verifyIdempotencyKey) {
+            orderRepository.flush();
         }
 
-        return reserveQuantityForSellOrder(order);
+        HoldType holdType = order.getSide() == OrderSide.BUY ? HoldType.CASH : HoldType.QUANTITY;
+        OrderHold orderHold = OrderHold.create(order.getId(), order.getAccountId(), holdType, holdAmount);
+        orderHoldRepository.save(orderHold);
+
+        // 주문 저장 직후 즉시 모의체결을 시도한다.
+        order.markAccepted();
+        applyMatch(order, orderHold);
+        postProcessByTif(order, orderHold);
+
+        saveOrder(order);
+        orderHoldRepository.save(orderHold);
+    }
+
+    private BigDecimal reserveForOrder(Order order) {
+        return orderMetrics.time(Stage.RESERVE, () -> {
+            if (order.getSide() == OrderSide.BUY) {
+                return reserveCashForBuyOrder(order);
+            }
+
+            return reserveQuantityForSellOrder(order);
+        });
     }
 
-    private OrderHold reserveCashForBuyOrder(Order order) {
+    private BigDecimal reserveCashForBuyOrder(Order order) {
         BigDecimal reserveAmount = calculateReserveAmount(resolveReservePrice(order), order.getQuantity());
 
-        CashBalance cashBalance = getCashBalanceOrThrow(order.getAccountId());
-        try {
-            cashBalance.hold(reserveAmount);
-        } catch (IllegalStateException exception) {
-            throw new ApiException(ApiErrorCode.ACCOUNT_INSUFFICIENT_CASH);
+        accountBook.holdCash(order.getAccountId(), reserveAmount);
+        return reserveAmount;
+    }
+
+    private BigDecimal reserveQuantityForSellOrder(Order order) {
+        accountBook.holdQuantity(order.getAccountId(), order.getSymbol(), order.getQuantity());
+        return order.getQuantity();
+    }
+
+    /**
+     * 배치에 포함된 계좌를 한 번에 잡고 잔고/보유 종목/시세를 미리 읽어 둔다.
+     * 이후 주문별 조회는 쿼리 없이 같은 값을 돌려받으므로 계좌당 한 번만 읽고 한 번만 갱신된다.
+     */
+    private void preloadForBatch(List<OrderCreateRequest> requests) {
+        Set<Long> accountIds = new HashSet<>();
+        Set<PositionId> positionIds = new HashSet<>();
+        Set<String> symbols = new HashSet<>();
+        for (OrderCreateRequest request : requests) {
+            String symbol = normalizeSymbol(request.symbol());
+            accountIds.add(request.accountId());
+            positionIds.add(new PositionId(request.accountId(), symbol));
+            symbols.add(symbol);
         }
-        cashBalanceRepository.save(cashBalance);
 
-        return OrderHold.create(order.getId(), order.getAccountId(), HoldType.CASH, reserveAmount);
+        accountBook.preload(accountIds, positionIds);
+        mockQuoteRepository.findAllById(symbols);
     }
 
-    private OrderHold reserveQuantityForSellOrder(Order order) {
-        Position position = getPositionOrThrow(order.getAccountId(), order.getSymbol());
-        try {
-            position.hold(order.getQuantity());
-        } catch (IllegalStateException exception) {
-            throw new ApiException(ApiErrorCode.ACCOUNT_INSUFFICIENT_QUANTITY);
+    private Map<IdempotencyKey, Order> findExistingOrders(List<OrderCreateRequest> requests) {
+        Map<Long, Set<String>> keysByAccountId = new HashMap<>();
+        for (OrderCreateRequest request : requests) {
+            keysByAccountId.computeIfAbsent(request.accountId(), accountId -> new HashSet<>())
+                    .add(request.idempotencyKey());
         }
-        positionRepository.save(position);
 
-        return OrderHold.create(order.getId(), order.getAccountId(), HoldType.QUANTITY, order.getQuantity());
+        Map<IdempotencyKey, Order> ordersByKey = new HashMap<>();
+        keysByAccountId.forEach((accountId, keys) -> {
+            for (Order order : orderRepository.findByAccountIdAndIdempotencyKeyIn(accountId, keys)) {
+                ordersByKey.put(new IdempotencyKey(order.getAccountId(), order.getIdempotencyKey()), order);
+            }
+        });
+        return ordersByKey;
+    }
+
+    private Map<Long, List<Fill>> findFillsByOrderId(Order[] orders) {
+        Set<Long> orderIds = new HashSet<>();
+        for (Order order : orders) {
+            if (order != null) {
+                orderIds.add(order.getId());
+            }
+        }
+        return fillStore.findByOrderIdIn(orderIds);
     }
 
     private void adjustHoldForAmend(
@@ -362,10 +595,7 @@ public class OrderService {
         }
 
         hold.release(releaseQuantity);
-
-        Position position = getPositionOrThrow(order.getAccountId(), order.getSymbol());
-        position.releaseHeld(releaseQuantity);
-        positionRepository.save(position);
+        accountBook.releaseHeldQuantity(order.getAccountId(), order.getSymbol(), releaseQuantity);
     }
 
     private void adjustBuyHoldForAmend(
@@ -382,23 +612,25 @@ public class OrderService {
             return;
         }
 
-        CashBalance cashBalance = getCashBalanceOrThrow(order.getAccountId());
         if (compared > 0) {
             BigDecimal additionalHold = targetRemainingHold.subtract(currentRemainingHold);
-            try {
-                cashBalance.hold(additionalHold);
-            } catch (IllegalStateException exception) {
-                throw new ApiException(ApiErrorCode.ACCOUNT_INSUFFICIENT_CASH);
-            }
+            accountBook.holdCash(order.getAccountId(), additionalHold);
             hold.increaseTotal(additionalHold);
-            cashBalanceRepository.save(cashBalance);
             return;
         }
 
         BigDecimal releaseAmount = currentRemainingHold.subtract(targetRemainingHold);
         hold.release(releaseAmount);
-        cashBalance.releaseHeld(releaseAmount);
-        cashBalanceRepository.save(cashBalance);
+        accountBook.releaseHeldCash(order.getAccountId(), releaseAmount);
+    }
+
+    /** 선점 금액이 고정소수점(long) 범위를 넘으면 어떤 잔고로도 선점할 수 없으므로 요청 오류로 돌려준다. */
+    private BigDecimal calculateReserveAmount(BigDecimal price, BigDecimal quantity) {
+        try {
+            return orderAmountCalculator.reserveAmount(price, quantity);
+        } catch (ArithmeticException exception) {
+            throw new ApiException(ApiErrorCode.ORDER_AMOUNT_OUT_OF_RANGE);
+        }
     }
 
     private void postProcessByTif(Order order, OrderHold hold) {
@@ -421,15 +653,11 @@ public class OrderService {
         }
 
         if (hold.getHoldType() == HoldType.CASH) {
-            CashBalance cashBalance = getCashBalanceOrThrow(order.getAccountId());
-            cashBalance.releaseHeld(releaseAmount);
-            cashBalanceRepository.save(cashBalance);
+            accountBook.releaseHeldCash(order.getAccountId(), releaseAmount);
             return;
         }
 
-        Position position = getPositionOrThrow(order.getAccountId(), order.getSymbol());
-        position.releaseHeld(releaseAmount);
-        positionRepository.save(position);
+        accountBook.releaseHeldQuantity(order.getAccountId(), order.getSymbol(), releaseAmount);
     }
 
     private BigDecimal resolveReservePrice(Order order) {
@@ -443,23 +671,6 @@ public class OrderService {
         return quote.getPrice();
     }
 
-    private BigDecimal calculateReserveAmount(BigDecimal reservePrice, BigDecimal quantity) {
-        BigDecimal reserveNotional = toMoney(reservePrice.multiply(quantity));
-        BigDecimal reserveFee = calculateFee(reserveNotional);
-        return reserveNotional.add(reserveFee);
-    }
-
-    private BigDecimal calculateFee(BigDecimal notional) {
-        if (feeRate.compareTo(ZERO) <= 0 || notional.compareTo(ZERO) <= 0) {
-            return ZERO.setScale(MONEY_SCALE, RoundingMode.HALF_UP);
-        }
-        return toMoney(notional.multiply(feeRate));
-    }
-
-    private BigDecimal toMoney(BigDecimal value) {
-        return value.setScale(MONEY_SCALE, RoundingMode.HALF_UP);
-    }
-
     private Order getOrderOrThrow(Long orderId, Long accountId) {
         return orderRepository.findByIdAndAccountId(orderId, accountId)
                 .orElseThrow(() -> new ApiException(ApiErrorCode.ORDER_NOT_FOUND));
@@ -470,17 +681,9 @@ public class OrderService {
                 .orElseThrow(() -> new ApiException(ApiErrorCode.ORDER_INVALID_STATUS, "주문 선점 정보를 찾을 수 없습니다."));
     }
 
-    private CashBalance getCashBalanceOrThrow(Long accountId) {
-        return cashBalanceRepository.findById(accountId)
-                .orElseThrow(() -> new ApiException(ApiErrorCode.ACCOUNT_NOT_FOUND));
-    }
-
-    private Position getPositionOrThrow(Long accountId, String symbol) {
-        return positionRepository.findById(new PositionId(accountId, symbol))
-                .orElseThrow(() -> new ApiException(ApiErrorCode.ACCOUNT_POSITION_NOT_FOUND));
-    }
-
-    private void validateCreateRequest(OrderCreateRequest request, OrderTif tif) {
+    /** 생성 요청을 검증하고 확정된 TIF를 반환한다. */
+    private OrderTif validateCreateRequest(OrderCreateRequest request) {
+        OrderTif tif = resolveTif(request.orderType(), request.tif());
         if (request.quantity().compareTo(ZERO) <= 0) {
             throw new ApiException(ApiErrorCode.ORDER_INVALID_QUANTITY);
         }
@@ -499,6 +702,11 @@ public class OrderService {
         if (request.orderType() == OrderType.MARKET && tif != OrderTif.IOC) {
             throw new ApiException(ApiErrorCode.ORDER_INVALID_TIF);
         }
+
+        if (!FixedDecimal.fits(request.quantity()) || (request.limitPrice() != null && !FixedDecimal.fits(request.limitPrice()))) {
+            throw new ApiException(ApiErrorCode.ORDER_AMOUNT_OUT_OF_RANGE);
+        }
+        return tif;
     }
 
     private void validateAmendRequest(Order order, OrderAmendRequest request) {
@@ -515,6 +723,9 @@ public class OrderService {
         if (request.amendedLimitPrice() != null && request.amendedLimitPrice().compareTo(ZERO) <= 0) {
             throw new ApiException(ApiErrorCode.ORDER_AMEND_INVALID_REQUEST);
         }
+        if (request.amendedLimitPrice() != null && !FixedDecimal.fits(request.amendedLimitPrice())) {
+            throw new ApiException(ApiErrorCode.ORDER_AMOUNT_OUT_OF_RANGE);
+        }
 
         if (request.amendedRemainingQuantity() == null) {
             return;
@@ -557,8 +768,39 @@ public class OrderService {
         return symbol.trim().toUpperCase();
     }
 
+    private void saveOrder(Order order) {
+        orderRepository.save(order);
+        openOrderIndexer.track(order);
+        executionReportPublisher.recordOrder(order);
+        outboxRecorder.recordOrder(order);
+    }
+
+    private OrderResponse toCachedOrderResponse(CachedOrder cachedOrder) {
+        if (cachedOrder.terminalResponse() != null) {
+            return cachedOrder.terminalResponse();
+        }
+        Order order = orderRepository.findById(cachedOrder.orderId())
+                .orElseThrow(() -> new ApiException(ApiErrorCode.ORDER_NOT_FOUND));
+        return toOrderResponse(order);
+    }
+
+    private OrderResponse registerIdempotencyKey(Order order, OrderResponse response) {
+        idempotencyKeyRegistry.register(order, response);
+        return response;
+    }
+
     private OrderResponse toOrderResponse(Order order) {
-        List<Fill> fills = fillRepository.findByOrderIdOrderByIdAsc(order.getId());
-        return OrderResponse.from(order, fills);
+        return orderMetrics.time(Stage.RESPONSE_MAPPING, () -> {
+            List<Fill> fills = fillStore.findByOrderId(order.getId());
+            return OrderResponse.from(order, fills);
+        });
+    }
+
+    /** 방금 접수한 주문은 이번 트랜잭션에서 추가한 체결만 있으므로 다시 조회하지 않는다. */
+    private OrderResponse toAcceptedOrderResponse(Order order) {
+        return orderMetrics.time(Stage.RESPONSE_MAPPING, () -> OrderResponse.from(order, fillStore.findAppended(order.getId())));
+    }
+
+    private record IdempotencyKey(Long accountId, String idempotencyKey) {
     }
 }
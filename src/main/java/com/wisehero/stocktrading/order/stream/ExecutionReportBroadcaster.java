@@ -0,0 +1,217 @@
+package com.wisehero.stocktrading.order.stream;
+
+import com.wisehero.stocktrading.common.api.ApiErrorCode;
+import com.wisehero.stocktrading.common.concurrent.WorkerThreads;
+import com.wisehero.stocktrading.common.exception.ApiException;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 계좌별 실행 보고 SSE 연결을 관리하고 커밋된 주문 상태/체결 이벤트를 밀어 준다.
+ * <p>
+ * 연결마다 크기가 제한된 큐를 두고, 발행 스레드는 큐에 넣기만 한다. 실제 전송은 송신 풀이 연결당 하나의 작업으로 순서대로 처리하므로
+ * 느린 클라이언트가 주문 트랜잭션을 붙잡지 않는다. 큐가 가득 찬 연결은 밀린 이벤트를 버리고 {@code resync} 이벤트를 보낸 뒤 닫는다.
+ * 클라이언트는 다시 연결한 뒤 주문 조회 API로 상태를 맞춘다.
+ */
+@Component
+public class ExecutionReportBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutionReportBroadcaster.class);
+    private static final StreamEvent HEARTBEAT = new StreamEvent(0L, null, null);
+
+    private final Map<Long, List<Subscription>> subscriptionsByAccountId = new ConcurrentHashMap<>();
+    private final AtomicLong eventSequence = new AtomicLong();
+    private final ExecutorService senders;
+    private final int bufferSize;
+    private final int maxSubscriptionsPerAccount;
+    private final long timeoutMillis;
+
+    public ExecutionReportBroadcaster(
+            @Value("${trading.execution-stream.buffer-size:256}") int bufferSize,
+            @Value("${trading.execution-stream.max-subscriptions-per-account:4}") int maxSubscriptionsPerAccount,
+            @Value("${trading.execution-stream.sender-threads:4}") int senderThreads,
+            @Value("${trading.execution-stream.timeout:PT30M}") Duration timeout,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        if (bufferSize <= 0 || maxSubscriptionsPerAccount <= 0 || senderThreads <= 0) {
+            throw new IllegalArgumentException(
+                    "trading.execution-stream buffer-size, max-subscriptions-per-account and sender-threads must be positive");
+        }
+        this.bufferSize = bufferSize;
+        this.maxSubscriptionsPerAccount = maxSubscriptionsPerAccount;
+        this.timeoutMillis = timeout.toMillis();
+        this.senders = Executors.newFixedThreadPool(
+                senderThreads,
+                WorkerThreads.factory("execution-report-sender-", virtualThreads)
+        );
+    }
+
+    /** 계좌의 실행 보고 스트림을 연다. 계좌당 연결 수를 넘으면 {@link ApiErrorCode#TOO_MANY_REQUESTS}. */
+    public SseEmitter subscribe(Long accountId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscription subscription = new Subscription(accountId, emitter);
+
+        subscriptionsByAccountId.compute(accountId, (id, subscriptions) -> {
+            List<Subscription> current = subscriptions == null ? new CopyOnWriteArrayList<>() : subscriptions;
+            if (current.size() >= maxSubscriptionsPerAccount) {
+                throw new ApiException(ApiErrorCode.TOO_MANY_REQUESTS, "계좌당 실행 보고 연결 수를 초과했습니다.");
+            }
+            current.add(subscription);
+            return current;
+        });
+
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscription.close());
+        return emitter;
+    }
+
+    /** 구독 중인 연결이 없는 계좌는 발행자가 이벤트를 만들지 않고 건너뛴다. */
+    public boolean hasSubscribers(Long accountId) {
+        return subscriptionsByAccountId.containsKey(accountId);
+    }
+
+    /** 계좌의 모든 연결 큐에 이벤트를 넣는다. 전송은 송신 풀에서 비동기로 이뤄진다. */
+    public void publish(Long accountId, String eventName, Object payload) {
+        List<Subscription> subscriptions = subscriptionsByAccountId.get(accountId);
+        if (subscriptions == null) {
+            return;
+        }
+        StreamEvent event = new StreamEvent(eventSequence.incrementAndGet(), eventName, payload);
+        for (Subscription subscription : subscriptions) {
+            subscription.offer(event);
+        }
+    }
+
+    /** 끊긴 연결을 찾아내고 중간 프록시가 유휴 연결을 닫지 않도록 주석 줄을 보낸다. */
+    @Scheduled(
+            fixedDelayString = "${trading.execution-stream.heartbeat-interval:PT15S}",
+            initialDelayString = "${trading.execution-stream.heartbeat-interval:PT15S}"
+    )
+    public void heartbeat() {
+        subscriptionsByAccountId.values().forEach(subscriptions -> subscriptions.forEach(s -> s.offer(HEARTBEAT)));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        subscriptionsByAccountId.values().forEach(subscriptions -> subscriptions.forEach(s -> s.emitter.complete()));
+        senders.shutdown();
+        senders.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private void remove(Subscription subscription) {
+        subscriptionsByAccountId.computeIfPresent(subscription.accountId, (id, subscriptions) -> {
+            subscriptions.remove(subscription);
+            return subscriptions.isEmpty() ? null : subscriptions;
+        });
+    }
+
+    private record StreamEvent(long id, String name, Object payload) {
+    }
+
+    private final class Subscription {
+
+        private final Long accountId;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<StreamEvent> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean overflowed;
+        private volatile boolean closed;
+
+        private Subscription(Long accountId, SseEmitter emitter) {
+            this.accountId = accountId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        /** 발행 스레드. 큐에 넣기만 하고, 가득 차면 넘침으로 표시해 송신 작업이 연결을 정리하게 한다. */
+        private void offer(StreamEvent event) {
+            if (closed || overflowed) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                overflowed = true;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (!scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                senders.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+                close();
+            }
+        }
+
+        /** 송신 스레드. 연결당 한 번에 하나만 실행되며 큐가 빌 때까지 보낸다. */
+        private void drain() {
+            try {
+                do {
+                    if (overflowed) {
+                        resync();
+                        return;
+                    }
+                    StreamEvent event;
+                    while (!closed && (event = queue.poll()) != null) {
+                        send(event);
+                    }
+                    scheduled.set(false);
+                } while (!closed && (!queue.isEmpty() || overflowed) && scheduled.compareAndSet(false, true));
+            } catch (IOException | IllegalStateException e) {
+                // 전송 실패는 컨테이너가 비동기 요청을 정리하므로 구독만 해제한다.
+                log.debug("실행 보고 연결 종료 - 계좌: {}, 사유: {}", accountId, e.getMessage());
+                close();
+            }
+        }
+
+        private void send(StreamEvent event) throws IOException {
+            if (event == HEARTBEAT) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+                return;
+            }
+            emitter.send(SseEmitter.event()
+                    .id(Long.toString(event.id()))
+                    .name(event.name())
+                    .data(event.payload(), MediaType.APPLICATION_JSON));
+        }
+
+        private void resync() throws IOException {
+            log.warn("실행 보고 버퍼 초과로 연결 종료 - 계좌: {}, 버퍼: {}", accountId, bufferSize);
+            close();
+            queue.clear();
+            emitter.send(SseEmitter.event().name("resync").data("buffer overflow"));
+            emitter.complete();
+        }
+
+        private void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            remove(this);
+        }
+    }
+}
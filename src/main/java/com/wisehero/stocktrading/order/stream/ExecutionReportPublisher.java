@@ -0,0 +1,117 @@
+package com.wisehero.stocktrading.order.stream;
+
+import com.wisehero.stocktrading.order.api.dto.FillEvent;
+import com.wisehero.stocktrading.order.api.dto.OrderUpdateEvent;
+import com.wisehero.stocktrading.order.domain.Fill;
+import com.wisehero.stocktrading.order.domain.Order;
+import com.wisehero.stocktrading.order.domain.OrderStatus;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 주문 상태 변경과 체결을 트랜잭션 단위로 모아 커밋 후 {@link ExecutionReportBroadcaster}로 내보낸다.
+ * <p>
+ * 체결은 기록한 순서대로, 주문 상태는 주문별 최종 상태 한 건만 체결 뒤에 보낸다. 롤백된 변경은 보내지 않는다.
+ * 구독 중인 연결이 없는 계좌의 변경은 처음부터 모으지 않는다.
+ */
+@Component
+public class ExecutionReportPublisher {
+
+    private static final String ORDER_EVENT = "order";
+    private static final String FILL_EVENT = "fill";
+
+    private final ExecutionReportBroadcaster broadcaster;
+
+    public ExecutionReportPublisher(ExecutionReportBroadcaster broadcaster) {
+        this.broadcaster = broadcaster;
+    }
+
+    public void recordOrder(Order order) {
+        if (!broadcaster.hasSubscribers(order.getAccountId())) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            broadcaster.publish(order.getAccountId(), ORDER_EVENT, OrderUpdateEvent.from(order));
+            return;
+        }
+        pendingReports().orders.put(order.getId(), order);
+    }
+
+    public void recordFill(Order order, Fill fill) {
+        if (!broadcaster.hasSubscribers(order.getAccountId())) {
+            return;
+        }
+        FillEvent event = FillEvent.of(order, fill);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            broadcaster.publish(order.getAccountId(), FILL_EVENT, event);
+            return;
+        }
+        pendingReports().fills.add(event);
+    }
+
+    /** 엔티티를 거치지 않고 일괄 만료된 주문을 커밋 후 EXPIRED 상태로 내보낸다. */
+    public void recordExpired(Collection<Order> orders, Instant expiredAt) {
+        for (Order order : orders) {
+            if (!broadcaster.hasSubscribers(order.getAccountId())) {
+                continue;
+            }
+            OrderUpdateEvent event = OrderUpdateEvent.of(order, OrderStatus.EXPIRED, expiredAt);
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                broadcaster.publish(order.getAccountId(), ORDER_EVENT, event);
+                continue;
+            }
+            pendingReports().expired.add(event);
+        }
+    }
+
+    private PendingReports pendingReports() {
+        PendingReports pending = (PendingReports) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingReports();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new PendingReportSynchronization(pending));
+        }
+        return pending;
+    }
+
+    private static final class PendingReports {
+
+        private final List<FillEvent> fills = new ArrayList<>();
+        private final Map<Long, Order> orders = new LinkedHashMap<>();
+        private final List<OrderUpdateEvent> expired = new ArrayList<>();
+    }
+
+    private final class PendingReportSynchronization implements TransactionSynchronization {
+
+        private final PendingReports pending;
+
+        private PendingReportSynchronization(PendingReports pending) {
+            this.pending = pending;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ExecutionReportPublisher.this);
+            if (status != STATUS_COMMITTED) {
+                return;
+            }
+            for (FillEvent fill : pending.fills) {
+                broadcaster.publish(fill.accountId(), FILL_EVENT, fill);
+            }
+            // 주문 엔티티는 커밋 시점의 최종 상태(갱신 시각 포함)로 변환한다.
+            for (Order order : pending.orders.values()) {
+                broadcaster.publish(order.getAccountId(), ORDER_EVENT, OrderUpdateEvent.from(order));
+            }
+            for (OrderUpdateEvent order : pending.expired) {
+                broadcaster.publish(order.accountId(), ORDER_EVENT, order);
+            }
+        }
+    }
+}
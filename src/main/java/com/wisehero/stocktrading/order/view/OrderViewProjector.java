@@ -0,0 +1,238 @@
+package com.wisehero.stocktrading.order.view;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wisehero.stocktrading.order.api.dto.FillEvent;
+import com.wisehero.stocktrading.order.api.dto.FillResponse;
+import com.wisehero.stocktrading.order.api.dto.OrderUpdateEvent;
+import com.wisehero.stocktrading.order.domain.Fill;
+import com.wisehero.stocktrading.order.domain.Order;
+import com.wisehero.stocktrading.order.domain.OrderView;
+import com.wisehero.stocktrading.order.fill.FillStore;
+import com.wisehero.stocktrading.order.outbox.OutboxMessage;
+import com.wisehero.stocktrading.order.outbox.OutboxSink;
+import com.wisehero.stocktrading.order.repository.OrderRepository;
+import com.wisehero.stocktrading.order.repository.OrderViewRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 아웃박스 묶음을 {@code order_views}에 반영한다. 릴레이 스레드에서 묶음 하나를 트랜잭션 하나로 처리하므로
+ * 주문/체결 트랜잭션과 락을 다투지 않는다.
+ * <p>
+ * 주문 이벤트는 최종 상태를 덮어쓰고(더 오래된 변경은 무시), 체결 이벤트는 체결 ID로 중복을 걸러 요약에 붙인다.
+ * <p>
+ * 읽기 모델 행이 없는 주문(릴레이를 켜기 전 주문, 격리된 이벤트의 주문)은 이벤트가 아니라 주문/체결 테이블에서 행을 만든 뒤
+ * 이벤트를 얹는다. 그래야 앞선 체결이 빠지지 않는다. 기동 시({@link #start()})에는 행이 없는 주문을 모두 한 번 채운다.
+ */
+@Component
+@ConditionalOnProperty(name = "trading.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderViewProjector implements OutboxSink {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderViewProjector.class);
+    private static final TypeReference<List<FillResponse>> FILLS_TYPE = new TypeReference<>() {
+    };
+    private static final int BACKFILL_CHUNK_SIZE = 500;
+
+    private final OrderViewRepository orderViewRepository;
+    private final OrderRepository orderRepository;
+    private final FillStore fillStore;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public OrderViewProjector(
+            OrderViewRepository orderViewRepository,
+            OrderRepository orderRepository,
+            FillStore fillStore,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.orderViewRepository = orderViewRepository;
+        this.orderRepository = orderRepository;
+        this.fillStore = fillStore;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /** 읽기 모델 행이 없는 주문을 주문 ID 순으로 묶음마다 채운다. 릴레이 스레드에서 돌므로 이벤트 반영과 겹치지 않는다. */
+    @Override
+    public void start() {
+        long afterOrderId = 0L;
+        int backfilled = 0;
+        while (true) {
+            long from = afterOrderId;
+            List<Order> orders = transactionTemplate.execute(status -> {
+                List<Order> chunk = orderRepository.findWithoutView(from, Limit.of(BACKFILL_CHUNK_SIZE));
+                orderViewRepository.saveAll(createFromOrders(chunk).values());
+                return chunk;
+            });
+            if (orders == null || orders.isEmpty()) {
+                break;
+            }
+            backfilled += orders.size();
+            afterOrderId = orders.get(orders.size() - 1).getId();
+        }
+        if (backfilled > 0) {
+            log.info("주문 읽기 모델 채움 - 주문 수: {}", backfilled);
+        }
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        transactionTemplate.executeWithoutResult(status -> project(messages));
+    }
+
+    private void project(List<OutboxMessage> messages) {
+        Set<Long> orderIds = new LinkedHashSet<>();
+        for (OutboxMessage message : messages) {
+            orderIds.add(message.orderId());
+        }
+        Map<Long, OrderView> views = new HashMap<>();
+        for (OrderView view : orderViewRepository.findAllById(orderIds)) {
+            views.put(view.getOrderId(), view);
+        }
+        Map<Long, OrderView> changed = new LinkedHashMap<>();
+        Set<Long> missingOrderIds = new LinkedHashSet<>(orderIds);
+        missingOrderIds.removeAll(views.keySet());
+        if (!missingOrderIds.isEmpty()) {
+            Map<Long, OrderView> created = createFromOrders(orderRepository.findAllById(missingOrderIds));
+            views.putAll(created);
+            changed.putAll(created);
+        }
+
+        // 체결 요약은 주문별로 한 번만 풀고 묶음 끝에서 한 번만 다시 쓴다.
+        Map<Long, List<FillResponse>> changedFills = new LinkedHashMap<>();
+        for (OutboxMessage message : messages) {
+            switch (message.type()) {
+                case ORDER -> {
+                    OrderView view = applyOrder(views, readValue(message.payload(), OrderUpdateEvent.class));
+                    if (view != null) {
+                        changed.put(view.getOrderId(), view);
+                    }
+                }
+                case FILL -> {
+                    OrderView view = views.get(message.orderId());
+                    if (view == null) {
+                        // 주문 행도 없다(보관 테이블로 옮겨졌다).
+                        log.warn("주문 읽기 모델 없이 체결 이벤트를 받음 - orderId: {}, eventId: {}", message.orderId(), message.id());
+                        continue;
+                    }
+                    List<FillResponse> fills = changedFills.computeIfAbsent(
+                            view.getOrderId(),
+                            orderId -> new ArrayList<>(readValue(view.getFills(), FILLS_TYPE))
+                    );
+                    FillResponse fill = toFillResponse(readValue(message.payload(), FillEvent.class));
+                    if (fills.stream().noneMatch(existing -> existing.executionId().equals(fill.executionId()))) {
+                        fills.add(fill);
+                        changed.put(view.getOrderId(), view);
+                    }
+                }
+            }
+        }
+
+        for (Map.Entry<Long, List<FillResponse>> entry : changedFills.entrySet()) {
+            views.get(entry.getKey()).replaceFills(writeValue(entry.getValue()), entry.getValue().size());
+        }
+        orderViewRepository.saveAll(changed.values());
+    }
+
+    /** 주문의 현재 상태와 지금까지의 체결로 읽기 모델 행을 만든다. */
+    private Map<Long, OrderView> createFromOrders(Collection<Order> orders) {
+        Map<Long, OrderView> views = new LinkedHashMap<>();
+        if (orders.isEmpty()) {
+            return views;
+        }
+        List<Long> orderIds = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            orderIds.add(order.getId());
+            applyOrder(views, OrderUpdateEvent.from(order));
+        }
+        for (Map.Entry<Long, List<Fill>> entry : fillStore.findByOrderIdIn(orderIds).entrySet()) {
+            List<FillResponse> fills = new ArrayList<>(entry.getValue().size());
+            for (Fill fill : entry.getValue()) {
+                fills.add(FillResponse.from(fill));
+            }
+            OrderView view = views.get(entry.getKey());
+            if (view != null && !fills.isEmpty()) {
+                view.replaceFills(writeValue(fills), fills.size());
+            }
+        }
+        return views;
+    }
+
+    private static OrderView applyOrder(Map<Long, OrderView> views, OrderUpdateEvent event) {
+        OrderView view = views.get(event.orderId());
+        if (view == null) {
+            view = OrderView.create(
+                    event.orderId(),
+                    event.accountId(),
+                    event.symbol(),
+                    event.side(),
+                    event.orderType(),
+                    event.tif(),
+                    event.limitPrice(),
+                    event.quantity(),
+                    event.createdAt()
+            );
+            views.put(view.getOrderId(), view);
+        }
+        boolean applied = view.applyState(
+                event.limitPrice(),
+                event.filledQuantity(),
+                event.remainingQuantity(),
+                event.status(),
+                event.rejectReason(),
+                event.updatedAt()
+        );
+        return applied ? view : null;
+    }
+
+    private static FillResponse toFillResponse(FillEvent event) {
+        return new FillResponse(
+                event.executionId(),
+                event.fillPrice(),
+                event.fillQuantity(),
+                event.feeAmount(),
+                event.taxAmount(),
+                event.filledAt()
+        );
+    }
+
+    private <T> T readValue(String json, Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read order view event: " + json, e);
+        }
+    }
+
+    private <T> T readValue(String json, TypeReference<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read order view fills: " + json, e);
+        }
+    }
+
+    private String writeValue(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to write order view fills", e);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.wisehero.stocktrading.order.view;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wisehero.stocktrading.common.api.ApiErrorCode;
+import com.wisehero.stocktrading.common.exception.ApiException;
+import com.wisehero.stocktrading.order.api.dto.FillResponse;
+import com.wisehero.stocktrading.order.api.dto.OrderPageResponse;
+import com.wisehero.stocktrading.order.api.dto.OrderResponse;
+import com.wisehero.stocktrading.order.domain.OrderView;
+import com.wisehero.stocktrading.order.repository.OrderViewRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 계좌별 주문 이력/미체결 목록을 읽기 모델에서 최신순으로 조회한다.
+ * <p>
+ * 페이지는 마지막 행의 (생성 시각, 주문 ID)를 담은 커서로 이어 읽으므로 깊은 페이지도 OFFSET 없이 인덱스 범위만 읽는다.
+ * 읽기 모델은 아웃박스 릴레이가 갱신하므로 방금 낸 주문은 잠시 보이지 않을 수 있다.
+ * 아웃박스를 끄면({@code trading.outbox.enabled=false}) 갱신하는 {@link OrderViewProjector}가 없으므로
+ * 빈 목록 대신 {@code ORDER-503}으로 거절한다.
+ */
+@Service
+public class OrderViewQueryService {
+
+    private static final TypeReference<List<FillResponse>> FILLS_TYPE = new TypeReference<>() {
+    };
+
+    private final OrderViewRepository orderViewRepository;
+    private final ObjectMapper objectMapper;
+    private final boolean projected;
+
+    public OrderViewQueryService(
+            OrderViewRepository orderViewRepository,
+            ObjectMapper objectMapper,
+            ObjectProvider<OrderViewProjector> projectorProvider
+    ) {
+        this.orderViewRepository = orderViewRepository;
+        this.objectMapper = objectMapper;
+        this.projected = projectorProvider.getIfAvailable() != null;
+    }
+
+    @Transactional(readOnly = true)
+    public OrderPageResponse getOrders(Long accountId, boolean openOnly, String cursor, int size) {
+        if (!projected) {
+            throw new ApiException(ApiErrorCode.ORDER_LIST_UNAVAILABLE);
+        }
+        // 한 건 더 읽어 다음 페이지가 있는지 판단한다.
+        Limit limit = Limit.of(size + 1);
+        List<OrderView> views;
+        if (cursor == null || cursor.isBlank()) {
+            views = openOnly
+                    ? orderViewRepository.findByAccountIdAndOpenOrderTrueOrderByCreatedAtDescOrderIdDesc(accountId, limit)
+                    : orderViewRepository.findByAccountIdOrderByCreatedAtDescOrderIdDesc(accountId, limit);
+        } else {
+            PageCursor after = PageCursor.decode(cursor);
+            views = openOnly
+                    ? orderViewRepository.findOpenPageBefore(accountId, after.createdAt(), after.orderId(), limit)
+                    : orderViewRepository.findPageBefore(accountId, after.createdAt(), after.orderId(), limit);
+        }
+
+        boolean hasNext = views.size() > size;
+        List<OrderView> page = hasNext ? views.subList(0, size) : views;
+        List<OrderResponse> orders = new ArrayList<>(page.size());
+        for (OrderView view : page) {
+            orders.add(OrderResponse.from(view, readFills(view)));
+        }
+        String nextCursor = null;
+        if (hasNext) {
+            OrderView last = page.get(page.size() - 1);
+            nextCursor = new PageCursor(last.getCreatedAt(), last.getOrderId()).encode();
+        }
+        return new OrderPageResponse(orders, nextCursor);
+    }
+
+    private List<FillResponse> readFills(OrderView view) {
+        if (view.getFillCount() == 0) {
+            return List.of();
+        }
+        try {
+            return objectMapper.readValue(view.getFills(), FILLS_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read order view fills: " + view.getOrderId(), e);
+        }
+    }
+
+    /** URL에 그대로 실을 수 있도록 {@code 초:나노:주문ID}를 Base64URL로 감싼다. */
+    private record PageCursor(Instant createdAt, long orderId) {
+
+        private String encode() {
+            String raw = createdAt.getEpochSecond() + ":" + createdAt.getNano() + ":" + orderId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+        }
+
+        private static PageCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+                String[] parts = raw.split(":");
+                if (parts.length != 3) {
+                    throw new ApiException(ApiErrorCode.ORDER_INVALID_CURSOR);
+                }
+                Instant createdAt = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+                return new PageCursor(createdAt, Long.parseLong(parts[2]));
+            } catch (IllegalArgumentException | DateTimeException e) {
+                throw new ApiException(ApiErrorCode.ORDER_INVALID_CURSOR);
+            }
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package com.wisehero.stocktrading.quote.api;
 
 import com.wisehero.stocktrading.common.api.ApiResponse;
+import com.wisehero.stocktrading.quote.api.dto.QuoteBatchResponse;
+import com.wisehero.stocktrading.quote.api.dto.QuoteBatchUpdateRequest;
 import com.wisehero.stocktrading.quote.api.dto.QuoteResponse;
 import com.wisehero.stocktrading.quote.api.dto.QuoteUpdateRequest;
-import com.wisehero.stocktrading.quote.domain.MockQuote;
-import com.wisehero.stocktrading.quote.service.MockQuoteService;
+import com.wisehero.stocktrading.quote.service.QuoteTickDispatcher;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -15,24 +18,43 @@ import org.springframework.web.bind.annotation.RestController;
 
 /**
  * 고정 시세를 관리하는 모의 시세 API.
+ * 비동기 모드(기본, {@code trading.quote-rematch.async=true})에서는 반영 전에 응답하므로 202로 접수만 알린다.
  */
 @RestController
 @Validated
 @RequestMapping("/api/v1/mock/quotes")
 public class MockQuoteController {
 
-    private final MockQuoteService mockQuoteService;
+    private final QuoteTickDispatcher quoteTickDispatcher;
 
-    public MockQuoteController(MockQuoteService mockQuoteService) {
-        this.mockQuoteService = mockQuoteService;
+    public MockQuoteController(QuoteTickDispatcher quoteTickDispatcher) {
+        this.quoteTickDispatcher = quoteTickDispatcher;
     }
 
     @PutMapping("/{symbol}")
     public ApiResponse<QuoteResponse> upsertQuote(
             @PathVariable String symbol,
-            @Valid @RequestBody QuoteUpdateRequest request
+            @Valid @RequestBody QuoteUpdateRequest request,
+            HttpServletResponse response
     ) {
-        MockQuote savedQuote = mockQuoteService.upsertQuote(symbol, request);
-        return ApiResponse.ok(QuoteResponse.from(savedQuote));
+        // 시세 갱신과 재매칭도 같은 종목의 주문 명령과 같은 스레드에서 순서대로 처리한다.
+        return respond(quoteTickDispatcher.dispatch(symbol, request), response);
+    }
+
+    /** 여러 종목 시세를 한 번에 갱신한다. 거절된 종목만 응답에 담기며 나머지는 그대로 반영된다. */
+    @PutMapping
+    public ApiResponse<QuoteBatchResponse> upsertQuotes(
+            @Valid @RequestBody QuoteBatchUpdateRequest request,
+            HttpServletResponse response
+    ) {
+        return respond(quoteTickDispatcher.dispatchAll(request.quotes()), response);
+    }
+
+    private <T> ApiResponse<T> respond(T data, HttpServletResponse response) {
+        if (!quoteTickDispatcher.isAsync()) {
+            return ApiResponse.ok(data);
+        }
+        response.setStatus(HttpStatus.ACCEPTED.value());
+        return ApiResponse.accepted(data);
     }
 }
@@ -0,0 +1,22 @@
+package com.wisehero.stocktrading.quote.api.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.math.BigDecimal;
+
+/**
+ * 일괄 갱신의 종목별 시세.
+ */
+public record QuoteBatchItemRequest(
+        @NotBlank @Size(max = 20) String symbol,
+        @NotNull @DecimalMin("0.0001") @Digits(integer = 19, fraction = 4) BigDecimal price,
+        @NotNull @DecimalMin("0.0000") @Digits(integer = 19, fraction = 4) BigDecimal availableQuantity
+) {
+
+    public QuoteUpdateRequest toUpdateRequest() {
+        return new QuoteUpdateRequest(price, availableQuantity);
+    }
+}
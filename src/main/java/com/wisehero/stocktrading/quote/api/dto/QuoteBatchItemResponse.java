@@ -0,0 +1,18 @@
+package com.wisehero.stocktrading.quote.api.dto;
+
+import com.wisehero.stocktrading.common.api.ApiErrorCode;
+
+/**
+ * 일괄 시세 갱신에서 거절된 항목.
+ */
+public record QuoteBatchItemResponse(
+        int index,
+        String symbol,
+        String errorCode,
+        String message
+) {
+
+    public static QuoteBatchItemResponse failure(int index, String symbol, ApiErrorCode errorCode, String message) {
+        return new QuoteBatchItemResponse(index, symbol, errorCode.code(), message);
+    }
+}
@@ -0,0 +1,17 @@
+package com.wisehero.stocktrading.quote.api.dto;
+
+import java.util.List;
+
+/**
+ * 모의 시세 일괄 갱신 응답 DTO. 종목 수가 많으므로 거절된 항목만 요청 순서대로 담는다.
+ */
+public record QuoteBatchResponse(
+        int successCount,
+        int failureCount,
+        List<QuoteBatchItemResponse> failures
+) {
+
+    public static QuoteBatchResponse of(int requestedCount, List<QuoteBatchItemResponse> failures) {
+        return new QuoteBatchResponse(requestedCount - failures.size(), failures.size(), failures);
+    }
+}
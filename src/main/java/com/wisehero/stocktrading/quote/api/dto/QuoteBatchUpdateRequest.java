@@ -0,0 +1,15 @@
+package com.wisehero.stocktrading.quote.api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * 모의 시세 일괄 갱신 요청 DTO.
+ */
+public record QuoteBatchUpdateRequest(
+        @NotEmpty @Size(max = 10000) List<@Valid @NotNull QuoteBatchItemRequest> quotes
+) {
+}
@@ -0,0 +1,14 @@
+package com.wisehero.stocktrading.quote.event;
+
+import java.math.BigDecimal;
+
+/**
+ * 모의 시세가 갱신되었음을 알리는 애플리케이션 이벤트.
+ * 인메모리 체결 엔진이 DB 조회 없이 최신 시세를 반영하는 데 사용한다.
+ */
+public record MockQuoteUpdatedEvent(
+        String symbol,
+        BigDecimal price,
+        BigDecimal availableQuantity
+) {
+}
@@ -0,0 +1,238 @@
+package com.wisehero.stocktrading.quote.feed;
+
+import com.wisehero.stocktrading.common.exception.ApiException;
+import com.wisehero.stocktrading.common.numeric.FixedDecimal;
+import com.wisehero.stocktrading.order.entry.SymbolCache;
+import com.wisehero.stocktrading.quote.api.dto.QuoteUpdateRequest;
+import com.wisehero.stocktrading.quote.service.QuoteTickDispatcher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 로컬 시세 피드({@link MarketDataProtocol})를 읽어 {@link QuoteTickDispatcher}로 넘긴다.
+ * <p>
+ * 수신 스레드 하나가 루프백 UDP 소켓({@code source=udp}) 또는 녹화 파일({@code source=file})에서 틱을 읽는다.
+ * 틱은 다이렉트 버퍼 위에서 바로 읽고 종목 문자열은 {@link SymbolCache}로 재사용한다. 반영은 종목 샤드가 일괄로 하므로
+ * 수신 스레드는 DB를 기다리지 않는다. 파일은 끝까지 한 번 읽고 멈춘다.
+ * <p>
+ * 검증에 실패한 틱은 건너뛰고 {@code trading_market_data_ticks_total{result=rejected}}로 센다.
+ * 종목 길이가 잘못된 데이터그램은 나머지를 버리고, 파일은 그 지점에서 읽기를 멈춘다.
+ */
+@Component
+@ConditionalOnProperty(name = "trading.market-data.enabled", havingValue = "true")
+public class MarketDataFeedHandler implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(MarketDataFeedHandler.class);
+    private static final int SYMBOL_CACHE_SIZE = 16 * 1024;
+    private static final int FILE_READ_BUFFER_SIZE = 1024 * 1024;
+
+    private final QuoteTickDispatcher quoteTickDispatcher;
+    private final Source source;
+    private final InetSocketAddress bindAddress;
+    private final Path file;
+    private final int receiveBufferSize;
+    private final SymbolCache symbolCache = new SymbolCache(SYMBOL_CACHE_SIZE);
+    private final Counter acceptedCounter;
+    private final Counter rejectedCounter;
+    private final Counter malformedCounter;
+    private final CountDownLatch finished = new CountDownLatch(1);
+
+    private DatagramChannel datagramChannel;
+    private FileChannel fileChannel;
+    private Thread receiverThread;
+    private volatile boolean running;
+
+    public MarketDataFeedHandler(
+            QuoteTickDispatcher quoteTickDispatcher,
+            MeterRegistry meterRegistry,
+            @Value("${trading.market-data.source:udp}") String source,
+            @Value("${trading.market-data.host:127.0.0.1}") String host,
+            @Value("${trading.market-data.port:9200}") int port,
+            @Value("${trading.market-data.file:./data/market-data.bin}") Path file,
+            @Value("${trading.market-data.receive-buffer-size:8MB}") DataSize receiveBufferSize
+    ) {
+        this.quoteTickDispatcher = quoteTickDispatcher;
+        this.source = Source.valueOf(source.trim().toUpperCase(Locale.ROOT));
+        this.bindAddress = new InetSocketAddress(host, port);
+        this.file = file;
+        this.receiveBufferSize = Math.toIntExact(receiveBufferSize.toBytes());
+        this.acceptedCounter = Counter.builder("trading.market-data.ticks")
+                .description("시세 피드 틱 수신 건수")
+                .tag("result", "accepted")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("trading.market-data.ticks")
+                .description("시세 피드 틱 수신 건수")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+        this.malformedCounter = Counter.builder("trading.market-data.malformed")
+                .description("형식이 잘못되어 버린 데이터그램/파일 구간 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            if (source == Source.UDP) {
+                datagramChannel = DatagramChannel.open();
+                datagramChannel.setOption(StandardSocketOptions.SO_RCVBUF, receiveBufferSize);
+                datagramChannel.bind(bindAddress);
+            } else {
+                fileChannel = FileChannel.open(file, StandardOpenOption.READ);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open market data feed: " + describeSource(), e);
+        }
+
+        running = true;
+        receiverThread = new Thread(source == Source.UDP ? this::receiveDatagrams : this::readFile, "market-data-feed");
+        receiverThread.setDaemon(true);
+        receiverThread.start();
+        log.info("시세 피드 수신 시작 - 원본: {}", describeSource());
+    }
+
+    /** UDP 원본이 실제로 바인딩된 포트. 설정 포트가 0이면 OS가 고른 포트다. */
+    public int getLocalPort() {
+        return datagramChannel.socket().getLocalPort();
+    }
+
+    /** 파일 원본을 끝까지 읽을 때까지 기다린다. 시간 안에 끝나면 true. */
+    public boolean awaitCompletion(long timeout, TimeUnit unit) throws InterruptedException {
+        return finished.await(timeout, unit);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException, IOException {
+        running = false;
+        // 닫으면 블로킹 수신/읽기가 AsynchronousCloseException으로 깨어난다.
+        if (datagramChannel != null) {
+            datagramChannel.close();
+        }
+        if (fileChannel != null) {
+            fileChannel.close();
+        }
+        if (receiverThread != null) {
+            receiverThread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    private void receiveDatagrams() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(MarketDataProtocol.MAX_DATAGRAM_SIZE);
+        try {
+            while (running) {
+                buffer.clear();
+                datagramChannel.receive(buffer);
+                int consumed = decode(buffer, buffer.position());
+                if (consumed >= 0 && consumed != buffer.position()) {
+                    // 틱은 데이터그램 경계를 넘지 않으므로 남은 바이트는 잘린 틱이다.
+                    malformedCounter.increment();
+                }
+            }
+        } catch (AsynchronousCloseException e) {
+            // 종료 중
+        } catch (IOException e) {
+            log.error("시세 피드 UDP 수신 오류", e);
+        } finally {
+            finished.countDown();
+        }
+    }
+
+    private void readFile() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(FILE_READ_BUFFER_SIZE);
+        long startedAt = System.nanoTime();
+        try {
+            while (running && fileChannel.read(buffer) >= 0) {
+                int consumed = decode(buffer, buffer.position());
+                if (consumed < 0) {
+                    buffer.clear();
+                    break;
+                }
+                // 다 들어오지 않은 마지막 틱은 버퍼 앞으로 옮겨 다음 읽기에 이어 붙인다.
+                buffer.limit(buffer.position()).position(consumed);
+                buffer.compact();
+            }
+            if (running && buffer.position() > 0) {
+                // 파일 끝에서 잘린 틱
+                malformedCounter.increment();
+            }
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            log.info("시세 피드 파일 재생 완료 - 파일: {}, 수신: {}, 거절: {}, 소요: {}ms",
+                    file, (long) acceptedCounter.count(), (long) rejectedCounter.count(), elapsedMillis);
+        } catch (AsynchronousCloseException e) {
+            // 종료 중
+        } catch (IOException e) {
+            log.error("시세 피드 파일 읽기 오류 - 파일: {}", file, e);
+        } finally {
+            finished.countDown();
+        }
+    }
+
+    /**
+     * {@code [0, limit)}의 완전한 틱을 넘기고 읽은 바이트 수를 반환한다. 종목 길이가 잘못되면 -1.
+     */
+    private int decode(ByteBuffer buffer, int limit) {
+        int offset = 0;
+        while (true) {
+            int tickSize;
+            try {
+                tickSize = MarketDataProtocol.completeTickSize(buffer, offset, limit);
+            } catch (IllegalStateException e) {
+                malformedCounter.increment();
+                log.warn("시세 피드 형식 오류 - 원본: {}, 위치: {}, 사유: {}", describeSource(), offset, e.getMessage());
+                return -1;
+            }
+            if (tickSize < 0) {
+                return offset;
+            }
+            dispatch(buffer, offset);
+            offset += tickSize;
+        }
+    }
+
+    private void dispatch(ByteBuffer buffer, int offset) {
+        String symbol = symbolCache.get(
+                buffer,
+                MarketDataProtocol.symbolOffset(offset),
+                MarketDataProtocol.symbolLength(buffer, offset)
+        );
+        QuoteUpdateRequest tick = new QuoteUpdateRequest(
+                FixedDecimal.toBigDecimal(MarketDataProtocol.price(buffer, offset)),
+                FixedDecimal.toBigDecimal(MarketDataProtocol.availableQuantity(buffer, offset))
+        );
+        try {
+            quoteTickDispatcher.offer(symbol, tick);
+            acceptedCounter.increment();
+        } catch (ApiException e) {
+            rejectedCounter.increment();
+        }
+    }
+
+    private String describeSource() {
+        return source == Source.UDP ? "udp://" + bindAddress : file.toString();
+    }
+
+    private enum Source {
+        UDP,
+        FILE
+    }
+}
@@ -0,0 +1,71 @@
+package com.wisehero.stocktrading.quote.feed;
+
+import com.wisehero.stocktrading.common.numeric.FixedDecimal;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 시세 피드의 바이너리 틱 형식.
+ * <p>
+ * 틱: {@code [가격 long][가용수량 long][종목 길이 byte][ASCII 종목]}. 정수는 빅엔디언, 가격/수량은 {@link FixedDecimal} long이다.
+ * 파일은 틱을 이어 붙인 것이고, UDP 데이터그램은 완전한 틱을 하나 이상 담는다(틱이 데이터그램 경계를 넘지 않는다).
+ */
+public final class MarketDataProtocol {
+
+    static final int PRICE = 0;
+    static final int AVAILABLE_QUANTITY = PRICE + Long.BYTES;
+    static final int SYMBOL_LENGTH = AVAILABLE_QUANTITY + Long.BYTES;
+    static final int SYMBOL = SYMBOL_LENGTH + Byte.BYTES;
+
+    /** {@code mock_quotes.symbol} 컬럼 길이. */
+    public static final int MAX_SYMBOL_LENGTH = 20;
+    public static final int MAX_TICK_SIZE = SYMBOL + MAX_SYMBOL_LENGTH;
+    public static final int MAX_DATAGRAM_SIZE = 64 * 1024;
+
+    private MarketDataProtocol() {
+    }
+
+    /**
+     * 버퍼의 {@code offset}에서 시작하는 틱이 다 들어와 있으면 틱 크기를, 아니면 -1을 반환한다.
+     * 종목 길이가 허용 범위를 벗어나면 {@link IllegalStateException}.
+     */
+    public static int completeTickSize(ByteBuffer buffer, int offset, int limit) {
+        if (limit - offset <= SYMBOL_LENGTH) {
+            return -1;
+        }
+        int symbolLength = buffer.get(offset + SYMBOL_LENGTH);
+        if (symbolLength <= 0 || symbolLength > MAX_SYMBOL_LENGTH) {
+            throw new IllegalStateException("Invalid market data symbol length: " + symbolLength);
+        }
+        int tickSize = SYMBOL + symbolLength;
+        return limit - offset < tickSize ? -1 : tickSize;
+    }
+
+    public static long price(ByteBuffer buffer, int offset) {
+        return buffer.getLong(offset + PRICE);
+    }
+
+    public static long availableQuantity(ByteBuffer buffer, int offset) {
+        return buffer.getLong(offset + AVAILABLE_QUANTITY);
+    }
+
+    public static int symbolLength(ByteBuffer buffer, int offset) {
+        return buffer.get(offset + SYMBOL_LENGTH);
+    }
+
+    public static int symbolOffset(int offset) {
+        return offset + SYMBOL;
+    }
+
+    public static void encodeTick(ByteBuffer buffer, String symbol, BigDecimal price, BigDecimal availableQuantity) {
+        byte[] bytes = symbol.getBytes(StandardCharsets.US_ASCII);
+        if (bytes.length == 0 || bytes.length > MAX_SYMBOL_LENGTH) {
+            throw new IllegalArgumentException("Market data symbol length must be 1.." + MAX_SYMBOL_LENGTH + ": " + symbol);
+        }
+        buffer.putLong(FixedDecimal.fromBigDecimal(price));
+        buffer.putLong(FixedDecimal.fromBigDecimal(availableQuantity));
+        buffer.put((byte) bytes.length);
+        buffer.put(bytes);
+    }
+}
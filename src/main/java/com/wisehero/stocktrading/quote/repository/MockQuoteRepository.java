@@ -1,7 +1,25 @@
 package com.wisehero.stocktrading.quote.repository;
 
 import com.wisehero.stocktrading.quote.domain.MockQuote;
+import java.math.BigDecimal;
+import java.time.Instant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MockQuoteRepository extends JpaRepository<MockQuote, String> {
+
+    // 같은 트랜잭션에서 바꾼 시세 엔티티를 먼저 내려, 그 변경이 이 값을 덮어쓰지 않게 한다.
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update MockQuote q
+            set q.availableQuantity = :availableQuantity, q.version = q.version + 1, q.updatedAt = :now
+            where q.symbol = :symbol
+            """)
+    int updateAvailableQuantity(
+            @Param("symbol") String symbol,
+            @Param("availableQuantity") BigDecimal availableQuantity,
+            @Param("now") Instant now
+    );
 }
@@ -5,23 +5,36 @@ import com.wisehero.stocktrading.common.exception.ApiException;
 import com.wisehero.stocktrading.order.service.OrderService;
 import com.wisehero.stocktrading.quote.api.dto.QuoteUpdateRequest;
 import com.wisehero.stocktrading.quote.domain.MockQuote;
+import com.wisehero.stocktrading.quote.event.MockQuoteUpdatedEvent;
 import com.wisehero.stocktrading.quote.repository.MockQuoteRepository;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 모의 시세를 갱신하고, 갱신 직후 미체결 주문 재매칭을 트리거한다.
+ * 종목 샤드에서 호출한다. API 요청은 {@link QuoteTickDispatcher}를 거친다.
  */
 @Service
 public class MockQuoteService {
 
     private final MockQuoteRepository mockQuoteRepository;
     private final OrderService orderService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public MockQuoteService(MockQuoteRepository mockQuoteRepository, OrderService orderService) {
+    public MockQuoteService(
+            MockQuoteRepository mockQuoteRepository,
+            OrderService orderService,
+            ApplicationEventPublisher eventPublisher
+    ) {
         this.mockQuoteRepository = mockQuoteRepository;
         this.orderService = orderService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -34,11 +47,49 @@ public class MockQuoteService {
         quote.update(request.price(), request.availableQuantity());
 
         MockQuote savedQuote = mockQuoteRepository.save(quote);
+        eventPublisher.publishEvent(new MockQuoteUpdatedEvent(symbol, savedQuote.getPrice(), savedQuote.getAvailableQuantity()));
         orderService.rematchOpenOrdersForSymbol(symbol);
         return savedQuote;
     }
 
-    private void validateQuoteRequest(QuoteUpdateRequest request) {
+    /**
+     * 검증/정규화된 틱을 한 트랜잭션에서 IN 조회 후 일괄 저장한다. 재매칭은 커밋 후 {@link #rematch(String)}로 따로 돌린다.
+     */
+    @Transactional
+    public List<MockQuote> upsertQuotes(List<QuoteTick> ticks) {
+        List<String> symbols = new ArrayList<>(ticks.size());
+        for (QuoteTick tick : ticks) {
+            symbols.add(tick.symbol());
+        }
+        Map<String, MockQuote> quotesBySymbol = new HashMap<>();
+        for (MockQuote quote : mockQuoteRepository.findAllById(symbols)) {
+            quotesBySymbol.put(quote.getSymbol(), quote);
+        }
+
+        List<MockQuote> quotes = new ArrayList<>(ticks.size());
+        for (QuoteTick tick : ticks) {
+            MockQuote quote = quotesBySymbol.get(tick.symbol());
+            if (quote == null) {
+                quote = MockQuote.create(tick.symbol(), tick.price(), tick.availableQuantity());
+            }
+            quote.update(tick.price(), tick.availableQuantity());
+            quotes.add(quote);
+        }
+
+        List<MockQuote> savedQuotes = mockQuoteRepository.saveAll(quotes);
+        for (MockQuote savedQuote : savedQuotes) {
+            eventPublisher.publishEvent(
+                    new MockQuoteUpdatedEvent(savedQuote.getSymbol(), savedQuote.getPrice(), savedQuote.getAvailableQuantity())
+            );
+        }
+        return savedQuotes;
+    }
+
+    public void rematch(String symbol) {
+        orderService.rematchOpenOrdersForSymbol(symbol);
+    }
+
+    void validateQuoteRequest(QuoteUpdateRequest request) {
         if (request.price().compareTo(BigDecimal.ZERO) <= 0 || request.availableQuantity().compareTo(BigDecimal.ZERO) < 0) {
             throw new ApiException(ApiErrorCode.QUOTE_INVALID_VALUE);
         }
@@ -51,7 +102,7 @@ public class MockQuoteService {
         return quantity.stripTrailingZeros().scale() <= 0;
     }
 
-    private String normalizeSymbol(String symbol) {
+    String normalizeSymbol(String symbol) {
         return symbol.trim().toUpperCase();
     }
 }
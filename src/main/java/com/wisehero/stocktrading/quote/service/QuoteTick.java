@@ -0,0 +1,13 @@
+package com.wisehero.stocktrading.quote.service;
+
+import java.math.BigDecimal;
+
+/**
+ * 종목 샤드에서 반영할 검증/정규화된 시세 틱.
+ */
+public record QuoteTick(
+        String symbol,
+        BigDecimal price,
+        BigDecimal availableQuantity
+) {
+}
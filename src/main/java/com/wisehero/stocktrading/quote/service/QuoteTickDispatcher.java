@@ -0,0 +1,248 @@
+package com.wisehero.stocktrading.quote.service;
+
+import com.wisehero.stocktrading.common.api.ApiErrorCode;
+import com.wisehero.stocktrading.common.exception.ApiException;
+import com.wisehero.stocktrading.common.sequencer.SymbolSequencer;
+import com.wisehero.stocktrading.quote.api.dto.QuoteBatchItemRequest;
+import com.wisehero.stocktrading.quote.api.dto.QuoteBatchItemResponse;
+import com.wisehero.stocktrading.quote.api.dto.QuoteBatchResponse;
+import com.wisehero.stocktrading.quote.api.dto.QuoteResponse;
+import com.wisehero.stocktrading.quote.api.dto.QuoteUpdateRequest;
+import com.wisehero.stocktrading.quote.domain.MockQuote;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시세 갱신 요청(단건/일괄/피드)을 종목 샤드로 넘긴다.
+ * <p>
+ * 틱은 검증 후 샤드별 대기열에 종목당 최신 값 하나로만 남는다. 샤드 작업은 대기열을 {@code batch-size}개씩 꺼내
+ * 한 트랜잭션으로 시세를 일괄 저장하고, 커밋 후 종목별로 재매칭한다. 작업이 꺼내 가기 전에 같은 종목 틱이 다시 오면
+ * 최신 값으로 덮어써 밀린 만큼 건너뛴다(conflation). 시세 행은 체결 시 가용수량 차감으로도 갱신되므로 반영 자체도 샤드에서 한다.
+ * 일괄 저장이 실패하면 그 묶음을 종목별 트랜잭션으로 다시 반영해 실패한 종목의 틱만 버린다.
+ * <p>
+ * 비동기 모드(기본)에서는 API 요청도 대기열에 넣고 바로 응답한다(202).
+ * 동기 모드({@code trading.quote-rematch.async=false})에서는 API 요청을 대기열에 넣지 않고 종목 샤드에서 시세 저장과
+ * 재매칭을 한 트랜잭션으로 실행해 기다린다. 재매칭이 실패하면 시세도 롤백되고 실패가 호출자에게 전파된다.
+ * 시세 피드는 모드와 관계없이 기다리지 않는다.
+ */
+@Component
+public class QuoteTickDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(QuoteTickDispatcher.class);
+
+    private final MockQuoteService mockQuoteService;
+    private final SymbolSequencer symbolSequencer;
+    private final boolean async;
+    private final int batchSize;
+    private final ShardTicks[] shardTicks;
+    private final Counter appliedCounter;
+    private final Counter conflatedCounter;
+    private final Counter droppedCounter;
+
+    public QuoteTickDispatcher(
+            MockQuoteService mockQuoteService,
+            SymbolSequencer symbolSequencer,
+            MeterRegistry meterRegistry,
+            @Value("${trading.quote-rematch.async:true}") boolean async,
+            @Value("${trading.quote-rematch.batch-size:500}") int batchSize
+    ) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("trading.quote-rematch.batch-size must be positive");
+        }
+        this.mockQuoteService = mockQuoteService;
+        this.symbolSequencer = symbolSequencer;
+        this.async = async;
+        this.batchSize = batchSize;
+        this.shardTicks = new ShardTicks[Math.max(1, symbolSequencer.shardCount())];
+        for (int index = 0; index < shardTicks.length; index++) {
+            shardTicks[index] = new ShardTicks();
+        }
+        this.appliedCounter = Counter.builder("trading.quote.ticks")
+                .description("시세 틱 처리 건수(반영/최신 틱으로 대체)")
+                .tag("result", "applied")
+                .register(meterRegistry);
+        this.conflatedCounter = Counter.builder("trading.quote.ticks")
+                .description("시세 틱 처리 건수(반영/최신 틱으로 대체)")
+                .tag("result", "conflated")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("trading.quote.ticks")
+                .description("시세 틱 처리 건수(반영/최신 틱으로 대체)")
+                .tag("result", "dropped")
+                .register(meterRegistry);
+    }
+
+    /** 비동기 모드면 API 요청이 반영을 기다리지 않고 접수만 한다. */
+    public boolean isAsync() {
+        return async;
+    }
+
+    public QuoteResponse dispatch(String rawSymbol, QuoteUpdateRequest request) {
+        if (async) {
+            String symbol = offer(rawSymbol, request);
+            return new QuoteResponse(symbol, request.price(), request.availableQuantity());
+        }
+        mockQuoteService.validateQuoteRequest(request);
+        String symbol = mockQuoteService.normalizeSymbol(rawSymbol);
+        symbolSequencer.execute(symbol, () -> mockQuoteService.upsertQuote(symbol, request));
+        appliedCounter.increment();
+        return new QuoteResponse(symbol, request.price(), request.availableQuantity());
+    }
+
+    /**
+     * 항목별로 검증해 거절된 항목만 돌려준다.
+     * 동기 모드에서는 샤드마다 종목별 트랜잭션으로 반영하고, 반영/재매칭에 실패한 종목도 롤백해 거절 항목으로 돌려준다.
+     */
+    public QuoteBatchResponse dispatchAll(List<QuoteBatchItemRequest> items) {
+        List<QuoteBatchItemResponse> failures = new ArrayList<>();
+        Map<Integer, List<IndexedTick>> ticksByShard = new TreeMap<>();
+        for (int index = 0; index < items.size(); index++) {
+            QuoteBatchItemRequest item = items.get(index);
+            try {
+                if (async) {
+                    offer(item.symbol(), item.toUpdateRequest());
+                    continue;
+                }
+                QuoteUpdateRequest request = item.toUpdateRequest();
+                mockQuoteService.validateQuoteRequest(request);
+                String symbol = mockQuoteService.normalizeSymbol(item.symbol());
+                ticksByShard.computeIfAbsent(shardOf(symbol), ignored -> new ArrayList<>())
+                        .add(new IndexedTick(index, item.symbol(), symbol, request));
+            } catch (ApiException e) {
+                failures.add(QuoteBatchItemResponse.failure(index, item.symbol(), e.getErrorCode(), e.getMessage()));
+            }
+        }
+
+        if (!ticksByShard.isEmpty()) {
+            List<CompletableFuture<List<QuoteBatchItemResponse>>> shardResults = new ArrayList<>(ticksByShard.size());
+            for (List<IndexedTick> ticks : ticksByShard.values()) {
+                shardResults.add(symbolSequencer.submit(ticks.get(0).symbol(), () -> applyEach(ticks)));
+            }
+            for (CompletableFuture<List<QuoteBatchItemResponse>> shardResult : shardResults) {
+                failures.addAll(shardResult.join());
+            }
+            failures.sort(Comparator.comparingInt(QuoteBatchItemResponse::index));
+        }
+        return QuoteBatchResponse.of(items.size(), failures);
+    }
+
+    /**
+     * 틱을 검증해 종목 샤드 대기열에 넣고 정규화된 종목 코드를 반환한다. 기다리지 않는다.
+     * 검증에 실패하면 {@link ApiException}.
+     */
+    public String offer(String rawSymbol, QuoteUpdateRequest request) {
+        mockQuoteService.validateQuoteRequest(request);
+        String symbol = mockQuoteService.normalizeSymbol(rawSymbol);
+        ShardTicks shard = shardTicks[shardOf(symbol)];
+        if (shard.latestTicks.put(symbol, request) != null) {
+            conflatedCounter.increment();
+        }
+        // 대기 중인 샤드 작업이 없을 때만 작업을 넣는다. 있으면 그 작업이 이 틱을 꺼낸다.
+        if (shard.scheduled.compareAndSet(false, true)) {
+            symbolSequencer.submit(symbol, () -> drain(shard))
+                    .whenComplete((ignored, error) -> {
+                        if (error != null) {
+                            log.error("시세 반영 실패 - 종목: {}", symbol, error);
+                        }
+                    });
+        }
+        return symbol;
+    }
+
+    /** 종목 샤드. 먼저 예약 표시를 지우므로 꺼내는 도중 들어온 틱은 새 작업으로 이어진다. */
+    private Void drain(ShardTicks shard) {
+        shard.scheduled.set(false);
+        while (!shard.latestTicks.isEmpty()) {
+            List<QuoteTick> batch = new ArrayList<>(Math.min(batchSize, shard.latestTicks.size()));
+            Iterator<String> symbols = shard.latestTicks.keySet().iterator();
+            while (symbols.hasNext() && batch.size() < batchSize) {
+                String symbol = symbols.next();
+                QuoteUpdateRequest tick = shard.latestTicks.remove(symbol);
+                if (tick != null) {
+                    batch.add(new QuoteTick(symbol, tick.price(), tick.availableQuantity()));
+                }
+            }
+            apply(batch);
+        }
+        return null;
+    }
+
+    private void apply(List<QuoteTick> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<MockQuote> savedQuotes;
+        try {
+            savedQuotes = mockQuoteService.upsertQuotes(batch);
+        } catch (RuntimeException e) {
+            // 한 종목 때문에 묶음 전체를 버리지 않도록 종목별 트랜잭션으로 다시 반영한다.
+            log.warn("시세 일괄 반영 실패, 종목별로 다시 반영 - 건수: {}", batch.size(), e);
+            for (QuoteTick tick : batch) {
+                try {
+                    mockQuoteService.upsertQuote(tick.symbol(), new QuoteUpdateRequest(tick.price(), tick.availableQuantity()));
+                    appliedCounter.increment();
+                } catch (RuntimeException tickError) {
+                    droppedCounter.increment();
+                    log.error("시세 반영 실패로 틱을 버림 - 종목: {}", tick.symbol(), tickError);
+                }
+            }
+            return;
+        }
+        appliedCounter.increment(savedQuotes.size());
+        for (MockQuote quote : savedQuotes) {
+            try {
+                mockQuoteService.rematch(quote.getSymbol());
+            } catch (RuntimeException e) {
+                // 한 종목의 재매칭 실패가 같은 묶음의 다른 종목을 막지 않게 한다. 다음 틱에서 다시 시도된다.
+                log.error("재매칭 실패 - 종목: {}", quote.getSymbol(), e);
+            }
+        }
+    }
+
+    /** 종목 샤드. 종목마다 시세 저장과 재매칭을 한 트랜잭션으로 실행하고 실패한 종목을 거절 항목으로 모은다. */
+    private List<QuoteBatchItemResponse> applyEach(List<IndexedTick> ticks) {
+        List<QuoteBatchItemResponse> failures = new ArrayList<>();
+        for (IndexedTick tick : ticks) {
+            try {
+                mockQuoteService.upsertQuote(tick.symbol(), tick.request());
+                appliedCounter.increment();
+            } catch (ApiException e) {
+                failures.add(QuoteBatchItemResponse.failure(tick.index(), tick.rawSymbol(), e.getErrorCode(), e.getMessage()));
+            } catch (RuntimeException e) {
+                log.error("시세 반영 실패 - 종목: {}", tick.symbol(), e);
+                failures.add(QuoteBatchItemResponse.failure(
+                        tick.index(),
+                        tick.rawSymbol(),
+                        ApiErrorCode.INTERNAL_SERVER_ERROR,
+                        ApiErrorCode.INTERNAL_SERVER_ERROR.message()
+                ));
+            }
+        }
+        return failures;
+    }
+
+    private int shardOf(String symbol) {
+        return symbolSequencer.shardIndexOf(symbol) % shardTicks.length;
+    }
+
+    private record IndexedTick(int index, String rawSymbol, String symbol, QuoteUpdateRequest request) {
+    }
+
+    private static final class ShardTicks {
+
+        private final Map<String, QuoteUpdateRequest> latestTicks = new ConcurrentHashMap<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+    }
+}
@@ -0,0 +1,78 @@
+package com.wisehero.stocktrading.replay;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 나노초 지연 분포. 2의 거듭제곱 구간을 8칸으로 나눈 고정 버킷이라 백분위 오차는 12.5% 이내다.
+ * 여러 작업자가 동시에 기록해도 된다.
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    void record(long nanos) {
+        long value = Math.max(0L, nanos);
+        buckets.incrementAndGet(indexOf(value));
+        count.increment();
+        total.add(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    long count() {
+        return count.sum();
+    }
+
+    double mean() {
+        long samples = count.sum();
+        return samples == 0 ? 0.0 : (double) total.sum() / samples;
+    }
+
+    long max() {
+        return max.get();
+    }
+
+    /** {@code percentile}(0~100) 지점이 속한 버킷의 상한. 기록된 최댓값을 넘지 않는다. */
+    long valueAtPercentile(double percentile) {
+        long samples = count.sum();
+        if (samples == 0) {
+            return 0L;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(samples * percentile / 100.0));
+        long seen = 0;
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            seen += buckets.get(index);
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(index), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBoundOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int subBucket = index % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return (SUB_BUCKETS + subBucket) * width + width - 1;
+    }
+}
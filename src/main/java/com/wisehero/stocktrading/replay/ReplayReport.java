@@ -0,0 +1,58 @@
+package com.wisehero.stocktrading.replay;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 테이프 재생 결과.
+ * <p>
+ * 처리량은 벽시계 기준 초당 이벤트 수, {@code speedup}은 테이프 시간 구간 ÷ 재생에 걸린 벽시계 시간이다.
+ * 지연은 작업자가 이벤트 하나를 서비스 계층에 넘겨 돌아올 때까지의 시간이고, {@code maxLagMillis}는 배속 재생에서
+ * 예정 시각보다 가장 늦게 넘긴 정도다(최고 속도 재생이면 0).
+ */
+public record ReplayReport(
+        String tape,
+        double speed,
+        int workers,
+        long events,
+        long rejected,
+        Map<String, Long> rejectsByCode,
+        long errors,
+        Instant virtualStart,
+        Instant virtualEnd,
+        long wallMillis,
+        double eventsPerSecond,
+        double speedup,
+        long maxLagMillis,
+        List<EventStats> eventTypes
+) {
+
+    /** 이벤트 종류별 건수와 처리 지연(마이크로초). */
+    public record EventStats(
+            TapeEventType type,
+            long count,
+            double meanMicros,
+            double p50Micros,
+            double p99Micros,
+            double p999Micros,
+            double maxMicros
+    ) {
+
+        static EventStats of(TapeEventType type, LatencyHistogram histogram) {
+            return new EventStats(
+                    type,
+                    histogram.count(),
+                    micros(histogram.mean()),
+                    micros(histogram.valueAtPercentile(50)),
+                    micros(histogram.valueAtPercentile(99)),
+                    micros(histogram.valueAtPercentile(99.9)),
+                    micros(histogram.max())
+            );
+        }
+
+        private static double micros(double nanos) {
+            return Math.round(nanos / 100.0) / 10.0;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.wisehero.stocktrading.replay;
+
+import com.wisehero.stocktrading.account.api.dto.MockCashUpdateRequest;
+import com.wisehero.stocktrading.account.api.dto.MockPositionUpdateRequest;
+import com.wisehero.stocktrading.order.api.dto.OrderAmendRequest;
+import com.wisehero.stocktrading.order.api.dto.OrderCreateRequest;
+import com.wisehero.stocktrading.order.domain.OrderSide;
+import com.wisehero.stocktrading.order.domain.OrderTif;
+import com.wisehero.stocktrading.order.domain.OrderType;
+import com.wisehero.stocktrading.quote.api.dto.QuoteUpdateRequest;
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * 재생 테이프 한 줄(JSON). 종류마다 쓰는 필드만 채운다.
+ * <p>
+ * 정정/취소는 주문 ID 대신 원주문의 계좌 ID + 멱등키로 가리킨다. 주문 ID는 재생할 때마다 새로 발급되기 때문이다.
+ */
+public record TapeEvent(
+        Instant at,
+        TapeEventType type,
+        Long accountId,
+        String idempotencyKey,
+        String symbol,
+        OrderSide side,
+        OrderType orderType,
+        OrderTif tif,
+        BigDecimal quantity,
+        BigDecimal limitPrice,
+        BigDecimal amendedRemainingQuantity,
+        BigDecimal amendedLimitPrice,
+        BigDecimal price,
+        BigDecimal availableQuantity,
+        BigDecimal availableCash,
+        BigDecimal averagePrice
+) {
+
+    /** 정정/취소가 원주문을 찾는 키. */
+    public String orderRef() {
+        return accountId + ":" + idempotencyKey;
+    }
+
+    public OrderCreateRequest toCreateRequest() {
+        return new OrderCreateRequest(accountId, idempotencyKey, symbol, side, orderType, tif, quantity, limitPrice);
+    }
+
+    public OrderAmendRequest toAmendRequest() {
+        return new OrderAmendRequest(accountId, amendedRemainingQuantity, amendedLimitPrice);
+    }
+
+    public QuoteUpdateRequest toQuoteRequest() {
+        return new QuoteUpdateRequest(price, availableQuantity);
+    }
+
+    public MockCashUpdateRequest toCashRequest() {
+        return new MockCashUpdateRequest(availableCash);
+    }
+
+    public MockPositionUpdateRequest toPositionRequest() {
+        return new MockPositionUpdateRequest(availableQuantity, averagePrice);
+    }
+}
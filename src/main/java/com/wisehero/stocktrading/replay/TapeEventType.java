@@ -0,0 +1,26 @@
+package com.wisehero.stocktrading.replay;
+
+/**
+ * 재생 테이프 이벤트 종류.
+ * <p>
+ * 계좌 세팅과 만료 배치는 여러 종목에 걸치므로 앞선 이벤트가 모두 끝난 뒤 단독으로 실행한다(barrier).
+ */
+public enum TapeEventType {
+    CASH(true),
+    POSITION(true),
+    QUOTE(false),
+    NEW(false),
+    AMEND(false),
+    CANCEL(false),
+    EXPIRE(true);
+
+    private final boolean barrier;
+
+    TapeEventType(boolean barrier) {
+        this.barrier = barrier;
+    }
+
+    public boolean isBarrier() {
+        return barrier;
+    }
+}
@@ -0,0 +1,86 @@
+package com.wisehero.stocktrading.replay;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * JSON Lines 재생 테이프를 한 줄씩 읽는다. 빈 줄과 {@code #}로 시작하는 줄은 건너뛴다.
+ * <p>
+ * 형식이 잘못되었거나 종류에 필요한 필드가 없으면 줄 번호와 함께 {@link IllegalArgumentException}.
+ */
+public class TapeReader implements Closeable {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private final Path file;
+    private long lineNumber;
+
+    private TapeReader(BufferedReader reader, ObjectMapper objectMapper, Path file) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+        this.file = file;
+    }
+
+    public static TapeReader open(Path file, ObjectMapper objectMapper) throws IOException {
+        return new TapeReader(Files.newBufferedReader(file, StandardCharsets.UTF_8), objectMapper, file);
+    }
+
+    /** 다음 이벤트. 테이프 끝이면 null. */
+    public TapeEvent next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            String trimmed = line.strip();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            TapeEvent event;
+            try {
+                event = objectMapper.readValue(trimmed, TapeEvent.class);
+            } catch (JsonProcessingException e) {
+                throw invalid("malformed JSON (" + e.getOriginalMessage() + ")");
+            }
+            validate(event);
+            return event;
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void validate(TapeEvent event) {
+        if (event.at() == null || event.type() == null) {
+            throw invalid("'at' and 'type' are required");
+        }
+        switch (event.type()) {
+            case QUOTE -> require(event.symbol() != null, "symbol");
+            case CASH -> require(event.accountId() != null, "accountId");
+            case POSITION -> require(event.accountId() != null && event.symbol() != null, "accountId, symbol");
+            case NEW -> require(event.accountId() != null && event.idempotencyKey() != null && event.symbol() != null,
+                    "accountId, idempotencyKey, symbol");
+            case AMEND, CANCEL -> require(event.accountId() != null && event.idempotencyKey() != null,
+                    "accountId, idempotencyKey");
+            case EXPIRE -> {
+            }
+        }
+    }
+
+    private void require(boolean present, String fields) {
+        if (!present) {
+            throw invalid("missing " + fields);
+        }
+    }
+
+    private IllegalArgumentException invalid(String reason) {
+        return new IllegalArgumentException("Invalid replay tape " + file + " line " + lineNumber + ": " + reason);
+    }
+}
@@ -0,0 +1,335 @@
+package com.wisehero.stocktrading.replay;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wisehero.stocktrading.account.service.MockAccountService;
+import com.wisehero.stocktrading.common.concurrent.WorkerThreads;
+import com.wisehero.stocktrading.common.exception.ApiException;
+import com.wisehero.stocktrading.common.sequencer.SymbolSequencer;
+import com.wisehero.stocktrading.common.time.VirtualClock;
+import com.wisehero.stocktrading.order.api.dto.OrderResponse;
+import com.wisehero.stocktrading.order.service.DayOrderExpirationService;
+import com.wisehero.stocktrading.order.service.OrderCommandService;
+import com.wisehero.stocktrading.quote.service.MockQuoteService;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * 녹화된 테이프(시세 + 주문 명령)를 실제 서비스 계층에 흘려 브로커 코어의 처리량과 지연을 잰다.
+ * <p>
+ * 기동이 끝나면 테이프를 한 번 재생하고 보고서를 로그(와 {@code report-file})로 남긴다. {@code speed=0}이면 최대 속도,
+ * 양수면 테이프 시각 간격을 그 배수로 줄여 맞춘다. 체결/만료 시각은 {@link VirtualClock}이 이벤트 시각을 따라가며 찍는다.
+ * <p>
+ * 이벤트는 종목 시퀀서 샤드 기준으로 작업자에 나눠 같은 종목의 순서를 지킨다. 작업자가 여럿이면 시계는 가장 앞선 작업자의
+ * 시각이다. 계좌 세팅과 만료 배치는 모든 작업자가 앞선 이벤트를 끝낸 뒤 읽기 스레드에서 실행한다.
+ * 거절({@link ApiException})은 오류 코드별로, 그 밖의 예외는 오류로 세고 재생은 계속한다.
+ */
+@Component
+@ConditionalOnProperty(name = "trading.replay.enabled", havingValue = "true")
+public class TapeReplayer implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(TapeReplayer.class);
+    private static final Runnable STOP = () -> {
+    };
+
+    private final OrderCommandService orderCommandService;
+    private final MockQuoteService mockQuoteService;
+    private final MockAccountService mockAccountService;
+    private final DayOrderExpirationService dayOrderExpirationService;
+    private final SymbolSequencer symbolSequencer;
+    private final VirtualClock virtualClock;
+    private final ObjectMapper objectMapper;
+    private final ConfigurableApplicationContext applicationContext;
+    private final Path file;
+    private final double speed;
+    private final int workerCount;
+    private final int queueCapacity;
+    private final String reportFile;
+    private final boolean closeWhenDone;
+    private final ThreadFactory threadFactory;
+
+    private final Map<TapeEventType, LatencyHistogram> latencies = new EnumMap<>(TapeEventType.class);
+    private final Map<String, LongAdder> rejectsByCode = new ConcurrentHashMap<>();
+    private final LongAdder errors = new LongAdder();
+    private final Map<String, Long> orderIdsByRef = new ConcurrentHashMap<>();
+    private volatile ReplayReport lastReport;
+
+    public TapeReplayer(
+            OrderCommandService orderCommandService,
+            MockQuoteService mockQuoteService,
+            MockAccountService mockAccountService,
+            DayOrderExpirationService dayOrderExpirationService,
+            SymbolSequencer symbolSequencer,
+            VirtualClock virtualClock,
+            ObjectMapper objectMapper,
+            ConfigurableApplicationContext applicationContext,
+            @Value("${trading.replay.file:./data/replay-tape.jsonl}") Path file,
+            @Value("${trading.replay.speed:0}") double speed,
+            @Value("${trading.replay.workers:0}") int workers,
+            @Value("${trading.replay.queue-capacity:1024}") int queueCapacity,
+            @Value("${trading.replay.report-file:}") String reportFile,
+            @Value("${trading.replay.close-when-done:true}") boolean closeWhenDone,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        if (speed < 0) {
+            throw new IllegalArgumentException("trading.replay.speed must not be negative");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("trading.replay.queue-capacity must be positive");
+        }
+        this.orderCommandService = orderCommandService;
+        this.mockQuoteService = mockQuoteService;
+        this.mockAccountService = mockAccountService;
+        this.dayOrderExpirationService = dayOrderExpirationService;
+        this.symbolSequencer = symbolSequencer;
+        this.virtualClock = virtualClock;
+        this.objectMapper = objectMapper;
+        this.applicationContext = applicationContext;
+        this.file = file;
+        this.speed = speed;
+        this.workerCount = workers > 0 ? workers : Math.max(1, symbolSequencer.shardCount());
+        this.queueCapacity = queueCapacity;
+        this.reportFile = reportFile;
+        this.closeWhenDone = closeWhenDone;
+        this.threadFactory = WorkerThreads.factory("tape-replay-", virtualThreads);
+        for (TapeEventType type : TapeEventType.values()) {
+            latencies.put(type, new LatencyHistogram());
+        }
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        ReplayReport report = replay();
+        lastReport = report;
+        log.info("테이프 재생 완료 - 테이프: {}, 이벤트: {}, 거절: {}, 오류: {}, 소요: {}ms, 처리량: {}/s, 배속: {}x, 최대 지연: {}ms",
+                report.tape(), report.events(), report.rejected(), report.errors(), report.wallMillis(),
+                Math.round(report.eventsPerSecond()), report.speedup(), report.maxLagMillis());
+        for (ReplayReport.EventStats stats : report.eventTypes()) {
+            log.info("  {} - 건수: {}, p50: {}us, p99: {}us, p99.9: {}us, 최대: {}us",
+                    stats.type(), stats.count(), stats.p50Micros(), stats.p99Micros(), stats.p999Micros(), stats.maxMicros());
+        }
+        if (!reportFile.isBlank()) {
+            Path reportPath = Path.of(reportFile);
+            if (reportPath.getParent() != null) {
+                Files.createDirectories(reportPath.getParent());
+            }
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportPath.toFile(), report);
+        }
+        if (closeWhenDone) {
+            SpringApplication.exit(applicationContext);
+        }
+    }
+
+    /** 마지막 재생 보고서. 재생 전이면 null. */
+    public ReplayReport getLastReport() {
+        return lastReport;
+    }
+
+    private ReplayReport replay() throws IOException, InterruptedException {
+        Worker[] workers = new Worker[workerCount];
+        for (int index = 0; index < workers.length; index++) {
+            workers[index] = new Worker(queueCapacity);
+            workers[index].thread = threadFactory.newThread(workers[index]);
+            workers[index].thread.start();
+        }
+        // 정정/취소를 원주문과 같은 작업자로 보내기 위한 주문 키별 종목. 읽기 스레드만 쓴다.
+        Map<String, String> symbolsByRef = new HashMap<>();
+
+        long events = 0;
+        long maxLagNanos = 0;
+        Instant virtualStart = null;
+        Instant virtualEnd = null;
+        long startedAt = System.nanoTime();
+        try (TapeReader reader = TapeReader.open(file, objectMapper)) {
+            TapeEvent event;
+            while ((event = reader.next()) != null) {
+                if (virtualStart == null) {
+                    virtualStart = event.at();
+                    virtualClock.reset(virtualStart);
+                }
+                if (virtualEnd == null || event.at().isAfter(virtualEnd)) {
+                    virtualEnd = event.at();
+                }
+                if (speed > 0) {
+                    maxLagNanos = Math.max(maxLagNanos, pace(startedAt, virtualStart, event.at()));
+                }
+                events++;
+
+                if (event.type().isBarrier()) {
+                    awaitIdle(workers);
+                    execute(event);
+                    continue;
+                }
+                String symbol = routingSymbol(event, symbolsByRef);
+                TapeEvent routed = event;
+                workers[symbol == null ? 0 : symbolSequencer.shardIndexOf(symbol) % workers.length]
+                        .queue.put(() -> execute(routed));
+            }
+            awaitIdle(workers);
+        } finally {
+            for (Worker worker : workers) {
+                worker.queue.put(STOP);
+            }
+            for (Worker worker : workers) {
+                worker.thread.join();
+            }
+        }
+        return report(events, virtualStart, virtualEnd, System.nanoTime() - startedAt, maxLagNanos);
+    }
+
+    /** 배속 재생에서 이벤트의 예정 시각까지 기다리고, 이미 늦었으면 늦은 만큼을 반환한다. */
+    private long pace(long startedAt, Instant virtualStart, Instant at) {
+        long dueAt = startedAt + (long) (Duration.between(virtualStart, at).toNanos() / speed);
+        long remaining = dueAt - System.nanoTime();
+        if (remaining <= 0) {
+            return -remaining;
+        }
+        while (remaining > 0) {
+            LockSupport.parkNanos(remaining);
+            remaining = dueAt - System.nanoTime();
+        }
+        return 0L;
+    }
+
+    private String routingSymbol(TapeEvent event, Map<String, String> symbolsByRef) {
+        if (event.type() == TapeEventType.AMEND || event.type() == TapeEventType.CANCEL) {
+            return symbolsByRef.get(event.orderRef());
+        }
+        if (event.type() == TapeEventType.NEW) {
+            symbolsByRef.put(event.orderRef(), event.symbol());
+        }
+        return event.symbol();
+    }
+
+    private void awaitIdle(Worker[] workers) throws InterruptedException {
+        CountDownLatch idle = new CountDownLatch(workers.length);
+        for (Worker worker : workers) {
+            worker.queue.put(idle::countDown);
+        }
+        idle.await();
+    }
+
+    private void execute(TapeEvent event) {
+        long startedAt = System.nanoTime();
+        virtualClock.advanceTo(event.at());
+        try {
+            apply(event);
+        } catch (ApiException e) {
+            rejectsByCode.computeIfAbsent(e.getErrorCode().code(), code -> new LongAdder()).increment();
+        } catch (RuntimeException e) {
+            errors.increment();
+            log.debug("테이프 이벤트 처리 오류 - 종류: {}, 시각: {}", event.type(), event.at(), e);
+        } finally {
+            latencies.get(event.type()).record(System.nanoTime() - startedAt);
+        }
+    }
+
+    private void apply(TapeEvent event) {
+        switch (event.type()) {
+            case CASH -> mockAccountService.upsertCash(event.accountId(), event.toCashRequest());
+            case POSITION -> mockAccountService.upsertPosition(event.accountId(), event.symbol(), event.toPositionRequest());
+            // 시세 반영/재매칭도 같은 종목의 주문 명령과 같은 샤드에서 테이프 순서대로 실행한다.
+            case QUOTE -> symbolSequencer.execute(
+                    event.symbol(),
+                    () -> mockQuoteService.upsertQuote(event.symbol(), event.toQuoteRequest())
+            );
+            case NEW -> {
+                OrderResponse response = orderCommandService.createOrder(event.toCreateRequest());
+                orderIdsByRef.put(event.orderRef(), response.orderId());
+            }
+            case AMEND -> orderCommandService.amendOrder(orderIdOf(event), event.toAmendRequest());
+            case CANCEL -> orderCommandService.cancelOrder(orderIdOf(event), event.accountId());
+            case EXPIRE -> dayOrderExpirationService.expireDayOrders();
+        }
+    }
+
+    private Long orderIdOf(TapeEvent event) {
+        Long orderId = orderIdsByRef.get(event.orderRef());
+        if (orderId == null) {
+            throw new IllegalStateException("Replay order not found: " + event.orderRef());
+        }
+        return orderId;
+    }
+
+    private ReplayReport report(long events, Instant virtualStart, Instant virtualEnd, long wallNanos, long maxLagNanos) {
+        Map<String, Long> rejects = new TreeMap<>();
+        long rejected = 0;
+        for (Map.Entry<String, LongAdder> entry : rejectsByCode.entrySet()) {
+            rejects.put(entry.getKey(), entry.getValue().sum());
+            rejected += entry.getValue().sum();
+        }
+        List<ReplayReport.EventStats> eventTypes = new ArrayList<>();
+        for (Map.Entry<TapeEventType, LatencyHistogram> entry : latencies.entrySet()) {
+            if (entry.getValue().count() > 0) {
+                eventTypes.add(ReplayReport.EventStats.of(entry.getKey(), entry.getValue()));
+            }
+        }
+
+        double wallSeconds = Math.max(wallNanos, 1L) / 1_000_000_000.0;
+        long virtualNanos = virtualStart == null ? 0L : Duration.between(virtualStart, virtualEnd).toNanos();
+        return new ReplayReport(
+                file.toString(),
+                speed,
+                workerCount,
+                events,
+                rejected,
+                rejects,
+                errors.sum(),
+                virtualStart,
+                virtualEnd,
+                TimeUnit.NANOSECONDS.toMillis(wallNanos),
+                events / wallSeconds,
+                Math.round(virtualNanos / 1_000_000_000.0 / wallSeconds * 10.0) / 10.0,
+                TimeUnit.NANOSECONDS.toMillis(maxLagNanos),
+                eventTypes
+        );
+    }
+
+    /** 종목 샤드 하나를 맡는 재생 작업자. 대기열이 차면 읽기 스레드가 기다린다. */
+    private static final class Worker implements Runnable {
+
+        private final BlockingQueue<Runnable> queue;
+        private Thread thread;
+
+        private Worker(int capacity) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        @Override
+        public void run() {
+            try {
+                Runnable task;
+                while ((task = queue.take()) != STOP) {
+                    task.run();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.wisehero.stocktrading.account.ledger;
+
+import com.wisehero.stocktrading.account.api.dto.MockCashUpdateRequest;
+import com.wisehero.stocktrading.account.domain.CashBalance;
+import com.wisehero.stocktrading.account.domain.Position;
+import com.wisehero.stocktrading.account.domain.PositionId;
+import com.wisehero.stocktrading.account.repository.CashBalanceRepository;
+import com.wisehero.stocktrading.account.repository.PositionRepository;
+import com.wisehero.stocktrading.account.service.MockAccountService;
+import com.wisehero.stocktrading.common.api.ApiErrorCode;
+import com.wisehero.stocktrading.common.exception.ApiException;
+import com.wisehero.stocktrading.order.api.dto.OrderCreateRequest;
+import com.wisehero.stocktrading.order.api.dto.OrderResponse;
+import com.wisehero.stocktrading.order.domain.OrderSide;
+import com.wisehero.stocktrading.order.domain.OrderStatus;
+import com.wisehero.stocktrading.order.domain.OrderTif;
+import com.wisehero.stocktrading.order.domain.OrderType;
+import com.wisehero.stocktrading.order.service.OrderCommandService;
+import com.wisehero.stocktrading.quote.api.dto.QuoteUpdateRequest;
+import com.wisehero.stocktrading.quote.service.QuoteTickDispatcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 메모리 원장 모드에서 주문이 원장 값으로 선점/체결되고, 쓰기 스레드가 테이블에 반영하는지 확인한다.
+ * 다른 통합 테스트와 DB/저널을 나눠 쓰지 않도록 별도 H2와 디렉터리를 쓴다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:stocktrading-ledger-test;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "trading.account-ledger.enabled=true",
+        "trading.account-ledger.flush-interval=10ms",
+        "trading.account-ledger.check-page-size=1"
+})
+class AccountLedgerIntegrationTest {
+
+    private static final long ACCOUNT_ID = 4001L;
+    private static final long OTHER_ACCOUNT_ID = 4002L;
+    private static final String SYMBOL = "LDGA";
+
+    @Autowired
+    private AccountLedger accountLedger;
+
+    @Autowired
+    private MockAccountService mockAccountService;
+
+    @Autowired
+    private QuoteTickDispatcher quoteTickDispatcher;
+
+    @Autowired
+    private OrderCommandService orderCommandService;
+
+    @Autowired
+    private CashBalanceRepository cashBalanceRepository;
+
+    @Autowired
+    private PositionRepository positionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void ordersShouldUseLedgerAndWriteBehindToTables() {
+        mockAccountService.upsertCash(ACCOUNT_ID, new MockCashUpdateRequest(new BigDecimal("1000000")));
+        mockAccountService.upsertCash(OTHER_ACCOUNT_ID, new MockCashUpdateRequest(new BigDecimal("500000")));
+        quoteTickDispatcher.dispatch(SYMBOL, new QuoteUpdateRequest(new BigDecimal("1000"), new BigDecimal("30")));
+
+        OrderResponse bought = orderCommandService.createOrder(order("ledger-buy-1", OrderSide.BUY, "100", "1000"));
+        assertThat(bought.status()).isEqualTo(OrderStatus.PARTIALLY_FILLED);
+        assertThat(bought.filledQuantity()).isEqualByComparingTo("30");
+
+        // 원장에서 거절된 주문의 변경은 롤백과 함께 버려진다.
+        assertThatThrownBy(() -> orderCommandService.createOrder(order("ledger-sell-1", OrderSide.SELL, "31", "1000")))
+                .isInstanceOf(ApiException.class)
+                .extracting("errorCode")
+                .isEqualTo(ApiErrorCode.ACCOUNT_INSUFFICIENT_QUANTITY);
+        assertThatThrownBy(() -> orderCommandService.createOrder(order("ledger-buy-2", OrderSide.BUY, "10000", "1000")))
+                .isInstanceOf(ApiException.class)
+                .extracting("errorCode")
+                .isEqualTo(ApiErrorCode.ACCOUNT_INSUFFICIENT_CASH);
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> accountLedger.pendingCount() == 0);
+
+        CashBalance cash = cashBalanceRepository.findById(ACCOUNT_ID).orElseThrow();
+        assertThat(cash.getHeldCash()).isPositive();
+        assertThat(cash.getAvailableCash().add(cash.getHeldCash())).isLessThan(new BigDecimal("1000000"));
+        Position position = positionRepository.findById(new PositionId(ACCOUNT_ID, SYMBOL)).orElseThrow();
+        assertThat(position.getAvailableQuantity()).isEqualByComparingTo("30");
+        assertThat(position.getHeldQuantity()).isEqualByComparingTo("0");
+        assertThat(position.getAveragePrice()).isEqualByComparingTo("1000");
+        assertThat(accountLedger.checkConsistency()).isZero();
+
+        // 원장을 거치지 않은 변경은 불일치로 잡힌다. 원장 계좌 구간 앞뒤의 테이블에만 있는 행도 센다.
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            cashBalanceRepository.releaseHeld(ACCOUNT_ID, cash.getHeldCash(), Instant.now());
+            positionRepository.save(Position.create(ACCOUNT_ID - 1, SYMBOL, BigDecimal.ONE, BigDecimal.ONE));
+            positionRepository.save(Position.create(OTHER_ACCOUNT_ID + 1, SYMBOL, BigDecimal.ONE, BigDecimal.ONE));
+        });
+
+        assertThat(accountLedger.checkConsistency()).isEqualTo(3);
+        assertThat(meterRegistry.get("trading.account-ledger.mismatches").counter().count()).isEqualTo(3);
+    }
+
+    private OrderCreateRequest order(String idempotencyKey, OrderSide side, String quantity, String limitPrice) {
+        return new OrderCreateRequest(
+                ACCOUNT_ID,
+                idempotencyKey,
+                SYMBOL,
+                side,
+                OrderType.LIMIT,
+                OrderTif.DAY,
+                new BigDecimal(quantity),
+                new BigDecimal(limitPrice)
+        );
+    }
+}
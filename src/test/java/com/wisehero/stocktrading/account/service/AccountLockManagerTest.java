@@ -0,0 +1,78 @@
+package com.wisehero.stocktrading.account.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AccountLockManagerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AccountLockManager lockManager = new AccountLockManager(meterRegistry, true, 16, Duration.ofMillis(50));
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            completeTransaction();
+        }
+    }
+
+    @Test
+    void lockShouldBeHeldUntilTransactionCompletes() throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        lockManager.lock(1L);
+        lockManager.lockAll(List.of(1L, 17L, 2L));
+
+        assertThatThrownBy(() -> inOtherTransaction(1L))
+                .hasCauseInstanceOf(CannotAcquireLockException.class);
+        assertThat(meterRegistry.get("trading.account.lock.timeouts").counter().count()).isEqualTo(1);
+
+        completeTransaction();
+        inOtherTransaction(1L);
+        inOtherTransaction(2L);
+        assertThat(meterRegistry.get("trading.account.lock.wait").timer().count()).isEqualTo(5);
+    }
+
+    @Test
+    void lockOutsideTransactionShouldFail() {
+        assertThatThrownBy(() -> lockManager.lock(1L)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void disabledManagerShouldNotLock() {
+        AccountLockManager disabled = new AccountLockManager(meterRegistry, false, 16, Duration.ofMillis(50));
+
+        disabled.lock(1L);
+        disabled.lockAll(List.of(1L, 2L));
+
+        assertThat(TransactionSynchronizationManager.isSynchronizationActive()).isFalse();
+    }
+
+    private void inOtherTransaction(long accountId) throws Exception {
+        CompletableFuture.runAsync(() -> {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                lockManager.lock(accountId);
+            } finally {
+                completeTransaction();
+            }
+        }).get(5, TimeUnit.SECONDS);
+    }
+
+    private static void completeTransaction() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        for (TransactionSynchronization synchronization : synchronizations) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.wisehero.stocktrading.common.numeric;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FixedDecimalTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "0.00005, 0.0001",
+            "0.00004, 0.0000",
+            "-0.00005, -0.0001",
+            "1.23456, 1.2346"
+    })
+    void fromBigDecimalShouldRoundHalfUp(String value, String expected) {
+        assertThat(FixedDecimal.toBigDecimal(FixedDecimal.fromBigDecimal(new BigDecimal(value))))
+                .isEqualTo(new BigDecimal(expected));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "0.0005, 0.5000",
+            "-0.0005, 0.5000",
+            "-1.2345, 3.3333",
+            "922337203685.4775, 1000.0000",
+            "123456789.1234, 5678.5678"
+    })
+    void multiplyShouldMatchBigDecimalIncludingOverflowFallback(String left, String right) {
+        BigDecimal expected = new BigDecimal(left).multiply(new BigDecimal(right)).setScale(FixedDecimal.SCALE, RoundingMode.HALF_UP);
+
+        long product = FixedDecimal.multiply(
+                FixedDecimal.fromBigDecimal(new BigDecimal(left)),
+                FixedDecimal.fromBigDecimal(new BigDecimal(right))
+        );
+
+        assertThat(FixedDecimal.toBigDecimal(product)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "922337203685477.5807, true",
+            "922337203685477.58074, true",
+            "922337203685477.58075, false",
+            "922337203685477.5808, false",
+            "-922337203685477.5808, true",
+            "-922337203685477.5809, false"
+    })
+    void fitsShouldFollowLongRangeAfterRounding(String value, boolean expected) {
+        assertThat(FixedDecimal.fits(new BigDecimal(value))).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,163 @@
+package com.wisehero.stocktrading.common.sequencer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SymbolSequencerTest {
+
+    private final SymbolSequencer sequencer = new SymbolSequencer(true, 4, 8, false);
+
+    @AfterEach
+    void tearDown() {
+        sequencer.shutdown();
+    }
+
+    @Test
+    void commandsForSameSymbolShouldRunInSubmissionOrderOnOneThread() {
+        List<Integer> executed = new ArrayList<>();
+        Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+        for (int index = 0; index < 1_000; index++) {
+            int value = index;
+            sequencer.submit("TESTA", () -> {
+                executed.add(value);
+                threadNames.add(Thread.currentThread().getName());
+                return null;
+            });
+        }
+        sequencer.execute("testa ", () -> null);
+
+        assertThat(executed).hasSize(1_000).isSorted();
+        assertThat(threadNames).hasSize(1);
+    }
+
+    @Test
+    void concurrentProducersShouldNotLoseCommands() throws Exception {
+        int producers = 8;
+        int commandsPerProducer = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+        int[] counter = new int[1];
+
+        for (int producer = 0; producer < producers; producer++) {
+            executor.submit(() -> {
+                for (int index = 0; index < commandsPerProducer; index++) {
+                    sequencer.submit("TESTB", () -> counter[0]++);
+                }
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        sequencer.execute("TESTB", () -> null);
+        executor.shutdown();
+
+        assertThat(counter[0]).isEqualTo(producers * commandsPerProducer);
+    }
+
+    @Test
+    void exceptionShouldPropagateToCaller() {
+        assertThatThrownBy(() -> sequencer.execute("TESTC", () -> {
+            throw new IllegalArgumentException("boom");
+        }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("boom");
+    }
+
+    @Test
+    void nestedCallOnSameShardShouldRunInline() {
+        String threadName = sequencer.execute("TESTD", () ->
+                sequencer.execute("TESTD", () -> Thread.currentThread().getName()));
+
+        assertThat(threadName).startsWith("symbol-sequencer-");
+    }
+
+    @Test
+    void executeAcrossShouldHoldEveryShardUntilCommandCompletes() throws Exception {
+        List<String> symbols = List.of("TESTF", "TESTG", "TESTH", "TESTI");
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<String> across = executor.submit(() -> sequencer.executeAcross(symbols, () -> {
+            running.countDown();
+            await(release);
+            return Thread.currentThread().getName();
+        }));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        List<CompletableFuture<Boolean>> queued = new ArrayList<>();
+        for (String symbol : symbols) {
+            queued.add(sequencer.submit(symbol, () -> release.getCount() == 0));
+        }
+        Thread.sleep(100);
+        assertThat(queued).noneMatch(CompletableFuture::isDone);
+
+        release.countDown();
+        assertThat(across.get(5, TimeUnit.SECONDS)).doesNotStartWith("symbol-sequencer-");
+        for (CompletableFuture<Boolean> command : queued) {
+            assertThat(command.get(5, TimeUnit.SECONDS)).isTrue();
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    void overlappingExecuteAcrossShouldNotDeadlock() throws Exception {
+        List<String> symbols = List.of("TESTJ", "TESTK", "TESTL", "TESTM", "TESTN");
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        int[] counter = new int[1];
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int caller = 0; caller < callers; caller++) {
+            List<String> ordered = new ArrayList<>(symbols);
+            Collections.rotate(ordered, caller);
+            futures.add(executor.submit(() -> {
+                for (int index = 0; index < 200; index++) {
+                    sequencer.executeAcross(ordered, () -> counter[0]++);
+                }
+            }));
+        }
+
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(counter[0]).isEqualTo(callers * 200);
+    }
+
+    @Test
+    void virtualThreadShardsShouldRunCommandsOnNamedVirtualThreads() {
+        SymbolSequencer virtualSequencer = new SymbolSequencer(true, 2, 8, true);
+        try {
+            Thread shardThread = virtualSequencer.execute("TESTE", Thread::currentThread);
+
+            assertThat(shardThread.isVirtual()).isTrue();
+            assertThat(shardThread.getName()).startsWith("symbol-sequencer-");
+        } finally {
+            virtualSequencer.shutdown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.wisehero.stocktrading.exchange;
+
+import com.wisehero.stocktrading.account.api.dto.MockCashUpdateRequest;
+import com.wisehero.stocktrading.account.api.dto.MockPositionUpdateRequest;
+import com.wisehero.stocktrading.account.service.MockAccountService;
+import com.wisehero.stocktrading.order.api.dto.FillResponse;
+import com.wisehero.stocktrading.order.api.dto.OrderCreateRequest;
+import com.wisehero.stocktrading.order.api.dto.OrderResponse;
+import com.wisehero.stocktrading.order.domain.OrderSide;
+import com.wisehero.stocktrading.order.domain.OrderStatus;
+import com.wisehero.stocktrading.order.domain.OrderTif;
+import com.wisehero.stocktrading.order.domain.OrderType;
+import com.wisehero.stocktrading.order.repository.OrderRepository;
+import com.wisehero.stocktrading.order.service.OrderCommandService;
+import com.wisehero.stocktrading.order.service.OrderService;
+import com.wisehero.stocktrading.quote.api.dto.QuoteUpdateRequest;
+import com.wisehero.stocktrading.quote.service.QuoteTickDispatcher;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 호가창을 건드린 트랜잭션이 롤백되면 호가창도 커밋된 상태(대기 주문과 남은 시세 유동성)로 돌아가는지 확인한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:stocktrading-order-book-test;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "trading.fill-journal.enabled=false",
+        "trading.exchange.engine=order-book"
+})
+class OrderBookExchangeEngineIntegrationTest {
+
+    private static final long BUYER_ID = 8101L;
+    private static final long SELLER_ID = 8102L;
+    private static final String SYMBOL = "BOOKR";
+    private static final long QUOTE_BUYER_ID = 8103L;
+    private static final long QUOTE_SELLER_ID = 8104L;
+    private static final String QUOTE_SYMBOL = "BOOKQ";
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderCommandService orderCommandService;
+
+    @Autowired
+    private MockAccountService mockAccountService;
+
+    @Autowired
+    private QuoteTickDispatcher quoteTickDispatcher;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void rolledBackRestingOrderShouldNotBeMatchedAgainst() {
+        mockAccountService.upsertCash(BUYER_ID, new MockCashUpdateRequest(new BigDecimal("1000000")));
+        mockAccountService.upsertPosition(
+                SELLER_ID,
+                SYMBOL,
+                new MockPositionUpdateRequest(new BigDecimal("100"), new BigDecimal("1000"))
+        );
+        // 시세 유동성이 없어야 주문끼리만 체결된다.
+        quoteTickDispatcher.dispatch(SYMBOL, new QuoteUpdateRequest(new BigDecimal("1000"), BigDecimal.ZERO));
+
+        // 호가창에 대기한 매도 주문을 트랜잭션째 롤백한다.
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            OrderResponse resting = orderService.createOrder(order(SELLER_ID, "book-rollback-sell", OrderSide.SELL));
+            assertThat(resting.status()).isEqualTo(OrderStatus.NEW);
+            status.setRollbackOnly();
+        });
+        assertThat(orderRepository.findByAccountIdAndIdempotencyKey(SELLER_ID, "book-rollback-sell")).isEmpty();
+
+        // 같은 가격대로 들어온 매수는 롤백된 매도와 체결되지 않고 대기한다.
+        OrderResponse buy = orderCommandService.createOrder(order(BUYER_ID, "book-rollback-buy", OrderSide.BUY));
+        assertThat(buy.status()).isEqualTo(OrderStatus.NEW);
+        assertThat(buy.fills()).isEmpty();
+
+        // 다시 구성한 호가창에서도 커밋된 주문끼리는 체결된다.
+        OrderResponse sell = orderCommandService.createOrder(order(SELLER_ID, "book-committed-sell", OrderSide.SELL));
+        assertThat(sell.status()).isEqualTo(OrderStatus.FILLED);
+        assertThat(orderRepository.findById(buy.orderId()).orElseThrow().getStatus()).isEqualTo(OrderStatus.FILLED);
+    }
+
+    @Test
+    void rollbackShouldNotRestoreQuoteLiquidityConsumedByCommittedOrders() {
+        mockAccountService.upsertCash(QUOTE_BUYER_ID, new MockCashUpdateRequest(new BigDecimal("1000000")));
+        mockAccountService.upsertPosition(
+                QUOTE_SELLER_ID,
+                QUOTE_SYMBOL,
+                new MockPositionUpdateRequest(new BigDecimal("100"), new BigDecimal("1000"))
+        );
+        quoteTickDispatcher.dispatch(QUOTE_SYMBOL, new QuoteUpdateRequest(new BigDecimal("1000"), new BigDecimal("30")));
+
+        // 시세 30주 중 20주를 커밋된 주문이 쓴다.
+        OrderResponse first = orderCommandService.createOrder(
+                order(QUOTE_BUYER_ID, "book-quote-buy-1", QUOTE_SYMBOL, OrderSide.BUY, "20", "1000")
+        );
+        assertThat(first.status()).isEqualTo(OrderStatus.FILLED);
+
+        // 같은 종목의 상관없는 주문을 롤백해 호가창을 다시 구성하게 한다.
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            orderService.createOrder(order(QUOTE_SELLER_ID, "book-quote-rollback-sell", QUOTE_SYMBOL, OrderSide.SELL, "5", "1100"));
+            status.setRollbackOnly();
+        });
+
+        // 다시 구성한 호가창에는 남은 10주만 있어야 한다.
+        OrderResponse second = orderCommandService.createOrder(
+                order(QUOTE_BUYER_ID, "book-quote-buy-2", QUOTE_SYMBOL, OrderSide.BUY, "30", "1000")
+        );
+        assertThat(second.status()).isEqualTo(OrderStatus.PARTIALLY_FILLED);
+        BigDecimal filledQuantity = second.fills().stream()
+                .map(FillResponse::fillQuantity)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertThat(filledQuantity).isEqualByComparingTo("10");
+    }
+
+    private OrderCreateRequest order(long accountId, String idempotencyKey, OrderSide side) {
+        return order(accountId, idempotencyKey, SYMBOL, side, "10", "1000");
+    }
+
+    private OrderCreateRequest order(
+            long accountId,
+            String idempotencyKey,
+            String symbol,
+            OrderSide side,
+            String quantity,
+            String limitPrice
+    ) {
+        return new OrderCreateRequest(
+                accountId,
+                idempotencyKey,
+                symbol,
+                side,
+                OrderType.LIMIT,
+                OrderTif.DAY,
+                new BigDecimal(quantity),
+                new BigDecimal(limitPrice)
+        );
+    }
+}
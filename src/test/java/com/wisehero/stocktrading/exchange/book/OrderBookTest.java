@@ -0,0 +1,101 @@
+package com.wisehero.stocktrading.exchange.book;
+
+import com.wisehero.stocktrading.common.numeric.FixedDecimal;
+import com.wisehero.stocktrading.order.domain.OrderSide;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderBookTest {
+
+    @Test
+    void incomingOrderShouldMatchRestingOrdersByPriceThenTime() {
+        OrderBook book = new OrderBook("TEST");
+        book.rest(1L, OrderSide.SELL, units("101"), units("10"));
+        book.rest(2L, OrderSide.SELL, units("100"), units("10"));
+        book.rest(3L, OrderSide.SELL, units("100"), units("10"));
+
+        List<BookFill> fills = book.match(10L, OrderSide.BUY, units("101"), units("25"), false, true);
+
+        assertThat(fills).extracting(BookFill::counterOrderId).containsExactly(2L, 3L, 1L);
+        assertThat(fills).extracting(BookFill::price).containsExactly(units("100"), units("100"), units("101"));
+        assertThat(book.find(1L).getRemainingQuantity()).isEqualTo(units("5"));
+        assertThat(book.find(2L)).isNull();
+        assertThat(book.find(10L)).isNull();
+    }
+
+    @Test
+    void remainderShouldRestWhenPriceDoesNotCross() {
+        OrderBook book = new OrderBook("TEST");
+        book.rest(1L, OrderSide.SELL, units("100"), units("10"));
+
+        List<BookFill> fills = book.match(10L, OrderSide.BUY, units("99"), units("5"), false, true);
+
+        assertThat(fills).isEmpty();
+        assertThat(book.bestBid()).isEqualTo(units("99"));
+        assertThat(book.bestAsk()).isEqualTo(units("100"));
+        assertThat(book.restingOrderCount()).isEqualTo(2);
+    }
+
+    @Test
+    void quoteLiquidityShouldFillAfterBetterOrEqualRestingOrders() {
+        OrderBook book = new OrderBook("TEST");
+        book.updateQuote(units("100"), units("30"));
+        book.rest(1L, OrderSide.SELL, units("100"), units("10"));
+        book.rest(2L, OrderSide.SELL, units("102"), units("10"));
+
+        List<BookFill> fills = book.match(10L, OrderSide.BUY, units("102"), units("45"), false, false);
+
+        assertThat(fills).extracting(BookFill::counterOrderId).containsExactly(1L, null, 2L);
+        assertThat(book.getQuoteQuantity()).isEqualTo(units("0"));
+        assertThat(book.find(10L)).isNull();
+    }
+
+    @Test
+    void allOrNoneShouldNotFillWhenLiquidityIsInsufficient() {
+        OrderBook book = new OrderBook("TEST");
+        book.updateQuote(units("100"), units("5"));
+        book.rest(1L, OrderSide.BUY, units("100"), units("10"));
+
+        List<BookFill> fills = book.match(10L, OrderSide.SELL, units("100"), units("20"), true, false);
+
+        assertThat(fills).isEmpty();
+        assertThat(book.find(1L).getRemainingQuantity()).isEqualTo(units("10"));
+        assertThat(book.getQuoteQuantity()).isEqualTo(units("5"));
+    }
+
+    @Test
+    void restingOrderShouldRematchAgainstUpdatedQuoteWithoutLosingPriority() {
+        OrderBook book = new OrderBook("TEST");
+        book.rest(1L, OrderSide.BUY, units("100"), units("10"));
+        book.rest(2L, OrderSide.BUY, units("100"), units("10"));
+        book.updateQuote(units("99"), units("4"));
+
+        List<BookFill> fills = book.matchAgainstQuote(1L);
+
+        assertThat(fills).singleElement().satisfies(fill -> {
+            assertThat(fill.price()).isEqualTo(units("99"));
+            assertThat(fill.quantity()).isEqualTo(units("4"));
+        });
+        assertThat(book.find(1L).getRemainingQuantity()).isEqualTo(units("6"));
+
+        List<BookFill> sellFills = book.match(10L, OrderSide.SELL, units("100"), units("8"), false, false);
+        assertThat(sellFills).extracting(BookFill::counterOrderId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void removeShouldDropEmptyPriceLevel() {
+        OrderBook book = new OrderBook("TEST");
+        book.rest(1L, OrderSide.BUY, units("100"), units("10"));
+
+        assertThat(book.remove(1L)).isTrue();
+        assertThat(book.remove(1L)).isFalse();
+        assertThat(book.bestBid()).isNull();
+    }
+
+    private long units(String value) {
+        return FixedDecimal.fromBigDecimal(new BigDecimal(value));
+    }
+}
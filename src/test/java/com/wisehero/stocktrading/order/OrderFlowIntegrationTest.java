@@ -2,9 +2,23 @@ package com.wisehero.stocktrading.order;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.wisehero.stocktrading.order.service.OrderService;
+import com.wisehero.stocktrading.account.domain.CashBalance;
+import com.wisehero.stocktrading.account.domain.Position;
+import com.wisehero.stocktrading.account.domain.PositionId;
+import com.wisehero.stocktrading.account.repository.CashBalanceRepository;
+import com.wisehero.stocktrading.account.repository.PositionRepository;
+import com.wisehero.stocktrading.order.idempotency.IdempotencyKeyRegistry;
+import com.wisehero.stocktrading.order.service.DayOrderExpirationService;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -15,10 +29,12 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -35,7 +51,19 @@ class OrderFlowIntegrationTest {
     private ObjectMapper objectMapper;
 
     @Autowired
-    private OrderService orderService;
+    private DayOrderExpirationService dayOrderExpirationService;
+
+    @Autowired
+    private CashBalanceRepository cashBalanceRepository;
+
+    @Autowired
+    private PositionRepository positionRepository;
+
+    @Autowired
+    private IdempotencyKeyRegistry idempotencyKeyRegistry;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
 
     @Test
     void marketBuyShouldPartialFillThenFullyFillAfterQuoteUpdate() throws Exception {
@@ -148,6 +176,37 @@ class OrderFlowIntegrationTest {
                 .isEqualTo(first.get("data").get("orderId").asLong());
     }
 
+    @Test
+    void duplicateIdempotencyKeyShouldReturnSameOrderAfterCacheReset() throws Exception {
+        long accountId = 1014L;
+        String symbol = "TESTN";
+
+        upsertCash(accountId, "1000000.0000");
+        upsertQuote(symbol, "100.0000", "100.0000");
+
+        Map<String, Object> request = Map.of(
+                "accountId", accountId,
+                "idempotencyKey", "idem-reset-001",
+                "symbol", symbol,
+                "side", "BUY",
+                "orderType", "LIMIT",
+                "limitPrice", "90.0000",
+                "quantity", "10.0000"
+        );
+
+        JsonNode first = createOrder(request);
+        BigDecimal heldAfterFirst = cashBalanceRepository.findById(accountId).orElseThrow().getHeldCash();
+
+        // 캐시를 비우고 필터만 DB에서 다시 채우면 재시도는 유니크 인덱스 조회로 응답해야 한다.
+        idempotencyKeyRegistry.warmUp();
+        JsonNode second = createOrder(request);
+
+        assertThat(second.get("data").get("orderId").asLong())
+                .isEqualTo(first.get("data").get("orderId").asLong());
+        assertThat(cashBalanceRepository.findById(accountId).orElseThrow().getHeldCash())
+                .isEqualByComparingTo(heldAfterFirst);
+    }
+
     @Test
     void marketOrderShouldRejectNonIocTif() throws Exception {
         long accountId = 1005L;
@@ -190,6 +249,28 @@ class OrderFlowIntegrationTest {
         assertThat(response.get("code").asText()).isEqualTo("ORDER-411");
     }
 
+    @Test
+    void buyShouldRejectReserveAmountBeyondFixedPointRange() throws Exception {
+        long accountId = 1017L;
+        String symbol = "TESTO";
+
+        upsertCash(accountId, "1000000.0000");
+        upsertQuote(symbol, "1000.0000", "100.0000");
+
+        // 가격/수량은 각각 범위 안이지만 선점 금액(10^18)이 고정소수점 범위를 넘는다.
+        JsonNode response = createOrderExpectStatus(Map.of(
+                "accountId", accountId,
+                "idempotencyKey", "amount-range-001",
+                "symbol", symbol,
+                "side", "BUY",
+                "orderType", "LIMIT",
+                "quantity", "1000000000000.0000",
+                "limitPrice", "1000000.0000"
+        ), HttpStatus.BAD_REQUEST.value());
+
+        assertThat(response.get("code").asText()).isEqualTo("ORDER-417");
+    }
+
     @Test
     void limitIocShouldCancelRemainingImmediately() throws Exception {
         long accountId = 1007L;
@@ -291,13 +372,231 @@ class OrderFlowIntegrationTest {
         long orderId = created.get("data").get("orderId").asLong();
         assertThat(created.get("data").get("status").asText()).isEqualTo("NEW");
 
-        int expiredCount = orderService.expireDayOrders();
+        int expiredCount = dayOrderExpirationService.expireDayOrders().expiredCount();
         assertThat(expiredCount).isGreaterThanOrEqualTo(1);
 
         JsonNode expired = getOrder(orderId, accountId);
         assertThat(expired.get("data").get("status").asText()).isEqualTo("EXPIRED");
     }
 
+    @Test
+    void expireDayOrdersShouldReleaseHeldCashAndQuantity() throws Exception {
+        long accountId = 1013L;
+        String symbol = "TESTM";
+
+        upsertCash(accountId, "1000000.0000");
+        upsertPosition(accountId, symbol, "100.0000", "900.0000");
+        upsertQuote(symbol, "1000.0000", "0");
+
+        long firstBuyId = createLimitBuy(accountId, symbol, "expire-buy-001", "900.0000", "10.0000");
+        long secondBuyId = createLimitBuy(accountId, symbol, "expire-buy-002", "950.0000", "10.0000");
+        JsonNode sell = createOrder(Map.of(
+                "accountId", accountId,
+                "idempotencyKey", "expire-sell-001",
+                "symbol", symbol,
+                "side", "SELL",
+                "orderType", "LIMIT",
+                "tif", "DAY",
+                "quantity", "30.0000",
+                "limitPrice", "1100.0000"
+        ));
+        long sellId = sell.get("data").get("orderId").asLong();
+
+        int expiredCount = dayOrderExpirationService.expireDayOrders().expiredCount();
+        assertThat(expiredCount).isGreaterThanOrEqualTo(3);
+
+        for (long orderId : List.of(firstBuyId, secondBuyId, sellId)) {
+            assertThat(getOrder(orderId, accountId).get("data").get("status").asText()).isEqualTo("EXPIRED");
+        }
+
+        CashBalance cashBalance = cashBalanceRepository.findById(accountId).orElseThrow();
+        assertThat(cashBalance.getAvailableCash()).isEqualByComparingTo("1000000.0000");
+        assertThat(cashBalance.getHeldCash()).isEqualByComparingTo("0");
+
+        Position position = positionRepository.findById(new PositionId(accountId, symbol)).orElseThrow();
+        assertThat(position.getAvailableQuantity()).isEqualByComparingTo("100.0000");
+        assertThat(position.getHeldQuantity()).isEqualByComparingTo("0");
+
+        assertThat(dayOrderExpirationService.expireDayOrders().expiredCount()).isZero();
+    }
+
+    @Test
+    void batchCreateShouldReturnResultPerOrder() throws Exception {
+        long accountId = 1011L;
+        String symbol = "TESTK";
+
+        upsertCash(accountId, "100000.0000");
+        upsertQuote(symbol, "1000.0000", "1000.0000");
+
+        Map<String, Object> filledOrder = Map.of(
+                "accountId", accountId,
+                "idempotencyKey", "batch-001",
+                "symbol", symbol,
+                "side", "BUY",
+                "orderType", "LIMIT",
+                "quantity", "30.0000",
+                "limitPrice", "1000.0000"
+        );
+        Map<String, Object> insufficientCashOrder = Map.of(
+                "accountId", accountId,
+                "idempotencyKey", "batch-002",
+                "symbol", symbol,
+                "side", "BUY",
+                "orderType", "LIMIT",
+                "quantity", "100.0000",
+                "limitPrice", "1000.0000"
+        );
+        Map<String, Object> invalidTifOrder = Map.of(
+                "accountId", accountId,
+                "idempotencyKey", "batch-003",
+                "symbol", symbol,
+                "side", "BUY",
+                "orderType", "MARKET",
+                "tif", "DAY",
+                "quantity", "1.0000"
+        );
+
+        MvcResult result = mockMvc.perform(post("/api/v1/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "orders", List.of(filledOrder, insufficientCashOrder, filledOrder, invalidTifOrder)
+                        ))))
+                .andExpect(status().isOk())
+                .andReturn();
+        JsonNode data = objectMapper.readTree(result.getResponse().getContentAsString()).get("data");
+
+        assertThat(data.get("successCount").asInt()).isEqualTo(2);
+        assertThat(data.get("failureCount").asInt()).isEqualTo(2);
+
+        JsonNode results = data.get("results");
+        assertThat(results.get(0).get("order").get("status").asText()).isEqualTo("FILLED");
+        assertThat(results.get(0).get("order").get("fills")).hasSize(1);
+        assertThat(results.get(1).get("success").asBoolean()).isFalse();
+        assertThat(results.get(1).get("errorCode").asText()).isEqualTo("ACCOUNT-409");
+        assertThat(results.get(2).get("order").get("orderId").asLong())
+                .isEqualTo(results.get(0).get("order").get("orderId").asLong());
+        assertThat(results.get(3).get("errorCode").asText()).isEqualTo("ORDER-410");
+
+        JsonNode duplicated = createOrder(filledOrder);
+        assertThat(duplicated.get("data").get("orderId").asLong())
+                .isEqualTo(results.get(0).get("order").get("orderId").asLong());
+    }
+
+    @Test
+    void rematchShouldSkipNonCrossingOrdersAndStopWhenLiquidityRunsOut() throws Exception {
+        long accountId = 1012L;
+        String symbol = "TESTL";
+
+        upsertCash(accountId, "10000000.0000");
+        upsertQuote(symbol, "1000.0000", "0");
+
+        long lowBidId = createLimitBuy(accountId, symbol, "rematch-low", "900.0000", "10.0000");
+        long firstId = createLimitBuy(accountId, symbol, "rematch-first", "1000.0000", "10.0000");
+        long secondId = createLimitBuy(accountId, symbol, "rematch-second", "1000.0000", "10.0000");
+        long thirdId = createLimitBuy(accountId, symbol, "rematch-third", "1000.0000", "10.0000");
+
+        upsertQuote(symbol, "950.0000", "15.0000");
+
+        assertThat(getOrder(lowBidId, accountId).get("data").get("status").asText()).isEqualTo("NEW");
+        assertThat(getOrder(firstId, accountId).get("data").get("status").asText()).isEqualTo("FILLED");
+
+        JsonNode second = getOrder(secondId, accountId);
+        assertThat(second.get("data").get("status").asText()).isEqualTo("PARTIALLY_FILLED");
+        assertThat(toBigDecimal(second, "data", "filledQuantity")).isEqualByComparingTo("5.0000");
+
+        assertThat(getOrder(thirdId, accountId).get("data").get("status").asText()).isEqualTo("NEW");
+    }
+
+    @Test
+    void executionReportStreamShouldPushFillAndStatusAfterRematch() throws Exception {
+        long accountId = 1014L;
+        String symbol = "TESTS";
+
+        upsertCash(accountId, "1000000.0000");
+        upsertQuote(symbol, "1000.0000", "100.0000");
+
+        MvcResult stream = mockMvc.perform(get("/api/v1/orders/stream")
+                        .queryParam("accountId", String.valueOf(accountId)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        long orderId = createLimitBuy(accountId, symbol, "stream-001", "900.0000", "20.0000");
+        upsertQuote(symbol, "890.0000", "20.0000");
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            String content = stream.getResponse().getContentAsString();
+            assertThat(content).contains("event:fill");
+            assertThat(content).contains("\"orderId\":" + orderId);
+            assertThat(content).contains("\"status\":\"FILLED\"");
+        });
+    }
+
+    @Test
+    void bulkQuoteUpsertShouldRematchEverySymbolAndReportRejectedItems() throws Exception {
+        long accountId = 1015L;
+
+        upsertCash(accountId, "10000000.0000");
+        upsertQuote("TESTU", "1000.0000", "0");
+        upsertQuote("TESTV", "1000.0000", "0");
+        long firstId = createLimitBuy(accountId, "TESTU", "bulk-quote-001", "950.0000", "10.0000");
+        long secondId = createLimitBuy(accountId, "TESTV", "bulk-quote-002", "950.0000", "10.0000");
+
+        MvcResult result = mockMvc.perform(put("/api/v1/mock/quotes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("quotes", List.of(
+                                Map.of("symbol", "TESTU", "price", "940.0000", "availableQuantity", "10.0000"),
+                                Map.of("symbol", "TESTW", "price", "940.0000", "availableQuantity", "0.5000"),
+                                Map.of("symbol", "testv", "price", "950.0000", "availableQuantity", "4.0000")
+                        )))))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        JsonNode body = objectMapper.readTree(result.getResponse().getContentAsString());
+        assertThat(body.get("data").get("successCount").asInt()).isEqualTo(2);
+        assertThat(body.get("data").get("failures").get(0).get("index").asInt()).isEqualTo(1);
+        assertThat(body.get("data").get("failures").get(0).get("errorCode").asText()).isEqualTo("QUOTE-400");
+
+        assertThat(getOrder(firstId, accountId).get("data").get("status").asText()).isEqualTo("FILLED");
+        JsonNode second = getOrder(secondId, accountId);
+        assertThat(second.get("data").get("status").asText()).isEqualTo("PARTIALLY_FILLED");
+        assertThat(toBigDecimal(second, "data", "filledQuantity")).isEqualByComparingTo("4.0000");
+    }
+
+    @Test
+    void concurrentOrdersOnOneAccountShouldReserveWithoutVersionConflicts() throws Exception {
+        long accountId = 1016L;
+        List<String> symbols = List.of("TESTX", "TESTY", "TESTZ", "TESTQ");
+        int ordersPerSymbol = 8;
+
+        upsertCash(accountId, "10000000.0000");
+        for (String symbol : symbols) {
+            upsertQuote(symbol, "1000.0000", "0");
+        }
+        double lockFailuresBefore = meterRegistry.get("trading.order.optimistic-lock.failures").counter().count();
+
+        // 종목이 다르면 시퀀서 샤드가 달라 같은 계좌 잔고를 동시에 선점한다.
+        List<Callable<Long>> orders = new ArrayList<>();
+        for (String symbol : symbols) {
+            for (int index = 0; index < ordersPerSymbol; index++) {
+                String idempotencyKey = "account-lock-" + symbol + "-" + index;
+                orders.add(() -> createLimitBuy(accountId, symbol, idempotencyKey, "900.0000", "10.0000"));
+            }
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            for (Future<Long> order : executor.invokeAll(orders)) {
+                assertThat(getOrder(order.get(), accountId).get("data").get("status").asText()).isEqualTo("NEW");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        CashBalance cashBalance = cashBalanceRepository.findById(accountId).orElseThrow();
+        assertThat(cashBalance.getAvailableCash().add(cashBalance.getHeldCash())).isEqualByComparingTo("10000000.0000");
+        assertThat(cashBalance.getHeldCash()).isGreaterThanOrEqualTo(new BigDecimal(900 * 10 * symbols.size() * ordersPerSymbol));
+        assertThat(meterRegistry.get("trading.order.optimistic-lock.failures").counter().count()).isEqualTo(lockFailuresBefore);
+    }
+
     private void upsertCash(long accountId, String availableCash) throws Exception {
         mockMvc.perform(put("/api/v1/mock/accounts/{accountId}/cash", accountId)
                         .contentType(MediaType.APPLICATION_JSON)
@@ -305,6 +604,16 @@ class OrderFlowIntegrationTest {
                 .andExpect(status().isOk());
     }
 
+    private void upsertPosition(long accountId, String symbol, String availableQuantity, String averagePrice) throws Exception {
+        mockMvc.perform(put("/api/v1/mock/accounts/{accountId}/positions/{symbol}", accountId, symbol)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "availableQuantity", availableQuantity,
+                                "averagePrice", averagePrice
+                        ))))
+                .andExpect(status().isOk());
+    }
+
     private void upsertQuote(String symbol, String price, String availableQuantity) throws Exception {
         mockMvc.perform(put("/api/v1/mock/quotes/{symbol}", symbol)
                         .contentType(MediaType.APPLICATION_JSON)
@@ -319,6 +628,26 @@ class OrderFlowIntegrationTest {
         return createOrderExpectStatus(request, HttpStatus.CREATED.value());
     }
 
+    private long createLimitBuy(
+            long accountId,
+            String symbol,
+            String idempotencyKey,
+            String limitPrice,
+            String quantity
+    ) throws Exception {
+        JsonNode created = createOrder(Map.of(
+                "accountId", accountId,
+                "idempotencyKey", idempotencyKey,
+                "symbol", symbol,
+                "side", "BUY",
+                "orderType", "LIMIT",
+                "tif", "DAY",
+                "quantity", quantity,
+                "limitPrice", limitPrice
+        ));
+        return created.get("data").get("orderId").asLong();
+    }
+
     private JsonNode createOrderExpectStatus(Map<String, Object> request, int expectedStatus) throws Exception {
         MvcResult result = mockMvc.perform(post("/api/v1/orders")
                         .contentType(MediaType.APPLICATION_JSON)
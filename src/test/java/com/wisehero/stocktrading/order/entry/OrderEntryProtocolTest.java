@@ -0,0 +1,133 @@
+package com.wisehero.stocktrading.order.entry;
+
+import com.wisehero.stocktrading.common.api.ApiErrorCode;
+import com.wisehero.stocktrading.order.api.dto.FillResponse;
+import com.wisehero.stocktrading.order.api.dto.OrderAmendRequest;
+import com.wisehero.stocktrading.order.api.dto.OrderCreateRequest;
+import com.wisehero.stocktrading.order.api.dto.OrderResponse;
+import com.wisehero.stocktrading.order.domain.OrderSide;
+import com.wisehero.stocktrading.order.domain.OrderStatus;
+import com.wisehero.stocktrading.order.domain.OrderTif;
+import com.wisehero.stocktrading.order.domain.OrderType;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderEntryProtocolTest {
+
+    private final OrderEntryDecoder decoder = new OrderEntryDecoder();
+    private final SymbolCache symbolCache = new SymbolCache(16);
+
+    @Test
+    void newOrderShouldBeReadInPlace() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(256);
+        buffer.put((byte) 0x7f);
+        OrderEntryProtocol.encodeNewOrder(buffer, 42L, new OrderCreateRequest(
+                1001L,
+                "idem-1",
+                "TEST",
+                OrderSide.BUY,
+                OrderType.LIMIT,
+                null,
+                new BigDecimal("10"),
+                new BigDecimal("1000.5")
+        ));
+
+        int frameSize = OrderEntryProtocol.completeFrameSize(buffer, 1, buffer.position());
+        decoder.wrap(buffer, 1);
+
+        assertThat(frameSize).isEqualTo(buffer.position() - 1);
+        assertThat(decoder.messageType()).isEqualTo(OrderEntryProtocol.NEW_ORDER);
+        assertThat(decoder.correlationId()).isEqualTo(42L);
+        assertThat(decoder.accountId()).isEqualTo(1001L);
+        assertThat(decoder.quantity()).isEqualTo(100_000L);
+        assertThat(decoder.limitPrice()).isEqualTo(10_005_000L);
+        assertThat(decoder.side()).isEqualTo(OrderSide.BUY);
+        assertThat(decoder.orderType()).isEqualTo(OrderType.LIMIT);
+        assertThat(decoder.tif()).isNull();
+        assertThat(decoder.symbol(symbolCache)).isEqualTo("TEST").isSameAs(decoder.symbol(symbolCache));
+        assertThat(decoder.idempotencyKey()).isEqualTo("idem-1");
+    }
+
+    @Test
+    void partialFrameShouldWaitForMoreBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        OrderEntryProtocol.encodeCancelOrder(buffer, 7L, 300L, 1001L);
+        int frameSize = buffer.position();
+
+        assertThat(OrderEntryProtocol.completeFrameSize(buffer, 0, 2)).isEqualTo(-1);
+        assertThat(OrderEntryProtocol.completeFrameSize(buffer, 0, frameSize - 1)).isEqualTo(-1);
+        assertThat(OrderEntryProtocol.completeFrameSize(buffer, 0, frameSize)).isEqualTo(frameSize);
+
+        decoder.wrap(buffer, 0);
+        assertThat(decoder.messageType()).isEqualTo(OrderEntryProtocol.CANCEL_ORDER);
+        assertThat(decoder.orderId()).isEqualTo(300L);
+        assertThat(decoder.accountId()).isEqualTo(1001L);
+    }
+
+    @Test
+    void amendShouldCarryMissingValues() {
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        OrderEntryProtocol.encodeAmendOrder(buffer, 8L, 300L, new OrderAmendRequest(1001L, null, new BigDecimal("990")));
+
+        decoder.wrap(buffer, 0);
+        assertThat(decoder.messageType()).isEqualTo(OrderEntryProtocol.AMEND_ORDER);
+        assertThat(decoder.orderId()).isEqualTo(300L);
+        assertThat(decoder.accountId()).isEqualTo(1001L);
+        assertThat(decoder.amendedRemainingQuantity()).isEqualTo(OrderEntryProtocol.NO_VALUE);
+        assertThat(decoder.amendedLimitPrice()).isEqualTo(9_900_000L);
+    }
+
+    @Test
+    void executionReportAndRejectShouldRoundTrip() {
+        Instant now = Instant.now();
+        OrderResponse response = new OrderResponse(
+                300L,
+                1001L,
+                "TEST",
+                OrderSide.SELL,
+                OrderType.LIMIT,
+                OrderTif.DAY,
+                new BigDecimal("1000"),
+                new BigDecimal("10"),
+                new BigDecimal("4"),
+                new BigDecimal("6"),
+                OrderStatus.PARTIALLY_FILLED,
+                null,
+                now,
+                now,
+                List.of(
+                        new FillResponse("exec-1", new BigDecimal("1000"), new BigDecimal("3"), BigDecimal.ZERO, BigDecimal.ZERO, now),
+                        new FillResponse("exec-2", new BigDecimal("1000.5"), new BigDecimal("1"), BigDecimal.ZERO, BigDecimal.ZERO, now)
+                )
+        );
+        ByteBuffer buffer = ByteBuffer.allocate(OrderEntryProtocol.executionReportSize(response) + 64);
+        OrderEntryProtocol.encodeExecutionReport(buffer, 9L, response);
+        int rejectOffset = buffer.position();
+        OrderEntryProtocol.encodeReject(buffer, 10L, ApiErrorCode.ACCOUNT_INSUFFICIENT_CASH);
+
+        assertThat(rejectOffset).isEqualTo(OrderEntryProtocol.executionReportSize(response));
+        decoder.wrap(buffer, 0);
+        assertThat(decoder.messageType()).isEqualTo(OrderEntryProtocol.EXECUTION_REPORT);
+        assertThat(decoder.correlationId()).isEqualTo(9L);
+        assertThat(decoder.orderId()).isEqualTo(300L);
+        assertThat(decoder.status()).isEqualTo(OrderStatus.PARTIALLY_FILLED);
+        assertThat(decoder.reportSide()).isEqualTo(OrderSide.SELL);
+        assertThat(decoder.reportTif()).isEqualTo(OrderTif.DAY);
+        assertThat(decoder.reportSymbol(symbolCache)).isEqualTo("TEST");
+        assertThat(decoder.filledQuantity()).isEqualTo(40_000L);
+        assertThat(decoder.remainingQuantity()).isEqualTo(60_000L);
+        assertThat(decoder.fillCount()).isEqualTo(2);
+        assertThat(decoder.fillPrice(1)).isEqualTo(10_005_000L);
+        assertThat(decoder.fillQuantity(0)).isEqualTo(30_000L);
+
+        decoder.wrap(buffer, rejectOffset);
+        assertThat(decoder.messageType()).isEqualTo(OrderEntryProtocol.REJECT);
+        assertThat(decoder.correlationId()).isEqualTo(10L);
+        assertThat(decoder.errorCode()).isEqualTo("ACCOUNT-409");
+    }
+}
@@ -0,0 +1,125 @@
+package com.wisehero.stocktrading.order.fill;
+
+import com.wisehero.stocktrading.order.domain.Fill;
+import com.wisehero.stocktrading.order.fill.FillJournal.JournaledFill;
+import com.wisehero.stocktrading.order.fill.FillJournal.Replay;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FillJournalTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+    private static final ZoneId MARKET_ZONE = ZoneId.of("Asia/Seoul");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replayShouldRestoreFillsAndTransactionOutcomes() {
+        Instant filledAt = Instant.parse("2026-01-02T00:00:00.123456789Z");
+        try (FillJournal journal = new FillJournal(directory, SEGMENT_SIZE, MARKET_ZONE)) {
+            journal.append(1L, fill("exec-1", 10L, "1000.5000", "3.0000", filledAt));
+            journal.append(1L, fill("exec-2", 10L, "1001.0000", "2.0000", filledAt));
+            journal.append(2L, fill("exec-3", 11L, "999.0000", "1.0000", filledAt));
+            journal.sync(journal.appendOutcome(1L, true));
+            journal.sync(journal.appendOutcome(2L, false));
+        }
+
+        try (FillJournal reopened = new FillJournal(directory, SEGMENT_SIZE, MARKET_ZONE)) {
+            Replay replay = reopened.replay();
+
+            assertThat(replay.fills()).extracting(JournaledFill::txId).containsExactly(1L, 1L, 2L);
+            Fill first = replay.fills().get(0).fill();
+            assertThat(first.getExecutionId()).isEqualTo("exec-1");
+            assertThat(first.getOrderId()).isEqualTo(10L);
+            assertThat(first.getFillPrice()).isEqualByComparingTo("1000.5000");
+            assertThat(first.getFillQuantity()).isEqualByComparingTo("3.0000");
+            assertThat(first.getFilledAt()).isEqualTo(filledAt);
+            assertThat(first.getTradeDate()).isEqualTo(LocalDate.of(2026, 1, 2));
+            assertThat(replay.committedTxIds()).containsExactly(1L);
+            assertThat(replay.abortedTxIds()).containsExactly(2L);
+        }
+    }
+
+    @Test
+    void replayShouldStopAtTornRecord() throws IOException {
+        try (FillJournal journal = new FillJournal(directory, SEGMENT_SIZE, MARKET_ZONE)) {
+            journal.append(1L, fill("exec-1", 10L, "100.0000", "1.0000", Instant.now()));
+            long end = journal.append(1L, fill("exec-2", 10L, "100.0000", "1.0000", Instant.now()));
+            journal.sync(end);
+        }
+
+        // 두 번째 레코드의 마지막 바이트를 깨뜨려 쓰다 만 상태를 흉내 낸다.
+        Path segment = segments().get(0);
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            int firstLength = file.readInt();
+            file.seek(firstLength + 20L);
+            file.writeByte(0x7f);
+        }
+
+        try (FillJournal reopened = new FillJournal(directory, SEGMENT_SIZE, MARKET_ZONE)) {
+            assertThat(reopened.replay().fills())
+                    .extracting(journaledFill -> journaledFill.fill().getExecutionId())
+                    .containsExactly("exec-1");
+        }
+    }
+
+    @Test
+    void releasedSegmentShouldBeDeletedAfterRoll() throws IOException {
+        try (FillJournal journal = new FillJournal(directory, SEGMENT_SIZE, MARKET_ZONE)) {
+            long first = journal.append(1L, fill("exec-0", 10L, "100.0000", "1.0000", Instant.now()));
+            for (int i = 1; i < 100; i++) {
+                journal.release(journal.append(1L, fill("exec-" + i, 10L, "100.0000", "1.0000", Instant.now())));
+            }
+            assertThat(segments()).hasSizeGreaterThan(1);
+
+            journal.release(first);
+            assertThat(segments()).hasSize(1);
+        }
+        assertThat(segments()).isEmpty();
+    }
+
+    @Test
+    void discardReplayedShouldRemoveOldSegments() throws IOException {
+        try (FillJournal journal = new FillJournal(directory, SEGMENT_SIZE, MARKET_ZONE)) {
+            journal.sync(journal.append(1L, fill("exec-1", 10L, "100.0000", "1.0000", Instant.now())));
+        }
+
+        try (FillJournal reopened = new FillJournal(directory, SEGMENT_SIZE, MARKET_ZONE)) {
+            assertThat(segments()).hasSize(2);
+            reopened.discardReplayed();
+            assertThat(segments()).hasSize(1);
+        }
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.sorted().toList();
+        }
+    }
+
+    private static Fill fill(String executionId, Long orderId, String price, String quantity, Instant filledAt) {
+        return Fill.create(
+                executionId,
+                orderId,
+                new BigDecimal(price),
+                new BigDecimal(quantity),
+                new BigDecimal("0.1500"),
+                BigDecimal.ZERO,
+                filledAt,
+                LocalDate.ofInstant(filledAt, MARKET_ZONE)
+        );
+    }
+}
@@ -0,0 +1,63 @@
+package com.wisehero.stocktrading.order.idempotency;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotencyKeyFilterTest {
+
+    @Test
+    void registeredKeyShouldAlwaysMightContain() {
+        IdempotencyKeyFilter filter = new IdempotencyKeyFilter(10_000, 0.01);
+
+        for (int i = 0; i < 5_000; i++) {
+            filter.put((long) (i % 50), "key-" + i);
+        }
+
+        for (int i = 0; i < 5_000; i++) {
+            assertThat(filter.mightContain((long) (i % 50), "key-" + i)).isTrue();
+        }
+    }
+
+    @Test
+    void falsePositiveRateShouldStayNearConfiguredRate() {
+        IdempotencyKeyFilter filter = new IdempotencyKeyFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000 - 1; i++) {
+            filter.put(1L, "known-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(1L, "unknown-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives / 100_000.0).isLessThan(0.03);
+    }
+
+    @Test
+    void sameKeyOnDifferentAccountShouldBeDistinct() {
+        IdempotencyKeyFilter filter = new IdempotencyKeyFilter(1_000, 0.001);
+        filter.put(1L, "same-key");
+
+        assertThat(filter.mightContain(1L, "same-key")).isTrue();
+        assertThat(filter.mightContain(2L, "same-key")).isFalse();
+    }
+
+    @Test
+    void rotationShouldKeepPreviousGenerationAndDropOlderOnes() {
+        IdempotencyKeyFilter filter = new IdempotencyKeyFilter(100, 0.0001);
+        filter.put(1L, "first-generation");
+        for (int i = 0; i < 99; i++) {
+            filter.put(2L, "filler-a-" + i);
+        }
+        // 첫 세대가 가득 차 이전 세대로 밀려나도 조회된다.
+        assertThat(filter.mightContain(1L, "first-generation")).isTrue();
+
+        for (int i = 0; i < 100; i++) {
+            filter.put(3L, "filler-b-" + i);
+        }
+        assertThat(filter.mightContain(1L, "first-generation")).isFalse();
+    }
+}
@@ -0,0 +1,40 @@
+package com.wisehero.stocktrading.order.idempotency;
+
+import com.wisehero.stocktrading.order.idempotency.RecentOrderCache.CachedOrder;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecentOrderCacheTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @Test
+    void getShouldReturnEntryUntilTtlPasses() {
+        RecentOrderCache cache = new RecentOrderCache(10, Duration.ofSeconds(5), nanoTime::get);
+        cache.put(1L, "key-1", new CachedOrder(100L, null));
+
+        nanoTime.set(Duration.ofSeconds(5).toNanos());
+        assertThat(cache.get(1L, "key-1")).isEqualTo(new CachedOrder(100L, null));
+
+        nanoTime.set(Duration.ofSeconds(5).toNanos() + 1);
+        assertThat(cache.get(1L, "key-1")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void putShouldEvictLeastRecentlyUsedWhenFull() {
+        RecentOrderCache cache = new RecentOrderCache(2, Duration.ofMinutes(1), nanoTime::get);
+        cache.put(1L, "key-1", new CachedOrder(1L, null));
+        cache.put(1L, "key-2", new CachedOrder(2L, null));
+        cache.get(1L, "key-1");
+
+        cache.put(1L, "key-3", new CachedOrder(3L, null));
+
+        assertThat(cache.get(1L, "key-1")).isNotNull();
+        assertThat(cache.get(1L, "key-2")).isNull();
+        assertThat(cache.get(1L, "key-3")).isNotNull();
+    }
+}
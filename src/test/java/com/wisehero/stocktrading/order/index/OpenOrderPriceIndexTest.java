@@ -0,0 +1,57 @@
+package com.wisehero.stocktrading.order.index;
+
+import com.wisehero.stocktrading.common.numeric.FixedDecimal;
+import com.wisehero.stocktrading.order.domain.OrderSide;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpenOrderPriceIndexTest {
+
+    @Test
+    void crossingOrdersShouldFollowPriceThenTimePriority() {
+        OpenOrderPriceIndex index = new OpenOrderPriceIndex();
+        index.put(1L, "TEST", OrderSide.BUY, units("100"));
+        index.put(2L, "TEST", OrderSide.BUY, units("101"));
+        index.put(3L, "TEST", OrderSide.BUY, units("100"));
+        index.put(4L, "TEST", OrderSide.BUY, units("99"));
+        index.put(5L, "TEST", OrderSide.SELL, units("98"));
+        index.put(6L, "TEST", OrderSide.SELL, units("102"));
+
+        assertThat(index.findCrossingOrderIds("TEST", units("100"))).containsExactly(2L, 1L, 3L, 5L);
+        assertThat(index.findCrossingOrderIds("TEST", units("98"))).containsExactly(2L, 1L, 3L, 4L, 5L);
+        assertThat(index.findCrossingOrderIds("OTHER", units("100"))).isEmpty();
+    }
+
+    @Test
+    void samePriceShouldKeepQueuePositionAndNewPriceShouldMoveToBack() {
+        OpenOrderPriceIndex index = new OpenOrderPriceIndex();
+        index.put(1L, "TEST", OrderSide.BUY, units("100"));
+        index.put(2L, "TEST", OrderSide.BUY, units("100"));
+
+        index.put(1L, "TEST", OrderSide.BUY, units("100"));
+        assertThat(index.findCrossingOrderIds("TEST", units("100"))).containsExactly(1L, 2L);
+
+        index.put(1L, "TEST", OrderSide.BUY, units("99"));
+        index.put(1L, "TEST", OrderSide.BUY, units("100"));
+        assertThat(index.findCrossingOrderIds("TEST", units("100"))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void removedOrderShouldNotBeReturned() {
+        OpenOrderPriceIndex index = new OpenOrderPriceIndex();
+        index.put(1L, "TEST", OrderSide.SELL, units("100"));
+        index.put(2L, "TEST", OrderSide.SELL, units("100"));
+
+        assertThat(index.remove(1L)).isTrue();
+        assertThat(index.remove(1L)).isFalse();
+
+        assertThat(index.findCrossingOrderIds("TEST", units("100"))).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    private long units(String value) {
+        return FixedDecimal.fromBigDecimal(new BigDecimal(value));
+    }
+}
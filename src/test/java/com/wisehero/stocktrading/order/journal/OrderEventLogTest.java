@@ -0,0 +1,163 @@
+package com.wisehero.stocktrading.order.journal;
+
+import com.wisehero.stocktrading.order.domain.HoldType;
+import com.wisehero.stocktrading.order.domain.OrderSide;
+import com.wisehero.stocktrading.order.domain.OrderStatus;
+import com.wisehero.stocktrading.order.domain.OrderTif;
+import com.wisehero.stocktrading.order.domain.OrderType;
+import com.wisehero.stocktrading.order.journal.OrderEvent.CashChanged;
+import com.wisehero.stocktrading.order.journal.OrderEvent.ExpiredOrder;
+import com.wisehero.stocktrading.order.journal.OrderEvent.HoldChanged;
+import com.wisehero.stocktrading.order.journal.OrderEvent.OrderChanged;
+import com.wisehero.stocktrading.order.journal.OrderEvent.OrdersExpired;
+import com.wisehero.stocktrading.order.journal.OrderEvent.PositionChanged;
+import com.wisehero.stocktrading.order.journal.OrderEventCodec.SequencedEvent;
+import com.wisehero.stocktrading.order.journal.OrderEventLog.Snapshot;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderEventLogTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2026-01-02T00:00:00.123456789Z");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replayShouldRestoreEventsInSequence() {
+        OrderChanged accepted = order(1L, OrderEventType.ACCEPTED, OrderStatus.NEW, 10_000L, 0L);
+        HoldChanged hold = new HoldChanged(7L, 1L, 100L, HoldType.CASH, 1_000_000L, 0L, 0L);
+        CashChanged cash = new CashChanged(100L, 9_000_000L, 1_000_000L, 3L);
+        PositionChanged position = new PositionChanged(100L, "TEST", 50_000L, 0L, 1_000_000L, 1L);
+        OrdersExpired expired = new OrdersExpired(List.of(new ExpiredOrder(1L, 1L)));
+
+        try (OrderEventLog log = new OrderEventLog(directory, 4096)) {
+            log.start(0);
+            log.append(List.of(accepted, hold, cash));
+            log.append(List.of(position, expired));
+            log.close(true);
+        }
+
+        try (OrderEventLog reopened = new OrderEventLog(directory, 4096)) {
+            List<SequencedEvent> replayed = new ArrayList<>();
+
+            assertThat(reopened.consumeCleanMarker()).isEqualTo(5L);
+            assertThat(reopened.replay(0, replayed::add)).isEqualTo(5L);
+            assertThat(replayed).extracting(SequencedEvent::sequence).containsExactly(1L, 2L, 3L, 4L, 5L);
+            assertThat(replayed).extracting(SequencedEvent::event)
+                    .containsExactly(accepted, hold, cash, position, expired);
+            assertThat(reopened.consumeCleanMarker()).isEqualTo(-1L);
+        }
+    }
+
+    @Test
+    void snapshotShouldReplaceOlderSegmentsAndRestoreWithTail() {
+        OrderStateProjection projection = new OrderStateProjection();
+        try (OrderEventLog log = new OrderEventLog(directory, 4096)) {
+            log.start(0);
+            publish(log, projection, order(1L, OrderEventType.ACCEPTED, OrderStatus.NEW, 10_000L, 0L));
+            publish(log, projection, order(2L, OrderEventType.ACCEPTED, OrderStatus.NEW, 10_500L, 0L));
+            publish(log, projection, order(1L, OrderEventType.CANCELED, OrderStatus.CANCELED, 10_000L, 1L));
+
+            log.roll();
+            log.writeSnapshot(log.lastSequence(), projection.snapshot());
+            publish(log, projection, order(2L, OrderEventType.AMENDED, OrderStatus.NEW, 10_200L, 1L));
+            publish(log, projection, order(3L, OrderEventType.ACCEPTED, OrderStatus.NEW, 9_900L, 0L));
+            log.close(true);
+        }
+
+        try (OrderEventLog reopened = new OrderEventLog(directory, 4096)) {
+            long cleanSequence = reopened.consumeCleanMarker();
+            Snapshot snapshot = reopened.readLatestSnapshot();
+            OrderStateProjection restored = new OrderStateProjection();
+            snapshot.events().forEach(restored::apply);
+            long lastSequence = reopened.replay(snapshot.sequence(), event -> restored.apply(event.event()));
+
+            assertThat(snapshot.sequence()).isEqualTo(3L);
+            assertThat(lastSequence).isEqualTo(cleanSequence).isEqualTo(5L);
+            assertThat(restored.openOrders()).extracting(OrderChanged::orderId).containsExactly(2L, 3L);
+            assertThat(restored.findOrder(2L).limitPrice()).isEqualTo(10_200L);
+            assertThat(restored.findOrder(1L)).isNull();
+        }
+    }
+
+    @Test
+    void replayShouldStopAtTornRecord() throws IOException {
+        try (OrderEventLog log = new OrderEventLog(directory, 4096)) {
+            log.start(0);
+            log.append(List.of(order(1L, OrderEventType.ACCEPTED, OrderStatus.NEW, 10_000L, 0L)));
+            log.append(List.of(order(2L, OrderEventType.ACCEPTED, OrderStatus.NEW, 10_000L, 0L)));
+        }
+
+        // 두 번째 레코드의 마지막 바이트를 깨뜨려 쓰다 만 상태를 흉내 낸다.
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.filter(path -> path.getFileName().toString().endsWith(".log")).findFirst().orElseThrow();
+        }
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            long last = file.length() - 1;
+            file.seek(last);
+            int value = file.read();
+            file.seek(last);
+            file.write(value ^ 0xFF);
+        }
+
+        try (OrderEventLog reopened = new OrderEventLog(directory, 4096)) {
+            List<SequencedEvent> replayed = new ArrayList<>();
+
+            assertThat(reopened.consumeCleanMarker()).isEqualTo(-1L);
+            assertThat(reopened.replay(0, replayed::add)).isEqualTo(1L);
+            assertThat(replayed).extracting(SequencedEvent::sequence).containsExactly(1L);
+        }
+    }
+
+    @Test
+    void projectionShouldKeepNewestVersion() {
+        OrderStateProjection projection = new OrderStateProjection();
+
+        projection.apply(order(1L, OrderEventType.FILLED, OrderStatus.PARTIALLY_FILLED, 10_000L, 2L));
+        projection.apply(order(1L, OrderEventType.ACCEPTED, OrderStatus.NEW, 10_000L, 1L));
+        projection.apply(new CashChanged(100L, 5L, 0L, 4L));
+        projection.apply(new CashChanged(100L, 9L, 0L, 3L));
+        projection.apply(new OrdersExpired(List.of(new ExpiredOrder(1L, 3L))));
+        projection.apply(order(1L, OrderEventType.FILLED, OrderStatus.PARTIALLY_FILLED, 10_000L, 2L));
+
+        assertThat(projection.findOrder(1L).status()).isEqualTo(OrderStatus.EXPIRED);
+        assertThat(projection.findCash(100L).availableCash()).isEqualTo(5L);
+        assertThat(projection.openOrders()).isEmpty();
+    }
+
+    private static void publish(OrderEventLog log, OrderStateProjection projection, OrderEvent event) {
+        log.append(List.of(event));
+        projection.apply(event);
+    }
+
+    private static OrderChanged order(long orderId, OrderEventType type, OrderStatus status, long limitPrice, long version) {
+        return new OrderChanged(
+                type,
+                orderId,
+                100L,
+                "TEST",
+                OrderSide.BUY,
+                OrderType.LIMIT,
+                OrderTif.DAY,
+                limitPrice,
+                100_000L,
+                0L,
+                100_000L,
+                status,
+                version,
+                CREATED_AT.plusMillis(orderId)
+        );
+    }
+}
@@ -0,0 +1,122 @@
+package com.wisehero.stocktrading.order.outbox;
+
+import com.wisehero.stocktrading.account.api.dto.MockCashUpdateRequest;
+import com.wisehero.stocktrading.account.service.MockAccountService;
+import com.wisehero.stocktrading.order.api.dto.OrderCreateRequest;
+import com.wisehero.stocktrading.order.api.dto.OrderResponse;
+import com.wisehero.stocktrading.order.domain.OrderSide;
+import com.wisehero.stocktrading.order.domain.OrderTif;
+import com.wisehero.stocktrading.order.domain.OrderType;
+import com.wisehero.stocktrading.order.domain.OutboxDeadLetter;
+import com.wisehero.stocktrading.order.repository.OutboxDeadLetterRepository;
+import com.wisehero.stocktrading.order.repository.OutboxEventRepository;
+import com.wisehero.stocktrading.order.service.OrderCommandService;
+import com.wisehero.stocktrading.quote.api.dto.QuoteUpdateRequest;
+import com.wisehero.stocktrading.quote.service.QuoteTickDispatcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 싱크가 계속 거절하는 이벤트만 {@code outbox_dead_letters}로 옮기고, 같은 묶음의 다른 이벤트는 전달되는지 확인한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:stocktrading-outbox-dead-letter-test;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "trading.outbox.poll-interval=10ms",
+        "trading.outbox.max-attempts=2"
+})
+class OutboxDeadLetterIntegrationTest {
+
+    private static final long POISON_ACCOUNT_ID = 5101L;
+    private static final long GOOD_ACCOUNT_ID = 5102L;
+    private static final String SYMBOL = "OBXD";
+
+    @Autowired
+    private PoisonSink poisonSink;
+
+    @Autowired
+    private MockAccountService mockAccountService;
+
+    @Autowired
+    private QuoteTickDispatcher quoteTickDispatcher;
+
+    @Autowired
+    private OrderCommandService orderCommandService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxDeadLetterRepository outboxDeadLetterRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void eventRejectedOnItsOwnShouldBeDeadLetteredWithoutBlockingOthers() {
+        mockAccountService.upsertCash(POISON_ACCOUNT_ID, new MockCashUpdateRequest(new BigDecimal("1000000")));
+        mockAccountService.upsertCash(GOOD_ACCOUNT_ID, new MockCashUpdateRequest(new BigDecimal("1000000")));
+        quoteTickDispatcher.dispatch(SYMBOL, new QuoteUpdateRequest(new BigDecimal("1000"), BigDecimal.ZERO));
+
+        OrderResponse poisoned = orderCommandService.createOrder(order(POISON_ACCOUNT_ID, "outbox-poison-1"));
+        OrderResponse delivered = orderCommandService.createOrder(order(GOOD_ACCOUNT_ID, "outbox-good-1"));
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> outboxEventRepository.count() == 0);
+
+        assertThat(poisonSink.messages).extracting(OutboxMessage::orderId).containsExactly(delivered.orderId());
+        assertThat(outboxDeadLetterRepository.findAll()).singleElement().satisfies(deadLetter -> {
+            assertThat(deadLetter.getOrderId()).isEqualTo(poisoned.orderId());
+            assertThat(deadLetter.getAccountId()).isEqualTo(POISON_ACCOUNT_ID);
+        });
+        assertThat(outboxDeadLetterRepository.findAll()).extracting(OutboxDeadLetter::getDeadLetteredAt).doesNotContainNull();
+        assertThat(meterRegistry.get("trading.outbox.dead.lettered").counter().count()).isEqualTo(1);
+    }
+
+    private OrderCreateRequest order(long accountId, String idempotencyKey) {
+        return new OrderCreateRequest(
+                accountId,
+                idempotencyKey,
+                SYMBOL,
+                OrderSide.BUY,
+                OrderType.LIMIT,
+                OrderTif.DAY,
+                new BigDecimal("10"),
+                new BigDecimal("1000")
+        );
+    }
+
+    @TestConfiguration
+    static class SinkConfiguration {
+
+        @Bean
+        PoisonSink poisonSink() {
+            return new PoisonSink();
+        }
+    }
+
+    /** 격리 대상 계좌의 이벤트가 섞인 묶음은 항상 거절한다. */
+    static final class PoisonSink implements OutboxSink {
+
+        private final List<OutboxMessage> messages = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void publish(List<OutboxMessage> batch) {
+            for (OutboxMessage message : batch) {
+                if (message.accountId() == POISON_ACCOUNT_ID) {
+                    throw new IllegalStateException("poison message " + message.id());
+                }
+            }
+            messages.addAll(batch);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.wisehero.stocktrading.order.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wisehero.stocktrading.account.api.dto.MockCashUpdateRequest;
+import com.wisehero.stocktrading.account.service.MockAccountService;
+import com.wisehero.stocktrading.order.api.dto.OrderCreateRequest;
+import com.wisehero.stocktrading.order.api.dto.OrderResponse;
+import com.wisehero.stocktrading.order.domain.OrderSide;
+import com.wisehero.stocktrading.order.domain.OrderTif;
+import com.wisehero.stocktrading.order.domain.OrderType;
+import com.wisehero.stocktrading.order.domain.OutboxEventType;
+import com.wisehero.stocktrading.order.repository.OutboxEventRepository;
+import com.wisehero.stocktrading.order.service.OrderCommandService;
+import com.wisehero.stocktrading.quote.api.dto.QuoteUpdateRequest;
+import com.wisehero.stocktrading.quote.service.QuoteTickDispatcher;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 주문/체결이 같은 트랜잭션의 아웃박스 행으로 남고, 릴레이가 프로세스 내/파일 싱크로 내보낸 뒤 지우는지 확인한다.
+ * 다른 통합 테스트의 릴레이가 같은 테이블을 읽지 않도록 별도 H2를 쓴다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:stocktrading-outbox-test;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "trading.outbox.poll-interval=10ms",
+        "trading.outbox.file.enabled=true"
+})
+class OutboxRelayIntegrationTest {
+
+    private static final long ACCOUNT_ID = 5001L;
+    private static final String SYMBOL = "OBXA";
+    private static Path outboxFile;
+
+    @Autowired
+    private RecordingSink recordingSink;
+
+    @Autowired
+    private MockAccountService mockAccountService;
+
+    @Autowired
+    private QuoteTickDispatcher quoteTickDispatcher;
+
+    @Autowired
+    private OrderCommandService orderCommandService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @DynamicPropertySource
+    static void outboxFile(DynamicPropertyRegistry registry) {
+        try {
+            outboxFile = Files.createTempFile("outbox", ".jsonl");
+            outboxFile.toFile().deleteOnExit();
+            registry.add("trading.outbox.file.path", outboxFile::toString);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Test
+    void committedOrderAndFillsShouldBeRelayedToSinks() throws IOException {
+        mockAccountService.upsertCash(ACCOUNT_ID, new MockCashUpdateRequest(new BigDecimal("1000000")));
+        quoteTickDispatcher.dispatch(SYMBOL, new QuoteUpdateRequest(new BigDecimal("1000"), new BigDecimal("30")));
+
+        OrderResponse order = orderCommandService.createOrder(new OrderCreateRequest(
+                ACCOUNT_ID,
+                "outbox-buy-1",
+                SYMBOL,
+                OrderSide.BUY,
+                OrderType.LIMIT,
+                OrderTif.DAY,
+                new BigDecimal("100"),
+                new BigDecimal("1000")
+        ));
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> recordingSink.messages.size() >= 2);
+        await().atMost(Duration.ofSeconds(5)).until(() -> outboxEventRepository.count() == 0);
+
+        // 주문 최종 상태 한 건 뒤에 체결이 온다.
+        assertThat(recordingSink.messages).extracting(OutboxMessage::type)
+                .containsExactly(OutboxEventType.ORDER, OutboxEventType.FILL);
+        assertThat(recordingSink.messages).allSatisfy(message -> {
+            assertThat(message.orderId()).isEqualTo(order.orderId());
+            assertThat(message.accountId()).isEqualTo(ACCOUNT_ID);
+        });
+        JsonNode orderPayload = objectMapper.readTree(recordingSink.messages.get(0).payload());
+        assertThat(orderPayload.get("status").asText()).isEqualTo("PARTIALLY_FILLED");
+        assertThat(orderPayload.get("updatedAt").isNull()).isFalse();
+
+        List<String> lines = Files.readAllLines(outboxFile);
+        assertThat(lines).hasSize(2);
+        JsonNode fillLine = objectMapper.readTree(lines.get(1));
+        assertThat(fillLine.get("id").asLong()).isEqualTo(recordingSink.messages.get(1).id());
+        assertThat(fillLine.get("type").asText()).isEqualTo("FILL");
+        assertThat(fillLine.get("payload").get("fillQuantity").decimalValue()).isEqualByComparingTo("30");
+    }
+
+    @TestConfiguration
+    static class SinkConfiguration {
+
+        @Bean
+        RecordingSink recordingSink() {
+            return new RecordingSink();
+        }
+    }
+
+    static final class RecordingSink implements OutboxSink {
+
+        private final List<OutboxMessage> messages = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void publish(List<OutboxMessage> batch) {
+            messages.addAll(batch);
+        }
+    }
+}
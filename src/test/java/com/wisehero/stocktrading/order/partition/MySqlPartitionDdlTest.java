@@ -0,0 +1,46 @@
+package com.wisehero.stocktrading.order.partition;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MySqlPartitionDdlTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 1, 30);
+
+    @Test
+    void partitionNameShouldRoundTripTradeDate() {
+        assertThat(MySqlPartitionDdl.partitionName(DAY)).isEqualTo("p20260130");
+        assertThat(MySqlPartitionDdl.partitionDay("p20260130")).contains(DAY);
+        assertThat(MySqlPartitionDdl.partitionDay("pmax")).isEmpty();
+        assertThat(MySqlPartitionDdl.partitionDay("p_history")).isEmpty();
+    }
+
+    @Test
+    void rekeyShouldRequireTradeDateAndAddItToPrimaryAndUniqueKeys() {
+        assertThat(MySqlPartitionDdl.rekey(PartitionedTable.FILLS, List.of("UK_fills_execution_id"), true))
+                .isEqualTo("ALTER TABLE fills MODIFY trade_date DATE NOT NULL, "
+                        + "DROP PRIMARY KEY, ADD PRIMARY KEY (id, trade_date), "
+                        + "DROP INDEX `UK_fills_execution_id`, "
+                        + "ADD UNIQUE KEY uk_fills_execution_id_td (execution_id, trade_date)");
+        // ddl-auto가 엔티티 매핑대로 이미 만든 유니크 키는 다시 만들지 않는다.
+        assertThat(MySqlPartitionDdl.rekey(PartitionedTable.ORDERS, List.of("uk_orders_account_idempotency"), false))
+                .isEqualTo("ALTER TABLE orders MODIFY trade_date DATE NOT NULL, "
+                        + "DROP PRIMARY KEY, ADD PRIMARY KEY (id, trade_date), "
+                        + "DROP INDEX `uk_orders_account_idempotency`");
+    }
+
+    @Test
+    void partitionsShouldCoverEachDayWithNextDayAsUpperBound() {
+        assertThat(MySqlPartitionDdl.partitionBy(PartitionedTable.ORDERS, DAY, DAY.plusDays(1)))
+                .isEqualTo("ALTER TABLE orders PARTITION BY RANGE COLUMNS(trade_date) ("
+                        + "PARTITION p20260130 VALUES LESS THAN ('2026-01-31'), "
+                        + "PARTITION p20260131 VALUES LESS THAN ('2026-02-01'))");
+        assertThat(MySqlPartitionDdl.addPartitions(PartitionedTable.ORDERS, DAY, DAY))
+                .isEqualTo("ALTER TABLE orders ADD PARTITION (PARTITION p20260130 VALUES LESS THAN ('2026-01-31'))");
+        assertThat(MySqlPartitionDdl.dropPartitions(PartitionedTable.FILLS, List.of("p20260101", "p20260102")))
+                .isEqualTo("ALTER TABLE fills DROP PARTITION p20260101, p20260102");
+    }
+}
@@ -0,0 +1,183 @@
+package com.wisehero.stocktrading.order.partition;
+
+import com.wisehero.stocktrading.account.api.dto.MockCashUpdateRequest;
+import com.wisehero.stocktrading.account.service.MockAccountService;
+import com.wisehero.stocktrading.common.time.TradeCalendar;
+import com.wisehero.stocktrading.order.api.dto.OrderCreateRequest;
+import com.wisehero.stocktrading.order.api.dto.OrderResponse;
+import com.wisehero.stocktrading.order.domain.Fill;
+import com.wisehero.stocktrading.order.domain.Order;
+import com.wisehero.stocktrading.order.domain.OrderIdempotencyKey;
+import com.wisehero.stocktrading.order.domain.OrderSide;
+import com.wisehero.stocktrading.order.domain.OrderStatus;
+import com.wisehero.stocktrading.order.domain.OrderTif;
+import com.wisehero.stocktrading.order.domain.OrderType;
+import com.wisehero.stocktrading.order.repository.FillRepository;
+import com.wisehero.stocktrading.order.repository.OrderIdempotencyKeyRepository;
+import com.wisehero.stocktrading.order.repository.OrderRepository;
+import com.wisehero.stocktrading.order.service.DayOrderExpirationChunkProcessor;
+import com.wisehero.stocktrading.order.service.OrderCommandService;
+import com.wisehero.stocktrading.quote.api.dto.QuoteUpdateRequest;
+import com.wisehero.stocktrading.quote.service.QuoteTickDispatcher;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 거래일 파티션을 켜면 H2에서는 DDL 없이 기동하고, 주문/체결에 거래일이 찍히며 미체결 조회가 오늘 거래일만 읽는지 확인한다.
+ * 멱등키는 거래일을 넘어서도 유일하고, 거래일이 빈 기존 행은 접수 시각으로 채운다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:stocktrading-partition-test;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "trading.fill-journal.enabled=false",
+        "trading.partitioning.enabled=true",
+        "trading.partitioning.open-order-lookback=P0D"
+})
+class TradeDatePartitionIntegrationTest {
+
+    private static final long ACCOUNT_ID = 8001L;
+    private static final String SYMBOL = "PRTA";
+    private static final List<OrderStatus> OPEN_STATUSES = List.of(OrderStatus.NEW, OrderStatus.PARTIALLY_FILLED);
+
+    @Autowired
+    private TradeDatePartitionManager partitionManager;
+
+    @Autowired
+    private OpenOrderWindow openOrderWindow;
+
+    @Autowired
+    private TradeDateBackfill tradeDateBackfill;
+
+    @Autowired
+    private TradeCalendar tradeCalendar;
+
+    @Autowired
+    private OrderCommandService orderCommandService;
+
+    @Autowired
+    private MockAccountService mockAccountService;
+
+    @Autowired
+    private QuoteTickDispatcher quoteTickDispatcher;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private FillRepository fillRepository;
+
+    @Autowired
+    private OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
+
+    @Autowired
+    private DayOrderExpirationChunkProcessor expirationChunkProcessor;
+
+    @Test
+    void openOrderQueriesShouldReadOnlyCurrentTradeDate() {
+        assertThat(partitionManager.maintain().supported()).isFalse();
+
+        mockAccountService.upsertCash(ACCOUNT_ID, new MockCashUpdateRequest(new BigDecimal("1000000")));
+        quoteTickDispatcher.dispatch(SYMBOL, new QuoteUpdateRequest(new BigDecimal("1000"), new BigDecimal("5")));
+        OrderResponse partial = orderCommandService.createOrder(new OrderCreateRequest(
+                ACCOUNT_ID,
+                "partition-buy-1",
+                SYMBOL,
+                OrderSide.BUY,
+                OrderType.LIMIT,
+                OrderTif.DAY,
+                new BigDecimal("10"),
+                new BigDecimal("1000")
+        ));
+        assertThat(partial.status()).isEqualTo(OrderStatus.PARTIALLY_FILLED);
+
+        LocalDate today = tradeCalendar.today();
+        assertThat(orderRepository.findById(partial.orderId()).orElseThrow().getTradeDate()).isEqualTo(today);
+        assertThat(fillRepository.findByOrderIdOrderByIdAsc(partial.orderId()))
+                .extracting(Fill::getTradeDate)
+                .containsExactly(today);
+
+        // 전 거래일에 만료되지 않고 남은 주문은 하한 밖이라 읽지 않는다.
+        Order stale = Order.newPending(
+                ACCOUNT_ID,
+                "partition-stale",
+                SYMBOL,
+                OrderSide.BUY,
+                OrderType.LIMIT,
+                OrderTif.DAY,
+                new BigDecimal("900"),
+                new BigDecimal("5"),
+                today.minusDays(1)
+        );
+        stale.markAccepted();
+        orderRepository.save(stale);
+
+        assertThat(openOrderWindow.since()).contains(today);
+        assertThat(orderRepository.findByTifAndStatusInAndTradeDateGreaterThanEqualOrderByCreatedAtAscIdAsc(
+                OrderTif.DAY,
+                OPEN_STATUSES,
+                today
+        )).extracting(Order::getId).contains(partial.orderId()).doesNotContain(stale.getId());
+        assertThat(orderRepository.existsByTifAndStatusInAndTradeDateLessThan(OrderTif.DAY, OPEN_STATUSES, today)).isTrue();
+        assertThat(expirationChunkProcessor.findExpirableSymbols()).contains(SYMBOL);
+    }
+
+    @Test
+    void idempotencyKeyShouldStayUniqueAcrossTradeDates() {
+        mockAccountService.upsertCash(ACCOUNT_ID, new MockCashUpdateRequest(new BigDecimal("1000000")));
+        quoteTickDispatcher.dispatch(SYMBOL, new QuoteUpdateRequest(new BigDecimal("1000"), new BigDecimal("5")));
+        OrderResponse accepted = orderCommandService.createOrder(new OrderCreateRequest(
+                ACCOUNT_ID,
+                "partition-cross-day",
+                SYMBOL,
+                OrderSide.BUY,
+                OrderType.LIMIT,
+                OrderTif.DAY,
+                new BigDecimal("1"),
+                new BigDecimal("900")
+        ));
+        assertThat(orderIdempotencyKeyRepository.existsById(accepted.orderId())).isTrue();
+
+        // 다음 거래일에 같은 멱등키로 들어온 주문은 거래일이 붙은 orders 유니크 키를 통과하지만 전역 멱등키 행에서 막힌다.
+        Order retried = orderRepository.save(Order.newPending(
+                ACCOUNT_ID,
+                "partition-cross-day",
+                SYMBOL,
+                OrderSide.BUY,
+                OrderType.LIMIT,
+                OrderTif.DAY,
+                new BigDecimal("900"),
+                new BigDecimal("1"),
+                tradeCalendar.today().plusDays(1)
+        ));
+        assertThatThrownBy(() -> orderIdempotencyKeyRepository.save(OrderIdempotencyKey.of(retried)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void rowsWithoutTradeDateShouldBeBackfilledFromTheirTimestamps() {
+        // trade_date 컬럼이 생기기 전에 쌓인 행을 흉내 낸다.
+        Order undated = orderRepository.save(Order.newPending(
+                ACCOUNT_ID,
+                "partition-undated",
+                SYMBOL,
+                OrderSide.BUY,
+                OrderType.LIMIT,
+                OrderTif.DAY,
+                new BigDecimal("900"),
+                new BigDecimal("5"),
+                null
+        ));
+
+        tradeDateBackfill.backfill();
+
+        Order backfilled = orderRepository.findById(undated.getId()).orElseThrow();
+        assertThat(backfilled.getTradeDate()).isEqualTo(tradeCalendar.tradeDateOf(backfilled.getCreatedAt()));
+    }
+}
@@ -0,0 +1,102 @@
+package com.wisehero.stocktrading.order.service;
+
+import com.wisehero.stocktrading.common.numeric.FixedDecimal;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 고정소수점 계산이 기존 BigDecimal(setScale(4, HALF_UP)) 계산과 같은 값을 내는지 검증한다.
+ */
+class OrderAmountCalculatorParityTest {
+
+    private static final int MONEY_SCALE = 4;
+    private static final String[] FEE_RATES = {"0.00015", "0", "0.0025", "0.000123456789", "1.5"};
+
+    @ParameterizedTest
+    @CsvSource({
+            "1000.0000, 30.0000",
+            "0.0001, 1.0000",
+            "1234.5678, 3.0000",
+            "0.3333, 3.0000",
+            "99999999.9999, 1000.0000",
+            "3333.3333, 7.0000"
+    })
+    void reserveAmountShouldMatchLegacyCalculation(String price, String quantity) {
+        for (String feeRate : FEE_RATES) {
+            OrderAmountCalculator calculator = new OrderAmountCalculator(new BigDecimal(feeRate));
+            BigDecimal expected = legacyReserveAmount(new BigDecimal(price), new BigDecimal(quantity), new BigDecimal(feeRate));
+
+            assertThat(calculator.reserveAmount(new BigDecimal(price), new BigDecimal(quantity)))
+                    .isEqualByComparingTo(expected);
+        }
+    }
+
+    @Test
+    void randomFillAmountsShouldMatchLegacyCalculation() {
+        Random random = new Random(20_241_018L);
+        for (String feeRate : FEE_RATES) {
+            BigDecimal rate = new BigDecimal(feeRate);
+            OrderAmountCalculator calculator = new OrderAmountCalculator(rate);
+
+            for (int iteration = 0; iteration < 20_000; iteration++) {
+                BigDecimal price = BigDecimal.valueOf(1 + random.nextLong(10_000_000_000L), MONEY_SCALE);
+                BigDecimal quantity = BigDecimal.valueOf(1 + random.nextInt(100_000), 0).setScale(MONEY_SCALE);
+
+                BigDecimal legacyNotional = toMoney(price.multiply(quantity));
+                BigDecimal legacyFee = legacyFee(legacyNotional, rate);
+
+                long notional = calculator.notional(FixedDecimal.fromBigDecimal(price), FixedDecimal.fromBigDecimal(quantity));
+                long fee = calculator.fee(notional);
+
+                assertThat(FixedDecimal.toBigDecimal(notional)).isEqualTo(legacyNotional);
+                assertThat(FixedDecimal.toBigDecimal(fee)).isEqualTo(legacyFee);
+                assertThat(FixedDecimal.toBigDecimal(FixedDecimal.subtract(notional, fee)))
+                        .isEqualTo(legacyNotional.subtract(legacyFee));
+            }
+        }
+    }
+
+    @Test
+    void amountsAtLongBoundaryShouldMatchLegacyAndOverflowBeyondIt() {
+        OrderAmountCalculator calculator = new OrderAmountCalculator(BigDecimal.ZERO);
+        // 922337203685.4775 x 1000 = 922337203685477.5000, long 최대(922337203685477.5807) 바로 아래다.
+        BigDecimal price = new BigDecimal("922337203685.4775");
+        BigDecimal quantity = new BigDecimal("1000.0000");
+
+        assertThat(calculator.reserveAmount(price, quantity))
+                .isEqualByComparingTo(legacyReserveAmount(price, quantity, BigDecimal.ZERO));
+        assertThatThrownBy(() -> calculator.reserveAmount(price.add(new BigDecimal("0.0001")), quantity))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> new OrderAmountCalculator(new BigDecimal("0.00015")).reserveAmount(price, quantity))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void feeShouldBeZeroWhenRateIsNegativeOrMissing() {
+        assertThat(new OrderAmountCalculator(new BigDecimal("-0.1")).fee(FixedDecimal.of(1_000))).isZero();
+        assertThat(new OrderAmountCalculator(null).fee(FixedDecimal.of(1_000))).isZero();
+    }
+
+    private BigDecimal legacyReserveAmount(BigDecimal price, BigDecimal quantity, BigDecimal feeRate) {
+        BigDecimal notional = toMoney(price.multiply(quantity));
+        return notional.add(legacyFee(notional, feeRate));
+    }
+
+    private BigDecimal legacyFee(BigDecimal notional, BigDecimal feeRate) {
+        if (feeRate.compareTo(BigDecimal.ZERO) <= 0 || notional.compareTo(BigDecimal.ZERO) <= 0) {
+            return BigDecimal.ZERO.setScale(MONEY_SCALE, RoundingMode.HALF_UP);
+        }
+        return toMoney(notional.multiply(feeRate));
+    }
+
+    private BigDecimal toMoney(BigDecimal value) {
+        return value.setScale(MONEY_SCALE, RoundingMode.HALF_UP);
+    }
+}
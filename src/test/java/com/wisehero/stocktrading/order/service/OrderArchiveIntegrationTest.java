@@ -0,0 +1,111 @@
+package com.wisehero.stocktrading.order.service;
+
+import com.wisehero.stocktrading.account.api.dto.MockCashUpdateRequest;
+import com.wisehero.stocktrading.account.service.MockAccountService;
+import com.wisehero.stocktrading.order.api.dto.OrderCreateRequest;
+import com.wisehero.stocktrading.order.api.dto.OrderResponse;
+import com.wisehero.stocktrading.order.domain.OrderSide;
+import com.wisehero.stocktrading.order.domain.OrderStatus;
+import com.wisehero.stocktrading.order.domain.OrderTif;
+import com.wisehero.stocktrading.order.domain.OrderType;
+import com.wisehero.stocktrading.order.repository.ArchivedOrderHoldRepository;
+import com.wisehero.stocktrading.order.repository.FillRepository;
+import com.wisehero.stocktrading.order.repository.OrderHoldRepository;
+import com.wisehero.stocktrading.order.repository.OrderRepository;
+import com.wisehero.stocktrading.quote.api.dto.QuoteUpdateRequest;
+import com.wisehero.stocktrading.quote.service.QuoteTickDispatcher;
+import java.math.BigDecimal;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 종료 주문과 선점/체결이 묶음 단위로 보관 테이블에 옮겨지고, 단건 조회가 보관 테이블로 이어지는지 확인한다.
+ * 체결이 비동기 반영 전에 옮겨지지 않도록 저널 없이 동기 저장을 쓴다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:stocktrading-archive-test;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "trading.fill-journal.enabled=false"
+})
+class OrderArchiveIntegrationTest {
+
+    private static final long ACCOUNT_ID = 7001L;
+    private static final String SYMBOL = "ARCA";
+
+    @Autowired
+    private OrderArchiveChunkProcessor chunkProcessor;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderCommandService orderCommandService;
+
+    @Autowired
+    private MockAccountService mockAccountService;
+
+    @Autowired
+    private QuoteTickDispatcher quoteTickDispatcher;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderHoldRepository orderHoldRepository;
+
+    @Autowired
+    private FillRepository fillRepository;
+
+    @Autowired
+    private ArchivedOrderHoldRepository archivedOrderHoldRepository;
+
+    @Test
+    void terminalOrdersShouldMoveToArchiveInChunks() {
+        mockAccountService.upsertCash(ACCOUNT_ID, new MockCashUpdateRequest(new BigDecimal("1000000")));
+        quoteTickDispatcher.dispatch(SYMBOL, new QuoteUpdateRequest(new BigDecimal("1000"), new BigDecimal("100")));
+
+        OrderResponse filled = orderCommandService.createOrder(order("archive-buy-1", "10", "1000"));
+        OrderResponse canceled = orderCommandService.createOrder(order("archive-buy-2", "5", "900"));
+        orderCommandService.cancelOrder(canceled.orderId(), ACCOUNT_ID);
+        OrderResponse open = orderCommandService.createOrder(order("archive-buy-3", "5", "900"));
+        assertThat(filled.status()).isEqualTo(OrderStatus.FILLED);
+
+        // 보관 기간을 기다리지 않도록 기준 시각을 미래로 두고 한 건씩 옮긴다.
+        Instant cutoff = Instant.now().plusSeconds(60);
+        OrderArchiveChunkProcessor.ArchivedChunk first = chunkProcessor.archiveChunk(0L, cutoff, 1);
+        assertThat(first.orderCount()).isEqualTo(1);
+        assertThat(first.fillCount()).isEqualTo(1);
+        OrderArchiveChunkProcessor.ArchivedChunk second = chunkProcessor.archiveChunk(first.lastOrderId(), cutoff, 1);
+        assertThat(second.orderCount()).isEqualTo(1);
+        assertThat(chunkProcessor.archiveChunk(second.lastOrderId(), cutoff, 1).orderCount()).isZero();
+
+        assertThat(orderRepository.findById(filled.orderId())).isEmpty();
+        assertThat(orderRepository.findById(canceled.orderId())).isEmpty();
+        assertThat(orderRepository.findById(open.orderId())).isPresent();
+        assertThat(orderHoldRepository.findByOrderId(filled.orderId())).isEmpty();
+        assertThat(fillRepository.findByOrderIdOrderByIdAsc(filled.orderId())).isEmpty();
+        assertThat(archivedOrderHoldRepository.count()).isEqualTo(2);
+
+        OrderResponse archived = orderService.getOrder(filled.orderId(), ACCOUNT_ID);
+        assertThat(archived.status()).isEqualTo(OrderStatus.FILLED);
+        assertThat(archived.fills()).hasSize(1);
+        assertThat(archived.fills().get(0).executionId()).isEqualTo(filled.fills().get(0).executionId());
+        assertThat(orderService.getOrder(canceled.orderId(), ACCOUNT_ID).status()).isEqualTo(OrderStatus.CANCELED);
+    }
+
+    private OrderCreateRequest order(String idempotencyKey, String quantity, String limitPrice) {
+        return new OrderCreateRequest(
+                ACCOUNT_ID,
+                idempotencyKey,
+                SYMBOL,
+                OrderSide.BUY,
+                OrderType.LIMIT,
+                OrderTif.DAY,
+                new BigDecimal(quantity),
+                new BigDecimal(limitPrice)
+        );
+    }
+}
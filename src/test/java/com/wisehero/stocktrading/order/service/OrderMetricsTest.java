@@ -0,0 +1,45 @@
+package com.wisehero.stocktrading.order.service;
+
+import com.wisehero.stocktrading.common.api.ApiErrorCode;
+import com.wisehero.stocktrading.order.service.OrderMetrics.Stage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OrderMetrics orderMetrics = new OrderMetrics(meterRegistry);
+
+    @Test
+    void timeShouldRecordStageAndReturnResult() {
+        String result = orderMetrics.time(Stage.GATEWAY_MATCH, () -> "matched");
+        orderMetrics.time(Stage.GATEWAY_MATCH, () -> {
+        });
+
+        assertThat(result).isEqualTo("matched");
+        assertThat(meterRegistry.get("trading.order.stage").tag("stage", "gateway_match").timer().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("trading.order.stage").tag("stage", "reserve").timer().count())
+                .isZero();
+    }
+
+    @Test
+    void countersShouldBeTaggedByErrorCode() {
+        orderMetrics.recordReject(ApiErrorCode.ACCOUNT_INSUFFICIENT_CASH);
+        orderMetrics.recordReject(ApiErrorCode.ACCOUNT_INSUFFICIENT_CASH);
+        orderMetrics.recordReject(ApiErrorCode.ORDER_INVALID_TIF);
+        orderMetrics.recordFill();
+        orderMetrics.recordOptimisticLockFailure();
+        orderMetrics.recordConflictRetry();
+
+        assertThat(meterRegistry.get("trading.order.rejects").tag("code", "ACCOUNT-409").counter().count())
+                .isEqualTo(2.0);
+        assertThat(meterRegistry.get("trading.order.rejects").tag("code", "ORDER-410").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("trading.order.fills").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("trading.order.optimistic-lock.failures").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("trading.order.conflict.retries").counter().count()).isEqualTo(1.0);
+    }
+}
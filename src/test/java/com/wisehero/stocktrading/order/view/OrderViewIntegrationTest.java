@@ -0,0 +1,155 @@
+package com.wisehero.stocktrading.order.view;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wisehero.stocktrading.account.api.dto.MockCashUpdateRequest;
+import com.wisehero.stocktrading.account.service.MockAccountService;
+import com.wisehero.stocktrading.order.api.dto.OrderCreateRequest;
+import com.wisehero.stocktrading.order.api.dto.OrderResponse;
+import com.wisehero.stocktrading.order.domain.OrderSide;
+import com.wisehero.stocktrading.order.domain.OrderTif;
+import com.wisehero.stocktrading.order.domain.OrderType;
+import com.wisehero.stocktrading.order.repository.OrderViewRepository;
+import com.wisehero.stocktrading.order.service.OrderCommandService;
+import com.wisehero.stocktrading.quote.api.dto.QuoteUpdateRequest;
+import com.wisehero.stocktrading.quote.service.QuoteTickDispatcher;
+import java.math.BigDecimal;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 주문/체결 변경이 아웃박스를 거쳐 읽기 모델에 반영되고, 목록 API가 키셋 커서로 이어 읽히는지 확인한다.
+ * 다른 통합 테스트의 릴레이가 같은 아웃박스를 읽지 않도록 별도 H2를 쓴다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:stocktrading-order-view-test;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "trading.outbox.poll-interval=10ms"
+})
+@AutoConfigureMockMvc
+class OrderViewIntegrationTest {
+
+    private static final long ACCOUNT_ID = 6001L;
+    private static final String SYMBOL = "VIEWA";
+    private static final long REBUILD_ACCOUNT_ID = 6002L;
+    private static final String REBUILD_SYMBOL = "VIEWB";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MockAccountService mockAccountService;
+
+    @Autowired
+    private QuoteTickDispatcher quoteTickDispatcher;
+
+    @Autowired
+    private OrderCommandService orderCommandService;
+
+    @Autowired
+    private OrderViewRepository orderViewRepository;
+
+    @Test
+    void ordersShouldBeListedFromReadModelWithKeysetCursor() throws Exception {
+        mockAccountService.upsertCash(ACCOUNT_ID, new MockCashUpdateRequest(new BigDecimal("1000000")));
+        quoteTickDispatcher.dispatch(SYMBOL, new QuoteUpdateRequest(new BigDecimal("1000"), new BigDecimal("30")));
+
+        OrderResponse partial = orderCommandService.createOrder(order("view-buy-1", "100", "1000"));
+        OrderResponse resting = orderCommandService.createOrder(order("view-buy-2", "10", "900"));
+        OrderResponse canceled = orderCommandService.createOrder(order("view-buy-3", "5", "900"));
+        orderCommandService.cancelOrder(canceled.orderId(), ACCOUNT_ID);
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> {
+            JsonNode orders = getOrders("?accountId=" + ACCOUNT_ID).get("orders");
+            return orders.size() == 3 && "CANCELED".equals(orders.get(0).get("status").asText());
+        });
+
+        JsonNode first = getOrders("?accountId=" + ACCOUNT_ID + "&size=2");
+        assertThat(orderIds(first)).containsExactly(canceled.orderId(), resting.orderId());
+        assertThat(first.get("nextCursor").isNull()).isFalse();
+
+        JsonNode second = getOrders("?accountId=" + ACCOUNT_ID + "&size=2&cursor=" + first.get("nextCursor").asText());
+        assertThat(orderIds(second)).containsExactly(partial.orderId());
+        assertThat(second.get("nextCursor").isNull()).isTrue();
+        JsonNode partialView = second.get("orders").get(0);
+        assertThat(partialView.get("status").asText()).isEqualTo("PARTIALLY_FILLED");
+        assertThat(partialView.get("fills")).hasSize(1);
+        assertThat(partialView.get("fills").get(0).get("fillQuantity").decimalValue()).isEqualByComparingTo("30");
+
+        JsonNode open = getOrders("?accountId=" + ACCOUNT_ID + "&openOnly=true");
+        assertThat(orderIds(open)).containsExactly(resting.orderId(), partial.orderId());
+
+        mockMvc.perform(get("/api/v1/orders?accountId=" + ACCOUNT_ID + "&cursor=not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void missingViewShouldBeRebuiltFromOrderAndFills() throws Exception {
+        mockAccountService.upsertCash(REBUILD_ACCOUNT_ID, new MockCashUpdateRequest(new BigDecimal("1000000")));
+        quoteTickDispatcher.dispatch(REBUILD_SYMBOL, new QuoteUpdateRequest(new BigDecimal("1000"), new BigDecimal("30")));
+
+        OrderResponse partial = orderCommandService.createOrder(new OrderCreateRequest(
+                REBUILD_ACCOUNT_ID,
+                "view-rebuild-1",
+                REBUILD_SYMBOL,
+                OrderSide.BUY,
+                OrderType.LIMIT,
+                OrderTif.DAY,
+                new BigDecimal("100"),
+                new BigDecimal("1000")
+        ));
+        await().atMost(Duration.ofSeconds(5)).until(() -> orderViewRepository.existsById(partial.orderId()));
+
+        // 읽기 모델 행이 빠진 뒤에 온 변경도 주문/체결 테이블에서 행을 다시 만들어 반영한다.
+        orderViewRepository.deleteById(partial.orderId());
+        orderCommandService.cancelOrder(partial.orderId(), REBUILD_ACCOUNT_ID);
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> getOrders("?accountId=" + REBUILD_ACCOUNT_ID).get("orders").size() == 1);
+        JsonNode view = getOrders("?accountId=" + REBUILD_ACCOUNT_ID).get("orders").get(0);
+        assertThat(view.get("status").asText()).isEqualTo("CANCELED");
+        assertThat(view.get("fills")).hasSize(1);
+        assertThat(view.get("fills").get(0).get("fillQuantity").decimalValue()).isEqualByComparingTo("30");
+    }
+
+    private JsonNode getOrders(String query) throws Exception {
+        String body = mockMvc.perform(get("/api/v1/orders" + query))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(body).get("data");
+    }
+
+    private static Long[] orderIds(JsonNode page) {
+        JsonNode orders = page.get("orders");
+        Long[] ids = new Long[orders.size()];
+        for (int i = 0; i < orders.size(); i++) {
+            ids[i] = orders.get(i).get("orderId").asLong();
+        }
+        return ids;
+    }
+
+    private OrderCreateRequest order(String idempotencyKey, String quantity, String limitPrice) {
+        return new OrderCreateRequest(
+                ACCOUNT_ID,
+                idempotencyKey,
+                SYMBOL,
+                OrderSide.BUY,
+                OrderType.LIMIT,
+                OrderTif.DAY,
+                new BigDecimal(quantity),
+                new BigDecimal(limitPrice)
+        );
+    }
+}
@@ -0,0 +1,53 @@
+package com.wisehero.stocktrading.quote.feed;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MarketDataProtocolTest {
+
+    @Test
+    void ticksShouldBeReadBackToBack() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(256);
+        MarketDataProtocol.encodeTick(buffer, "TEST", new BigDecimal("1000.5"), new BigDecimal("30"));
+        int secondOffset = buffer.position();
+        MarketDataProtocol.encodeTick(buffer, "TESTB", new BigDecimal("99.0001"), BigDecimal.ZERO);
+        int limit = buffer.position();
+
+        int firstSize = MarketDataProtocol.completeTickSize(buffer, 0, limit);
+        assertThat(firstSize).isEqualTo(secondOffset);
+        assertThat(MarketDataProtocol.price(buffer, 0)).isEqualTo(10_005_000L);
+        assertThat(MarketDataProtocol.availableQuantity(buffer, 0)).isEqualTo(300_000L);
+        assertThat(MarketDataProtocol.symbolLength(buffer, 0)).isEqualTo(4);
+
+        assertThat(MarketDataProtocol.completeTickSize(buffer, secondOffset, limit)).isEqualTo(limit - secondOffset);
+        assertThat(MarketDataProtocol.price(buffer, secondOffset)).isEqualTo(990_001L);
+        assertThat(MarketDataProtocol.symbolLength(buffer, secondOffset)).isEqualTo(5);
+        assertThat(MarketDataProtocol.symbolOffset(secondOffset)).isEqualTo(limit - 5);
+    }
+
+    @Test
+    void partialTickShouldWaitForMoreBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        MarketDataProtocol.encodeTick(buffer, "TEST", new BigDecimal("1000"), new BigDecimal("10"));
+        int tickSize = buffer.position();
+
+        assertThat(MarketDataProtocol.completeTickSize(buffer, 0, 10)).isEqualTo(-1);
+        assertThat(MarketDataProtocol.completeTickSize(buffer, 0, tickSize - 1)).isEqualTo(-1);
+        assertThat(MarketDataProtocol.completeTickSize(buffer, 0, tickSize)).isEqualTo(tickSize);
+    }
+
+    @Test
+    void invalidSymbolLengthShouldBeRejected() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        buffer.putLong(1L).putLong(1L).put((byte) (MarketDataProtocol.MAX_SYMBOL_LENGTH + 1));
+
+        assertThatThrownBy(() -> MarketDataProtocol.completeTickSize(buffer, 0, buffer.position()))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> MarketDataProtocol.encodeTick(buffer, "", BigDecimal.ONE, BigDecimal.ONE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,193 @@
+package com.wisehero.stocktrading.quote.service;
+
+import com.wisehero.stocktrading.common.api.ApiErrorCode;
+import com.wisehero.stocktrading.common.exception.ApiException;
+import com.wisehero.stocktrading.common.sequencer.SymbolSequencer;
+import com.wisehero.stocktrading.quote.api.dto.QuoteBatchItemRequest;
+import com.wisehero.stocktrading.quote.api.dto.QuoteBatchItemResponse;
+import com.wisehero.stocktrading.quote.api.dto.QuoteBatchResponse;
+import com.wisehero.stocktrading.quote.api.dto.QuoteResponse;
+import com.wisehero.stocktrading.quote.api.dto.QuoteUpdateRequest;
+import com.wisehero.stocktrading.quote.domain.MockQuote;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QuoteTickDispatcherTest {
+
+    private final SymbolSequencer sequencer = new SymbolSequencer(true, 2, 16, false);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RecordingQuoteService quoteService = new RecordingQuoteService();
+    private final QuoteTickDispatcher dispatcher = new QuoteTickDispatcher(quoteService, sequencer, meterRegistry, true, 500);
+
+    @AfterEach
+    void tearDown() {
+        quoteService.release.countDown();
+        sequencer.shutdown();
+    }
+
+    @Test
+    void ticksQueuedBehindRunningRematchShouldCollapseToLatest() throws Exception {
+        QuoteResponse first = dispatcher.dispatch(" tick ", tick("1000"));
+        assertThat(quoteService.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 첫 틱의 재매칭이 끝나지 않아도 이후 틱은 바로 응답한다.
+        for (int price = 1001; price <= 1100; price++) {
+            dispatcher.dispatch("TICK", tick(Integer.toString(price)));
+        }
+        quoteService.release.countDown();
+        sequencer.execute("TICK", () -> null);
+
+        assertThat(first.symbol()).isEqualTo("TICK");
+        assertThat(quoteService.appliedPrices).containsExactly(new BigDecimal("1000"), new BigDecimal("1100"));
+        assertThat(quoteService.rematchedSymbols).containsExactly("TICK", "TICK");
+        assertThat(meterRegistry.get("trading.quote.ticks").tag("result", "applied").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("trading.quote.ticks").tag("result", "conflated").counter().count()).isEqualTo(99);
+    }
+
+    @Test
+    void batchShouldReportRejectedItemsAndApplyTheRest() {
+        QuoteBatchResponse response = dispatcher.dispatchAll(List.of(
+                new QuoteBatchItemRequest("bulka", new BigDecimal("100"), new BigDecimal("10")),
+                new QuoteBatchItemRequest("BULKB", new BigDecimal("200"), new BigDecimal("0.5")),
+                new QuoteBatchItemRequest("BULKC", new BigDecimal("300"), new BigDecimal("10"))
+        ));
+        quoteService.release.countDown();
+        for (String symbol : List.of("BULKA", "BULKC")) {
+            sequencer.execute(symbol, () -> null);
+        }
+
+        assertThat(response.successCount()).isEqualTo(2);
+        assertThat(response.failures()).singleElement().satisfies(failure -> {
+            assertThat(failure.index()).isEqualTo(1);
+            assertThat(failure.errorCode()).isEqualTo(ApiErrorCode.QUOTE_INVALID_VALUE.code());
+        });
+        assertThat(quoteService.appliedPrices).containsExactlyInAnyOrder(new BigDecimal("100"), new BigDecimal("300"));
+        assertThat(quoteService.rematchedSymbols).containsExactlyInAnyOrder("BULKA", "BULKC");
+    }
+
+    @Test
+    void invalidTickShouldBeRejectedBeforeQueueing() {
+        assertThatThrownBy(() -> dispatcher.dispatch("TICK", new QuoteUpdateRequest(BigDecimal.ZERO, BigDecimal.ONE)))
+                .isInstanceOf(ApiException.class)
+                .extracting("errorCode")
+                .isEqualTo(ApiErrorCode.QUOTE_INVALID_VALUE);
+        sequencer.execute("TICK", () -> null);
+
+        assertThat(quoteService.appliedPrices).isEmpty();
+    }
+
+    @Test
+    void failedBatchShouldBeReappliedPerSymbolDroppingOnlyTheFailingTick() {
+        quoteService.release.countDown();
+        quoteService.failBatch = true;
+        quoteService.failingSymbols.add("BADQ");
+
+        dispatcher.dispatchAll(List.of(
+                new QuoteBatchItemRequest("GOODQ", new BigDecimal("100"), new BigDecimal("10")),
+                new QuoteBatchItemRequest("BADQ", new BigDecimal("200"), new BigDecimal("10"))
+        ));
+        for (String symbol : List.of("GOODQ", "BADQ")) {
+            sequencer.execute(symbol, () -> null);
+        }
+
+        assertThat(quoteService.appliedPrices).containsExactly(new BigDecimal("100"));
+        assertThat(quoteService.rematchedSymbols).containsExactly("GOODQ");
+        assertThat(meterRegistry.get("trading.quote.ticks").tag("result", "applied").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("trading.quote.ticks").tag("result", "dropped").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void syncDispatchShouldPropagateRematchFailure() {
+        QuoteTickDispatcher syncDispatcher = new QuoteTickDispatcher(quoteService, sequencer, meterRegistry, false, 500);
+        quoteService.failingSymbols.add("BADQ");
+
+        assertThatThrownBy(() -> syncDispatcher.dispatch("badq", tick("1000")))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(quoteService.appliedPrices).isEmpty();
+    }
+
+    @Test
+    void syncBatchShouldReportFailedSymbolAndApplyTheRest() {
+        QuoteTickDispatcher syncDispatcher = new QuoteTickDispatcher(quoteService, sequencer, meterRegistry, false, 500);
+        quoteService.failingSymbols.add("BADQ");
+
+        QuoteBatchResponse response = syncDispatcher.dispatchAll(List.of(
+                new QuoteBatchItemRequest("GOODQ", new BigDecimal("100"), new BigDecimal("10")),
+                new QuoteBatchItemRequest("BADQ", new BigDecimal("200"), new BigDecimal("10")),
+                new QuoteBatchItemRequest("GOODR", new BigDecimal("300"), new BigDecimal("-1"))
+        ));
+
+        assertThat(response.successCount()).isEqualTo(1);
+        assertThat(response.failures()).extracting(QuoteBatchItemResponse::index).containsExactly(1, 2);
+        assertThat(response.failures().get(0).errorCode()).isEqualTo(ApiErrorCode.INTERNAL_SERVER_ERROR.code());
+        assertThat(quoteService.appliedPrices).containsExactly(new BigDecimal("100"));
+        assertThat(quoteService.rematchedSymbols).containsExactly("GOODQ");
+    }
+
+    private QuoteUpdateRequest tick(String price) {
+        return new QuoteUpdateRequest(new BigDecimal(price), new BigDecimal("10"));
+    }
+
+    /** 첫 일괄 반영에서 멈춰 샤드가 밀린 상황을 만든다. 종목별 반영은 저장과 재매칭을 함께 기록하고, 지정한 종목은 재매칭에서 실패한다. */
+    private static final class RecordingQuoteService extends MockQuoteService {
+
+        private final List<BigDecimal> appliedPrices = new CopyOnWriteArrayList<>();
+        private final List<String> rematchedSymbols = new CopyOnWriteArrayList<>();
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final Set<String> failingSymbols = ConcurrentHashMap.newKeySet();
+        private volatile boolean failBatch;
+
+        private RecordingQuoteService() {
+            super(null, null, null);
+        }
+
+        @Override
+        public List<MockQuote> upsertQuotes(List<QuoteTick> ticks) {
+            if (failBatch) {
+                throw new IllegalStateException("batch failure");
+            }
+            List<MockQuote> quotes = new ArrayList<>();
+            for (QuoteTick tick : ticks) {
+                appliedPrices.add(tick.price());
+                quotes.add(MockQuote.create(tick.symbol(), tick.price(), tick.availableQuantity()));
+            }
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            return quotes;
+        }
+
+        @Override
+        public MockQuote upsertQuote(String rawSymbol, QuoteUpdateRequest request) {
+            String symbol = normalizeSymbol(rawSymbol);
+            // 트랜잭션 롤백처럼 실패한 종목은 아무것도 남기지 않는다.
+            if (failingSymbols.contains(symbol)) {
+                throw new IllegalStateException("rematch failure");
+            }
+            appliedPrices.add(request.price());
+            rematchedSymbols.add(symbol);
+            return MockQuote.create(symbol, request.price(), request.availableQuantity());
+        }
+
+        @Override
+        public void rematch(String symbol) {
+            rematchedSymbols.add(symbol);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.wisehero.stocktrading.replay;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyHistogramTest {
+
+    @Test
+    void bucketUpperBoundShouldCoverEveryValueInBucket() {
+        for (long value : new long[]{0, 7, 8, 15, 16, 17, 1_000, 123_456_789, Long.MAX_VALUE}) {
+            int index = LatencyHistogram.indexOf(value);
+            assertThat(LatencyHistogram.upperBoundOf(index)).isGreaterThanOrEqualTo(value);
+            assertThat(index == 0 || LatencyHistogram.upperBoundOf(index - 1) < value).isTrue();
+        }
+    }
+
+    @Test
+    void percentilesShouldStayWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 1_000; micros++) {
+            histogram.record(micros * 1_000);
+        }
+
+        assertThat(histogram.count()).isEqualTo(1_000);
+        assertThat(histogram.mean()).isEqualTo(500_500.0);
+        assertThat(histogram.valueAtPercentile(50)).isBetween(500_000L, 562_500L);
+        assertThat(histogram.valueAtPercentile(99)).isBetween(990_000L, 1_000_000L);
+        assertThat(histogram.valueAtPercentile(100)).isEqualTo(1_000_000L);
+        assertThat(histogram.max()).isEqualTo(1_000_000L);
+    }
+}
@@ -0,0 +1,106 @@
+package com.wisehero.stocktrading.replay;
+
+import com.wisehero.stocktrading.common.api.ApiErrorCode;
+import com.wisehero.stocktrading.order.domain.Fill;
+import com.wisehero.stocktrading.order.domain.Order;
+import com.wisehero.stocktrading.order.domain.OrderStatus;
+import com.wisehero.stocktrading.order.fill.FillStore;
+import com.wisehero.stocktrading.order.repository.OrderRepository;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기동 시 테이프를 재생해 가상 시계로 체결/만료 시각이 찍히는지 확인한다.
+ * 다른 통합 테스트와 DB/저널을 나눠 쓰지 않도록 별도 H2와 디렉터리를 쓴다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:stocktrading-replay-test;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "trading.replay.enabled=true",
+        "trading.replay.workers=2",
+        "trading.replay.report-file=",
+        "trading.replay.close-when-done=false"
+})
+class TapeReplayIntegrationTest {
+
+    private static final String TAPE = """
+            # 계좌와 시세 세팅
+            {"at":"2025-03-04T00:00:00Z","type":"CASH","accountId":3001,"availableCash":1000000}
+            {"at":"2025-03-04T00:00:00Z","type":"QUOTE","symbol":"rpla","price":1000,"availableQuantity":0}
+            {"at":"2025-03-04T00:00:01Z","type":"NEW","accountId":3001,"idempotencyKey":"replay-1","symbol":"RPLA","side":"BUY","orderType":"LIMIT","tif":"DAY","quantity":10,"limitPrice":1000}
+            {"at":"2025-03-04T00:00:02Z","type":"NEW","accountId":3001,"idempotencyKey":"replay-2","symbol":"RPLA","side":"BUY","orderType":"LIMIT","tif":"DAY","quantity":5,"limitPrice":900}
+            {"at":"2025-03-04T00:00:03Z","type":"NEW","accountId":3001,"idempotencyKey":"replay-3","symbol":"RPLA","side":"BUY","orderType":"LIMIT","tif":"DAY","quantity":100000,"limitPrice":1000}
+            {"at":"2025-03-04T00:00:04Z","type":"AMEND","accountId":3001,"idempotencyKey":"replay-2","amendedRemainingQuantity":3}
+
+            {"at":"2025-03-04T00:00:05Z","type":"QUOTE","symbol":"RPLA","price":1000,"availableQuantity":30}
+            {"at":"2025-03-04T00:00:06Z","type":"CANCEL","accountId":3001,"idempotencyKey":"unknown"}
+            {"at":"2025-03-04T06:40:00Z","type":"EXPIRE"}
+            """;
+
+    @Autowired
+    private TapeReplayer tapeReplayer;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private FillStore fillStore;
+
+    @DynamicPropertySource
+    static void tape(DynamicPropertyRegistry registry) {
+        try {
+            Path tape = Files.createTempFile("replay-tape", ".jsonl");
+            Files.writeString(tape, TAPE);
+            tape.toFile().deleteOnExit();
+            registry.add("trading.replay.file", tape::toString);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Test
+    void replayShouldDriveServicesOnVirtualClockAndReport() {
+        ReplayReport report = tapeReplayer.getLastReport();
+
+        assertThat(report.events()).isEqualTo(9);
+        assertThat(report.virtualStart()).isEqualTo(Instant.parse("2025-03-04T00:00:00Z"));
+        assertThat(report.virtualEnd()).isEqualTo(Instant.parse("2025-03-04T06:40:00Z"));
+        assertThat(report.rejectsByCode()).containsEntry(ApiErrorCode.ACCOUNT_INSUFFICIENT_CASH.code(), 1L);
+        assertThat(report.errors()).isEqualTo(1);
+        assertThat(report.eventTypes())
+                .extracting(ReplayReport.EventStats::type)
+                .containsExactly(
+                        TapeEventType.CASH,
+                        TapeEventType.QUOTE,
+                        TapeEventType.NEW,
+                        TapeEventType.AMEND,
+                        TapeEventType.CANCEL,
+                        TapeEventType.EXPIRE
+                );
+
+        Order filled = findOrder("replay-1");
+        List<Fill> fills = fillStore.findByOrderId(filled.getId());
+        assertThat(filled.getStatus()).isEqualTo(OrderStatus.FILLED);
+        assertThat(fills).singleElement()
+                .extracting(Fill::getFilledAt)
+                .isEqualTo(Instant.parse("2025-03-04T00:00:05Z"));
+
+        Order expired = findOrder("replay-2");
+        assertThat(expired.getStatus()).isEqualTo(OrderStatus.EXPIRED);
+        assertThat(expired.getRemainingQuantity()).isEqualByComparingTo("3");
+    }
+
+    private Order findOrder(String idempotencyKey) {
+        return orderRepository.findByAccountIdAndIdempotencyKey(3001L, idempotencyKey).orElseThrow();
+    }
+}